@@ -0,0 +1,94 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.AtomicBits;
+import com.bakuard.collections.Bits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Захват и освобождение бит несколькими потоками одновременно. Сравнение {@link AtomicBits} с {@link Bits},
+ * доступ к которому защищен монитором. Кол-во потоков задается аннотацией {@link Threads} или параметром
+ * командной строки JMH -t.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class AtomicBitsBenchmark {
+
+	@Param({"1024", "1048576"})
+	private int size;
+
+	private AtomicBits atomicBits;
+	private Bits lockedBits;
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		public SplittableRandom random;
+
+		@Setup
+		public void setUp() {
+			random = new SplittableRandom(ItemType.SEED + Thread.currentThread().threadId());
+		}
+
+	}
+
+	@Setup
+	public void setUp() {
+		atomicBits = new AtomicBits(size);
+		lockedBits = new Bits(size);
+	}
+
+	@Benchmark
+	public boolean claimAndRelease_atomicBits(ThreadState state) {
+		int index = state.random.nextInt(size);
+		boolean claimed = !atomicBits.testAndSet(index);
+		if(claimed) atomicBits.clear(index);
+		return claimed;
+	}
+
+	@Benchmark
+	public boolean claimAndRelease_lockedBits(ThreadState state) {
+		int index = state.random.nextInt(size);
+		boolean claimed;
+		synchronized(lockedBits) {
+			claimed = !lockedBits.get(index);
+			if(claimed) lockedBits.set(index);
+		}
+		if(claimed) {
+			synchronized(lockedBits) {
+				lockedBits.clear(index);
+			}
+		}
+		return claimed;
+	}
+
+	@Benchmark
+	public int allocateSlot_atomicBits(ThreadState state) {
+		int slot = atomicBits.nextClearBitAndSet(state.random.nextInt(size));
+		if(slot != -1) atomicBits.clear(slot);
+		return slot;
+	}
+
+	@Benchmark
+	public int allocateSlot_lockedBits(ThreadState state) {
+		int fromIndex = state.random.nextInt(size);
+		int slot;
+		synchronized(lockedBits) {
+			slot = lockedBits.nextClearBit(fromIndex);
+			if(slot != -1) lockedBits.set(slot);
+		}
+		if(slot != -1) {
+			synchronized(lockedBits) {
+				lockedBits.clear(slot);
+			}
+		}
+		return slot;
+	}
+}
@@ -0,0 +1,80 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.BitMatrix;
+import com.bakuard.collections.Bits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Транзитивное замыкание и транспонирование графа. Сравнение {@link BitMatrix} с массивом объектов {@link Bits},
+ * каждый из которых хранит одну строку матрицы смежности.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitMatrixBenchmark {
+
+	@Param({"1000", "4000"})
+	private int size;
+
+	/**
+	 * Среднее кол-во исходящих ребер одной вершины.
+	 */
+	@Param({"2", "256"})
+	private int degree;
+
+	private BitMatrix matrix;
+	private Bits[] rows;
+
+	@Setup(Level.Invocation)
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+
+		matrix = new BitMatrix(size, size);
+		rows = new Bits[size];
+		for(int i = 0; i < size; ++i) rows[i] = new Bits(size);
+		for(int i = 0; i < size * degree; ++i) {
+			int from = random.nextInt(size);
+			int to = random.nextInt(size);
+			matrix.set(from, to);
+			rows[from].set(to);
+		}
+	}
+
+	@Benchmark
+	public BitMatrix transitiveClosure_bitMatrix() {
+		return matrix.transitiveClosure();
+	}
+
+	@Benchmark
+	public Bits[] transitiveClosure_bitsRows() {
+		for(int k = 0; k < size; ++k) {
+			Bits row = rows[k];
+			for(int i = 0; i < size; ++i) {
+				if(rows[i].get(k)) rows[i].or(row);
+			}
+		}
+		return rows;
+	}
+
+	@Benchmark
+	public BitMatrix transpose_bitMatrix() {
+		return matrix.transpose();
+	}
+
+	@Benchmark
+	public Bits[] transpose_bitsRows() {
+		Bits[] result = new Bits[size];
+		for(int i = 0; i < size; ++i) result[i] = new Bits(size);
+		for(int i = 0; i < size; ++i) {
+			Bits row = rows[i];
+			for(int j = row.nextSetBit(0); j >= 0; j = row.nextSetBit(j + 1)) result[j].set(i);
+		}
+		return result;
+	}
+}
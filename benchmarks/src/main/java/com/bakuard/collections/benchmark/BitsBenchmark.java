@@ -0,0 +1,355 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Bits;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link Bits} с {@link BitSet}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitsBenchmark {
+
+	private static final int RANDOM_INDEXES_NUMBER = 1 << 16;
+
+
+	@Param({"1000", "1000000", "100000000"})
+	private int size;
+
+	/**
+	 * Доля бит, установленных в единицу.
+	 */
+	@Param({"0.01", "0.5"})
+	private double density;
+
+	private int[] randomIndexes;
+
+	private Bits bits;
+	private Bits trackedBits;
+	private Bits otherBits;
+	private BitSet bitSet;
+	private BitSet otherBitSet;
+	private ByteBuffer serializedBits;
+	private byte[] serializedBitSet;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+
+		randomIndexes = new int[RANDOM_INDEXES_NUMBER];
+		for(int i = 0; i < RANDOM_INDEXES_NUMBER; ++i) randomIndexes[i] = random.nextInt(size);
+
+		bits = new Bits(size);
+		otherBits = new Bits(size);
+		bitSet = new BitSet(size);
+		otherBitSet = new BitSet(size);
+		for(int i = 0; i < size; ++i) {
+			if(random.nextDouble() < density) {
+				bits.set(i);
+				bitSet.set(i);
+			}
+			if(random.nextDouble() < density) {
+				otherBits.set(i);
+				otherBitSet.set(i);
+			}
+		}
+		trackedBits = new Bits(bits).enableTracking();
+		serializedBits = ByteBuffer.allocateDirect(bits.serializedSize());
+		bits.writeTo(serializedBits);
+		serializedBitSet = bitSet.toByteArray();
+	}
+
+	@Benchmark
+	public Bits randomSet_bits() {
+		for(int index : randomIndexes) bits.set(index);
+		return bits;
+	}
+
+	@Benchmark
+	public Bits randomSet_trackedBits() {
+		for(int index : randomIndexes) trackedBits.set(index);
+		return trackedBits;
+	}
+
+	@Benchmark
+	public Bits randomFlip_bits() {
+		for(int index : randomIndexes) bits.flip(index);
+		return bits;
+	}
+
+	@Benchmark
+	public Bits randomFlip_trackedBits() {
+		for(int index : randomIndexes) trackedBits.flip(index);
+		return trackedBits;
+	}
+
+	@Benchmark
+	public BitSet randomSet_bitSet() {
+		for(int index : randomIndexes) bitSet.set(index);
+		return bitSet;
+	}
+
+	@Benchmark
+	public void randomGet_bits(Blackhole blackhole) {
+		for(int index : randomIndexes) blackhole.consume(bits.get(index));
+	}
+
+	@Benchmark
+	public void randomGet_bitSet(Blackhole blackhole) {
+		for(int index : randomIndexes) blackhole.consume(bitSet.get(index));
+	}
+
+	@Benchmark
+	public Bits setAndClearRange_bits() {
+		bits.setRange(1, size - 1);
+		bits.clearRange(1, size - 1);
+		return bits;
+	}
+
+	@Benchmark
+	public Bits setAndClearRange_trackedBits() {
+		trackedBits.setRange(1, size - 1);
+		trackedBits.clearRange(1, size - 1);
+		return trackedBits;
+	}
+
+	@Benchmark
+	public BitSet setAndClearRange_bitSet() {
+		bitSet.set(1, size - 1);
+		bitSet.clear(1, size - 1);
+		return bitSet;
+	}
+
+	@Benchmark
+	public Bits flipRange_bits() {
+		return bits.flipRange(1, size - 1);
+	}
+
+	@Benchmark
+	public BitSet flipRange_bitSet() {
+		bitSet.flip(1, size - 1);
+		return bitSet;
+	}
+
+	@Benchmark
+	public Bits copyRange_bits() {
+		Bits result = new Bits(size);
+		result.copyRangeFrom(bits, 3, 1, size - 3);
+		return result;
+	}
+
+	@Benchmark
+	public BitSet copyRange_bitSet() {
+		return bitSet.get(3, size);
+	}
+
+	@Benchmark
+	public Bits shiftLeft_bits() {
+		return new Bits(bits).shiftLeft(3);
+	}
+
+	@Benchmark
+	public Bits shiftRight_bits() {
+		return new Bits(bits).shiftRight(3);
+	}
+
+	@Benchmark
+	public Bits and_bits() {
+		return new Bits(bits).and(otherBits);
+	}
+
+	@Benchmark
+	public Bits and_trackedBits() {
+		return new Bits(bits).enableTracking().and(otherBits);
+	}
+
+	@Benchmark
+	public BitSet and_bitSet() {
+		BitSet result = (BitSet) bitSet.clone();
+		result.and(otherBitSet);
+		return result;
+	}
+
+	@Benchmark
+	public Bits or_bits() {
+		return new Bits(bits).or(otherBits);
+	}
+
+	@Benchmark
+	public BitSet or_bitSet() {
+		BitSet result = (BitSet) bitSet.clone();
+		result.or(otherBitSet);
+		return result;
+	}
+
+	@Benchmark
+	public Bits xor_bits() {
+		return new Bits(bits).xor(otherBits);
+	}
+
+	@Benchmark
+	public BitSet xor_bitSet() {
+		BitSet result = (BitSet) bitSet.clone();
+		result.xor(otherBitSet);
+		return result;
+	}
+
+	@Benchmark
+	public Bits andNot_bits() {
+		return new Bits(bits).andNot(otherBits);
+	}
+
+	@Benchmark
+	public BitSet andNot_bitSet() {
+		BitSet result = (BitSet) bitSet.clone();
+		result.andNot(otherBitSet);
+		return result;
+	}
+
+	@Benchmark
+	public Bits not_bits() {
+		return bits.not();
+	}
+
+	@Benchmark
+	public BitSet not_bitSet() {
+		bitSet.flip(0, size);
+		return bitSet;
+	}
+
+	@Benchmark
+	public int cardinality_bits() {
+		return bits.cardinality();
+	}
+
+	@Benchmark
+	public int cardinality_trackedBits() {
+		return trackedBits.cardinality();
+	}
+
+	@Benchmark
+	public int getHighBitIndex_bits() {
+		return bits.getHighBitIndex();
+	}
+
+	@Benchmark
+	public int getHighBitIndex_trackedBits() {
+		return trackedBits.getHighBitIndex();
+	}
+
+	@Benchmark
+	public int cardinality_bitSet() {
+		return bitSet.cardinality();
+	}
+
+	@Benchmark
+	public int highBit_bits() {
+		return bits.getHighBitIndex();
+	}
+
+	@Benchmark
+	public int highBit_bitSet() {
+		return bitSet.length() - 1;
+	}
+
+	@Benchmark
+	public boolean intersect_bits() {
+		return bits.intersect(otherBits);
+	}
+
+	@Benchmark
+	public boolean intersect_bitSet() {
+		return bitSet.intersects(otherBitSet);
+	}
+
+	@Benchmark
+	public boolean equals_bits() {
+		return bits.equals(otherBits);
+	}
+
+	@Benchmark
+	public boolean equals_bitSet() {
+		return bitSet.equals(otherBitSet);
+	}
+
+	@Benchmark
+	public void iterateSetBits_bits(Blackhole blackhole) {
+		for(int i = bits.nextSetBit(0); i != -1; i = i + 1 < size ? bits.nextSetBit(i + 1) : -1) {
+			blackhole.consume(i);
+		}
+	}
+
+	@Benchmark
+	public void forEachSetBit_bits(Blackhole blackhole) {
+		bits.forEachSetBit(blackhole::consume);
+	}
+
+	@Benchmark
+	public void setBitCursor_bits(Blackhole blackhole) {
+		Bits.SetBitCursor cursor = bits.setBitCursor();
+		while(cursor.hasNext()) blackhole.consume(cursor.nextInt());
+	}
+
+	@Benchmark
+	public long setBitStreamSum_bits() {
+		return bits.setBitStream().asLongStream().sum();
+	}
+
+	@Benchmark
+	public long setBitStreamSum_bitSet() {
+		return bitSet.stream().asLongStream().sum();
+	}
+
+	@Benchmark
+	public void previousSetBit_bits(Blackhole blackhole) {
+		for(int i = bits.previousSetBit(size - 1); i >= 0; i = bits.previousSetBit(i - 1)) {
+			blackhole.consume(i);
+		}
+	}
+
+	@Benchmark
+	public void previousSetBit_bitSet(Blackhole blackhole) {
+		for(int i = bitSet.previousSetBit(size - 1); i >= 0; i = bitSet.previousSetBit(i - 1)) {
+			blackhole.consume(i);
+		}
+	}
+
+	@Benchmark
+	public void iterateSetBits_bitSet(Blackhole blackhole) {
+		for(int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+			blackhole.consume(i);
+		}
+	}
+
+	@Benchmark
+	public ByteBuffer writeTo_bits() {
+		serializedBits.clear();
+		bits.writeTo(serializedBits);
+		return serializedBits;
+	}
+
+	@Benchmark
+	public Bits readFrom_bits() {
+		return Bits.readFrom(serializedBits.flip());
+	}
+
+	@Benchmark
+	public byte[] toByteArray_bitSet() {
+		return bitSet.toByteArray();
+	}
+
+	@Benchmark
+	public BitSet valueOf_bitSet() {
+		return BitSet.valueOf(serializedBitSet);
+	}
+}
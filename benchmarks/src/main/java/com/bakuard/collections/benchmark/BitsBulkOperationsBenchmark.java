@@ -0,0 +1,76 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Bits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Логические операции над большим кол-вом операндов: {@link Bits#andAll}, {@link Bits#orAll} и
+ * {@link Bits#atLeast} в сравнении с последовательными вызовами {@link Bits#and} и {@link Bits#or}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitsBulkOperationsBenchmark {
+
+	@Param({"100000", "10000000"})
+	private int size;
+
+	@Param({"50", "200"})
+	private int operandsNumber;
+
+	/**
+	 * Доля бит, установленных в единицу.
+	 */
+	@Param({"0.05", "0.95"})
+	private double density;
+
+	private Bits[] operands;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+
+		operands = new Bits[operandsNumber];
+		for(int i = 0; i < operandsNumber; ++i) {
+			operands[i] = new Bits(size);
+			for(int j = 0; j < size; ++j) {
+				if(random.nextDouble() < density) operands[i].set(j);
+			}
+		}
+	}
+
+	@Benchmark
+	public Bits andAll_bits() {
+		return Bits.andAll(operands);
+	}
+
+	@Benchmark
+	public Bits chainedAnd_bits() {
+		Bits result = new Bits(operands[0]);
+		for(int i = 1; i < operands.length; ++i) result.and(operands[i]);
+		return result;
+	}
+
+	@Benchmark
+	public Bits orAll_bits() {
+		return Bits.orAll(operands);
+	}
+
+	@Benchmark
+	public Bits chainedOr_bits() {
+		Bits result = new Bits(operands[0]);
+		for(int i = 1; i < operands.length; ++i) result.or(operands[i]);
+		return result;
+	}
+
+	@Benchmark
+	public Bits atLeastHalf_bits() {
+		return Bits.atLeast(operandsNumber / 2, operands);
+	}
+}
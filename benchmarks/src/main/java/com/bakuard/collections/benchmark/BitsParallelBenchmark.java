@@ -0,0 +1,68 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Bits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение параллельных операций {@link Bits#parallelCardinality()}, {@link Bits#parallelOr}
+ * и {@link Bits#parallelEquals(Object)} с их последовательными аналогами на битовых векторах большого размера.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitsParallelBenchmark {
+
+	@Param({"1000000", "100000000", "500000000"})
+	private int size;
+
+	private Bits first;
+	private Bits second;
+	private Bits target;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+
+		first = new Bits(size);
+		second = new Bits(size);
+		for(int i = 0; i < size; i += 1 + random.nextInt(4)) first.set(i);
+		for(int i = 0; i < size; i += 1 + random.nextInt(4)) second.set(i);
+		target = new Bits(first);
+	}
+
+	@Benchmark
+	public int cardinality_bits() {
+		return first.cardinality();
+	}
+
+	@Benchmark
+	public int parallelCardinality_bits() {
+		return first.parallelCardinality();
+	}
+
+	@Benchmark
+	public Bits or_bits() {
+		return target.or(second);
+	}
+
+	@Benchmark
+	public Bits parallelOr_bits() {
+		return target.parallelOr(second);
+	}
+
+	@Benchmark
+	public boolean equals_bits() {
+		return first.equals(target);
+	}
+
+	@Benchmark
+	public boolean parallelEquals_bits() {
+		return first.parallelEquals(target);
+	}
+}
@@ -0,0 +1,99 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Bits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Логические операции {@link Bits} без Vector API (обычный поэлементный цикл). Вложенный класс {@link Vectorized}
+ * выполняет те же бенчмарки в JVM, запущенной с модулем jdk.incubator.vector, что позволяет сравнить результаты
+ * обоих вариантов в одном отчете JMH.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitsVectorBenchmark {
+
+	/**
+	 * Те же бенчмарки, выполняемые с помощью Vector API.
+	 */
+	@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+	public static class Vectorized extends BitsVectorBenchmark {}
+
+
+	@Param({"1000000", "100000000"})
+	private int size;
+
+	private Bits bits;
+	private Bits otherBits;
+	private Bits subset;
+	private Bits disjoint;
+	private Bits empty;
+	private Bits result;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+
+		bits = new Bits(size);
+		otherBits = new Bits(size);
+		for(int i = 0; i < size; ++i) {
+			if(random.nextBoolean()) bits.set(i);
+			if(random.nextBoolean()) otherBits.set(i);
+		}
+		subset = new Bits(bits).andNot(Bits.of(size, size - 1));
+		disjoint = new Bits(bits).not();
+		empty = new Bits(size);
+		result = new Bits(bits);
+	}
+
+	@Benchmark
+	public Bits and() {
+		return result.and(otherBits);
+	}
+
+	@Benchmark
+	public Bits or() {
+		return result.or(otherBits);
+	}
+
+	@Benchmark
+	public Bits xor() {
+		return result.xor(otherBits);
+	}
+
+	@Benchmark
+	public Bits andNot() {
+		return result.andNot(otherBits);
+	}
+
+	@Benchmark
+	public Bits not() {
+		return bits.not();
+	}
+
+	@Benchmark
+	public int cardinality() {
+		return bits.cardinality();
+	}
+
+	@Benchmark
+	public boolean isClear() {
+		return empty.isClear();
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return bits.contains(subset);
+	}
+
+	@Benchmark
+	public boolean intersect() {
+		return bits.intersect(disjoint);
+	}
+}
@@ -0,0 +1,123 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Deque;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link Deque} с {@link ArrayDeque}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DequeBenchmark {
+
+	@Param({"100", "10000", "1000000"})
+	private int size;
+
+	@Param({"INTEGER", "STRING"})
+	private ItemType itemType;
+
+	private Object[] items;
+	private int[] randomIndexes;
+	private Object absentItem;
+
+	private Deque<Object> deque;
+	private ArrayDeque<Object> arrayDeque;
+
+	@Setup
+	public void setUp() {
+		items = itemType.createArray(size);
+
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+		randomIndexes = new int[size];
+		for(int i = 0; i < size; ++i) randomIndexes[i] = random.nextInt(size);
+		absentItem = itemType.create(new SplittableRandom(~ItemType.SEED));
+
+		deque = Deque.of(items);
+		arrayDeque = new ArrayDeque<>(Arrays.asList(items));
+	}
+
+	@Benchmark
+	public Deque<Object> addFirst_deque() {
+		Deque<Object> result = new Deque<>();
+		for(Object item : items) result.addFirst(item);
+		return result;
+	}
+
+	@Benchmark
+	public ArrayDeque<Object> addFirst_arrayDeque() {
+		ArrayDeque<Object> result = new ArrayDeque<>();
+		for(Object item : items) result.addFirst(item);
+		return result;
+	}
+
+	@Benchmark
+	public Deque<Object> addFirstAndRemoveLast_deque() {
+		Deque<Object> result = new Deque<>();
+		for(Object item : items) result.addFirst(item);
+		while(!result.isEmpty()) result.removeLast();
+		return result;
+	}
+
+	@Benchmark
+	public ArrayDeque<Object> addFirstAndRemoveLast_arrayDeque() {
+		ArrayDeque<Object> result = new ArrayDeque<>();
+		for(Object item : items) result.addFirst(item);
+		while(!result.isEmpty()) result.pollLast();
+		return result;
+	}
+
+	@Benchmark
+	public void steadyStateAtBothEnds_deque(Blackhole blackhole) {
+		for(Object item : items) {
+			deque.addFirst(item);
+			blackhole.consume(deque.removeLast());
+			deque.addLast(item);
+			blackhole.consume(deque.removeFirst());
+		}
+	}
+
+	@Benchmark
+	public void steadyStateAtBothEnds_arrayDeque(Blackhole blackhole) {
+		for(Object item : items) {
+			arrayDeque.addFirst(item);
+			blackhole.consume(arrayDeque.pollLast());
+			arrayDeque.addLast(item);
+			blackhole.consume(arrayDeque.pollFirst());
+		}
+	}
+
+	@Benchmark
+	public void randomGet_deque(Blackhole blackhole) {
+		for(int index : randomIndexes) blackhole.consume(deque.get(index));
+	}
+
+	@Benchmark
+	public void iterate_deque(Blackhole blackhole) {
+		for(Object item : deque) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public void iterate_arrayDeque(Blackhole blackhole) {
+		for(Object item : arrayDeque) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public int linearSearch_deque() {
+		return deque.linearSearch(absentItem);
+	}
+
+	@Benchmark
+	public boolean linearSearch_arrayDeque() {
+		return arrayDeque.contains(absentItem);
+	}
+}
@@ -0,0 +1,175 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.DynamicArray;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link DynamicArray} с {@link ArrayList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicArrayBenchmark {
+
+	private static final int LOOKUPS_NUMBER = 1024;
+
+
+	@Param({"100", "10000", "1000000"})
+	private int size;
+
+	@Param({"INTEGER", "STRING"})
+	private ItemType itemType;
+
+	private Object[] items;
+	private Object[] sortedItems;
+	private Object[] lookups;
+	private int[] randomIndexes;
+	private Object absentItem;
+	private Comparator<Object> comparator;
+
+	private DynamicArray<Object> dynamicArray;
+	private DynamicArray<Object> sortedDynamicArray;
+	private ArrayList<Object> arrayList;
+	private ArrayList<Object> sortedArrayList;
+
+	@Setup
+	public void setUp() {
+		comparator = itemType.comparator();
+		items = itemType.createArray(size);
+		sortedItems = items.clone();
+		Arrays.sort(sortedItems, comparator);
+
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+		randomIndexes = new int[size];
+		for(int i = 0; i < size; ++i) randomIndexes[i] = random.nextInt(size);
+		lookups = new Object[LOOKUPS_NUMBER];
+		for(int i = 0; i < LOOKUPS_NUMBER; ++i) lookups[i] = sortedItems[random.nextInt(size)];
+		absentItem = itemType.create(new SplittableRandom(~ItemType.SEED));
+
+		dynamicArray = DynamicArray.of(items);
+		sortedDynamicArray = DynamicArray.of(sortedItems);
+		arrayList = new ArrayList<>(Arrays.asList(items));
+		sortedArrayList = new ArrayList<>(Arrays.asList(sortedItems));
+	}
+
+	@Benchmark
+	public DynamicArray<Object> addLast_dynamicArray() {
+		DynamicArray<Object> result = new DynamicArray<>();
+		for(Object item : items) result.addLast(item);
+		return result;
+	}
+
+	@Benchmark
+	public ArrayList<Object> addLast_arrayList() {
+		ArrayList<Object> result = new ArrayList<>();
+		for(Object item : items) result.add(item);
+		return result;
+	}
+
+	@Benchmark
+	public DynamicArray<Object> addAndRemoveLast_dynamicArray() {
+		DynamicArray<Object> result = new DynamicArray<>();
+		for(Object item : items) result.addLast(item);
+		while(!result.isEmpty()) result.removeLast();
+		return result;
+	}
+
+	@Benchmark
+	public ArrayList<Object> addAndRemoveLast_arrayList() {
+		ArrayList<Object> result = new ArrayList<>();
+		for(Object item : items) result.add(item);
+		while(!result.isEmpty()) result.remove(result.size() - 1);
+		return result;
+	}
+
+	@Benchmark
+	public int removeIf_dynamicArray() {
+		DynamicArray<Object> copy = new DynamicArray<>(dynamicArray);
+		return copy.removeIf((item, index) -> (item.hashCode() & 1) == 0);
+	}
+
+	@Benchmark
+	public boolean removeIf_arrayList() {
+		ArrayList<Object> copy = new ArrayList<>(arrayList);
+		return copy.removeIf(item -> (item.hashCode() & 1) == 0);
+	}
+
+	@Benchmark
+	public void randomGet_dynamicArray(Blackhole blackhole) {
+		for(int index : randomIndexes) blackhole.consume(dynamicArray.get(index));
+	}
+
+	@Benchmark
+	public void randomGet_arrayList(Blackhole blackhole) {
+		for(int index : randomIndexes) blackhole.consume(arrayList.get(index));
+	}
+
+	@Benchmark
+	public void iterate_dynamicArray(Blackhole blackhole) {
+		for(Object item : dynamicArray) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public void iterate_arrayList(Blackhole blackhole) {
+		for(Object item : arrayList) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public void forEach_dynamicArray(Blackhole blackhole) {
+		dynamicArray.forEach((item, index) -> blackhole.consume(item));
+	}
+
+	@Benchmark
+	public void forEach_arrayList(Blackhole blackhole) {
+		arrayList.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public int linearSearch_dynamicArray() {
+		return dynamicArray.linearSearch(absentItem);
+	}
+
+	@Benchmark
+	public int linearSearch_arrayList() {
+		return arrayList.indexOf(absentItem);
+	}
+
+	@Benchmark
+	public void binarySearch_dynamicArray(Blackhole blackhole) {
+		for(Object lookup : lookups) {
+			blackhole.consume(sortedDynamicArray.binarySearch(item -> comparator.compare(lookup, item)));
+		}
+	}
+
+	@Benchmark
+	public void binarySearch_arrayList(Blackhole blackhole) {
+		for(Object lookup : lookups) {
+			blackhole.consume(Collections.binarySearch(sortedArrayList, lookup, comparator));
+		}
+	}
+
+	@Benchmark
+	public DynamicArray<Object> sort_dynamicArray() {
+		DynamicArray<Object> copy = new DynamicArray<>(dynamicArray);
+		copy.sort(comparator);
+		return copy;
+	}
+
+	@Benchmark
+	public ArrayList<Object> sort_arrayList() {
+		ArrayList<Object> copy = new ArrayList<>(arrayList);
+		copy.sort(comparator);
+		return copy;
+	}
+}
@@ -0,0 +1,48 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.ExpiringRingBuffer;
+import com.bakuard.collections.TimeBucketedAggregator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Подсчет кол-ва событий за последнюю секунду при частоте событий 200000 в секунду. Сравнение
+ * {@link ExpiringRingBuffer}, хранящего каждое событие, с {@link TimeBucketedAggregator}, хранящим по одному
+ * счетчику на каждые 10 мс. Время задается искусственными часами, которые сдвигаются на 5 мкс при каждом событии.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpiringRingBufferBenchmark {
+
+	private static final long EVENT_INTERVAL_NANOS = 5_000L;
+
+	private long now;
+	private ExpiringRingBuffer<Integer> expiringRingBuffer;
+	private TimeBucketedAggregator<Integer> timeBucketedAggregator;
+
+	@Setup
+	public void setUp() {
+		expiringRingBuffer = new ExpiringRingBuffer<>(200_000, Duration.ofSeconds(1), () -> now);
+		timeBucketedAggregator = new TimeBucketedAggregator<>(100, Duration.ofMillis(10), Integer::sum, () -> now);
+	}
+
+	@Benchmark
+	public int countLastSecond_expiringRingBuffer() {
+		now += EVENT_INTERVAL_NANOS;
+		expiringRingBuffer.add(1);
+		return expiringRingBuffer.size();
+	}
+
+	@Benchmark
+	public int countLastSecond_timeBucketedAggregator() {
+		now += EVENT_INTERVAL_NANOS;
+		timeBucketedAggregator.add(1);
+		return timeBucketedAggregator.aggregate();
+	}
+}
@@ -0,0 +1,109 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.DynamicArray;
+import com.bakuard.collections.IntDynamicArray;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link IntDynamicArray} с {@link DynamicArray}, хранящим упакованные значения Integer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntDynamicArrayBenchmark {
+
+	@Param({"100", "10000", "1000000"})
+	private int size;
+
+	private int[] items;
+	private int[] randomIndexes;
+
+	private IntDynamicArray intDynamicArray;
+	private DynamicArray<Integer> dynamicArray;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+		items = new int[size];
+		randomIndexes = new int[size];
+		for(int i = 0; i < size; ++i) {
+			items[i] = random.nextInt();
+			randomIndexes[i] = random.nextInt(size);
+		}
+
+		intDynamicArray = IntDynamicArray.of(items);
+		dynamicArray = new DynamicArray<>();
+		for(int item : items) dynamicArray.addLast(item);
+	}
+
+	@Benchmark
+	public IntDynamicArray addLast_intDynamicArray() {
+		IntDynamicArray result = new IntDynamicArray();
+		for(int item : items) result.addLast(item);
+		return result;
+	}
+
+	@Benchmark
+	public DynamicArray<Integer> addLast_dynamicArray() {
+		DynamicArray<Integer> result = new DynamicArray<>();
+		for(int item : items) result.addLast(item);
+		return result;
+	}
+
+	@Benchmark
+	public long randomGet_intDynamicArray() {
+		long sum = 0;
+		for(int index : randomIndexes) sum += intDynamicArray.get(index);
+		return sum;
+	}
+
+	@Benchmark
+	public long randomGet_dynamicArray() {
+		long sum = 0;
+		for(int index : randomIndexes) sum += dynamicArray.get(index);
+		return sum;
+	}
+
+	@Benchmark
+	public void forEach_intDynamicArray(Blackhole blackhole) {
+		intDynamicArray.forEach((item, index) -> blackhole.consume(item));
+	}
+
+	@Benchmark
+	public void forEach_dynamicArray(Blackhole blackhole) {
+		dynamicArray.forEach((item, index) -> blackhole.consume(item));
+	}
+
+	@Benchmark
+	public IntDynamicArray sort_intDynamicArray() {
+		IntDynamicArray copy = new IntDynamicArray(intDynamicArray);
+		copy.sort();
+		return copy;
+	}
+
+	@Benchmark
+	public DynamicArray<Integer> sort_dynamicArray() {
+		DynamicArray<Integer> copy = new DynamicArray<>(dynamicArray);
+		copy.sort(Integer::compare);
+		return copy;
+	}
+
+	@Benchmark
+	public int removeIf_intDynamicArray() {
+		IntDynamicArray copy = new IntDynamicArray(intDynamicArray);
+		return copy.removeIf((item, index) -> (item & 1) == 0);
+	}
+
+	@Benchmark
+	public int removeIf_dynamicArray() {
+		DynamicArray<Integer> copy = new DynamicArray<>(dynamicArray);
+		return copy.removeIf((item, index) -> (item & 1) == 0);
+	}
+}
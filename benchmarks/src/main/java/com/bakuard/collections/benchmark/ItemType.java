@@ -0,0 +1,54 @@
+package com.bakuard.collections.benchmark;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+
+/**
+ * Тип элементов, которыми заполняются линейные структуры данных в бенчмарках. Позволяет сравнивать структуры данных
+ * как на "дешевых" для сравнения элементах (Integer), так и на элементах с дорогим equals и compareTo (String).
+ */
+public enum ItemType {
+
+	INTEGER {
+		@Override
+		public Object create(SplittableRandom random) {
+			return random.nextInt();
+		}
+	},
+
+	STRING {
+		@Override
+		public Object create(SplittableRandom random) {
+			return "item-" + Long.toHexString(random.nextLong());
+		}
+	};
+
+	/**
+	 * Фиксированное начальное значение генератора псевдослучайных чисел. Используется для того, чтобы все
+	 * бенчмарки и все их запуски работали с одинаковыми данными.
+	 */
+	public static final long SEED = 0x5DEECE66DL;
+
+	/**
+	 * Создает новый элемент данного типа, используя переданный генератор псевдослучайных чисел.
+	 */
+	public abstract Object create(SplittableRandom random);
+
+	/**
+	 * Создает и возвращает массив из указанного кол-ва элементов данного типа.
+	 */
+	public Object[] createArray(int size) {
+		SplittableRandom random = new SplittableRandom(SEED);
+		Object[] result = new Object[size];
+		for(int i = 0; i < size; ++i) result[i] = create(random);
+		return result;
+	}
+
+	/**
+	 * Возвращает компаратор, задающий естественный порядок для элементов данного типа.
+	 */
+	@SuppressWarnings("unchecked")
+	public Comparator<Object> comparator() {
+		return (a, b) -> ((Comparable<Object>) a).compareTo(b);
+	}
+}
@@ -0,0 +1,95 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.DynamicArray;
+import com.bakuard.collections.MpmcQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Передача элементов между несколькими потоками-производителями и несколькими потоками-потребителями.
+ * Сравнение {@link MpmcQueue} с {@link ArrayBlockingQueue}. Кол-во потоков в каждой группе задается
+ * параметром командной строки JMH -tg (например, -tg 8,8).
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MpmcQueueBenchmark {
+
+	private static final int BATCH_SIZE = 16;
+
+
+	@Param({"1024", "65536"})
+	private int size;
+
+	private Object item;
+	private Object[] batch;
+
+	private MpmcQueue<Object> mpmcQueue;
+	private ArrayBlockingQueue<Object> arrayBlockingQueue;
+
+	@State(Scope.Thread)
+	public static class ConsumerState {
+
+		public DynamicArray<Object> drained = new DynamicArray<>();
+
+	}
+
+	@Setup
+	public void setUp() {
+		item = new Object();
+		batch = new Object[BATCH_SIZE];
+		for(int i = 0; i < BATCH_SIZE; ++i) batch[i] = item;
+
+		mpmcQueue = new MpmcQueue<>(size);
+		arrayBlockingQueue = new ArrayBlockingQueue<>(size);
+	}
+
+	@Benchmark
+	@Group("single_mpmcQueue")
+	@GroupThreads(2)
+	public boolean single_mpmcQueue_producer() {
+		return mpmcQueue.addLastOrSkip(item);
+	}
+
+	@Benchmark
+	@Group("single_mpmcQueue")
+	@GroupThreads(2)
+	public Object single_mpmcQueue_consumer() {
+		return mpmcQueue.removeFirst();
+	}
+
+	@Benchmark
+	@Group("single_arrayBlockingQueue")
+	@GroupThreads(2)
+	public boolean single_arrayBlockingQueue_producer() {
+		return arrayBlockingQueue.offer(item);
+	}
+
+	@Benchmark
+	@Group("single_arrayBlockingQueue")
+	@GroupThreads(2)
+	public Object single_arrayBlockingQueue_consumer() {
+		return arrayBlockingQueue.poll();
+	}
+
+	@Benchmark
+	@Group("batch_mpmcQueue")
+	@GroupThreads(2)
+	public int batch_mpmcQueue_producer() {
+		return mpmcQueue.addAllOnLastOrSkip(batch);
+	}
+
+	@Benchmark
+	@Group("batch_mpmcQueue")
+	@GroupThreads(2)
+	public void batch_mpmcQueue_consumer(ConsumerState state, Blackhole blackhole) {
+		state.drained.clear();
+		blackhole.consume(mpmcQueue.drainTo(state.drained));
+	}
+}
@@ -0,0 +1,119 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Queue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link Queue} с {@link ArrayDeque}, используемым как очередь.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+	@Param({"100", "10000", "1000000"})
+	private int size;
+
+	@Param({"INTEGER", "STRING"})
+	private ItemType itemType;
+
+	private Object[] items;
+	private int[] randomIndexes;
+	private Object absentItem;
+
+	private Queue<Object> queue;
+	private ArrayDeque<Object> arrayDeque;
+
+	@Setup
+	public void setUp() {
+		items = itemType.createArray(size);
+
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+		randomIndexes = new int[size];
+		for(int i = 0; i < size; ++i) randomIndexes[i] = random.nextInt(size);
+		absentItem = itemType.create(new SplittableRandom(~ItemType.SEED));
+
+		queue = Queue.of(items);
+		arrayDeque = new ArrayDeque<>(Arrays.asList(items));
+	}
+
+	@Benchmark
+	public Queue<Object> addLast_queue() {
+		Queue<Object> result = new Queue<>();
+		for(Object item : items) result.addLast(item);
+		return result;
+	}
+
+	@Benchmark
+	public ArrayDeque<Object> addLast_arrayDeque() {
+		ArrayDeque<Object> result = new ArrayDeque<>();
+		for(Object item : items) result.addLast(item);
+		return result;
+	}
+
+	@Benchmark
+	public Queue<Object> addLastAndRemoveFirst_queue() {
+		Queue<Object> result = new Queue<>();
+		for(Object item : items) result.addLast(item);
+		while(!result.isEmpty()) result.removeFirst();
+		return result;
+	}
+
+	@Benchmark
+	public ArrayDeque<Object> addLastAndRemoveFirst_arrayDeque() {
+		ArrayDeque<Object> result = new ArrayDeque<>();
+		for(Object item : items) result.addLast(item);
+		while(!result.isEmpty()) result.pollFirst();
+		return result;
+	}
+
+	@Benchmark
+	public void steadyState_queue(Blackhole blackhole) {
+		for(Object item : items) {
+			queue.addLast(item);
+			blackhole.consume(queue.removeFirst());
+		}
+	}
+
+	@Benchmark
+	public void steadyState_arrayDeque(Blackhole blackhole) {
+		for(Object item : items) {
+			arrayDeque.addLast(item);
+			blackhole.consume(arrayDeque.pollFirst());
+		}
+	}
+
+	@Benchmark
+	public void randomGet_queue(Blackhole blackhole) {
+		for(int index : randomIndexes) blackhole.consume(queue.get(index));
+	}
+
+	@Benchmark
+	public void iterate_queue(Blackhole blackhole) {
+		for(Object item : queue) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public void iterate_arrayDeque(Blackhole blackhole) {
+		for(Object item : arrayDeque) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public int linearSearch_queue() {
+		return queue.linearSearch(absentItem);
+	}
+
+	@Benchmark
+	public boolean linearSearch_arrayDeque() {
+		return arrayDeque.contains(absentItem);
+	}
+}
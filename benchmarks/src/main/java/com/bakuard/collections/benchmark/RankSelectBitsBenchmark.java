@@ -0,0 +1,70 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Bits;
+import com.bakuard.collections.RankSelectBits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение операций rank и select у {@link RankSelectBits} с их вычислением при помощи
+ * {@link Bits#getWord(int)} и {@link Bits#nextSetBit(int)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankSelectBitsBenchmark {
+
+	@Param({"1000000", "100000000"})
+	private int size;
+
+	@Param({"0.01", "0.5"})
+	private double density;
+
+	private Bits bits;
+	private RankSelectBits rankSelectBits;
+	private int index;
+	private int k;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+
+		bits = new Bits(size);
+		for(int i = 0; i < size; ++i) {
+			if(random.nextDouble() < density) bits.set(i);
+		}
+		rankSelectBits = new RankSelectBits(bits);
+		index = size / 2 + 17;
+		k = rankSelectBits.rank(index);
+	}
+
+	@Benchmark
+	public int rank_rankSelectBits() {
+		return rankSelectBits.rank(index);
+	}
+
+	@Benchmark
+	public int rank_bits() {
+		int result = 0;
+		int lastWord = index >>> 6;
+		for(int i = 0; i < lastWord; ++i) result += Long.bitCount(bits.getWord(i));
+		return result + Long.bitCount(bits.getWord(lastWord) & ((1L << index) - 1L));
+	}
+
+	@Benchmark
+	public int select_rankSelectBits() {
+		return rankSelectBits.select(k);
+	}
+
+	@Benchmark
+	public int select_bits() {
+		int result = bits.nextSetBit(0);
+		for(int i = 0; i < k; ++i) result = bits.nextSetBit(result + 1);
+		return result;
+	}
+}
@@ -0,0 +1,102 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.RingBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link RingBuffer} с {@link ArrayDeque}, размер которого ограничивается вручную.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferBenchmark {
+
+	@Param({"100", "10000", "1000000"})
+	private int size;
+
+	@Param({"INTEGER", "STRING"})
+	private ItemType itemType;
+
+	private Object[] items;
+	private int[] randomIndexes;
+	private Object absentItem;
+
+	private RingBuffer<Object> ringBuffer;
+	private ArrayDeque<Object> arrayDeque;
+
+	@Setup
+	public void setUp() {
+		items = itemType.createArray(size);
+
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+		randomIndexes = new int[size];
+		for(int i = 0; i < size; ++i) randomIndexes[i] = random.nextInt(size);
+		absentItem = itemType.create(new SplittableRandom(~ItemType.SEED));
+
+		ringBuffer = RingBuffer.of(size, items);
+		arrayDeque = new ArrayDeque<>(size);
+		for(Object item : items) arrayDeque.addLast(item);
+	}
+
+	@Benchmark
+	public void addLastOrReplace_ringBuffer(Blackhole blackhole) {
+		for(Object item : items) blackhole.consume(ringBuffer.addLastOrReplace(item));
+	}
+
+	@Benchmark
+	public void addLastOrReplace_arrayDeque(Blackhole blackhole) {
+		for(Object item : items) {
+			blackhole.consume(arrayDeque.size() == size ? arrayDeque.pollFirst() : null);
+			arrayDeque.addLast(item);
+		}
+	}
+
+	@Benchmark
+	public RingBuffer<Object> addLastOrSkipAndRemoveFirst_ringBuffer() {
+		RingBuffer<Object> result = new RingBuffer<>(size);
+		for(Object item : items) result.addLastOrSkip(item);
+		while(!result.isEmpty()) result.removeFirst();
+		return result;
+	}
+
+	@Benchmark
+	public ArrayDeque<Object> addLastOrSkipAndRemoveFirst_arrayDeque() {
+		ArrayDeque<Object> result = new ArrayDeque<>(size);
+		for(Object item : items) if(result.size() < size) result.addLast(item);
+		while(!result.isEmpty()) result.pollFirst();
+		return result;
+	}
+
+	@Benchmark
+	public void randomGet_ringBuffer(Blackhole blackhole) {
+		for(int index : randomIndexes) blackhole.consume(ringBuffer.get(index));
+	}
+
+	@Benchmark
+	public void iterate_ringBuffer(Blackhole blackhole) {
+		for(Object item : ringBuffer) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public void iterate_arrayDeque(Blackhole blackhole) {
+		for(Object item : arrayDeque) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public int linearSearch_ringBuffer() {
+		return ringBuffer.linearSearch(absentItem);
+	}
+
+	@Benchmark
+	public boolean linearSearch_arrayDeque() {
+		return arrayDeque.contains(absentItem);
+	}
+}
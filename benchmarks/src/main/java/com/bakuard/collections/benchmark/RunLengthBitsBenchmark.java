@@ -0,0 +1,99 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Bits;
+import com.bakuard.collections.RunLengthBits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение операций чтения и логических операций над {@link RunLengthBits} с теми же операциями над
+ * {@link Bits} для битовых векторов, состоящих из длинных последовательностей единиц и нулей.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunLengthBitsBenchmark {
+
+	@Param({"10000000"})
+	private int size;
+
+	/**
+	 * Средняя длина последовательности одинаковых бит.
+	 */
+	@Param({"1000", "100000"})
+	private int runLength;
+
+	private Bits bits;
+	private RunLengthBits runLengthBits;
+	private Bits target;
+	private int[] indexes;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+
+		bits = new Bits(size);
+		boolean value = false;
+		for(int i = 0; i < size; value = !value) {
+			int end = Math.min(size, i + 1 + random.nextInt(2 * runLength));
+			if(value) bits.setRange(i, end);
+			i = end;
+		}
+		runLengthBits = bits.toRunLengthEncoded();
+		target = new Bits(size);
+		indexes = random.ints(1024, 0, size).toArray();
+	}
+
+	@Benchmark
+	public int get_bits() {
+		int result = 0;
+		for(int index : indexes) result += bits.get(index) ? 1 : 0;
+		return result;
+	}
+
+	@Benchmark
+	public int get_runLengthBits() {
+		int result = 0;
+		for(int index : indexes) result += runLengthBits.get(index) ? 1 : 0;
+		return result;
+	}
+
+	@Benchmark
+	public int nextClearBit_bits() {
+		int result = 0;
+		for(int index : indexes) result += bits.nextClearBit(index);
+		return result;
+	}
+
+	@Benchmark
+	public int nextClearBit_runLengthBits() {
+		int result = 0;
+		for(int index : indexes) result += runLengthBits.nextClearBit(index);
+		return result;
+	}
+
+	@Benchmark
+	public Bits or_bits() {
+		return target.clearAll().or(bits);
+	}
+
+	@Benchmark
+	public Bits or_runLengthBits() {
+		return target.clearAll().or(runLengthBits);
+	}
+
+	@Benchmark
+	public Bits and_bits() {
+		return target.setAll().and(bits);
+	}
+
+	@Benchmark
+	public Bits and_runLengthBits() {
+		return target.setAll().and(runLengthBits);
+	}
+}
@@ -0,0 +1,69 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.RingBuffer;
+import com.bakuard.collections.SlidingWindowAggregator;
+import com.bakuard.collections.SlidingWindowStatistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Добавление значения в скользящее окно с последующим получением статистик окна. Сравнение
+ * {@link SlidingWindowStatistics} и {@link SlidingWindowAggregator} с пересчетом статистик через
+ * {@link RingBuffer#reduce} после каждого добавления.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlidingWindowBenchmark {
+
+	@Param({"100", "10000"})
+	private int windowSize;
+
+	private double[] values;
+	private int next;
+	private RingBuffer<Double> ringBuffer;
+	private SlidingWindowStatistics statistics;
+	private SlidingWindowAggregator<Double> maxAggregator;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(ItemType.SEED);
+
+		values = random.doubles(1 << 16).toArray();
+		ringBuffer = new RingBuffer<>(windowSize);
+		statistics = new SlidingWindowStatistics(windowSize);
+		maxAggregator = new SlidingWindowAggregator<>(windowSize, Math::max);
+		for(int i = 0; i < windowSize; ++i) {
+			ringBuffer.addLastOrReplace(values[i]);
+			statistics.add(values[i]);
+			maxAggregator.add(values[i]);
+		}
+	}
+
+	@Benchmark
+	public double sumAndMax_ringBufferReduce() {
+		ringBuffer.addLastOrReplace(nextValue());
+		return ringBuffer.reduce(0.0, Double::sum) + ringBuffer.reduce(Math::max);
+	}
+
+	@Benchmark
+	public double sumAndMax_slidingWindowStatistics() {
+		statistics.add(nextValue());
+		return statistics.sum() + statistics.max();
+	}
+
+	@Benchmark
+	public double max_slidingWindowAggregator() {
+		maxAggregator.add(nextValue());
+		return maxAggregator.aggregate();
+	}
+
+	private double nextValue() {
+		return values[next++ & (values.length - 1)];
+	}
+}
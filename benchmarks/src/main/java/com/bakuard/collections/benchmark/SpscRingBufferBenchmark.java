@@ -0,0 +1,102 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.DynamicArray;
+import com.bakuard.collections.RingBuffer;
+import com.bakuard.collections.SpscRingBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Передача элементов от одного потока-производителя одному потоку-потребителю. Сравнение {@link SpscRingBuffer}
+ * с {@link RingBuffer}, доступ к которому синхронизируется вручную, и с {@link ArrayBlockingQueue}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpscRingBufferBenchmark {
+
+	private static final int BATCH_SIZE = 64;
+
+
+	@Param({"128", "16384"})
+	private int size;
+
+	private Object item;
+	private Object[] batch;
+	private DynamicArray<Object> drained;
+
+	private SpscRingBuffer<Object> spscRingBuffer;
+	private RingBuffer<Object> ringBuffer;
+	private ArrayBlockingQueue<Object> arrayBlockingQueue;
+
+	@Setup
+	public void setUp() {
+		item = new Object();
+		batch = new Object[BATCH_SIZE];
+		for(int i = 0; i < BATCH_SIZE; ++i) batch[i] = item;
+		drained = new DynamicArray<>();
+
+		spscRingBuffer = new SpscRingBuffer<>(size);
+		ringBuffer = new RingBuffer<>(size);
+		arrayBlockingQueue = new ArrayBlockingQueue<>(size);
+	}
+
+	@Benchmark
+	@Group("single_spscRingBuffer")
+	public boolean single_spscRingBuffer_producer() {
+		return spscRingBuffer.addLastOrSkip(item);
+	}
+
+	@Benchmark
+	@Group("single_spscRingBuffer")
+	public Object single_spscRingBuffer_consumer() {
+		return spscRingBuffer.removeFirst();
+	}
+
+	@Benchmark
+	@Group("single_synchronizedRingBuffer")
+	public boolean single_synchronizedRingBuffer_producer() {
+		synchronized(ringBuffer) {
+			return ringBuffer.addLastOrSkip(item);
+		}
+	}
+
+	@Benchmark
+	@Group("single_synchronizedRingBuffer")
+	public Object single_synchronizedRingBuffer_consumer() {
+		synchronized(ringBuffer) {
+			return ringBuffer.removeFirst();
+		}
+	}
+
+	@Benchmark
+	@Group("single_arrayBlockingQueue")
+	public boolean single_arrayBlockingQueue_producer() {
+		return arrayBlockingQueue.offer(item);
+	}
+
+	@Benchmark
+	@Group("single_arrayBlockingQueue")
+	public Object single_arrayBlockingQueue_consumer() {
+		return arrayBlockingQueue.poll();
+	}
+
+	@Benchmark
+	@Group("batch_spscRingBuffer")
+	public int batch_spscRingBuffer_producer() {
+		return spscRingBuffer.addAllOnLastOrSkip(batch);
+	}
+
+	@Benchmark
+	@Group("batch_spscRingBuffer")
+	public void batch_spscRingBuffer_consumer(Blackhole blackhole) {
+		drained.clear();
+		blackhole.consume(spscRingBuffer.drainTo(drained));
+	}
+}
@@ -0,0 +1,79 @@
+package com.bakuard.collections.benchmark;
+
+import com.bakuard.collections.Stack;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link Stack} с {@link ArrayDeque}, используемым как стек.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark {
+
+	@Param({"100", "10000", "1000000"})
+	private int size;
+
+	@Param({"INTEGER", "STRING"})
+	private ItemType itemType;
+
+	private Object[] items;
+	private Object absentItem;
+
+	private Stack<Object> stack;
+	private ArrayDeque<Object> arrayDeque;
+
+	@Setup
+	public void setUp() {
+		items = itemType.createArray(size);
+		absentItem = itemType.create(new SplittableRandom(~ItemType.SEED));
+
+		stack = Stack.of(items);
+		arrayDeque = new ArrayDeque<>();
+		for(Object item : items) arrayDeque.push(item);
+	}
+
+	@Benchmark
+	public Stack<Object> pushAndPop_stack() {
+		Stack<Object> result = new Stack<>();
+		for(Object item : items) result.addLast(item);
+		while(!result.isEmpty()) result.removeLast();
+		return result;
+	}
+
+	@Benchmark
+	public ArrayDeque<Object> pushAndPop_arrayDeque() {
+		ArrayDeque<Object> result = new ArrayDeque<>();
+		for(Object item : items) result.push(item);
+		while(!result.isEmpty()) result.pop();
+		return result;
+	}
+
+	@Benchmark
+	public void iterate_stack(Blackhole blackhole) {
+		for(Object item : stack) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public void iterate_arrayDeque(Blackhole blackhole) {
+		for(Object item : arrayDeque) blackhole.consume(item);
+	}
+
+	@Benchmark
+	public int linearSearch_stack() {
+		return stack.linearSearch(absentItem);
+	}
+
+	@Benchmark
+	public boolean linearSearch_arrayDeque() {
+		return arrayDeque.contains(absentItem);
+	}
+}
@@ -0,0 +1,587 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * <p>Битовый вектор фиксированного размера, который может одновременно изменяться и читаться произвольным кол-вом
+ * потоков без внешней синхронизации. Не использует блокировок.</p>
+ *
+ * <p>Каждая группа из 64 бит хранится в одном значении типа long и изменяется атомарно с помощью {@link VarHandle}
+ * (операциями getAndBitwiseOr, getAndBitwiseAnd, getAndBitwiseXor и compareAndExchange). Поэтому одновременные
+ * изменения разных бит одной группы не теряются, а методы {@link #testAndSet(int)}, {@link #testAndClear(int)},
+ * {@link #getAndSet(int, boolean)}, {@link #compareAndSet(int, boolean, boolean)} и
+ * {@link #nextClearBitAndSet(int)} позволяют нескольким потокам конкурировать за один и тот же бит: ровно один
+ * из них увидит, что именно он изменил значение бита. Изменение бита становится видимым другим потокам вместе со
+ * всеми изменениями, выполненными потоком до него.</p>
+ *
+ * <p>Операции над диапазонами и над всем объектом ({@link #setRange(int, int)}, {@link #clearAll()},
+ * {@link #or(ReadableBits)} и т.д.) атомарны только в пределах каждой группы из 64 бит, но не в целом. Методы,
+ * читающие несколько групп ({@link #cardinality()}, {@link #getHighBitIndex()}, {@link #nextSetBit(int)},
+ * {@link #equals(Object)}, {@link #compareTo(ReadableBits)} и т.д.), возвращают приблизительный результат, если
+ * объект одновременно изменяется другими потоками: каждая группа читается атомарно, но разные группы могут быть
+ * прочитаны в разные моменты времени.</p>
+ */
+public final class AtomicBits implements ReadableBits {
+
+	private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+
+	private final long[] words;
+	private final int size;
+
+	/**
+	 * Создает объект AtomicBits для хранения указанного кол-ва бит. Значение любого бита после вызова этого
+	 * конструктора будет равняться 0.
+	 * @param numberBits кол-во бит создаваемого объекта.
+	 * @throws NegativeSizeException если numberBits меньше нуля.
+	 */
+	public AtomicBits(int numberBits) {
+		if(numberBits < 0) {
+			throw new NegativeSizeException("Expected: size >= 0; Actual: size=" + numberBits);
+		}
+		size = numberBits;
+		words = new long[wordsNumber(numberBits)];
+	}
+
+	/**
+	 * Создает копию переданного объекта. Если other одновременно изменяется другими потоками, то каждая группа
+	 * из 64 бит копируется атомарно, но разные группы могут быть скопированы в разные моменты времени.
+	 * @param other объект, для которого создается копия.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public AtomicBits(ReadableBits other) {
+		size = other.size();
+		words = new long[wordsNumber(size)];
+		for(int i = 0; i < words.length; ++i) words[i] = other.getWord(i);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean get(int index) {
+		assertInHalfOpenInterval(index);
+		return (word(index >>> 6) & (1L << index)) != 0L;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getWord(int wordIndex) {
+		assertNotNegativeIndex(wordIndex);
+		return wordIndex < words.length ? word(wordIndex) : 0L;
+	}
+
+	/**
+	 * Атомарно устанавливает бит с указанным индексом в единицу.
+	 * @param index индекс бита, устанавливаемого в единицу.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void set(int index) {
+		assertInHalfOpenInterval(index);
+		WORDS.getAndBitwiseOr(words, index >>> 6, 1L << index);
+	}
+
+	/**
+	 * Атомарно устанавливает бит с указанным индексом в ноль.
+	 * @param index индекс бита, устанавливаемого в ноль.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void clear(int index) {
+		assertInHalfOpenInterval(index);
+		WORDS.getAndBitwiseAnd(words, index >>> 6, ~(1L << index));
+	}
+
+	/**
+	 * Атомарно инвертирует значение бита с указанным индексом.
+	 * @param index индекс инвертируемого бита.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void flip(int index) {
+		assertInHalfOpenInterval(index);
+		WORDS.getAndBitwiseXor(words, index >>> 6, 1L << index);
+	}
+
+	/**
+	 * Атомарно устанавливает бит с указанным индексом в единицу и возвращает его предыдущее значение. Если
+	 * несколько потоков одновременно вызывают этот метод для одного и того же нулевого бита, то false получит
+	 * ровно один из них.
+	 * @param index индекс бита, устанавливаемого в единицу.
+	 * @return предыдущее значение бита: true - если бит уже был установлен в единицу, иначе - false.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public boolean testAndSet(int index) {
+		assertInHalfOpenInterval(index);
+		long mask = 1L << index;
+		return ((long) WORDS.getAndBitwiseOr(words, index >>> 6, mask) & mask) != 0L;
+	}
+
+	/**
+	 * Атомарно устанавливает бит с указанным индексом в ноль и возвращает его предыдущее значение. Если
+	 * несколько потоков одновременно вызывают этот метод для одного и того же единичного бита, то true получит
+	 * ровно один из них.
+	 * @param index индекс бита, устанавливаемого в ноль.
+	 * @return предыдущее значение бита: true - если бит был установлен в единицу, иначе - false.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public boolean testAndClear(int index) {
+		assertInHalfOpenInterval(index);
+		long mask = 1L << index;
+		return ((long) WORDS.getAndBitwiseAnd(words, index >>> 6, ~mask) & mask) != 0L;
+	}
+
+	/**
+	 * Атомарно устанавливает бит с указанным индексом в значение value и возвращает его предыдущее значение.
+	 * @param index индекс изменяемого бита.
+	 * @param value новое значение бита.
+	 * @return предыдущее значение бита.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public boolean getAndSet(int index, boolean value) {
+		return value ? testAndSet(index) : testAndClear(index);
+	}
+
+	/**
+	 * Атомарно устанавливает бит с указанным индексом в значение newValue, если его текущее значение равно
+	 * expectedValue. Одновременные изменения других бит той же группы из 64 бит не приводят к неудаче операции.
+	 * @param index индекс изменяемого бита.
+	 * @param expectedValue ожидаемое текущее значение бита.
+	 * @param newValue новое значение бита.
+	 * @return true - если текущее значение бита было равно expectedValue, иначе - false.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public boolean compareAndSet(int index, boolean expectedValue, boolean newValue) {
+		assertInHalfOpenInterval(index);
+		int wordIndex = index >>> 6;
+		long mask = 1L << index;
+		long word = word(wordIndex);
+		while(((word & mask) != 0L) == expectedValue) {
+			if(expectedValue == newValue) return true;
+			long witness = (long) WORDS.compareAndExchange(words, wordIndex, word, word ^ mask);
+			if(witness == word) return true;
+			word = witness;
+		}
+		return false;
+	}
+
+	/**
+	 * Атомарно заменяет группу из 64 бит с порядковым номером wordIndex (см. {@link #getWord(int)}) на newWord,
+	 * если ее текущее значение равно expectedWord. Биты newWord, индексы которых больше или равны
+	 * {@link #size()}, игнорируются.
+	 * @param wordIndex порядковый номер группы из 64 бит.
+	 * @param expectedWord ожидаемое текущее значение группы.
+	 * @param newWord новое значение группы.
+	 * @return true - если текущее значение группы было равно expectedWord, иначе - false.
+	 * @throws IndexOutOfBoundsException если не выполняется условие
+	 *                                   {@code wordIndex >= 0 && wordIndex * 64 < } {@link #size()}
+	 */
+	public boolean compareAndSetWord(int wordIndex, long expectedWord, long newWord) {
+		if(wordIndex < 0 || (long) wordIndex << 6 >= size) {
+			throw new IndexOutOfBoundsException(
+					"Expected: wordIndex >= 0 && wordIndex * 64 < size; Actual: wordIndex=" + wordIndex +
+							", size=" + size);
+		}
+		return WORDS.compareAndSet(words, wordIndex, expectedWord, newWord & validMask(wordIndex));
+	}
+
+	/**
+	 * <p>Находит первый нулевой бит, начиная с бита с индексом fromIndex включительно, атомарно устанавливает его
+	 * в единицу и возвращает его индекс. Если найденный бит одновременно занимает другой поток, то поиск
+	 * продолжается со следующего нулевого бита. Поэтому при одновременном вызове этого метода несколькими потоками
+	 * каждый из них получит свой индекс.</p>
+	 *
+	 * <p>Если начиная с бита с указанным индексом нет ни одного нулевого бита или {@code fromIndex >= }
+	 * {@link #size()} - метод ничего не изменяет и возвращает -1.</p>
+	 *
+	 * @param fromIndex индекс бита, с которого начинается поиск.
+	 * @return индекс бита, установленного в единицу данным вызовом, или -1.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex < 0}.
+	 */
+	public int nextClearBitAndSet(int fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+
+		if(fromIndex < size) {
+			long fromMask = -1L << fromIndex;
+			for(int wordIndex = fromIndex >>> 6; wordIndex < words.length; ++wordIndex) {
+				long mask = validMask(wordIndex) & fromMask;
+				long word = word(wordIndex);
+				long free = ~word & mask;
+				while(free != 0L) {
+					long bit = free & -free;
+					long witness = (long) WORDS.compareAndExchange(words, wordIndex, word, word | bit);
+					if(witness == word) return (wordIndex << 6) + Long.numberOfTrailingZeros(bit);
+					word = witness;
+					free = ~word & mask;
+				}
+				fromMask = -1L;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в единицу. Изменение каждой группы из 64 бит
+	 * выполняется атомарно. В случае если {@code fromIndex == toIndex}, метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало заполняемого диапазона.
+	 * @param toIndex индекс, задающий конец заполняемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public AtomicBits setRange(int fromIndex, int toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+		for(int wordIndex = fromIndex >>> 6; fromIndex < toIndex && wordIndex <= (toIndex - 1) >>> 6; ++wordIndex) {
+			WORDS.getAndBitwiseOr(words, wordIndex, rangeMask(wordIndex, fromIndex, toIndex));
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в ноль. Изменение каждой группы из 64 бит
+	 * выполняется атомарно. В случае если {@code fromIndex == toIndex}, метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало очищаемого диапазона.
+	 * @param toIndex индекс, задающий конец очищаемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public AtomicBits clearRange(int fromIndex, int toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+		for(int wordIndex = fromIndex >>> 6; fromIndex < toIndex && wordIndex <= (toIndex - 1) >>> 6; ++wordIndex) {
+			WORDS.getAndBitwiseAnd(words, wordIndex, ~rangeMask(wordIndex, fromIndex, toIndex));
+		}
+		return this;
+	}
+
+	/**
+	 * Инвертирует все биты в диапазоне [fromIndex, toIndex). Изменение каждой группы из 64 бит выполняется
+	 * атомарно. В случае если {@code fromIndex == toIndex}, метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало инвертируемого диапазона.
+	 * @param toIndex индекс, задающий конец инвертируемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public AtomicBits flipRange(int fromIndex, int toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+		for(int wordIndex = fromIndex >>> 6; fromIndex < toIndex && wordIndex <= (toIndex - 1) >>> 6; ++wordIndex) {
+			WORDS.getAndBitwiseXor(words, wordIndex, rangeMask(wordIndex, fromIndex, toIndex));
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в единицу. Изменение каждой группы из 64 бит выполняется атомарно.
+	 * @return ссылку на этот же объект.
+	 */
+	public AtomicBits setAll() {
+		for(int i = 0; i < words.length; ++i) WORDS.setVolatile(words, i, validMask(i));
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в ноль. Изменение каждой группы из 64 бит выполняется атомарно.
+	 * @return ссылку на этот же объект.
+	 */
+	public AtomicBits clearAll() {
+		for(int i = 0; i < words.length; ++i) WORDS.setVolatile(words, i, 0L);
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию пересечения двух множеств и записывает результат в текущий объект. Изменение каждой
+	 * группы из 64 бит выполняется атомарно.</p>
+	 *
+	 * <p>Размер текущего объекта не изменяется. Если размер other меньше, то операция выполняется таким образом,
+	 * как будто недостающие биты other заполнены нулями.</p>
+	 *
+	 * @param other второй операнд операции пересечения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public AtomicBits and(ReadableBits other) {
+		for(int i = 0; i < words.length; ++i) WORDS.getAndBitwiseAnd(words, i, other.getWord(i));
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию объединения двух множеств и записывает результат в текущий объект. Изменение каждой
+	 * группы из 64 бит выполняется атомарно.</p>
+	 *
+	 * <p>Размер текущего объекта не изменяется: биты other, индексы которых больше или равны {@link #size()},
+	 * игнорируются.</p>
+	 *
+	 * @param other второй операнд операции объединения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public AtomicBits or(ReadableBits other) {
+		for(int i = 0; i < words.length; ++i) WORDS.getAndBitwiseOr(words, i, other.getWord(i) & validMask(i));
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию симметричной разности двух множеств и записывает результат в текущий объект.
+	 * Изменение каждой группы из 64 бит выполняется атомарно.</p>
+	 *
+	 * <p>Размер текущего объекта не изменяется: биты other, индексы которых больше или равны {@link #size()},
+	 * игнорируются.</p>
+	 *
+	 * @param other второй операнд для операции xor.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public AtomicBits xor(ReadableBits other) {
+		for(int i = 0; i < words.length; ++i) WORDS.getAndBitwiseXor(words, i, other.getWord(i) & validMask(i));
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию вычитания двух множеств и записывает результат в текущий объект. Изменение каждой
+	 * группы из 64 бит выполняется атомарно.</p>
+	 *
+	 * <p>Размер текущего объекта не изменяется. Если размер other меньше, то операция выполняется таким образом,
+	 * как будто недостающие биты other заполнены нулями.</p>
+	 *
+	 * @param other второй операнд для операции разности множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public AtomicBits andNot(ReadableBits other) {
+		for(int i = 0; i < words.length; ++i) WORDS.getAndBitwiseAnd(words, i, ~other.getWord(i));
+		return this;
+	}
+
+	/**
+	 * Возвращает кол-во бит, установленных в единицу. Если объект одновременно изменяется другими потоками, то
+	 * результат может не соответствовать ни одному состоянию объекта, но для каждой группы из 64 бит учитывается
+	 * одно из ее действительных состояний.
+	 * @return кол-во бит установленных в единицу.
+	 */
+	public int cardinality() {
+		int countBits = 0;
+		for(int i = 0; i < words.length; ++i) countBits += Long.bitCount(word(i));
+		return countBits;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getHighBitIndex() {
+		for(int i = words.length - 1; i >= 0; --i) {
+			long word = word(i);
+			if(word != 0L) return (i << 6) + (63 - Long.numberOfLeadingZeros(word));
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean isClear() {
+		for(int i = 0; i < words.length; ++i) {
+			if(word(i) != 0L) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextSetBit(int fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+
+		if(fromIndex < size) {
+			int wordIndex = fromIndex >>> 6;
+			long word = word(wordIndex) & (-1L << fromIndex);
+			while(word == 0L && ++wordIndex < words.length) word = word(wordIndex);
+			if(word != 0L) return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextClearBit(int fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+
+		if(fromIndex < size) {
+			int wordIndex = fromIndex >>> 6;
+			long word = ~word(wordIndex) & (-1L << fromIndex);
+			while(word == 0L && ++wordIndex < words.length) word = ~word(wordIndex);
+			if(word != 0L) {
+				int result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+				if(result < size) return result;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean contains(ReadableBits other) {
+		int otherWordsNumber = wordsNumber(other.size());
+		for(int i = 0; i < otherWordsNumber; ++i) {
+			long otherWord = other.getWord(i);
+			if((getWord(i) & otherWord) != otherWord) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean intersect(ReadableBits other) {
+		int commonWords = Math.min(words.length, wordsNumber(other.size()));
+		for(int i = 0; i < commonWords; ++i) {
+			if((word(i) & other.getWord(i)) != 0L) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean inBound(int index) {
+		return index >= 0 && index < size;
+	}
+
+	/**
+	 * Два объекта AtomicBits считаются одинаковыми если их размеры (значения возвращаемые методом {@link #size()})
+	 * равны и значения всех бит попарно равны.
+	 * @param other объект типа AtomicBits, с которым производится сравнение.
+	 * @return true - если объекты равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		AtomicBits otherBits = (AtomicBits) other;
+		return size == otherBits.size && compareIgnoreSize(otherBits) == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean equalsIgnoreSize(Object other) {
+		if(this == other) return true;
+		return other instanceof ReadableBits otherBits && compareIgnoreSize(otherBits) == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compareTo(ReadableBits other) {
+		int result = size - other.size();
+		for(int i = words.length - 1; i >= 0 && result == 0; --i) {
+			result = Long.compareUnsigned(word(i), other.getWord(i));
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int compareIgnoreSize(ReadableBits other) {
+		int result = 0;
+		for(int i = Math.max(words.length, wordsNumber(other.size())) - 1; i >= 0 && result == 0; --i) {
+			result = Long.compareUnsigned(getWord(i), other.getWord(i));
+		}
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCodeIgnoreSize() * 31 + size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int hashCodeIgnoreSize() {
+		long[] snapshot = snapshot();
+		return Bits.wordsHashCode(snapshot, snapshot.length);
+	}
+
+	@Override
+	public String toString() {
+		return "AtomicBits{size=" + size + ", count words=" + words.length + '}';
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String toBinaryString() {
+		long[] snapshot = snapshot();
+		StringBuilder result = new StringBuilder();
+
+		if(size > 0) {
+			int lastWordBitsNumber = (size & 63) == 0 ? 64 : size & 63;
+			result.append(Bits.toBinaryString(snapshot[snapshot.length - 1], lastWordBitsNumber));
+
+			for(int i = snapshot.length - 2; i >= 0; --i) {
+				result.append(Bits.toBinaryString(snapshot[i], 64));
+			}
+		}
+
+		return result.toString();
+	}
+
+
+	private long word(int wordIndex) {
+		return (long) WORDS.getVolatile(words, wordIndex);
+	}
+
+	private long[] snapshot() {
+		long[] result = new long[words.length];
+		for(int i = 0; i < result.length; ++i) result[i] = word(i);
+		return result;
+	}
+
+	private long validMask(int wordIndex) {
+		return wordIndex == words.length - 1 && (size & 63) != 0 ? -1L >>> -size : wordIndex << 6 < size ? -1L : 0L;
+	}
+
+	private void assertInHalfOpenInterval(int index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index < size; Actual: index=" + index + ", size=" + size);
+		}
+	}
+
+	private void assertCorrectRange(int fromIndex, int toIndex) {
+		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
+					", toIndex=" + toIndex + ')');
+		}
+	}
+
+	private static void assertNotNegativeIndex(int index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Expected: index >= 0; Actual: index=" + index);
+		}
+	}
+
+	private static int wordsNumber(int size) {
+		return Math.max(1, (size + 63) >>> 6);
+	}
+
+	private static long rangeMask(int wordIndex, int fromIndex, int toIndex) {
+		long mask = -1L;
+		if(wordIndex == fromIndex >>> 6) mask &= -1L << fromIndex;
+		if(wordIndex == (toIndex - 1) >>> 6) mask &= -1L >>> -toIndex;
+		return mask;
+	}
+}
@@ -0,0 +1,615 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.util.Arrays;
+
+/**
+ * <p>Плотная битовая матрица фиксированного размера. Предназначена, например, для хранения матриц смежности графов
+ * и вычисления достижимости вершин.</p>
+ *
+ * <p>Все биты матрицы хранятся в одном массиве типа long построчно: каждая строка занимает одинаковое кол-во
+ * 64-битных слов, а строки следуют в массиве друг за другом. Поэтому каждая строка непрерывна в памяти, а операции
+ * над строками ({@link #multiply(BitMatrix)}, {@link #transitiveClosure()}) обрабатывают 64 бита за одну операцию
+ * без создания промежуточных объектов. Метод {@link #row(int)} возвращает строку в виде {@link ReadableBits} без
+ * копирования.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class BitMatrix {
+
+	/**
+	 * Создает и возвращает новую единичную квадратную матрицу указанного размера: биты главной диагонали
+	 * установлены в единицу, все остальные - в ноль.
+	 * @param size кол-во строк и столбцов матрицы.
+	 * @return новый объект BitMatrix.
+	 * @throws NegativeSizeException если size меньше нуля.
+	 * @throws IllegalArgumentException если матрица указанного размера не помещается в один массив.
+	 */
+	public static BitMatrix identity(int size) {
+		BitMatrix result = new BitMatrix(size, size);
+		for(int i = 0; i < size; ++i) result.words[i * result.wordsPerRow + (i >>> 6)] = 1L << i;
+		return result;
+	}
+
+
+	private final long[] words;
+	private final int rows;
+	private final int columns;
+	private final int wordsPerRow;
+
+	/**
+	 * Создает матрицу с указанным кол-вом строк и столбцов. Значение любого бита после вызова этого конструктора
+	 * будет равняться 0.
+	 * @param rows кол-во строк матрицы.
+	 * @param columns кол-во столбцов матрицы.
+	 * @throws NegativeSizeException если rows или columns меньше нуля.
+	 * @throws IllegalArgumentException если матрица указанного размера не помещается в один массив.
+	 */
+	public BitMatrix(int rows, int columns) {
+		if(rows < 0 || columns < 0) {
+			throw new NegativeSizeException(
+					"Expected: rows >= 0 && columns >= 0; Actual: rows=" + rows + ", columns=" + columns);
+		}
+
+		int wordsPerRow = Math.max(1, (columns + 63) >>> 6);
+		long wordsNumber = (long) rows * wordsPerRow;
+		if(wordsNumber > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException(
+					"Matrix with rows=" + rows + " and columns=" + columns + " requires too many words=" + wordsNumber);
+		}
+
+		this.rows = rows;
+		this.columns = columns;
+		this.wordsPerRow = wordsPerRow;
+		this.words = new long[(int) wordsNumber];
+	}
+
+	/**
+	 * Создает точную копию переданной матрицы.
+	 * @param other матрица, для которой создается копия.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public BitMatrix(BitMatrix other) {
+		this.rows = other.rows;
+		this.columns = other.columns;
+		this.wordsPerRow = other.wordsPerRow;
+		this.words = other.words.clone();
+	}
+
+	/**
+	 * Возвращает кол-во строк матрицы.
+	 */
+	public int rows() {
+		return rows;
+	}
+
+	/**
+	 * Возвращает кол-во столбцов матрицы.
+	 */
+	public int columns() {
+		return columns;
+	}
+
+	/**
+	 * Возвращает значение бита, находящегося на пересечении указанных строки и столбца.
+	 * @param row индекс строки.
+	 * @param column индекс столбца.
+	 * @return true - если бит установлен в единицу, иначе - false.
+	 * @throws IndexOutOfBoundsException если не выполняется условие
+	 *                                   {@code row >= 0 && row < rows() && column >= 0 && column < columns()}
+	 */
+	public boolean get(int row, int column) {
+		assertCorrectCell(row, column);
+		return (words[wordIndex(row, column)] & (1L << column)) != 0L;
+	}
+
+	/**
+	 * Устанавливает бит, находящийся на пересечении указанных строки и столбца, в единицу.
+	 * @param row индекс строки.
+	 * @param column индекс столбца.
+	 * @throws IndexOutOfBoundsException если не выполняется условие
+	 *                                   {@code row >= 0 && row < rows() && column >= 0 && column < columns()}
+	 */
+	public void set(int row, int column) {
+		assertCorrectCell(row, column);
+		words[wordIndex(row, column)] |= 1L << column;
+	}
+
+	/**
+	 * Устанавливает бит, находящийся на пересечении указанных строки и столбца, в ноль.
+	 * @param row индекс строки.
+	 * @param column индекс столбца.
+	 * @throws IndexOutOfBoundsException если не выполняется условие
+	 *                                   {@code row >= 0 && row < rows() && column >= 0 && column < columns()}
+	 */
+	public void clear(int row, int column) {
+		assertCorrectCell(row, column);
+		words[wordIndex(row, column)] &= ~(1L << column);
+	}
+
+	/**
+	 * Инвертирует значение бита, находящегося на пересечении указанных строки и столбца.
+	 * @param row индекс строки.
+	 * @param column индекс столбца.
+	 * @throws IndexOutOfBoundsException если не выполняется условие
+	 *                                   {@code row >= 0 && row < rows() && column >= 0 && column < columns()}
+	 */
+	public void flip(int row, int column) {
+		assertCorrectCell(row, column);
+		words[wordIndex(row, column)] ^= 1L << column;
+	}
+
+	/**
+	 * Возвращает строку матрицы с указанным индексом в виде объекта {@link ReadableBits} размером {@link #columns()}.
+	 * Биты строки не копируются: возвращаемый объект отражает все последующие изменения матрицы.
+	 * @param row индекс строки.
+	 * @return строку матрицы.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code row >= 0 && row < } {@link #rows()}
+	 */
+	public Row row(int row) {
+		assertCorrectRow(row);
+		return new Row(words, row * wordsPerRow, columns);
+	}
+
+	/**
+	 * Заменяет строку матрицы с указанным индексом битами bits. Биты bits с индексами больше или равными
+	 * {@link #columns()} игнорируются, а если размер bits меньше {@link #columns()}, то недостающие биты строки
+	 * устанавливаются в ноль.
+	 * @param row индекс строки.
+	 * @param bits новые значения бит строки.
+	 * @return ссылку на этот же объект.
+	 * @throws NullPointerException если bits равен null.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code row >= 0 && row < } {@link #rows()}
+	 */
+	public BitMatrix setRow(int row, ReadableBits bits) {
+		assertCorrectRow(row);
+		int offset = row * wordsPerRow;
+		for(int i = 0; i < wordsPerRow; ++i) words[offset + i] = bits.getWord(i);
+		words[offset + wordsPerRow - 1] &= lastWordMask();
+		return this;
+	}
+
+	/**
+	 * Возвращает копию столбца матрицы с указанным индексом в виде нового объекта {@link Bits} размером
+	 * {@link #rows()}. Последующие изменения матрицы не отражаются на возвращаемом объекте.
+	 * @param column индекс столбца.
+	 * @return копию столбца матрицы.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code column >= 0 && column < } {@link #columns()}
+	 */
+	public Bits column(int column) {
+		assertCorrectColumn(column);
+		long[] result = new long[Math.max(1, (rows + 63) >>> 6)];
+		int columnWord = column >>> 6;
+		for(int i = 0; i < rows; ++i) {
+			result[i >>> 6] |= ((words[i * wordsPerRow + columnWord] >>> column) & 1L) << i;
+		}
+		return Bits.wrap(result, rows);
+	}
+
+	/**
+	 * Заменяет столбец матрицы с указанным индексом битами bits. Биты bits с индексами больше или равными
+	 * {@link #rows()} игнорируются, а если размер bits меньше {@link #rows()}, то недостающие биты столбца
+	 * устанавливаются в ноль.
+	 * @param column индекс столбца.
+	 * @param bits новые значения бит столбца.
+	 * @return ссылку на этот же объект.
+	 * @throws NullPointerException если bits равен null.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code column >= 0 && column < } {@link #columns()}
+	 */
+	public BitMatrix setColumn(int column, ReadableBits bits) {
+		assertCorrectColumn(column);
+		int columnWord = column >>> 6;
+		long columnMask = 1L << column;
+		long word = 0L;
+		for(int i = 0; i < rows; ++i) {
+			if((i & 63) == 0) word = bits.getWord(i >>> 6);
+			int index = i * wordsPerRow + columnWord;
+			words[index] = (words[index] & ~columnMask) | (-((word >>> i) & 1L) & columnMask);
+		}
+		return this;
+	}
+
+	/**
+	 * Создает и возвращает новую матрицу, транспонированную относительно данной: бит на пересечении строки i и
+	 * столбца j новой матрицы равен биту на пересечении строки j и столбца i данной матрицы. Матрица обрабатывается
+	 * блоками размером 64x64 бита, каждый из которых транспонируется за 6 проходов по 64 словам блока. Блоки, все
+	 * биты которых равны нулю, пропускаются.
+	 * @return новый объект BitMatrix.
+	 */
+	public BitMatrix transpose() {
+		BitMatrix result = new BitMatrix(columns, rows);
+		long[] block = new long[64];
+		for(int rowBlock = 0; rowBlock < rows; rowBlock += 64) {
+			int blockRows = Math.min(64, rows - rowBlock);
+			for(int columnWord = 0; columnWord << 6 < columns; ++columnWord) {
+				long nonZero = 0L;
+				for(int i = 0; i < blockRows; ++i) {
+					block[i] = words[(rowBlock + i) * wordsPerRow + columnWord];
+					nonZero |= block[i];
+				}
+				if(nonZero == 0L) continue;
+				Arrays.fill(block, blockRows, 64, 0L);
+				transpose64(block);
+
+				int blockColumns = Math.min(64, columns - (columnWord << 6));
+				int resultWord = rowBlock >>> 6;
+				for(int i = 0; i < blockColumns; ++i) {
+					result.words[((columnWord << 6) + i) * result.wordsPerRow + resultWord] = block[i];
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <p>Создает и возвращает новую матрицу, являющуюся булевым произведением данной матрицы на матрицу other: бит
+	 * на пересечении строки i и столбца j результата установлен в единицу тогда и только тогда, когда существует
+	 * такое k, что бит (i, k) данной матрицы и бит (k, j) матрицы other установлены в единицу.</p>
+	 *
+	 * <p>Строка i результата вычисляется как объединение строк other, индексы которых совпадают с индексами единичных
+	 * бит строки i данной матрицы. Поэтому время работы метода пропорционально кол-ву единичных бит данной матрицы,
+	 * умноженному на кол-во слов в строке other.</p>
+	 *
+	 * @param other правый операнд операции умножения.
+	 * @return новый объект BitMatrix размером {@link #rows()} x other.{@link #columns()}.
+	 * @throws NullPointerException если other равен null.
+	 * @throws IllegalArgumentException если не выполняется условие {@code columns() == other.rows()}.
+	 */
+	public BitMatrix multiply(BitMatrix other) {
+		if(columns != other.rows) {
+			throw new IllegalArgumentException(
+					"Expected: columns == other.rows; Actual: columns=" + columns + ", other.rows=" + other.rows);
+		}
+
+		BitMatrix result = new BitMatrix(rows, other.columns);
+		int resultWordsPerRow = result.wordsPerRow;
+		for(int i = 0; i < rows; ++i) {
+			int rowOffset = i * wordsPerRow;
+			int resultOffset = i * resultWordsPerRow;
+			for(int w = 0; w < wordsPerRow; ++w) {
+				long word = words[rowOffset + w];
+				while(word != 0L) {
+					int k = (w << 6) + Long.numberOfTrailingZeros(word);
+					word &= word - 1L;
+					orRow(other.words, k * resultWordsPerRow, result.words, resultOffset, resultWordsPerRow);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <p>Заменяет данную квадратную матрицу ее транзитивным замыканием: после выполнения метода бит (i, j)
+	 * установлен в единицу тогда и только тогда, когда в графе, матрицей смежности которого является исходная
+	 * матрица, существует путь ненулевой длины из вершины i в вершину j. Биты главной диагонали устанавливаются
+	 * только для вершин, лежащих на цикле.</p>
+	 *
+	 * <p>Метод реализует алгоритм Уоршелла: для каждой промежуточной вершины k к каждой строке, содержащей
+	 * единичный бит в столбце k, добавляется строка k. Строки объединяются по 64 бита за одну операцию, поэтому
+	 * время работы метода в худшем случае пропорционально {@code rows()^3 / 64}.</p>
+	 *
+	 * @return ссылку на этот же объект.
+	 * @throws IllegalStateException если матрица не является квадратной.
+	 */
+	public BitMatrix transitiveClosure() {
+		if(rows != columns) {
+			throw new IllegalStateException(
+					"Expected: rows == columns; Actual: rows=" + rows + ", columns=" + columns);
+		}
+
+		for(int k = 0; k < rows; ++k) {
+			int kOffset = k * wordsPerRow;
+			int kWord = k >>> 6;
+			long kMask = 1L << k;
+			for(int i = 0; i < rows; ++i) {
+				int rowOffset = i * wordsPerRow;
+				if((words[rowOffset + kWord] & kMask) != 0L) orRow(words, kOffset, words, rowOffset, wordsPerRow);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Возвращает кол-во бит матрицы, установленных в единицу.
+	 */
+	public long cardinality() {
+		long result = 0L;
+		for(long word : words) result += Long.bitCount(word);
+		return result;
+	}
+
+	/**
+	 * Две матрицы считаются одинаковыми, если у них совпадают кол-во строк, кол-во столбцов и значения всех бит.
+	 * @param other объект, с которым производится сравнение.
+	 * @return true - если матрицы равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		BitMatrix otherMatrix = (BitMatrix) other;
+		return rows == otherMatrix.rows && columns == otherMatrix.columns && Arrays.equals(words, otherMatrix.words);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 17;
+		result = result * 31 + Arrays.hashCode(words);
+		result = result * 31 + rows;
+		return result * 31 + columns;
+	}
+
+	@Override
+	public String toString() {
+		return "BitMatrix{rows=" + rows + ", columns=" + columns + ", words per row=" + wordsPerRow + '}';
+	}
+
+
+	private int wordIndex(int row, int column) {
+		return row * wordsPerRow + (column >>> 6);
+	}
+
+	private long lastWordMask() {
+		return (columns & 63) == 0 ? (columns == 0 ? 0L : -1L) : -1L >>> -columns;
+	}
+
+	private void assertCorrectCell(int row, int column) {
+		if(row < 0 || row >= rows || column < 0 || column >= columns) {
+			throw new IndexOutOfBoundsException(
+					"Expected: row >= 0 && row < rows && column >= 0 && column < columns; Actual: row=" + row +
+							", column=" + column + ", rows=" + rows + ", columns=" + columns);
+		}
+	}
+
+	private void assertCorrectRow(int row) {
+		if(row < 0 || row >= rows) {
+			throw new IndexOutOfBoundsException(
+					"Expected: row >= 0 && row < rows; Actual: row=" + row + ", rows=" + rows);
+		}
+	}
+
+	private void assertCorrectColumn(int column) {
+		if(column < 0 || column >= columns) {
+			throw new IndexOutOfBoundsException(
+					"Expected: column >= 0 && column < columns; Actual: column=" + column + ", columns=" + columns);
+		}
+	}
+
+	private static void orRow(long[] src, int srcOffset, long[] dest, int destOffset, int length) {
+		for(int i = 0; i < length; ++i) dest[destOffset + i] |= src[srcOffset + i];
+	}
+
+	private static void transpose64(long[] block) {
+		long mask = 0x00000000FFFFFFFFL;
+		for(int j = 32; j != 0; j >>>= 1, mask ^= mask << j) {
+			for(int k = 0; k < 64; k = ((k | j) + 1) & ~j) {
+				long swapped = ((block[k] >>> j) ^ block[k | j]) & mask;
+				block[k] ^= swapped << j;
+				block[k | j] ^= swapped;
+			}
+		}
+	}
+
+
+	/**
+	 * Строка матрицы {@link BitMatrix}, доступная только для чтения. Не хранит собственных бит и отражает все
+	 * изменения матрицы, которой принадлежит. Размер строки ({@link #size()}) равен кол-ву столбцов матрицы.
+	 */
+	public static final class Row implements ReadableBits {
+
+		private final long[] words;
+		private final int offset;
+		private final int size;
+		private final int wordsNumber;
+
+		private Row(long[] words, int offset, int size) {
+			this.words = words;
+			this.offset = offset;
+			this.size = size;
+			this.wordsNumber = Math.max(1, (size + 63) >>> 6);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean get(int index) {
+			if(index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(
+						"Expected: index >= 0 && index < size; Actual: index=" + index + ", size=" + size);
+			}
+			return (words[offset + (index >>> 6)] & (1L << index)) != 0L;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public long getWord(int wordIndex) {
+			assertNotNegativeIndex(wordIndex);
+			return wordIndex < wordsNumber ? words[offset + wordIndex] : 0L;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int cardinality() {
+			int result = 0;
+			for(int i = 0; i < wordsNumber; ++i) result += Long.bitCount(words[offset + i]);
+			return result;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int getHighBitIndex() {
+			for(int i = wordsNumber - 1; i >= 0; --i) {
+				long word = words[offset + i];
+				if(word != 0L) return (i << 6) + (63 - Long.numberOfLeadingZeros(word));
+			}
+			return -1;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean isClear() {
+			for(int i = 0; i < wordsNumber; ++i) {
+				if(words[offset + i] != 0L) return false;
+			}
+			return true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int nextSetBit(int fromIndex) {
+			assertNotNegativeIndex(fromIndex);
+
+			if(fromIndex < size) {
+				int wordIndex = fromIndex >>> 6;
+				long word = words[offset + wordIndex] & (-1L << fromIndex);
+				while(word == 0L && ++wordIndex < wordsNumber) word = words[offset + wordIndex];
+				if(word != 0L) return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+			}
+
+			return -1;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int nextClearBit(int fromIndex) {
+			assertNotNegativeIndex(fromIndex);
+
+			if(fromIndex < size) {
+				int wordIndex = fromIndex >>> 6;
+				long word = ~words[offset + wordIndex] & (-1L << fromIndex);
+				while(word == 0L && ++wordIndex < wordsNumber) word = ~words[offset + wordIndex];
+				if(word != 0L) {
+					int result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+					if(result < size) return result;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean contains(ReadableBits other) {
+			int otherWordsNumber = Math.max(1, (other.size() + 63) >>> 6);
+			for(int i = 0; i < otherWordsNumber; ++i) {
+				long otherWord = other.getWord(i);
+				if((getWord(i) & otherWord) != otherWord) return false;
+			}
+			return true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean intersect(ReadableBits other) {
+			int commonWords = Math.min(wordsNumber, Math.max(1, (other.size() + 63) >>> 6));
+			for(int i = 0; i < commonWords; ++i) {
+				if((words[offset + i] & other.getWord(i)) != 0L) return true;
+			}
+			return false;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean inBound(int index) {
+			return index >= 0 && index < size;
+		}
+
+		/**
+		 * Две строки считаются одинаковыми если их размеры (значения возвращаемые методом {@link #size()}) равны и
+		 * значения всех бит попарно равны. Строки при этом могут принадлежать разным матрицам.
+		 * @param other объект типа Row, с которым производится сравнение.
+		 * @return true - если объекты равны, false - в противном случае.
+		 */
+		@Override
+		public boolean equals(Object other) {
+			if(this == other) return true;
+			if(other == null || getClass() != other.getClass()) return false;
+			Row otherRow = (Row) other;
+			return size == otherRow.size && compareIgnoreSize(otherRow) == 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean equalsIgnoreSize(Object other) {
+			if(this == other) return true;
+			return other instanceof ReadableBits otherBits && compareIgnoreSize(otherBits) == 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int compareTo(ReadableBits other) {
+			int result = size - other.size();
+			for(int i = wordsNumber - 1; i >= 0 && result == 0; --i) {
+				result = Long.compareUnsigned(words[offset + i], other.getWord(i));
+			}
+			return result;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int compareIgnoreSize(ReadableBits other) {
+			int result = 0;
+			for(int i = Math.max(wordsNumber, (other.size() + 63) >>> 6) - 1; i >= 0 && result == 0; --i) {
+				result = Long.compareUnsigned(getWord(i), other.getWord(i));
+			}
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCodeIgnoreSize() * 31 + size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int hashCodeIgnoreSize() {
+			long[] words = toWords();
+			return Bits.wordsHashCode(words, words.length);
+		}
+
+		@Override
+		public String toString() {
+			return "BitMatrix.Row{size=" + size + ", count words=" + wordsNumber + '}';
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public String toBinaryString() {
+			return Bits.wrap(toWords(), size).toBinaryString();
+		}
+
+
+		long[] toWords() {
+			return Arrays.copyOfRange(words, offset, offset + wordsNumber);
+		}
+
+		private static void assertNotNegativeIndex(int index) {
+			if(index < 0) {
+				throw new IndexOutOfBoundsException("Expected: index >= 0; Actual: index=" + index);
+			}
+		}
+	}
+}
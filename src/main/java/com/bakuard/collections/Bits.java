@@ -2,8 +2,27 @@ package com.bakuard.collections;
 
 import com.bakuard.collections.exception.NegativeSizeException;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>Расширяя {@link ReadableBits} добавляет следующие функции:</p>
@@ -44,8 +63,320 @@ public final class Bits implements ReadableBits {
 		return result;
 	}
 
+	/**
+	 * <p>Создает объект Bits, использующий массив, на котором основан буфер words, в качестве хранилища бит без
+	 * копирования. Изменения бит объекта Bits отражаются в буфере и наоборот до тех пор, пока объект Bits не
+	 * изменит кол-во хранимых слов (например, при вызове {@link #growToIndex(int)} или
+	 * {@link #truncateToSize(int)}), после чего он переходит на собственный массив.</p>
+	 *
+	 * <p>Буфер должен быть основан на массиве, начинающемся с текущей позиции буфера и содержащем ровно
+	 * {@code max(1, ceil(numberBits / 64))} слов. Биты слов, выходящие за пределы numberBits, должны быть равны
+	 * нулю.</p>
+	 *
+	 * @param words буфер, массив которого используется для хранения бит.
+	 * @param numberBits размер создаваемого объекта.
+	 * @return новый объект Bits.
+	 * @throws NullPointerException если words равен null.
+	 * @throws NegativeSizeException если numberBits меньше нуля.
+	 * @throws IllegalArgumentException если буфер не основан на доступном для записи массиве, массив имеет
+	 *                                  неверную длину или начинается не с текущей позиции буфера, или если
+	 *                                  установлен хотя бы один бит за пределами numberBits.
+	 */
+	public static Bits view(LongBuffer words, int numberBits) {
+		assertNotNegativeSize(numberBits);
+		int wordsNumber = (Math.max(numberBits - 1, 0) >>> 6) + 1;
+		if(!words.hasArray() || words.arrayOffset() + words.position() != 0 || words.array().length != wordsNumber) {
+			throw new IllegalArgumentException(
+					"Expected: writable array-backed buffer starting at its position with " + wordsNumber +
+							" words; Actual: " + words);
+		}
+		long[] array = words.array();
+		assertClearTail(array, numberBits);
+		return wrap(array, numberBits);
+	}
+
+	/**
+	 * Считывает из буфера объект Bits, записанный методом {@link #writeTo(ByteBuffer)}, начиная с текущей позиции
+	 * буфера. Порядок байт буфера не учитывается. В случае успеха позиция буфера сдвигается на кол-во
+	 * прочитанных байт, иначе - не изменяется.
+	 * @param buffer буфер, содержащий записанный объект Bits.
+	 * @return новый объект Bits.
+	 * @throws NullPointerException если buffer равен null.
+	 * @throws BufferUnderflowException если в буфере осталось меньше байт, чем содержит записанный объект.
+	 * @throws IllegalArgumentException если данные в буфере не являются записанным объектом Bits.
+	 */
+	public static Bits readFrom(ByteBuffer buffer) {
+		ByteBuffer source = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+		if(source.remaining() < SERIALIZED_HEADER_SIZE) throw new BufferUnderflowException();
+
+		int signature = source.getInt();
+		int size = source.getInt();
+		if(signature != SERIALIZED_SIGNATURE || size < 0) {
+			throw new IllegalArgumentException("Incorrect format: signature=" + Integer.toHexString(signature) +
+					", size=" + size);
+		}
+		int wordsNumber = serializedWordsNumber(size);
+		if(source.remaining() < wordsNumber * Long.BYTES) throw new BufferUnderflowException();
+
+		Bits result = new Bits(size);
+		source.asLongBuffer().get(result.words, 0, wordsNumber);
+		assertClearTail(result.words, size);
+		buffer.position(buffer.position() + SERIALIZED_HEADER_SIZE + wordsNumber * Long.BYTES);
+		return result;
+	}
+
+	/**
+	 * Считывает из канала объект Bits, записанный методом {@link #writeTo(WritableByteChannel)}. Из канала
+	 * считывается ровно столько байт, сколько занимает записанный объект. Канал должен находиться в блокирующем
+	 * режиме.
+	 * @param channel канал, из которого считывается объект.
+	 * @return новый объект Bits.
+	 * @throws NullPointerException если channel равен null.
+	 * @throws EOFException если канал закончился раньше, чем был считан весь объект.
+	 * @throws IOException если данные в канале не являются записанным объектом Bits или при чтении возникла
+	 *                     ошибка ввода-вывода.
+	 */
+	public static Bits readFrom(ReadableByteChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(CHANNEL_BUFFER_WORDS * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.limit(SERIALIZED_HEADER_SIZE);
+		readFully(channel, buffer);
+		buffer.flip();
+
+		int signature = buffer.getInt();
+		int size = buffer.getInt();
+		if(signature != SERIALIZED_SIGNATURE || size < 0) {
+			throw new IOException("Incorrect format: signature=" + Integer.toHexString(signature) +
+					", size=" + size);
+		}
+
+		Bits result = new Bits(size);
+		int wordsNumber = serializedWordsNumber(size);
+		for(int wordIndex = 0; wordIndex < wordsNumber; ) {
+			int count = Math.min(wordsNumber - wordIndex, CHANNEL_BUFFER_WORDS);
+			buffer.clear().limit(count * Long.BYTES);
+			readFully(channel, buffer);
+			buffer.flip();
+			buffer.asLongBuffer().get(result.words, wordIndex, count);
+			wordIndex += count;
+		}
+		if(hasBitsBeyondSize(result.words, size)) {
+			throw new IOException("Incorrect format: bits beyond size=" + size + " are set");
+		}
+		return result;
+	}
+
+	/**
+	 * <p>Создает и возвращает новый объект Bits, являющийся пересечением всех переданных множеств. Результат
+	 * вычисляется за один проход по словам операндов без создания промежуточных объектов: слова обрабатываются
+	 * блоками, и как только все слова блока результата становятся равны нулю, оставшиеся операнды для этого блока
+	 * не читаются. Ни один из операндов не изменяется.</p>
+	 *
+	 * <p>Размер результата равен наибольшему из размеров операндов. Операнды разного размера обрабатываются так, как
+	 * будто недостающие биты более коротких операндов заполнены нулями. Если операнды не переданы, возвращается
+	 * пустой объект Bits размером 0.</p>
+	 *
+	 * @param operands операнды операции пересечения множеств.
+	 * @return новый объект Bits.
+	 * @throws NullPointerException если operands или хотя бы один из операндов равен null.
+	 */
+	public static Bits andAll(ReadableBits... operands) {
+		int size = maxSize(operands);
+		long[] result = new long[(Math.max(size - 1, 0) >>> 6) + 1];
+
+		if(operands.length > 0) {
+			int commonWords = result.length;
+			for(ReadableBits operand : operands) commonWords = Math.min(commonWords, wordsNumber(operand));
+			long[][] operandsWords = wordsOf(operands, commonWords);
+
+			for(int fromWord = 0; fromWord < commonWords; fromWord += BULK_BLOCK_WORDS) {
+				int toWord = Math.min(fromWord + BULK_BLOCK_WORDS, commonWords);
+				System.arraycopy(operandsWords[0], fromWord, result, fromWord, toWord - fromWord);
+				long nonZero = -1L;
+				for(int j = 1; j < operandsWords.length && nonZero != 0L; ++j) {
+					long[] operandWords = operandsWords[j];
+					nonZero = 0L;
+					for(int i = fromWord; i < toWord; ++i) {
+						result[i] &= operandWords[i];
+						nonZero |= result[i];
+					}
+				}
+			}
+		}
+
+		return wrap(result, size);
+	}
+
+	/**
+	 * <p>Создает и возвращает новый объект Bits, являющийся объединением всех переданных множеств. Результат
+	 * вычисляется за один проход по словам операндов без создания промежуточных объектов: слова обрабатываются
+	 * блоками, и как только все биты блока результата становятся равны единице, оставшиеся операнды для этого блока
+	 * не читаются. Ни один из операндов не изменяется.</p>
+	 *
+	 * <p>Размер результата равен наибольшему из размеров операндов. Если операнды не переданы, возвращается пустой
+	 * объект Bits размером 0.</p>
+	 *
+	 * @param operands операнды операции объединения множеств.
+	 * @return новый объект Bits.
+	 * @throws NullPointerException если operands или хотя бы один из операндов равен null.
+	 */
+	public static Bits orAll(ReadableBits... operands) {
+		int size = maxSize(operands);
+		long[] result = new long[(Math.max(size - 1, 0) >>> 6) + 1];
+		long[][] operandsWords = denseWordsOf(operands, result.length);
+
+		for(int fromWord = 0; fromWord < result.length; fromWord += BULK_BLOCK_WORDS) {
+			int toWord = Math.min(fromWord + BULK_BLOCK_WORDS, result.length);
+			long notFilled = -1L;
+			for(int j = 0; j < operandsWords.length && notFilled != 0L; ++j) {
+				long[] operandWords = operandsWords[j];
+				if(operandWords == null) continue;
+
+				int operandToWord = Math.max(fromWord, Math.min(toWord, operandWords.length));
+				notFilled = 0L;
+				for(int i = fromWord; i < operandToWord; ++i) {
+					result[i] |= operandWords[i];
+					notFilled |= ~result[i];
+				}
+				for(int i = operandToWord; i < toWord; ++i) notFilled |= ~result[i];
+			}
+		}
+		for(ReadableBits operand : operands) {
+			if(operand instanceof CompressedBits compressed) {
+				compressed.forEachNonZeroWord((word, wordIndex) -> result[wordIndex] |= word);
+			}
+		}
+
+		return wrap(result, size);
+	}
+
+	/**
+	 * <p>Создает и возвращает новый объект Bits, каждый бит которого установлен в единицу тогда и только тогда, когда
+	 * соответствующий бит установлен в единицу у нечетного кол-ва операндов. Результат вычисляется за один проход по
+	 * словам операндов без создания промежуточных объектов. Ни один из операндов не изменяется.</p>
+	 *
+	 * <p>Размер результата равен наибольшему из размеров операндов. Если операнды не переданы, возвращается пустой
+	 * объект Bits размером 0.</p>
+	 *
+	 * @param operands операнды операции симметричной разности.
+	 * @return новый объект Bits.
+	 * @throws NullPointerException если operands или хотя бы один из операндов равен null.
+	 */
+	public static Bits xorAll(ReadableBits... operands) {
+		int size = maxSize(operands);
+		long[] result = new long[(Math.max(size - 1, 0) >>> 6) + 1];
+		long[][] operandsWords = denseWordsOf(operands, result.length);
+
+		for(int fromWord = 0; fromWord < result.length; fromWord += BULK_BLOCK_WORDS) {
+			int toWord = Math.min(fromWord + BULK_BLOCK_WORDS, result.length);
+			for(long[] operandWords : operandsWords) {
+				if(operandWords == null) continue;
+
+				int operandToWord = Math.min(toWord, operandWords.length);
+				for(int i = fromWord; i < operandToWord; ++i) result[i] ^= operandWords[i];
+			}
+		}
+		for(ReadableBits operand : operands) {
+			if(operand instanceof CompressedBits compressed) {
+				compressed.forEachNonZeroWord((word, wordIndex) -> result[wordIndex] ^= word);
+			}
+		}
+
+		return wrap(result, size);
+	}
+
+	/**
+	 * <p>Создает и возвращает новый объект Bits, каждый бит которого установлен в единицу тогда и только тогда, когда
+	 * соответствующий бит установлен в единицу не менее чем у threshold операндов. При threshold равном 1 результат
+	 * совпадает с {@link #orAll(ReadableBits...)}, а при threshold равном кол-ву операндов - с
+	 * {@link #andAll(ReadableBits...)}. Если threshold больше кол-ва операндов, все биты результата равны нулю.</p>
+	 *
+	 * <p>Результат вычисляется за один проход по словам операндов без создания промежуточных объектов: для каждого
+	 * бита слова поддерживается счетчик, биты которого хранятся в отдельных словах, а операнды прибавляются ко всем
+	 * 64 счетчикам слова одновременно. Время работы пропорционально {@code n * log(threshold)}, где n - суммарное
+	 * кол-во слов операндов. Ни один из операндов не изменяется.</p>
+	 *
+	 * <p>Размер результата равен наибольшему из размеров операндов. Если операнды не переданы, возвращается пустой
+	 * объект Bits размером 0.</p>
+	 *
+	 * @param threshold минимальное кол-во операндов, у которых должен быть установлен бит.
+	 * @param operands операнды операции.
+	 * @return новый объект Bits.
+	 * @throws NullPointerException если operands или хотя бы один из операндов равен null.
+	 * @throws IllegalArgumentException если threshold меньше 1.
+	 */
+	public static Bits atLeast(int threshold, ReadableBits... operands) {
+		if(threshold < 1) {
+			throw new IllegalArgumentException("Expected: threshold > 0; Actual: threshold=" + threshold);
+		}
+		if(threshold == 1) return orAll(operands);
+		if(threshold == operands.length) return andAll(operands);
+
+		int size = maxSize(operands);
+		long[] result = new long[(Math.max(size - 1, 0) >>> 6) + 1];
+		if(threshold > operands.length) return wrap(result, size);
+		long[][] operandsWords = denseWordsOf(operands, result.length);
+
+		int countersBits = 32 - Integer.numberOfLeadingZeros(threshold);
+		long[][] counters = new long[countersBits][BULK_BLOCK_WORDS];
+		long[] carries = new long[BULK_BLOCK_WORDS];
+		for(int fromWord = 0; fromWord < result.length; fromWord += BULK_BLOCK_WORDS) {
+			int toWord = Math.min(fromWord + BULK_BLOCK_WORDS, result.length);
+			for(long[] counter : counters) Arrays.fill(counter, 0L);
+
+			for(int j = 0; j < operands.length; ++j) {
+				int blockLength = Math.min(toWord, wordsNumber(operands[j])) - fromWord;
+				if(blockLength <= 0) continue;
+
+				if(operandsWords[j] != null) System.arraycopy(operandsWords[j], fromWord, carries, 0, blockLength);
+				else ((CompressedBits) operands[j]).copyWords(fromWord, carries, 0, blockLength);
+				long nonZero = -1L;
+				for(int p = 0; p < countersBits && nonZero != 0L; ++p) {
+					long[] counter = counters[p];
+					nonZero = 0L;
+					for(int i = 0; i < blockLength; ++i) {
+						long counterWord = counter[i];
+						counter[i] = counterWord ^ carries[i];
+						carries[i] &= counterWord;
+						nonZero |= carries[i];
+					}
+				}
+				if(nonZero != 0L) {
+					for(int i = 0; i < blockLength; ++i) result[fromWord + i] |= carries[i];
+				}
+			}
+
+			for(int i = fromWord; i < toWord; ++i) {
+				int blockIndex = i - fromWord;
+				long greater = 0L;
+				long equal = -1L;
+				for(int p = countersBits - 1; p >= 0; --p) {
+					long counter = counters[p][blockIndex];
+					if((threshold & (1 << p)) != 0) {
+						equal &= counter;
+					} else {
+						greater |= equal & counter;
+						equal &= ~counter;
+					}
+				}
+				result[i] |= greater | equal;
+			}
+		}
+
+		return wrap(result, size);
+	}
+
+	private static final int UNKNOWN_HIGH_BIT = Integer.MAX_VALUE;
+	private static final int SERIALIZED_HEADER_SIZE = 8;
+	private static final int SERIALIZED_SIGNATURE = 0x31534242;
+	private static final int CHANNEL_BUFFER_WORDS = 1024;
+	private static final int BULK_BLOCK_WORDS = 256;
+
+
 	private long[] words = {0L};
 	private int size;
+	private boolean tracking;
+	private int cardinality;
+	private int highBitIndex = -1;
 
 	/**
 	 * Создает пустой объект Bits размер которого({@link #size()}) равен 0.
@@ -80,6 +411,14 @@ public final class Bits implements ReadableBits {
 		return unsafeGet(index);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getWord(int wordIndex) {
+		assertNotNegativeIndex(wordIndex);
+		return wordIndex < words.length ? words[wordIndex] : 0L;
+	}
+
 	/**
 	 * Устанавливает бит с указанным индексом в единицу.
 	 * @param index индекс бита, устанавливаемого в единицу.
@@ -87,7 +426,7 @@ public final class Bits implements ReadableBits {
 	 */
 	public void set(int index) {
 		assertInHalfOpenInterval(index);
-		words[index >>> 6] |= 1L << index;
+		unsafeSet(index);
 	}
 
 	/**
@@ -106,10 +445,7 @@ public final class Bits implements ReadableBits {
 	 */
 	public Bits setAll(int... indexes) {
 		for(int i = 0; i < indexes.length; i++) assertInHalfOpenInterval(indexes[i]);
-		for(int i = 0; i < indexes.length; i++) {
-			int index = indexes[i];
-			words[index >>> 6] |= 1L << index;
-		}
+		for(int i = 0; i < indexes.length; i++) unsafeSet(indexes[i]);
 		return this;
 	}
 
@@ -127,13 +463,15 @@ public final class Bits implements ReadableBits {
 	 *                                   </ol>
 	 */
 	public Bits setRange(int fromIndex, int toIndex) {
-		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
-			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
-					", toIndex=" + toIndex + ')');
-		}
-		while(fromIndex < toIndex) {
-			words[fromIndex >>> 6] |= 1L << fromIndex;
-			++fromIndex;
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			if(tracking) {
+				cardinality += toIndex - fromIndex - cardinality(fromIndex, toIndex);
+				highBitIndex = Math.max(highBitIndex, toIndex - 1);
+			}
+
+			setWords(words, fromIndex, toIndex);
 		}
 		return this;
 	}
@@ -147,6 +485,8 @@ public final class Bits implements ReadableBits {
 			Arrays.fill(words, -1L);
 			words[words.length - 1] &= -1L >>> (64 - size);
 		}
+		cardinality = size;
+		highBitIndex = size - 1;
 		return this;
 	}
 
@@ -157,7 +497,7 @@ public final class Bits implements ReadableBits {
 	 */
 	public void clear(int index) {
 		assertInHalfOpenInterval(index);
-		words[index >>> 6] &= ~(1L << index);
+		unsafeClear(index);
 	}
 
 	/**
@@ -176,10 +516,7 @@ public final class Bits implements ReadableBits {
 	 */
 	public Bits clearAll(int... indexes) {
 		for(int i = 0; i < indexes.length; i++) assertInHalfOpenInterval(indexes[i]);
-		for(int i = 0; i < indexes.length; i++) {
-			int index = indexes[i];
-			words[index >>> 6] &= ~(1L << index);
-		}
+		for(int i = 0; i < indexes.length; i++) unsafeClear(indexes[i]);
 		return this;
 	}
 
@@ -197,13 +534,15 @@ public final class Bits implements ReadableBits {
 	 *                                   </ol>
 	 */
 	public Bits clearRange(int fromIndex, int toIndex) {
-		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
-			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
-					", toIndex=" + toIndex + ')');
-		}
-		while (fromIndex < toIndex) {
-			words[fromIndex >>> 6] &= ~(1L << fromIndex);
-			++fromIndex;
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			if(tracking) {
+				cardinality -= cardinality(fromIndex, toIndex);
+				if(highBitIndex >= fromIndex && highBitIndex < toIndex) highBitIndex = UNKNOWN_HIGH_BIT;
+			}
+
+			clearWords(words, fromIndex, toIndex);
 		}
 		return this;
 	}
@@ -214,6 +553,8 @@ public final class Bits implements ReadableBits {
 	 */
 	public Bits clearAll() {
 		Arrays.fill(words, 0L);
+		cardinality = 0;
+		highBitIndex = -1;
 		return this;
 	}
 
@@ -224,7 +565,40 @@ public final class Bits implements ReadableBits {
 	 */
 	public void flip(int index) {
 		assertInHalfOpenInterval(index);
-		words[index >>> 6] ^= (1L << index);
+
+		long word = words[index >>> 6] ^= 1L << index;
+		if(tracking) {
+			int bit = (int) (word >>> index) & 1;
+			cardinality += (bit << 1) - 1;
+			if(index >= highBitIndex) highBitIndex = bit != 0 ? index : UNKNOWN_HIGH_BIT;
+		}
+	}
+
+	/**
+	 * Инвертирует все биты в диапазоне [fromIndex, toIndex). В случае если {@code fromIndex == toIndex}, метод
+	 * не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало инвертируемого диапазона.
+	 * @param toIndex индекс, задающий конец инвертируемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException генерируется в одном из следующих случаев:
+	 *                                   <ol>
+	 *                                       <li>Если {@code fromIndex > toIndex}</li>
+	 *                                       <li>Если {@code fromIndex < 0}</li>
+	 *                                       <li>Если {@code toIndex > } {@link #size()}</li>
+	 *                                   </ol>
+	 */
+	public Bits flipRange(int fromIndex, int toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			if(tracking) {
+				cardinality += toIndex - fromIndex - 2 * cardinality(fromIndex, toIndex);
+				highBitIndex = UNKNOWN_HIGH_BIT;
+			}
+
+			flipWords(words, fromIndex, toIndex);
+		}
+		return this;
 	}
 
 	/**
@@ -242,11 +616,27 @@ public final class Bits implements ReadableBits {
 	 * @throws NullPointerException если other равен null
 	 */
 	public Bits and(ReadableBits other) {
-		Bits otherBits = (Bits)other;
-		int commonWords = Math.min(words.length, otherBits.words.length);
+		if(other instanceof RunLengthBits runLength) {
+			int[] bounds = runLength.bounds();
+			int clearFrom = 0;
+			for(int i = 0; i < bounds.length && clearFrom < size; i += 2) {
+				int clearTo = Math.min(bounds[i], size);
+				if(clearFrom < clearTo) clearWords(words, clearFrom, clearTo);
+				clearFrom = bounds[i + 1];
+			}
+			if(clearFrom < size) clearWords(words, clearFrom, size);
+			return recountIfTracking();
+		}
+		if(other instanceof CompressedBits compressed) {
+			compressed.andWords(words);
+			return recountIfTracking();
+		}
+
+		long[] otherWords = wordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
 		for(int i = words.length - 1; i >= commonWords; --i) words[i] = 0L;
-		for(int i = 0; i < commonWords; ++i) words[i] &= otherBits.words[i];
-		return this;
+		for(int i = 0; i < commonWords; ++i) words[i] &= otherWords[i];
+		return recountIfTracking();
 	}
 
 	/**
@@ -265,11 +655,22 @@ public final class Bits implements ReadableBits {
 	 * @throws NullPointerException если other равен null.
 	 */
 	public Bits or(ReadableBits other) {
-		Bits otherBits = (Bits)other;
-		growToIndexOrDoNothing(otherBits.size - 1);
-		int commonWords = Math.min(words.length, otherBits.words.length);
-		for(int i = 0; i < commonWords; ++i) words[i] |= otherBits.words[i];
-		return this;
+		growToIndexOrDoNothing(other.size() - 1);
+		if(other instanceof RunLengthBits runLength) {
+			int[] bounds = runLength.bounds();
+			for(int i = 0; i < bounds.length; i += 2) setWords(words, bounds[i], bounds[i + 1]);
+			return recountIfTracking();
+		}
+		if(other instanceof CompressedBits compressed) {
+			long[] currentWords = words;
+			compressed.forEachNonZeroWord((word, wordIndex) -> currentWords[wordIndex] |= word);
+			return recountIfTracking();
+		}
+
+		long[] otherWords = wordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
+		for(int i = 0; i < commonWords; ++i) words[i] |= otherWords[i];
+		return recountIfTracking();
 	}
 
 	/**
@@ -288,11 +689,22 @@ public final class Bits implements ReadableBits {
 	 * @throws NullPointerException если other равен null.
 	 */
 	public Bits xor(ReadableBits other) {
-		Bits otherBits = (Bits)other;
-		growToIndexOrDoNothing(otherBits.size - 1);
-		int commonWords = Math.min(words.length, otherBits.words.length);
-		for(int i = 0; i < commonWords; ++i) words[i] ^= otherBits.words[i];
-		return this;
+		growToIndexOrDoNothing(other.size() - 1);
+		if(other instanceof RunLengthBits runLength) {
+			int[] bounds = runLength.bounds();
+			for(int i = 0; i < bounds.length; i += 2) flipWords(words, bounds[i], bounds[i + 1]);
+			return recountIfTracking();
+		}
+		if(other instanceof CompressedBits compressed) {
+			long[] currentWords = words;
+			compressed.forEachNonZeroWord((word, wordIndex) -> currentWords[wordIndex] ^= word);
+			return recountIfTracking();
+		}
+
+		long[] otherWords = wordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
+		for(int i = 0; i < commonWords; ++i) words[i] ^= otherWords[i];
+		return recountIfTracking();
 	}
 
 	/**
@@ -310,10 +722,25 @@ public final class Bits implements ReadableBits {
 	 * @throws NullPointerException если other равен null.
 	 */
 	public Bits andNot(ReadableBits other) {
-		Bits otherBits = (Bits)other;
-		int commonWords = Math.min(words.length, otherBits.words.length);
-		for(int i = 0; i < commonWords; ++i) words[i] &= ~otherBits.words[i];
-		return this;
+		if(other instanceof RunLengthBits runLength) {
+			int[] bounds = runLength.bounds();
+			for(int i = 0; i < bounds.length && bounds[i] < size; i += 2) {
+				clearWords(words, bounds[i], Math.min(bounds[i + 1], size));
+			}
+			return recountIfTracking();
+		}
+		if(other instanceof CompressedBits compressed) {
+			long[] currentWords = words;
+			compressed.forEachNonZeroWord((word, wordIndex) -> {
+				if(wordIndex < currentWords.length) currentWords[wordIndex] &= ~word;
+			});
+			return recountIfTracking();
+		}
+
+		long[] otherWords = wordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
+		for(int i = 0; i < commonWords; ++i) words[i] &= ~otherWords[i];
+		return recountIfTracking();
 	}
 
 	/**
@@ -329,9 +756,111 @@ public final class Bits implements ReadableBits {
 			for (int i = 0; i < words.length; ++i) words[i] = ~words[i];
 			words[words.length - 1] &= -1L >>> (64 - size);
 		}
+		cardinality = size - cardinality;
+		highBitIndex = UNKNOWN_HIGH_BIT;
 		return this;
 	}
 
+	/**
+	 * <p>Аналог метода {@link #cardinality()}, который подсчитывает единичные биты параллельно. Слова, из которых
+	 * состоит данный объект, делятся на части с границами, кратными размеру строки кеша, и обрабатываются потоками
+	 * общего пула {@link ForkJoinPool#commonPool()}.</p>
+	 *
+	 * <p>Если {@link #size()} меньше порога, заданного системным свойством
+	 * {@code com.bakuard.collections.parallelThreshold} (по умолчанию 2^24 бит), то метод выполняется в вызывающем
+	 * потоке, так как для небольших объектов накладные расходы на распределение задач превышают выигрыш. Тот же
+	 * порог используют и остальные параллельные методы данного класса.</p>
+	 *
+	 * @return кол-во бит установленных в единицу.
+	 */
+	public int parallelCardinality() {
+		if(tracking) return cardinality;
+		return ParallelWordsOperations.cardinality(words);
+	}
+
+	/**
+	 * Аналог метода {@link #and(ReadableBits)}, выполняемый параллельно так же, как {@link #parallelCardinality()}.
+	 * Если other имеет тип {@link CompressedBits} или {@link RunLengthBits}, то метод выполняется в вызывающем
+	 * потоке.
+	 * @param other второй операнд операции пересечения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null
+	 */
+	public Bits parallelAnd(ReadableBits other) {
+		if(other instanceof CompressedBits || other instanceof RunLengthBits) return and(other);
+
+		long[] otherWords = wordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
+		Arrays.fill(words, commonWords, words.length, 0L);
+		ParallelWordsOperations.apply(ParallelWordsOperations.Operation.AND, words, otherWords, commonWords);
+		return parallelRecountIfTracking();
+	}
+
+	/**
+	 * Аналог метода {@link #or(ReadableBits)}, выполняемый параллельно так же, как {@link #parallelCardinality()}.
+	 * Если other имеет тип {@link CompressedBits} или {@link RunLengthBits}, то метод выполняется в вызывающем
+	 * потоке.
+	 * @param other второй операнд операции объединения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public Bits parallelOr(ReadableBits other) {
+		if(other instanceof CompressedBits || other instanceof RunLengthBits) return or(other);
+
+		growToIndexOrDoNothing(other.size() - 1);
+		long[] otherWords = wordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
+		ParallelWordsOperations.apply(ParallelWordsOperations.Operation.OR, words, otherWords, commonWords);
+		return parallelRecountIfTracking();
+	}
+
+	/**
+	 * Аналог метода {@link #xor(ReadableBits)}, выполняемый параллельно так же, как {@link #parallelCardinality()}.
+	 * Если other имеет тип {@link CompressedBits} или {@link RunLengthBits}, то метод выполняется в вызывающем
+	 * потоке.
+	 * @param other второй операнд для операции xor.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public Bits parallelXor(ReadableBits other) {
+		if(other instanceof CompressedBits || other instanceof RunLengthBits) return xor(other);
+
+		growToIndexOrDoNothing(other.size() - 1);
+		long[] otherWords = wordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
+		ParallelWordsOperations.apply(ParallelWordsOperations.Operation.XOR, words, otherWords, commonWords);
+		return parallelRecountIfTracking();
+	}
+
+	/**
+	 * Аналог метода {@link #andNot(ReadableBits)}, выполняемый параллельно так же, как
+	 * {@link #parallelCardinality()}. Если other имеет тип {@link CompressedBits} или {@link RunLengthBits}, то
+	 * метод выполняется в вызывающем потоке.
+	 * @param other второй операнд для операции разности множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public Bits parallelAndNot(ReadableBits other) {
+		if(other instanceof CompressedBits || other instanceof RunLengthBits) return andNot(other);
+
+		long[] otherWords = wordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
+		ParallelWordsOperations.apply(ParallelWordsOperations.Operation.AND_NOT, words, otherWords, commonWords);
+		return parallelRecountIfTracking();
+	}
+
+	/**
+	 * Аналог метода {@link #equals(Object)}, сравнивающий слова обоих объектов параллельно так же, как
+	 * {@link #parallelCardinality()}.
+	 * @param other объект типа Bits, с которым производится сравнение.
+	 * @return true - если объекты равны, false - в противном случае.
+	 */
+	public boolean parallelEquals(Object other) {
+		if(this == other) return true;
+		if(!(other instanceof Bits otherBits) || size != otherBits.size) return false;
+		return ParallelWordsOperations.equals(words, otherBits.words, words.length);
+	}
+
 	/**
 	 * Перезаписывает состояние текущего объекта, копируя состояние переданного объекта src. Метод возвращает
 	 * ссылку на тот же объект, у которого он был вызван.
@@ -340,10 +869,10 @@ public final class Bits implements ReadableBits {
 	 * @throws NullPointerException если src равен null.
 	 */
 	public Bits copyFullStateFrom(ReadableBits src) {
-		Bits srcBits = (Bits) src;
-		size = srcBits.size;
-		words = srcBits.words.clone();
-		return this;
+		long[] srcWords = wordsOf(src);
+		size = src.size();
+		words = src instanceof Bits || src instanceof RankSelectBits ? srcWords.clone() : srcWords;
+		return recountIfTracking();
 	}
 
 	/**
@@ -381,47 +910,73 @@ public final class Bits implements ReadableBits {
 	 *                                   </ol>
 	 */
 	public int copyRangeFrom(ReadableBits src, int srcPos, int destPos, int length) {
-		Bits srcBits = (Bits)src;
-
-		if(srcPos < 0 || destPos < 0 || srcPos >= srcBits.size() || destPos >= size() || length < 0) {
+		if(srcPos < 0 || destPos < 0 || srcPos >= src.size() || destPos >= size() || length < 0) {
 			throw new IndexOutOfBoundsException(
 					"srcPos=" + srcPos +
 							", destPos=" + destPos +
 							", length=" + length +
-							", src.size()=" + srcBits.size() +
+							", src.size()=" + src.size() +
 							", dest.size()=" + size()
 			);
 		}
 
-		int srcRange = Math.min(srcBits.size() - srcPos, length);
+		int srcRange = Math.min(src.size() - srcPos, length);
 		int destRange = Math.min(size() - destPos, length);
 		int actualRange = Math.min(srcRange, destRange);
 
-		if(srcPos >= destPos) {
-			for(int i = 0; i < actualRange; ++i) {
-				int srcIndex = srcPos + i;
-				int destIndex = destPos + i;
-				if ((srcBits.words[srcIndex >>> 6] & (1L << srcIndex)) != 0L) {
-					words[destIndex >>> 6] |= 1L << destIndex;
-				} else {
-					words[destIndex >>> 6] &= ~(1L << destIndex);
-				}
-			}
-		} else {
-			for(int i = actualRange - 1; i >= 0; --i) {
-				int srcIndex = srcPos + i;
-				int destIndex = destPos + i;
-				if ((srcBits.words[srcIndex >>> 6] & (1L << srcIndex)) != 0L) {
-					words[destIndex >>> 6] |= 1L << destIndex;
-				} else {
-					words[destIndex >>> 6] &= ~(1L << destIndex);
-				}
-			}
-		}
+		long[] srcWords = wordsOf(src, (int) Math.max(1L, ((long) srcPos + actualRange + 63) >>> 6));
+		copyBits(srcWords, srcPos, words, destPos, actualRange);
+		recountIfTracking();
 
 		return actualRange;
 	}
 
+	/**
+	 * <p>Сдвигает все биты данного объекта на distance позиций в сторону старших бит (аналог операции {@code <<}
+	 * для целых чисел). Биты, индекс которых после сдвига будет больше или равен {@link #size()}, отбрасываются,
+	 * а младшие distance бит устанавливаются в ноль. Размер объекта Bits не изменяется.</p>
+	 *
+	 * <p>Если {@code distance >= } {@link #size()}, то все биты будут установлены в ноль.</p>
+	 *
+	 * @param distance кол-во позиций, на которое сдвигаются биты.
+	 * @return ссылку на этот же объект.
+	 * @throws IllegalArgumentException если {@code distance < 0}.
+	 */
+	public Bits shiftLeft(int distance) {
+		assertNotNegativeDistance(distance);
+
+		if(distance >= size) {
+			clearAll();
+		} else if(distance > 0) {
+			copyBits(words, 0, words, distance, size - distance);
+			clearRange(0, distance);
+		}
+		return recountIfTracking();
+	}
+
+	/**
+	 * <p>Сдвигает все биты данного объекта на distance позиций в сторону младших бит (аналог операции {@code >>>}
+	 * для целых чисел). Младшие distance бит отбрасываются, а старшие distance бит устанавливаются в ноль.
+	 * Размер объекта Bits не изменяется.</p>
+	 *
+	 * <p>Если {@code distance >= } {@link #size()}, то все биты будут установлены в ноль.</p>
+	 *
+	 * @param distance кол-во позиций, на которое сдвигаются биты.
+	 * @return ссылку на этот же объект.
+	 * @throws IllegalArgumentException если {@code distance < 0}.
+	 */
+	public Bits shiftRight(int distance) {
+		assertNotNegativeDistance(distance);
+
+		if(distance >= size) {
+			clearAll();
+		} else if(distance > 0) {
+			copyBits(words, distance, words, 0, size - distance);
+			clearRange(size - distance, size);
+		}
+		return recountIfTracking();
+	}
+
 	/**
 	 * <p>Увеличивает емкость текущего объекта Bits таким образом, чтобы индекс самого старшего бита был равен index.
 	 * Все старшие биты, добавленные в результате вызова этого метода, будут установлены в 0.</p>
@@ -462,13 +1017,55 @@ public final class Bits implements ReadableBits {
 			else words[0] = 0L;
 		}
 
+		return recountIfTracking();
+	}
+
+	/**
+	 * <p>Включает режим отслеживания, в котором объект Bits поддерживает в актуальном состоянии кол-во единичных
+	 * бит и индекс самого старшего единичного бита. В этом режиме методы {@link #cardinality()} и {@link #isClear()}
+	 * выполняются за константное время, а {@link #getHighBitIndex()} - за константное время во всех случаях, кроме
+	 * первого вызова после обнуления самого старшего единичного бита или после операций над множествами.</p>
+	 *
+	 * <p>Операции над отдельными битами в этом режиме дополнительно выполняют одну проверку и подсчет бит в одном
+	 * слове, операции над диапазоном бит - подсчет единичных бит в этом диапазоне, а операции над множествами,
+	 * копирования и сдвиги - подсчет всех единичных бит.</p>
+	 *
+	 * <p>Если режим уже включен - метод ничего не делает. Режим не переносится на копии, создаваемые конструктором
+	 * {@link #Bits(ReadableBits)}.</p>
+	 *
+	 * @return ссылку на этот же объект.
+	 */
+	public Bits enableTracking() {
+		if(!tracking) {
+			tracking = true;
+			recountIfTracking();
+		}
 		return this;
 	}
 
+	/**
+	 * Выключает режим отслеживания (см. {@link #enableTracking()}). Если режим уже выключен - метод ничего не делает.
+	 * @return ссылку на этот же объект.
+	 */
+	public Bits disableTracking() {
+		tracking = false;
+		return this;
+	}
+
+	/**
+	 * Проверяет - включен ли режим отслеживания (см. {@link #enableTracking()}).
+	 * @return true - если режим отслеживания включен, иначе - false.
+	 */
+	public boolean isTracking() {
+		return tracking;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public int cardinality() {
+		if(tracking) return cardinality;
+
 		int countBits = 0;
 		for(int i = 0; i < words.length; ++i) countBits += Long.bitCount(words[i]);
 		return countBits;
@@ -478,12 +1075,15 @@ public final class Bits implements ReadableBits {
 	 * {@inheritDoc}
 	 */
 	public int getHighBitIndex() {
+		if(tracking && highBitIndex != UNKNOWN_HIGH_BIT) return highBitIndex;
+
 		int index = -1;
 		for(int i = words.length - 1; i >= 0 && index == -1; --i) {
 			if(words[i] != 0) {
 				index = (i << 6) + (63 - Long.numberOfLeadingZeros(words[i]));
 			}
 		}
+		if(tracking) highBitIndex = index;
 		return index;
 	}
 
@@ -491,11 +1091,8 @@ public final class Bits implements ReadableBits {
 	 * {@inheritDoc}
 	 */
 	public boolean isClear() {
-		boolean result = true;
-		for(int i = 0; i < words.length && result; i++) {
-			result = words[i] == 0L;
-		}
-		return result;
+		if(tracking) return cardinality == 0;
+		return WordsOperations.isClear(words, 0, words.length);
 	}
 
 	/**
@@ -536,7 +1133,10 @@ public final class Bits implements ReadableBits {
 		if(fromIndex < size) {
 			int wordIndex = fromIndex >>> 6;
 			long word = ~(words[wordIndex] >> fromIndex);
-			if(word != 0) return fromIndex + Long.numberOfTrailingZeros(word);
+			if(word != 0) {
+				int result = fromIndex + Long.numberOfTrailingZeros(word);
+				return result < size ? result : -1;
+			}
 
 			wordIndex += 1;
 			while(wordIndex < words.length && ~words[wordIndex] == 0) ++wordIndex;
@@ -551,34 +1151,118 @@ public final class Bits implements ReadableBits {
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * <p>Возвращает индекс первого встретившегося бита установленного в единицу. Поиск ведется в обратном
+	 * направлении (от старших бит к младшим) начиная с бита, индекс которого указан в качестве аргумента, включая
+	 * его. Если {@code fromIndex >= } {@link #size()}, то поиск начинается с самого старшего бита.</p>
+	 *
+	 * <p>Если {@code fromIndex == -1} или до бита с указанным индексом нет ни одного единичного бита - метод
+	 * вернет -1. Это позволяет перебирать единичные биты в обратном порядке циклом вида:
+	 * {@code for(int i = bits.previousSetBit(bits.size() - 1); i >= 0; i = bits.previousSetBit(i - 1))}</p>
+	 *
+	 * @param fromIndex индекс бита, с которого начинается поиск.
+	 * @return индекс первого встретившегося бита установленного в единицу или -1.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex < -1}.
 	 */
-	public boolean contains(ReadableBits other) {
-		Bits otherBits = (Bits)other;
+	public int previousSetBit(int fromIndex) {
+		if(fromIndex < -1) {
+			throw new IndexOutOfBoundsException("Expected: index >= -1; Actual: index=" + fromIndex);
+		}
 
-		int commonWords = Math.min(words.length, otherBits.words.length);
-		for(int i = 0; i < commonWords; i++) {
-			if((words[i] & otherBits.words[i]) != otherBits.words[i]) return false;
+		fromIndex = Math.min(fromIndex, size - 1);
+		if(fromIndex >= 0) {
+			int wordIndex = fromIndex >>> 6;
+			long word = words[wordIndex] & (-1L >>> ~fromIndex);
+			while(word == 0L && --wordIndex >= 0) word = words[wordIndex];
+
+			if(word != 0L) return (wordIndex << 6) + (63 - Long.numberOfLeadingZeros(word));
 		}
 
-		for(int i = words.length; i < otherBits.words.length; i++) {
-			if(otherBits.words[i] != 0L) return false;
+		return -1;
+	}
+
+	/**
+	 * Передает индексы всех бит установленных в единицу в action в порядке возрастания. Биты перебираются
+	 * группами по 64, поэтому этот метод значительно быстрее цикла из последовательных вызовов
+	 * {@link #nextSetBit(int)}. Изменение текущего объекта внутри action приводит к неопределенному результату.
+	 * @param action операция, выполняемая для индекса каждого единичного бита.
+	 * @throws NullPointerException если action равен null.
+	 */
+	public void forEachSetBit(IntConsumer action) {
+		Objects.requireNonNull(action);
+		long[] words = this.words;
+		for(int wordIndex = 0; wordIndex < words.length; ++wordIndex) {
+			long word = words[wordIndex];
+			while(word != 0L) {
+				action.accept((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1L;
+			}
 		}
+	}
+
+	/**
+	 * Создает курсор, перебирающий индексы бит установленных в единицу в порядке возрастания, начиная с бита с
+	 * индексом 0. Курсор можно использовать повторно (см. {@link SetBitCursor#reset(int)}), не создавая новых
+	 * объектов.
+	 * @return новый курсор.
+	 */
+	public SetBitCursor setBitCursor() {
+		return new SetBitCursor();
+	}
 
-		return true;
+	/**
+	 * Создает {@link Spliterator.OfInt} для индексов бит установленных в единицу. Индексы перебираются в порядке
+	 * возрастания, а сам Spliterator делится по границам групп из 64 бит, что позволяет обрабатывать индексы
+	 * параллельно. Изменение текущего объекта во время обхода приводит к неопределенному результату.
+	 * @return новый Spliterator.
+	 */
+	public Spliterator.OfInt setBitSpliterator() {
+		return new SetBitSpliterator(words, 0, words.length);
+	}
+
+	/**
+	 * Возвращает поток индексов бит установленных в единицу в порядке возрастания. Чтобы обрабатывать индексы
+	 * параллельно, вызовите у возвращаемого потока метод {@link IntStream#parallel()}. Изменение текущего объекта
+	 * во время обработки потока приводит к неопределенному результату.
+	 * @return последовательный поток индексов единичных бит.
+	 */
+	public IntStream setBitStream() {
+		return StreamSupport.intStream(setBitSpliterator(), false);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public boolean intersect(ReadableBits other) {
-		Bits otherBits = (Bits)other;
+	public boolean contains(ReadableBits other) {
+		long[] otherWords = arrayWordsOf(other, words.length);
+		if(otherWords == null) {
+			int commonWords = Math.min(words.length, wordsNumber(other));
+			for(int i = 0; i < commonWords; ++i) {
+				if((other.getWord(i) & ~words[i]) != 0L) return false;
+			}
+			return !hasSetBitsFrom(other, commonWords);
+		}
+
+		int commonWords = Math.min(words.length, otherWords.length);
+		return WordsOperations.contains(words, otherWords, commonWords)
+				&& WordsOperations.isClear(otherWords, commonWords, otherWords.length)
+				&& !hasSetBitsFrom(other, otherWords.length);
+	}
 
-		int commonWords = Math.min(words.length, otherBits.words.length);
-		for(int i = 0; i < commonWords; i++) {
-			if((words[i] & otherBits.words[i]) != 0L) return true;
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean intersect(ReadableBits other) {
+		long[] otherWords = arrayWordsOf(other, words.length);
+		if(otherWords == null) {
+			int commonWords = Math.min(words.length, wordsNumber(other));
+			for(int i = 0; i < commonWords; ++i) {
+				if((other.getWord(i) & words[i]) != 0L) return true;
+			}
+			return false;
 		}
-		return false;
+
+		int commonWords = Math.min(words.length, otherWords.length);
+		return WordsOperations.intersect(words, otherWords, commonWords);
 	}
 
 	/**
@@ -613,21 +1297,28 @@ public final class Bits implements ReadableBits {
 	 */
 	public boolean equalsIgnoreSize(Object other) {
 		if (this == other) return true;
-		if (other == null || getClass() != other.getClass()) return false;
-		Bits otherBits = (Bits) other;
+		if(!(other instanceof ReadableBits otherBits)) return false;
+		long[] otherWords = arrayWordsOf(otherBits, words.length);
+		if(otherWords == null) {
+			int commonWords = Math.min(words.length, wordsNumber(otherBits));
+			for(int i = 0; i < commonWords; ++i) {
+				if(words[i] != otherBits.getWord(i)) return false;
+			}
+			return WordsOperations.isClear(words, commonWords, words.length) && !hasSetBitsFrom(otherBits, commonWords);
+		}
 
 		boolean isEqual = true;
-		int commonWords = Math.min(words.length, otherBits.words.length);
+		int commonWords = Math.min(words.length, otherWords.length);
 		for(int i = 0; i < commonWords && isEqual; i++) {
-			isEqual = words[i] == otherBits.words[i];
+			isEqual = words[i] == otherWords[i];
 		}
 
-		long[] biggest = words.length > otherBits.words.length ? words : otherBits.words;
+		long[] biggest = words.length > otherWords.length ? words : otherWords;
 		for(int i = commonWords; i < biggest.length && isEqual; i++) {
 			isEqual = biggest[i] == 0;
 		}
 
-		return isEqual;
+		return isEqual && !hasSetBitsFrom(otherBits, otherWords.length);
 	}
 
 	/**
@@ -635,10 +1326,12 @@ public final class Bits implements ReadableBits {
 	 */
 	@Override
 	public int compareTo(ReadableBits other) {
-		Bits otherBits = (Bits)other;
-		int result = size - otherBits.size;
+		int result = size - other.size();
+		if(result != 0) return result;
+
+		long[] otherWords = arrayWordsOf(other, words.length);
 		for(int i = words.length - 1; i >= 0 && result == 0; --i) {
-			result = Long.compareUnsigned(words[i], otherBits.words[i]);
+			result = Long.compareUnsigned(words[i], otherWords != null ? otherWords[i] : other.getWord(i));
 		}
 		return result;
 	}
@@ -647,21 +1340,19 @@ public final class Bits implements ReadableBits {
 	 * {@inheritDoc}
 	 */
 	public int compareIgnoreSize(ReadableBits other) {
-		Bits otherBits = (Bits) other;
+		if(hasSetBitsFrom(other, words.length)) return -1;
+
+		long[] otherWords = arrayWordsOf(other, words.length);
+		int commonWords = Math.min(words.length, otherWords != null ? otherWords.length : wordsNumber(other));
 
 		int result = 0;
 
-		for(int i = words.length - 1; i >= otherBits.words.length && result == 0; --i) {
+		for(int i = words.length - 1; i >= commonWords && result == 0; --i) {
 			result = Long.compareUnsigned(words[i], 0L);
 		}
 
-		for(int i = otherBits.words.length - 1; i >= words.length && result == 0; --i) {
-			result = Long.compareUnsigned(0L, otherBits.words[i]);
-		}
-
-		int commonWords = Math.min(words.length, otherBits.words.length);
 		for(int i = commonWords - 1; i >= 0 && result == 0; --i) {
-			result = Long.compareUnsigned(words[i], otherBits.words[i]);
+			result = Long.compareUnsigned(words[i], otherWords != null ? otherWords[i] : other.getWord(i));
 		}
 
 		return result;
@@ -669,19 +1360,14 @@ public final class Bits implements ReadableBits {
 
 	@Override
 	public int hashCode() {
-		int result = 17;
-		result = result * 31 + Arrays.hashCode(words);
-		result = result * 31 + size;
-		return result;
+		return hashCodeIgnoreSize() * 31 + size;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public int hashCodeIgnoreSize() {
-		int result = 17;
-		result = result * 31 + Arrays.hashCode(words);
-		return result;
+		return wordsHashCode(words, words.length);
 	}
 
 	@Override
@@ -711,6 +1397,86 @@ public final class Bits implements ReadableBits {
 		return result.toString();
 	}
 
+	/**
+	 * Возвращает кол-во байт, которое займет данный объект при записи методами {@link #writeTo(ByteBuffer)} и
+	 * {@link #writeTo(WritableByteChannel)}.
+	 */
+	public int serializedSize() {
+		return SERIALIZED_HEADER_SIZE + serializedWordsNumber(size) * Long.BYTES;
+	}
+
+	/**
+	 * <p>Записывает данный объект в буфер, начиная с текущей позиции буфера, и сдвигает позицию на
+	 * {@link #serializedSize()} байт. Записанный объект можно считать методом {@link #readFrom(ByteBuffer)}.</p>
+	 *
+	 * <p>Запись начинается с заголовка размером 8 байт, содержащего сигнатуру формата и {@link #size()}. За
+	 * заголовком следуют биты, сгруппированные по 64 в значения типа long с порядком байт little-endian, независимо
+	 * от порядка байт буфера. Слова копируются в буфер целиком, без промежуточного преобразования отдельных бит.</p>
+	 *
+	 * @param buffer буфер, в который записывается объект.
+	 * @throws NullPointerException если buffer равен null.
+	 * @throws BufferOverflowException если в буфере осталось меньше {@link #serializedSize()} байт. В этом случае
+	 *                                 буфер не изменяется.
+	 * @throws ReadOnlyBufferException если буфер доступен только для чтения.
+	 */
+	public void writeTo(ByteBuffer buffer) {
+		int wordsNumber = serializedWordsNumber(size);
+		if(buffer.remaining() < SERIALIZED_HEADER_SIZE + wordsNumber * Long.BYTES) {
+			throw new BufferOverflowException();
+		}
+
+		ByteBuffer target = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+		target.putInt(SERIALIZED_SIGNATURE).putInt(size);
+		target.asLongBuffer().put(words, 0, wordsNumber);
+		buffer.position(buffer.position() + SERIALIZED_HEADER_SIZE + wordsNumber * Long.BYTES);
+	}
+
+	/**
+	 * Записывает данный объект в канал в том же формате, что и метод {@link #writeTo(ByteBuffer)}. Объект
+	 * записывается частями через буфер фиксированного размера, поэтому запись не требует дополнительной памяти,
+	 * пропорциональной размеру объекта. Канал должен находиться в блокирующем режиме.
+	 * @param channel канал, в который записывается объект.
+	 * @throws NullPointerException если channel равен null.
+	 * @throws IOException если при записи возникла ошибка ввода-вывода.
+	 */
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		int wordsNumber = serializedWordsNumber(size);
+		ByteBuffer buffer = ByteBuffer.
+				allocate(SERIALIZED_HEADER_SIZE + Math.min(wordsNumber, CHANNEL_BUFFER_WORDS) * Long.BYTES).
+				order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(SERIALIZED_SIGNATURE).putInt(size);
+
+		int wordIndex = 0;
+		do {
+			int count = Math.min(wordsNumber - wordIndex, buffer.remaining() / Long.BYTES);
+			buffer.asLongBuffer().put(words, wordIndex, count);
+			buffer.position(buffer.position() + count * Long.BYTES).flip();
+			while(buffer.hasRemaining()) channel.write(buffer);
+			buffer.clear();
+			wordIndex += count;
+		} while(wordIndex < wordsNumber);
+	}
+
+	/**
+	 * Создает неизменяемый снимок данного объекта, хранящий только границы последовательностей единичных бит
+	 * (см. {@link RunLengthBits}). Последующие изменения данного объекта не отражаются на снимке.
+	 * @return неизменяемый снимок данного объекта в виде последовательностей единичных бит.
+	 */
+	public RunLengthBits toRunLengthEncoded() {
+		return new RunLengthBits(this);
+	}
+
+
+	long[] words() {
+		return words;
+	}
+
+	static Bits wrap(long[] words, int size) {
+		Bits result = new Bits();
+		result.words = words;
+		result.size = size;
+		return result;
+	}
 
 	private void assertInHalfOpenInterval(int index) {
 		if(index < 0 || index >= size)
@@ -718,18 +1484,31 @@ public final class Bits implements ReadableBits {
 					"Expected: index >= 0 && index < size; Actual: index=" + index + ", size=" + size);
 	}
 
+	private void assertCorrectRange(int fromIndex, int toIndex) {
+		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
+					", toIndex=" + toIndex + ')');
+		}
+	}
+
 	private void assertNotNegativeIndex(int index) {
 		if(index < 0) {
 			throw new IndexOutOfBoundsException("Expected: index >= 0; Actual: index=" + index);
 		}
 	}
 
-	private void assertNotNegativeSize(int size) {
+	private static void assertNotNegativeSize(int size) {
 		if(size < 0) {
 			throw new NegativeSizeException("Expected: size >= 0; Actual: size=" + size);
 		}
 	}
 
+	private void assertNotNegativeDistance(int distance) {
+		if(distance < 0) {
+			throw new IllegalArgumentException("Expected: distance >= 0; Actual: distance=" + distance);
+		}
+	}
+
 	private void growToIndexOrDoNothing(int index) {
 		if(index >= size) {
 			size = index + 1;
@@ -747,11 +1526,387 @@ public final class Bits implements ReadableBits {
 		return (words[index >>> 6] & (1L << index)) != 0L;
 	}
 
-	private static String toBinaryString(long value, final int bitsNumber) {
+	private void unsafeSet(int index) {
+		int wordIndex = index >>> 6;
+		long word = words[wordIndex];
+		long updated = word | (1L << index);
+		words[wordIndex] = updated;
+		if(tracking) {
+			cardinality += Long.bitCount(updated ^ word);
+			highBitIndex = Math.max(highBitIndex, index);
+		}
+	}
+
+	private void unsafeClear(int index) {
+		int wordIndex = index >>> 6;
+		long word = words[wordIndex];
+		long updated = word & ~(1L << index);
+		words[wordIndex] = updated;
+		if(tracking) {
+			cardinality -= Long.bitCount(updated ^ word);
+			if(index == highBitIndex) highBitIndex = UNKNOWN_HIGH_BIT;
+		}
+	}
+
+	private int cardinality(int fromIndex, int toIndex) {
+		int firstWordIndex = fromIndex >>> 6;
+		int lastWordIndex = (toIndex - 1) >>> 6;
+		long firstWordMask = -1L << fromIndex;
+		long lastWordMask = -1L >>> -toIndex;
+		if(firstWordIndex == lastWordIndex) return Long.bitCount(words[firstWordIndex] & firstWordMask & lastWordMask);
+
+		int result = Long.bitCount(words[firstWordIndex] & firstWordMask);
+		for(int i = firstWordIndex + 1; i < lastWordIndex; ++i) result += Long.bitCount(words[i]);
+		return result + Long.bitCount(words[lastWordIndex] & lastWordMask);
+	}
+
+	private Bits parallelRecountIfTracking() {
+		if(tracking) {
+			cardinality = ParallelWordsOperations.cardinality(words);
+			highBitIndex = UNKNOWN_HIGH_BIT;
+		}
+		return this;
+	}
+
+	private Bits recountIfTracking() {
+		if(tracking) {
+			int countBits = 0;
+			for(int i = 0; i < words.length; ++i) countBits += Long.bitCount(words[i]);
+			cardinality = countBits;
+			highBitIndex = UNKNOWN_HIGH_BIT;
+		}
+		return this;
+	}
+
+	static int wordsHashCode(long[] words, int length) {
+		return wordsHashCode(wordIndex -> words[wordIndex], length);
+	}
+
+	static int wordsHashCode(IntToLongFunction words, int length) {
+		int lastWordIndex = length - 1;
+		while(lastWordIndex >= 0 && words.applyAsLong(lastWordIndex) == 0L) --lastWordIndex;
+
+		int result = 1;
+		for(int i = 0; i <= lastWordIndex; ++i) result = result * 31 + Long.hashCode(words.applyAsLong(i));
+		return 17 * 31 + result;
+	}
+
+	static void setWords(long[] words, int fromIndex, int toIndex) {
+		int firstWordIndex = fromIndex >>> 6;
+		int lastWordIndex = (toIndex - 1) >>> 6;
+		long firstWordMask = -1L << fromIndex;
+		long lastWordMask = -1L >>> -toIndex;
+		if(firstWordIndex == lastWordIndex) {
+			words[firstWordIndex] |= firstWordMask & lastWordMask;
+		} else {
+			words[firstWordIndex] |= firstWordMask;
+			Arrays.fill(words, firstWordIndex + 1, lastWordIndex, -1L);
+			words[lastWordIndex] |= lastWordMask;
+		}
+	}
+
+	private static void clearWords(long[] words, int fromIndex, int toIndex) {
+		int firstWordIndex = fromIndex >>> 6;
+		int lastWordIndex = (toIndex - 1) >>> 6;
+		long firstWordMask = -1L << fromIndex;
+		long lastWordMask = -1L >>> -toIndex;
+		if(firstWordIndex == lastWordIndex) {
+			words[firstWordIndex] &= ~(firstWordMask & lastWordMask);
+		} else {
+			words[firstWordIndex] &= ~firstWordMask;
+			Arrays.fill(words, firstWordIndex + 1, lastWordIndex, 0L);
+			words[lastWordIndex] &= ~lastWordMask;
+		}
+	}
+
+	private static void flipWords(long[] words, int fromIndex, int toIndex) {
+		int firstWordIndex = fromIndex >>> 6;
+		int lastWordIndex = (toIndex - 1) >>> 6;
+		long firstWordMask = -1L << fromIndex;
+		long lastWordMask = -1L >>> -toIndex;
+		if(firstWordIndex == lastWordIndex) {
+			words[firstWordIndex] ^= firstWordMask & lastWordMask;
+		} else {
+			words[firstWordIndex] ^= firstWordMask;
+			for(int i = firstWordIndex + 1; i < lastWordIndex; ++i) words[i] = ~words[i];
+			words[lastWordIndex] ^= lastWordMask;
+		}
+	}
+
+	private static void assertClearTail(long[] words, int size) {
+		if(hasBitsBeyondSize(words, size)) {
+			throw new IllegalArgumentException("Expected: bits beyond size are clear; Actual: size=" + size);
+		}
+	}
+
+	private static boolean hasBitsBeyondSize(long[] words, int size) {
+		return (size & 63) != 0 && (words[words.length - 1] & (-1L << size)) != 0L
+				|| size == 0 && words[0] != 0L;
+	}
+
+	private static int serializedWordsNumber(int size) {
+		return (int) ((size + 63L) >>> 6);
+	}
+
+	private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+		while(buffer.hasRemaining()) {
+			if(channel.read(buffer) < 0) {
+				throw new EOFException("Channel ended before " + buffer.remaining() + " more bytes were read");
+			}
+		}
+	}
+
+	private static long[][] wordsOf(ReadableBits[] operands, int maxWordsNumber) {
+		long[][] result = new long[operands.length][];
+		for(int i = 0; i < operands.length; ++i) result[i] = wordsOf(operands[i], maxWordsNumber);
+		return result;
+	}
+
+	private static long[][] denseWordsOf(ReadableBits[] operands, int maxWordsNumber) {
+		long[][] result = new long[operands.length][];
+		for(int i = 0; i < operands.length; ++i) {
+			if(!(operands[i] instanceof CompressedBits)) result[i] = wordsOf(operands[i], maxWordsNumber);
+		}
+		return result;
+	}
+
+	private static int maxSize(ReadableBits[] operands) {
+		int result = 0;
+		for(ReadableBits operand : operands) result = Math.max(result, operand.size());
+		return result;
+	}
+
+	private static long[] wordsOf(ReadableBits bits) {
+		return wordsOf(bits, wordsNumber(bits));
+	}
+
+	private static long[] wordsOf(ReadableBits bits, int maxWordsNumber) {
+		long[] result = arrayWordsOf(bits, maxWordsNumber);
+		if(result == null) {
+			result = new long[Math.min(maxWordsNumber, wordsNumber(bits))];
+			for(int i = 0; i < result.length; ++i) result[i] = bits.getWord(i);
+		}
+		return result;
+	}
+
+	private static long[] arrayWordsOf(ReadableBits bits, int maxWordsNumber) {
+		if(bits instanceof Bits otherBits) return otherBits.words;
+		if(bits instanceof RankSelectBits rankSelect) return rankSelect.words();
+		if(bits instanceof BitMatrix.Row row) return row.toWords();
+
+		int wordsNumber = Math.min(maxWordsNumber, wordsNumber(bits));
+		if(bits instanceof CompressedBits compressed) return compressed.toWords(wordsNumber);
+		if(bits instanceof RunLengthBits runLength) return runLength.toWords(wordsNumber);
+		return null;
+	}
+
+	private static int wordsNumber(ReadableBits bits) {
+		return Math.max(1, (bits.size() + 63) >>> 6);
+	}
+
+	private static boolean hasSetBitsFrom(ReadableBits bits, int wordIndex) {
+		long fromIndex = (long) wordIndex << 6;
+		return fromIndex < bits.size() && bits.nextSetBit((int) fromIndex) != -1;
+	}
+
+	private static void copyBits(long[] src, int srcPos, long[] dest, int destPos, int length) {
+		if(srcPos >= destPos) {
+			int copied = Math.min(length, -destPos & 63);
+			if(copied > 0) writeBits(dest, destPos, readWord(src, srcPos), copied);
+			for(; length - copied >= 64; copied += 64) {
+				dest[(destPos + copied) >>> 6] = readWord(src, srcPos + copied);
+			}
+			if(copied < length) writeBits(dest, destPos + copied, readWord(src, srcPos + copied), length - copied);
+		} else {
+			int remaining = length - Math.min(length, (destPos + length) & 63);
+			if(remaining < length) writeBits(dest, destPos + remaining, readWord(src, srcPos + remaining), length - remaining);
+			for(; remaining >= 64; remaining -= 64) {
+				dest[(destPos + remaining - 64) >>> 6] = readWord(src, srcPos + remaining - 64);
+			}
+			if(remaining > 0) writeBits(dest, destPos, readWord(src, srcPos), remaining);
+		}
+	}
+
+	private static long readWord(long[] words, int pos) {
+		int wordIndex = pos >>> 6;
+		long result = words[wordIndex] >>> pos;
+		if((pos & 63) != 0 && wordIndex + 1 < words.length) result |= words[wordIndex + 1] << -pos;
+		return result;
+	}
+
+	private static void writeBits(long[] words, int pos, long value, int bitsNumber) {
+		long mask = -1L >>> -bitsNumber;
+		value &= mask;
+
+		int wordIndex = pos >>> 6;
+		words[wordIndex] = (words[wordIndex] & ~(mask << pos)) | (value << pos);
+
+		int shift = pos & 63;
+		if(shift + bitsNumber > 64) {
+			words[wordIndex + 1] = (words[wordIndex + 1] & ~(mask >>> -shift)) | (value >>> -shift);
+		}
+	}
+
+	static String toBinaryString(long value, final int bitsNumber) {
 		char[] chars = new char[bitsNumber];
 		for(int i = 0; i < bitsNumber; i++) {
 			chars[bitsNumber - 1 - i] = (char)(((value >> i) & 1L) + '0');
 		}
 		return new String(chars);
 	}
+
+
+	/**
+	 * <p>Перебирает индексы бит установленных в единицу в порядке возрастания без упаковки значений. Биты
+	 * читаются группами по 64, поэтому перебор быстрее последовательных вызовов {@link #nextSetBit(int)}.</p>
+	 *
+	 * <p>Курсор не создает копию бит: очередная группа из 64 бит читается из объекта Bits в момент перехода к ней.
+	 * Поэтому изменения бит, уже прочитанных курсором, не учитываются. Метод {@link #reset(int)} позволяет
+	 * начать перебор заново с учетом всех изменений, не создавая нового курсора.</p>
+	 */
+	public final class SetBitCursor implements PrimitiveIterator.OfInt {
+
+		private int wordIndex;
+		private long word;
+
+		private SetBitCursor() {
+			reset(0);
+		}
+
+		/**
+		 * Перемещает курсор таким образом, что следующим он вернет индекс первого единичного бита, индекс которого
+		 * больше или равен fromIndex.
+		 * @param fromIndex индекс бита, с которого начинается перебор.
+		 * @return ссылку на этот же курсор.
+		 * @throws IndexOutOfBoundsException если {@code fromIndex < 0}.
+		 */
+		public SetBitCursor reset(int fromIndex) {
+			assertNotNegativeIndex(fromIndex);
+			wordIndex = fromIndex >>> 6;
+			word = wordIndex < words.length ? words[wordIndex] & (-1L << fromIndex) : 0L;
+			return this;
+		}
+
+		/**
+		 * Возвращает true, если среди еще не перебранных бит есть хотя бы один бит установленный в единицу.
+		 */
+		@Override
+		public boolean hasNext() {
+			long[] words = Bits.this.words;
+			while(word == 0L) {
+				if(wordIndex + 1 >= words.length) return false;
+				word = words[++wordIndex];
+			}
+			return true;
+		}
+
+		/**
+		 * Возвращает индекс следующего бита установленного в единицу.
+		 * @throws NoSuchElementException если все единичные биты уже перебраны.
+		 */
+		@Override
+		public int nextInt() {
+			if(!hasNext()) {
+				throw new NoSuchElementException("There is no next set bit. Detail: size=" + size);
+			}
+			int result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+			word &= word - 1L;
+			return result;
+		}
+
+		/**
+		 * Передает в action индексы всех еще не перебранных бит установленных в единицу.
+		 * @param action операция, выполняемая для индекса каждого единичного бита.
+		 * @throws NullPointerException если action равен null.
+		 */
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			Objects.requireNonNull(action);
+			long[] words = Bits.this.words;
+			while(true) {
+				while(word != 0L) {
+					action.accept((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+					word &= word - 1L;
+				}
+				if(wordIndex + 1 >= words.length) return;
+				word = words[++wordIndex];
+			}
+		}
+	}
+
+	private static final class SetBitSpliterator implements Spliterator.OfInt {
+
+		private static final int CHARACTERISTICS = ORDERED | DISTINCT | SORTED | NONNULL;
+
+
+		private final long[] words;
+		private final int toWord;
+		private int wordIndex;
+		private long word;
+
+		public SetBitSpliterator(long[] words, int fromWord, int toWord) {
+			this.words = words;
+			this.toWord = toWord;
+			this.wordIndex = fromWord;
+			this.word = fromWord < toWord ? words[fromWord] : 0L;
+		}
+
+		private SetBitSpliterator(long[] words, int fromWord, int toWord, long firstWord) {
+			this.words = words;
+			this.toWord = toWord;
+			this.wordIndex = fromWord;
+			this.word = firstWord;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			Objects.requireNonNull(action);
+			while(word == 0L) {
+				if(wordIndex + 1 >= toWord) return false;
+				word = words[++wordIndex];
+			}
+			action.accept((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+			word &= word - 1L;
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			Objects.requireNonNull(action);
+			while(true) {
+				while(word != 0L) {
+					action.accept((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+					word &= word - 1L;
+				}
+				if(wordIndex + 1 >= toWord) return;
+				word = words[++wordIndex];
+			}
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int middle = (wordIndex + 1 + toWord) >>> 1;
+			if(middle <= wordIndex + 1) return null;
+
+			SetBitSpliterator prefix = new SetBitSpliterator(words, wordIndex, middle, word);
+			wordIndex = middle;
+			word = words[middle];
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return (long) (toWord - wordIndex) << 6;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+
+		@Override
+		public Comparator<? super Integer> getComparator() {
+			return null;
+		}
+	}
 }
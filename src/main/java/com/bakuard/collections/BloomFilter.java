@@ -0,0 +1,338 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>Фильтр Блума - вероятностная структура данных, позволяющая проверить, добавлялся ли элемент в фильтр ранее.
+ * Метод {@link #mightContain(Object)} никогда не возвращает false для добавленного элемента, но может вернуть true
+ * для элемента, который не добавлялся (ложноположительный результат). Вероятность ложноположительного результата
+ * задается при создании фильтра и соблюдается, пока кол-во добавленных элементов не превышает ожидаемое.</p>
+ *
+ * <p>Биты фильтра хранятся в объекте {@link Bits} с включенным отслеживанием кол-ва единичных бит
+ * (см. {@link Bits#enableTracking()}). Для каждого элемента вычисляется 64-битный хеш, из двух половин которого
+ * строятся индексы всех проверяемых бит (двойное хеширование Кирша-Митценмахера). По умолчанию 64-битный хеш
+ * получается перемешиванием {@link Object#hashCode()}, поэтому для элементов с плохо распределенным hashCode стоит
+ * передать собственную хеш-функцию.</p>
+ *
+ * <p>Два фильтра с одинаковым кол-вом бит и хеш-функций можно объединить методом {@link #union(BloomFilter)}.
+ * Методы {@link #toByteArray()} и {@link #fromByteArray(byte[], ToLongFunction)} позволяют сохранить биты фильтра
+ * и восстановить его. Хеш-функция при этом не сохраняется.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ *
+ * @param <T> тип элементов, добавляемых в фильтр.
+ */
+public final class BloomFilter<T> {
+
+	private static final int HEADER_SIZE = 16;
+	private static final long SIGNATURE = 0x31544C4946424B42L;
+
+	/**
+	 * Восстанавливает фильтр из массива байт, полученного методом {@link #toByteArray()}. Передаваемая хеш-функция
+	 * должна совпадать с хеш-функцией сохраненного фильтра.
+	 * @param data массив байт, содержащий сохраненный фильтр.
+	 * @param hashFunction функция, вычисляющая 64-битный хеш элемента.
+	 * @return восстановленный фильтр.
+	 * @throws NullPointerException если data или hashFunction равен null.
+	 * @throws IllegalArgumentException если data не содержит корректно сохраненный фильтр.
+	 */
+	public static <T> BloomFilter<T> fromByteArray(byte[] data, ToLongFunction<? super T> hashFunction) {
+		Objects.requireNonNull(hashFunction);
+		ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+		if(data.length < HEADER_SIZE || buffer.getLong() != SIGNATURE) {
+			throw new IllegalArgumentException("Data doesn't contain a bloom filter");
+		}
+
+		int numberBits = buffer.getInt();
+		int numberHashFunctions = buffer.getInt();
+		if(numberBits <= 0 || numberHashFunctions <= 0) {
+			throw new IllegalArgumentException(
+					"Expected: numberBits > 0 && numberHashFunctions > 0; Actual: numberBits=" + numberBits +
+							", numberHashFunctions=" + numberHashFunctions);
+		}
+		long[] words = new long[(int) ((numberBits + 63L) >>> 6)];
+		if(buffer.remaining() != words.length * 8L) {
+			throw new IllegalArgumentException(
+					"Expected: data length=" + (HEADER_SIZE + words.length * 8L) +
+						"; Actual: data length=" + data.length);
+		}
+		buffer.asLongBuffer().get(words);
+		words[words.length - 1] &= -1L >>> -numberBits;
+
+		return new BloomFilter<>(Bits.wrap(words, numberBits), numberHashFunctions, hashFunction);
+	}
+
+	static int optimalNumberBits(int expectedInsertions, double falsePositiveRate) {
+		if(expectedInsertions < 0) {
+			throw new NegativeSizeException(
+					"Expected: expectedInsertions >= 0; Actual: expectedInsertions=" + expectedInsertions);
+		}
+		if(!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+			throw new IllegalArgumentException(
+					"Expected: falsePositiveRate > 0 && falsePositiveRate < 1; Actual: falsePositiveRate=" +
+							falsePositiveRate);
+		}
+
+		double numberBits = -Math.max(1, expectedInsertions) * Math.log(falsePositiveRate) /
+				(Math.log(2) * Math.log(2));
+		if(numberBits > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Bloom filter for expectedInsertions=" + expectedInsertions +
+					" and falsePositiveRate=" + falsePositiveRate + " requires more than " +
+					Integer.MAX_VALUE + " bits");
+		}
+		return Math.max(64, (int) Math.ceil(numberBits));
+	}
+
+	static int optimalNumberHashFunctions(int expectedInsertions, int numberBits) {
+		return Math.max(1, (int) Math.round((double) numberBits / Math.max(1, expectedInsertions) * Math.log(2)));
+	}
+
+	static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	static int index(long hash, int i, int numberBits) {
+		int combined = (int) hash + i * (int) (hash >>> 32);
+		return (combined & Integer.MAX_VALUE) % numberBits;
+	}
+
+
+	private final Bits bits;
+	private final int numberHashFunctions;
+	private final ToLongFunction<? super T> hashFunction;
+
+	/**
+	 * Создает пустой фильтр, рассчитанный на указанное кол-во элементов и вероятность ложноположительного
+	 * результата. 64-битный хеш элементов вычисляется перемешиванием {@link Object#hashCode()}.
+	 * @param expectedInsertions ожидаемое кол-во добавляемых элементов.
+	 * @param falsePositiveRate допустимая вероятность ложноположительного результата.
+	 * @throws NegativeSizeException если expectedInsertions меньше нуля.
+	 * @throws IllegalArgumentException если не выполняется условие
+	 *                                  {@code falsePositiveRate > 0 && falsePositiveRate < 1} или для фильтра
+	 *                                  требуется больше {@link Integer#MAX_VALUE} бит.
+	 */
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		this(expectedInsertions, falsePositiveRate, Objects::hashCode);
+	}
+
+	/**
+	 * Создает пустой фильтр, рассчитанный на указанное кол-во элементов и вероятность ложноположительного
+	 * результата.
+	 * @param expectedInsertions ожидаемое кол-во добавляемых элементов.
+	 * @param falsePositiveRate допустимая вероятность ложноположительного результата.
+	 * @param hashFunction функция, вычисляющая 64-битный хеш элемента.
+	 * @throws NullPointerException если hashFunction равен null.
+	 * @throws NegativeSizeException если expectedInsertions меньше нуля.
+	 * @throws IllegalArgumentException если не выполняется условие
+	 *                                  {@code falsePositiveRate > 0 && falsePositiveRate < 1} или для фильтра
+	 *                                  требуется больше {@link Integer#MAX_VALUE} бит.
+	 */
+	public BloomFilter(int expectedInsertions, double falsePositiveRate, ToLongFunction<? super T> hashFunction) {
+		int numberBits = optimalNumberBits(expectedInsertions, falsePositiveRate);
+		this.bits = new Bits(numberBits).enableTracking();
+		this.numberHashFunctions = optimalNumberHashFunctions(expectedInsertions, numberBits);
+		this.hashFunction = Objects.requireNonNull(hashFunction);
+	}
+
+	/**
+	 * Создает точную копию переданного фильтра.
+	 * @param other фильтр, для которого создается копия.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public BloomFilter(BloomFilter<T> other) {
+		this(new Bits(other.bits), other.numberHashFunctions, other.hashFunction);
+	}
+
+	BloomFilter(Bits bits, int numberHashFunctions, ToLongFunction<? super T> hashFunction) {
+		this.bits = bits.enableTracking();
+		this.numberHashFunctions = numberHashFunctions;
+		this.hashFunction = hashFunction;
+	}
+
+	/**
+	 * Добавляет элемент в фильтр.
+	 * @param value добавляемый элемент.
+	 * @return true - если в результате добавления изменился хотя бы один бит фильтра (т.е. элемент точно не
+	 *         добавлялся ранее), иначе - false.
+	 */
+	public boolean put(T value) {
+		long hash = mix(hashFunction.applyAsLong(value));
+		int numberBits = bits.size();
+		int cardinality = bits.cardinality();
+		for(int i = 0; i < numberHashFunctions; ++i) bits.set(index(hash, i, numberBits));
+		return bits.cardinality() != cardinality;
+	}
+
+	/**
+	 * Добавляет в фильтр все элементы указанного массива.
+	 * @param values добавляемые элементы.
+	 * @return true - если в результате добавления изменился хотя бы один бит фильтра, иначе - false.
+	 * @throws NullPointerException если values равен null.
+	 */
+	public boolean putAll(T... values) {
+		int cardinality = bits.cardinality();
+		for(T value : values) put(value);
+		return bits.cardinality() != cardinality;
+	}
+
+	/**
+	 * Добавляет в фильтр все элементы указанной последовательности.
+	 * @param values добавляемые элементы.
+	 * @return true - если в результате добавления изменился хотя бы один бит фильтра, иначе - false.
+	 * @throws NullPointerException если values равен null.
+	 */
+	public boolean putAll(Iterable<? extends T> values) {
+		int cardinality = bits.cardinality();
+		for(T value : values) put(value);
+		return bits.cardinality() != cardinality;
+	}
+
+	/**
+	 * Проверяет - мог ли указанный элемент быть добавлен в фильтр ранее.
+	 * @param value проверяемый элемент.
+	 * @return false - если элемент точно не добавлялся в фильтр, true - если элемент, вероятно, был добавлен.
+	 */
+	public boolean mightContain(T value) {
+		long hash = mix(hashFunction.applyAsLong(value));
+		int numberBits = bits.size();
+		boolean result = true;
+		for(int i = 0; i < numberHashFunctions && result; ++i) result = bits.get(index(hash, i, numberBits));
+		return result;
+	}
+
+	/**
+	 * Проверяет - можно ли объединить текущий фильтр с фильтром other, т.е. совпадают ли у них кол-во бит и
+	 * кол-во хеш-функций. Совпадение самих хеш-функций этот метод не проверяет.
+	 * @param other фильтр, совместимость с которым проверяется.
+	 * @return true - если фильтры совместимы, иначе - false.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public boolean isCompatible(BloomFilter<?> other) {
+		return bits.size() == other.bits.size() && numberHashFunctions == other.numberHashFunctions;
+	}
+
+	/**
+	 * Добавляет в текущий фильтр все элементы фильтра other, объединяя их биты операцией {@link Bits#or(ReadableBits)}.
+	 * После этого текущий фильтр будет возвращать true для любого элемента, добавленного в любой из фильтров.
+	 * @param other объединяемый фильтр с той же хеш-функцией.
+	 * @return ссылку на этот же объект.
+	 * @throws NullPointerException если other равен null.
+	 * @throws IllegalArgumentException если фильтры не совместимы (см. {@link #isCompatible(BloomFilter)}).
+	 */
+	public BloomFilter<T> union(BloomFilter<T> other) {
+		assertCompatible(other);
+		bits.or(other.bits);
+		return this;
+	}
+
+	/**
+	 * Удаляет из фильтра все элементы.
+	 * @return ссылку на этот же объект.
+	 */
+	public BloomFilter<T> clear() {
+		bits.clearAll();
+		return this;
+	}
+
+	/**
+	 * Возвращает вероятность ложноположительного результата для текущего заполнения фильтра. Время работы метода
+	 * не зависит от размера фильтра.
+	 */
+	public double expectedFalsePositiveRate() {
+		return Math.pow((double) bits.cardinality() / bits.size(), numberHashFunctions);
+	}
+
+	/**
+	 * Возвращает оценку кол-ва различных элементов, добавленных в фильтр, вычисленную по кол-ву единичных бит.
+	 * Время работы метода не зависит от размера фильтра.
+	 */
+	public long approximateElementCount() {
+		double numberBits = bits.size();
+		double fractionOfClearBits = 1.0 - bits.cardinality() / numberBits;
+		return Math.round(-numberBits / numberHashFunctions * Math.log(fractionOfClearBits));
+	}
+
+	/**
+	 * Возвращает кол-во бит фильтра.
+	 */
+	public int numberBits() {
+		return bits.size();
+	}
+
+	/**
+	 * Возвращает кол-во хеш-функций (кол-во бит, устанавливаемых для каждого элемента).
+	 */
+	public int numberHashFunctions() {
+		return numberHashFunctions;
+	}
+
+	/**
+	 * Возвращает биты фильтра. Возвращаемый объект отражает все последующие изменения фильтра.
+	 */
+	public ReadableBits bits() {
+		return bits;
+	}
+
+	/**
+	 * <p>Сохраняет биты фильтра в новый массив байт, из которого фильтр можно восстановить методом
+	 * {@link #fromByteArray(byte[], ToLongFunction)}.</p>
+	 *
+	 * <p>Массив начинается с заголовка размером 16 байт, содержащего сигнатуру формата, кол-во бит и кол-во
+	 * хеш-функций фильтра. За заголовком следуют биты, сгруппированные по 64 в значения типа long с порядком байт
+	 * little-endian.</p>
+	 *
+	 * @return массив байт с сохраненным фильтром.
+	 */
+	public byte[] toByteArray() {
+		long[] words = bits.words();
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + words.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putLong(SIGNATURE).putInt(bits.size()).putInt(numberHashFunctions);
+		buffer.asLongBuffer().put(words);
+		return buffer.array();
+	}
+
+	/**
+	 * Два фильтра считаются одинаковыми, если у них совпадают кол-во хеш-функций и биты. Хеш-функции при сравнении
+	 * не учитываются.
+	 * @param other объект, с которым производится сравнение.
+	 * @return true - если фильтры равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		BloomFilter<?> otherFilter = (BloomFilter<?>) other;
+		return numberHashFunctions == otherFilter.numberHashFunctions && bits.equals(otherFilter.bits);
+	}
+
+	@Override
+	public int hashCode() {
+		return bits.hashCode() * 31 + numberHashFunctions;
+	}
+
+	@Override
+	public String toString() {
+		return "BloomFilter{numberBits=" + bits.size() + ", numberHashFunctions=" + numberHashFunctions +
+				", cardinality=" + bits.cardinality() + '}';
+	}
+
+
+	private void assertCompatible(BloomFilter<?> other) {
+		if(!isCompatible(other)) {
+			throw new IllegalArgumentException(
+					"Expected: compatible bloom filters; Actual: numberBits=" + bits.size() + ", numberHashFunctions=" +
+							numberHashFunctions + ", other numberBits=" + other.bits.size() +
+							", other numberHashFunctions=" + other.numberHashFunctions);
+		}
+	}
+}
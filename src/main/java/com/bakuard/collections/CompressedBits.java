@@ -0,0 +1,1145 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import com.bakuard.collections.function.LongIndexBiConsumer;
+
+import java.util.Arrays;
+
+/**
+ * <p>Сжатая реализация {@link ReadableBits}, предназначенная для разреженных множеств бит и множеств, состоящих
+ * из длинных последовательностей единичных бит. Память расходуется пропорционально кол-ву единичных бит, а не
+ * размеру объекта ({@link #size()}).</p>
+ *
+ * <p>Все биты делятся на группы по 65536 бит. Для каждой группы, содержащей хотя бы один единичный бит, хранится
+ * отдельный контейнер одного из трех видов:</p>
+ * <ol>
+ *     <li>отсортированный массив индексов единичных бит - если единичных бит в группе не больше 4096;</li>
+ *     <li>битовая карта из 1024 значений типа long - если единичных бит в группе больше 4096;</li>
+ *     <li>отсортированный массив последовательностей единичных бит - если он занимает меньше памяти, чем
+ *     два предыдущих варианта.</li>
+ * </ol>
+ * <p>Группы, не содержащие ни одного единичного бита, не занимают памяти. Вид контейнера выбирается и меняется
+ * автоматически.</p>
+ *
+ * <p>Логические операции выполняются для каждой пары контейнеров отдельно и пропускают группы, не содержащие
+ * единичных бит. Если второй операнд не является CompressedBits, то он обрабатывается по группам из 1024 значений
+ * типа long, возвращаемых методом {@link ReadableBits#getWord(int)}.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class CompressedBits implements ReadableBits {
+
+	private static final int CHUNK_BITS = 1 << 16;
+	private static final int CHUNK_WORDS = CHUNK_BITS >>> 6;
+	private static final int ARRAY_MAX_CARDINALITY = 4096;
+	private static final int RUN_MAX_NUMBER = 2048;
+
+	/**
+	 * Создает и возвращает новый объект CompressedBits, зарезервированный для хранения указанного кол-ва бит. Все
+	 * биты, индексы которых указаны в массиве indexes, будут установлены в единицу. Значение остальных бит будет
+	 * установлено в ноль.
+	 * @param numberBits емкость создаваемого объекта CompressedBits.
+	 * @param indexes индексы бит, устанавливаемых в единицу.
+	 * @throws NullPointerException если передаваемый массив indexes равен null.
+	 * @throws NegativeSizeException  если numberBits меньше нуля.
+	 * @throws IndexOutOfBoundsException если хотя бы для одного из индексов выполняется условие:
+	 *                                   {@code index < 0 || index >= numberBits}
+	 */
+	public static CompressedBits of(int numberBits, int... indexes) {
+		CompressedBits result = new CompressedBits(numberBits);
+		for(int index : indexes) result.set(index);
+		return result;
+	}
+
+	private char[] keys = new char[0];
+	private Container[] containers = new Container[0];
+	private int containersNumber;
+	private int size;
+
+	/**
+	 * Создает пустой объект CompressedBits размер которого({@link #size()}) равен 0.
+	 */
+	public CompressedBits() {}
+
+	/**
+	 * Создает объект CompressedBits, зарезервированный для хранения указанного кол-ва бит. Значение любого бита
+	 * после вызова этого конструктора будет равняться 0. Созданный объект не занимает памяти для хранения бит.
+	 * @param numberBits емкость создаваемого объекта CompressedBits.
+	 * @throws NegativeSizeException если numberBits меньше нуля.
+	 */
+	public CompressedBits(int numberBits) {
+		if(numberBits < 0) {
+			throw new NegativeSizeException("Expected: size >= 0; Actual: size=" + numberBits);
+		}
+		size = numberBits;
+	}
+
+	/**
+	 * Создает объект CompressedBits, размер и значения всех бит которого равны размеру и значениям бит объекта other.
+	 * @param other объект, для которого создается сжатая копия.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public CompressedBits(ReadableBits other) {
+		size = other.size();
+		for(int key = nextChunk(other, 0); key != -1; key = nextChunk(other, key + 1)) {
+			Container container = chunkContainer(other, key);
+			if(container != null) putContainer(key, container.copy());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean get(int index) {
+		assertInHalfOpenInterval(index);
+		int i = containerIndex(index >>> 16);
+		return i >= 0 && containers[i].contains(index & 0xFFFF);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getWord(int wordIndex) {
+		assertNotNegativeIndex(wordIndex);
+		if(wordIndex >= wordsNumber(this)) return 0L;
+
+		int i = containerIndex(wordIndex >>> 10);
+		return i >= 0 ? containers[i].word(wordIndex & (CHUNK_WORDS - 1)) : 0L;
+	}
+
+	/**
+	 * Устанавливает бит с указанным индексом в единицу.
+	 * @param index индекс бита, устанавливаемого в единицу.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void set(int index) {
+		assertInHalfOpenInterval(index);
+		int key = index >>> 16;
+		int i = containerIndex(key);
+		if(i >= 0) containers[i] = containers[i].add(index & 0xFFFF);
+		else insertContainer(-i - 1, key, new ArrayContainer(new char[]{(char) index}, 1));
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в единицу. В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало заполняемого диапазона.
+	 * @param toIndex индекс, задающий конец заполняемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public CompressedBits setRange(int fromIndex, int toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			for(int key = fromIndex >>> 16, lastKey = (toIndex - 1) >>> 16; key <= lastKey; ++key) {
+				int chunkFrom = Math.max(fromIndex - (key << 16), 0);
+				int chunkTo = Math.min(toIndex - (key << 16), CHUNK_BITS);
+				if(chunkFrom == 0 && chunkTo == CHUNK_BITS) {
+					putContainer(key, RunContainer.full());
+				} else {
+					long[] words = chunkWords(key);
+					for(int w = chunkFrom >>> 6; w <= (chunkTo - 1) >>> 6; ++w) words[w] |= rangeMask(w, chunkFrom, chunkTo);
+					putContainer(key, fromBitmap(words));
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в единицу.
+	 * @return ссылку на этот же объект.
+	 */
+	public CompressedBits setAll() {
+		return setRange(0, size);
+	}
+
+	/**
+	 * Устанавливает бит с указанным индексом в ноль.
+	 * @param index индекс бита, устанавливаемого в ноль.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void clear(int index) {
+		assertInHalfOpenInterval(index);
+		int key = index >>> 16;
+		int i = containerIndex(key);
+		if(i >= 0) putContainer(key, containers[i].remove(index & 0xFFFF));
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в ноль. В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало очищаемого диапазона.
+	 * @param toIndex индекс, задающий конец очищаемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public CompressedBits clearRange(int fromIndex, int toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			for(int key = nextChunk(this, fromIndex >>> 16), lastKey = (toIndex - 1) >>> 16;
+			    key != -1 && key <= lastKey;
+			    key = nextChunk(this, key + 1)) {
+				int chunkFrom = Math.max(fromIndex - (key << 16), 0);
+				int chunkTo = Math.min(toIndex - (key << 16), CHUNK_BITS);
+				if(chunkFrom == 0 && chunkTo == CHUNK_BITS) {
+					putContainer(key, null);
+				} else {
+					long[] words = chunkWords(key);
+					for(int w = chunkFrom >>> 6; w <= (chunkTo - 1) >>> 6; ++w) words[w] &= ~rangeMask(w, chunkFrom, chunkTo);
+					putContainer(key, fromBitmap(words));
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в ноль и освобождает память, занимаемую контейнерами.
+	 * @return ссылку на этот же объект.
+	 */
+	public CompressedBits clearAll() {
+		keys = new char[0];
+		containers = new Container[0];
+		containersNumber = 0;
+		return this;
+	}
+
+	/**
+	 * Инвертирует значение бита с указанным индексом.
+	 * @param index индекс инвертируемого бита.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void flip(int index) {
+		if(get(index)) clear(index);
+		else set(index);
+	}
+
+	/**
+	 * Инвертирует значения всех бит в диапазоне [fromIndex, toIndex). В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало инвертируемого диапазона.
+	 * @param toIndex индекс, задающий конец инвертируемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public CompressedBits flipRange(int fromIndex, int toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			for(int key = fromIndex >>> 16, lastKey = (toIndex - 1) >>> 16; key <= lastKey; ++key) {
+				int chunkFrom = Math.max(fromIndex - (key << 16), 0);
+				int chunkTo = Math.min(toIndex - (key << 16), CHUNK_BITS);
+				long[] words = chunkWords(key);
+				for(int w = chunkFrom >>> 6; w <= (chunkTo - 1) >>> 6; ++w) words[w] ^= rangeMask(w, chunkFrom, chunkTo);
+				putContainer(key, fromBitmap(words));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию пересечения двух множеств и записывает результат в текущий объект.</p>
+	 *
+	 * <p>Если операнды имеют разный размер ({@link #size()}), то операция выполняется таким образом, как будто
+	 * недостающие биты более короткого операнда заполнены нулями. Размер текущего объекта не изменяется.</p>
+	 *
+	 * @param other второй операнд операции пересечения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public CompressedBits and(ReadableBits other) {
+		if(other != this) {
+			int newContainersNumber = 0;
+			for(int i = 0; i < containersNumber; ++i) {
+				Container otherContainer = chunkContainer(other, keys[i]);
+				Container container = otherContainer != null ? and(containers[i], otherContainer) : null;
+				if(container != null) {
+					keys[newContainersNumber] = keys[i];
+					containers[newContainersNumber++] = container;
+				}
+			}
+			Arrays.fill(containers, newContainersNumber, containersNumber, null);
+			containersNumber = newContainersNumber;
+		}
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию объединения двух множеств и записывает результат в текущий объект.</p>
+	 *
+	 * <p>Если размер текущего объекта меньше чем other, то его размер увеличивается до размера other. Если же размер
+	 * other меньше, то операция выполняется таким образом, как будто недостающие биты объекта other заполнены
+	 * нулями.</p>
+	 *
+	 * @param other второй операнд операции объединения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public CompressedBits or(ReadableBits other) {
+		if(other != this) {
+			size = Math.max(size, other.size());
+			for(int key = nextChunk(other, 0); key != -1; key = nextChunk(other, key + 1)) {
+				Container otherContainer = chunkContainer(other, key);
+				if(otherContainer != null) {
+					int i = containerIndex(key);
+					putContainer(key, i >= 0 ? or(containers[i], otherContainer) : otherContainer.copy());
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию симметричной разности двух множеств и записывает результат в текущий объект.</p>
+	 *
+	 * <p>Если размер текущего объекта меньше чем other, то его размер увеличивается до размера other. Если же размер
+	 * other меньше, то операция выполняется таким образом, как будто недостающие биты объекта other заполнены
+	 * нулями.</p>
+	 *
+	 * @param other второй операнд операции xor.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public CompressedBits xor(ReadableBits other) {
+		if(other == this) return clearAll();
+
+		size = Math.max(size, other.size());
+		for(int key = nextChunk(other, 0); key != -1; key = nextChunk(other, key + 1)) {
+			Container otherContainer = chunkContainer(other, key);
+			if(otherContainer != null) {
+				int i = containerIndex(key);
+				putContainer(key, i >= 0 ? xor(containers[i], otherContainer) : otherContainer.copy());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию вычитания двух множеств и записывает результат в текущий объект.</p>
+	 *
+	 * <p>Если операнды имеют разный размер, то операция выполняется таким образом, как будто недостающие биты более
+	 * короткого операнда заполнены нулями. Размер текущего объекта не изменяется.</p>
+	 *
+	 * @param other второй операнд операции разности множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public CompressedBits andNot(ReadableBits other) {
+		if(other == this) return clearAll();
+
+		int newContainersNumber = 0;
+		for(int i = 0; i < containersNumber; ++i) {
+			Container otherContainer = chunkContainer(other, keys[i]);
+			Container container = otherContainer != null ? andNot(containers[i], otherContainer) : containers[i];
+			if(container != null) {
+				keys[newContainersNumber] = keys[i];
+				containers[newContainersNumber++] = container;
+			}
+		}
+		Arrays.fill(containers, newContainersNumber, containersNumber, null);
+		containersNumber = newContainersNumber;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int cardinality() {
+		int result = 0;
+		for(int i = 0; i < containersNumber; ++i) result += containers[i].cardinality();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getHighBitIndex() {
+		return containersNumber == 0 ? -1 : (keys[containersNumber - 1] << 16) + containers[containersNumber - 1].last();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean isClear() {
+		return containersNumber == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextSetBit(int fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+
+		if(fromIndex < size) {
+			int i = containerIndex(fromIndex >>> 16);
+			if(i >= 0) {
+				int low = containers[i].nextSetBit(fromIndex & 0xFFFF);
+				if(low != -1) return (keys[i] << 16) + low;
+				++i;
+			} else {
+				i = -i - 1;
+			}
+			if(i < containersNumber) return (keys[i] << 16) + containers[i].nextSetBit(0);
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextClearBit(int fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+
+		long index = fromIndex;
+		while(index < size) {
+			int key = (int) (index >>> 16);
+			int i = containerIndex(key);
+			if(i < 0) return (int) index;
+
+			int low = containers[i].nextClearBit((int) index & 0xFFFF);
+			if(low < CHUNK_BITS) {
+				index = ((long) key << 16) + low;
+				return index < size ? (int) index : -1;
+			}
+			index = (long) (key + 1) << 16;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean contains(ReadableBits other) {
+		for(int key = nextChunk(other, 0); key != -1; key = nextChunk(other, key + 1)) {
+			Container otherContainer = chunkContainer(other, key);
+			if(otherContainer != null) {
+				int i = containerIndex(key);
+				if(i < 0 || andNot(otherContainer, containers[i]) != null) return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean intersect(ReadableBits other) {
+		for(int i = 0; i < containersNumber; ++i) {
+			Container otherContainer = chunkContainer(other, keys[i]);
+			if(otherContainer != null && and(containers[i], otherContainer) != null) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean inBound(int index) {
+		return index >= 0 && index < size;
+	}
+
+	/**
+	 * Два объекта CompressedBits считаются одинаковыми если их размеры (значения возвращаемые методом
+	 * {@link #size()}) равны и значения всех бит попарно равны. Вид контейнеров, в которых хранятся биты,
+	 * не учитывается.
+	 * @param other объект типа CompressedBits, с которым производится сравнение.
+	 * @return true - если объекты равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		CompressedBits otherBits = (CompressedBits) other;
+		return size == otherBits.size && compareIgnoreSize(otherBits) == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean equalsIgnoreSize(Object other) {
+		if(this == other) return true;
+		return other instanceof ReadableBits otherBits && compareIgnoreSize(otherBits) == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compareTo(ReadableBits other) {
+		int result = size - other.size();
+		return result != 0 ? result : compareIgnoreSize(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int compareIgnoreSize(ReadableBits other) {
+		int result = 0;
+		for(int key = Math.max(chunksNumber(this), chunksNumber(other)) - 1; key >= 0 && result == 0; --key) {
+			Container container = chunkContainer(this, key);
+			Container otherContainer = chunkContainer(other, key);
+			for(int w = CHUNK_WORDS - 1; w >= 0 && result == 0 && (container != null || otherContainer != null); --w) {
+				result = Long.compareUnsigned(
+						container != null ? container.word(w) : 0L,
+						otherContainer != null ? otherContainer.word(w) : 0L
+				);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCodeIgnoreSize() * 31 + size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int hashCodeIgnoreSize() {
+		int wordsHash = 1;
+		int nextWordIndex = 0;
+		for(int i = 0; i < containersNumber; ++i) {
+			long[] words = containers[i].toBitmap();
+			int firstWordIndex = keys[i] << 10;
+			for(int w = 0; w < CHUNK_WORDS; ++w) {
+				if(words[w] != 0L) {
+					for(; nextWordIndex < firstWordIndex + w; ++nextWordIndex) wordsHash *= 31;
+					wordsHash = wordsHash * 31 + Long.hashCode(words[w]);
+					++nextWordIndex;
+				}
+			}
+		}
+		return 17 * 31 + wordsHash;
+	}
+
+	@Override
+	public String toString() {
+		return "CompressedBits{size=" + size + ", cardinality=" + cardinality() +
+				", count containers=" + containersNumber + '}';
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String toBinaryString() {
+		StringBuilder result = new StringBuilder();
+
+		if(size > 0) {
+			int wordsNumber = wordsNumber(this);
+			int lastWordBitsNumber = (size & 63) == 0 ? 64 : size & 63;
+			result.append(Bits.toBinaryString(getWord(wordsNumber - 1), lastWordBitsNumber));
+
+			for(int i = wordsNumber - 2; i >= 0; --i) {
+				result.append(Bits.toBinaryString(getWord(i), 64));
+			}
+		}
+
+		return result.toString();
+	}
+
+
+	void forEachNonZeroWord(LongIndexBiConsumer action) {
+		for(int i = 0; i < containersNumber; ++i) containers[i].forEachNonZeroWord(keys[i] << 10, action);
+	}
+
+	void andWords(long[] words) {
+		int nextWordIndex = 0;
+		for(int i = 0; i < containersNumber && nextWordIndex < words.length; ++i) {
+			int firstWordIndex = keys[i] << 10;
+			int toWordIndex = Math.min(firstWordIndex + CHUNK_WORDS, words.length);
+			Arrays.fill(words, nextWordIndex, Math.min(firstWordIndex, words.length), 0L);
+			for(int w = firstWordIndex; w < toWordIndex; ++w) words[w] &= containers[i].word(w - firstWordIndex);
+			nextWordIndex = toWordIndex;
+		}
+		Arrays.fill(words, nextWordIndex, words.length, 0L);
+	}
+
+	long[] toWords(int wordsNumber) {
+		long[] result = new long[wordsNumber];
+		copyWords(0, result, 0, wordsNumber);
+		return result;
+	}
+
+	void copyWords(int fromWordIndex, long[] dest, int destPos, int length) {
+		Arrays.fill(dest, destPos, destPos + length, 0L);
+		int toWordIndex = fromWordIndex + length;
+		int i = containerIndex(fromWordIndex >>> 10);
+		for(i = i >= 0 ? i : -i - 1; i < containersNumber && keys[i] << 10 < toWordIndex; ++i) {
+			containers[i].forEachNonZeroWord(keys[i] << 10, (word, wordIndex) -> {
+				if(wordIndex >= fromWordIndex && wordIndex < toWordIndex) dest[destPos + wordIndex - fromWordIndex] = word;
+			});
+		}
+	}
+
+	private int containerIndex(int key) {
+		return Arrays.binarySearch(keys, 0, containersNumber, (char) key);
+	}
+
+	private long[] chunkWords(int key) {
+		int i = containerIndex(key);
+		return i >= 0 ? containers[i].toBitmap() : new long[CHUNK_WORDS];
+	}
+
+	private void putContainer(int key, Container container) {
+		int i = containerIndex(key);
+		if(container == null || container.cardinality() == 0) {
+			if(i >= 0) {
+				System.arraycopy(keys, i + 1, keys, i, containersNumber - i - 1);
+				System.arraycopy(containers, i + 1, containers, i, containersNumber - i - 1);
+				containers[--containersNumber] = null;
+			}
+		} else if(i >= 0) {
+			containers[i] = container;
+		} else {
+			insertContainer(-i - 1, key, container);
+		}
+	}
+
+	private void insertContainer(int i, int key, Container container) {
+		if(containersNumber == keys.length) {
+			int newLength = Math.max(4, containersNumber * 2);
+			keys = Arrays.copyOf(keys, newLength);
+			containers = Arrays.copyOf(containers, newLength);
+		}
+		System.arraycopy(keys, i, keys, i + 1, containersNumber - i);
+		System.arraycopy(containers, i, containers, i + 1, containersNumber - i);
+		keys[i] = (char) key;
+		containers[i] = container;
+		++containersNumber;
+	}
+
+	private void assertInHalfOpenInterval(int index) {
+		if(index < 0 || index >= size)
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index < size; Actual: index=" + index + ", size=" + size);
+	}
+
+	private void assertCorrectRange(int fromIndex, int toIndex) {
+		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
+					", toIndex=" + toIndex + ')');
+		}
+	}
+
+	private void assertNotNegativeIndex(int index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Expected: index >= 0; Actual: index=" + index);
+		}
+	}
+
+	private static int wordsNumber(ReadableBits bits) {
+		return Math.max(1, (bits.size() + 63) >>> 6);
+	}
+
+	private static int chunksNumber(ReadableBits bits) {
+		return (int) (((long) bits.size() + CHUNK_BITS - 1) >>> 16);
+	}
+
+	private static int nextChunk(ReadableBits bits, int key) {
+		if(bits instanceof CompressedBits compressed) {
+			int i = compressed.containerIndex(key);
+			if(i < 0) i = -i - 1;
+			return i < compressed.containersNumber ? compressed.keys[i] : -1;
+		}
+		return key < chunksNumber(bits) ? key : -1;
+	}
+
+	private static Container chunkContainer(ReadableBits bits, int key) {
+		if(bits instanceof CompressedBits compressed) {
+			int i = compressed.containerIndex(key);
+			return i >= 0 ? compressed.containers[i] : null;
+		}
+
+		int firstWordIndex = key << 10;
+		int wordsNumber = Math.min(CHUNK_WORDS, wordsNumber(bits) - firstWordIndex);
+		if(wordsNumber <= 0) return null;
+
+		long[] words = new long[CHUNK_WORDS];
+		for(int w = 0; w < wordsNumber; ++w) words[w] = bits.getWord(firstWordIndex + w);
+		return fromBitmap(words);
+	}
+
+	private static Container and(Container container, Container other) {
+		if(container instanceof ArrayContainer array) return array.filter(other, true);
+		if(other instanceof ArrayContainer array) return array.filter(container, true);
+
+		long[] words = container.toBitmap();
+		long[] otherWords = other.toBitmap();
+		for(int w = 0; w < CHUNK_WORDS; ++w) words[w] &= otherWords[w];
+		return fromBitmap(words);
+	}
+
+	private static Container andNot(Container container, Container other) {
+		if(container instanceof ArrayContainer array) return array.filter(other, false);
+
+		long[] words = container.toBitmap();
+		long[] otherWords = other.toBitmap();
+		for(int w = 0; w < CHUNK_WORDS; ++w) words[w] &= ~otherWords[w];
+		return fromBitmap(words);
+	}
+
+	private static Container or(Container container, Container other) {
+		long[] words = container.toBitmap();
+		long[] otherWords = other.toBitmap();
+		for(int w = 0; w < CHUNK_WORDS; ++w) words[w] |= otherWords[w];
+		return fromBitmap(words);
+	}
+
+	private static Container xor(Container container, Container other) {
+		long[] words = container.toBitmap();
+		long[] otherWords = other.toBitmap();
+		for(int w = 0; w < CHUNK_WORDS; ++w) words[w] ^= otherWords[w];
+		return fromBitmap(words);
+	}
+
+	private static Container fromBitmap(long[] words) {
+		int cardinality = 0;
+		int runsNumber = 0;
+		long carry = 0L;
+		for(long word : words) {
+			cardinality += Long.bitCount(word);
+			runsNumber += Long.bitCount(word & ~(word << 1 | carry));
+			carry = word >>> 63;
+		}
+
+		if(cardinality == 0) return null;
+		if(runsNumber * 4 < Math.min(cardinality * 2, CHUNK_WORDS * 8)) {
+			return RunContainer.fromBitmap(words, runsNumber, cardinality);
+		}
+		if(cardinality <= ARRAY_MAX_CARDINALITY) return ArrayContainer.fromBitmap(words, cardinality);
+		return new BitmapContainer(words, cardinality);
+	}
+
+	private static long rangeMask(int wordIndex, int fromIndex, int toIndex) {
+		long mask = -1L;
+		if(wordIndex == fromIndex >>> 6) mask &= -1L << fromIndex;
+		if(wordIndex == (toIndex - 1) >>> 6) mask &= -1L >>> -toIndex;
+		return mask;
+	}
+
+	private static int nextSetBit(long[] words, int fromIndex) {
+		int wordIndex = fromIndex >>> 6;
+		long word = words[wordIndex] & (-1L << fromIndex);
+		while(word == 0L) {
+			if(++wordIndex == CHUNK_WORDS) return -1;
+			word = words[wordIndex];
+		}
+		return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	private static int nextClearBit(long[] words, int fromIndex) {
+		int wordIndex = fromIndex >>> 6;
+		long word = ~words[wordIndex] & (-1L << fromIndex);
+		while(word == 0L) {
+			if(++wordIndex == CHUNK_WORDS) return CHUNK_BITS;
+			word = ~words[wordIndex];
+		}
+		return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+
+	private static abstract class Container {
+
+		abstract boolean contains(int low);
+
+		abstract Container add(int low);
+
+		abstract Container remove(int low);
+
+		abstract int cardinality();
+
+		abstract int nextSetBit(int fromLow);
+
+		abstract int nextClearBit(int fromLow);
+
+		abstract int last();
+
+		abstract long word(int wordIndex);
+
+		abstract long[] toBitmap();
+
+		abstract Container copy();
+
+		abstract void forEachNonZeroWord(int firstWordIndex, LongIndexBiConsumer action);
+	}
+
+	private static final class ArrayContainer extends Container {
+
+		static ArrayContainer fromBitmap(long[] words, int cardinality) {
+			char[] values = new char[cardinality];
+			int valuesNumber = 0;
+			for(int w = 0; w < CHUNK_WORDS; ++w) {
+				for(long word = words[w]; word != 0L; word &= word - 1) {
+					values[valuesNumber++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+				}
+			}
+			return new ArrayContainer(values, cardinality);
+		}
+
+		private char[] values;
+		private int cardinality;
+
+		ArrayContainer(char[] values, int cardinality) {
+			this.values = values;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		boolean contains(int low) {
+			return Arrays.binarySearch(values, 0, cardinality, (char) low) >= 0;
+		}
+
+		@Override
+		Container add(int low) {
+			int position = Arrays.binarySearch(values, 0, cardinality, (char) low);
+			if(position >= 0) return this;
+			if(cardinality == ARRAY_MAX_CARDINALITY) {
+				long[] words = toBitmap();
+				words[low >>> 6] |= 1L << low;
+				return new BitmapContainer(words, cardinality + 1);
+			}
+
+			position = -position - 1;
+			if(cardinality == values.length) {
+				values = Arrays.copyOf(values, Math.min(ARRAY_MAX_CARDINALITY, Math.max(4, cardinality * 2)));
+			}
+			System.arraycopy(values, position, values, position + 1, cardinality - position);
+			values[position] = (char) low;
+			++cardinality;
+			return this;
+		}
+
+		@Override
+		Container remove(int low) {
+			int position = Arrays.binarySearch(values, 0, cardinality, (char) low);
+			if(position >= 0) {
+				System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+				--cardinality;
+			}
+			return this;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		int nextSetBit(int fromLow) {
+			int position = lowerBound(fromLow);
+			return position < cardinality ? values[position] : -1;
+		}
+
+		@Override
+		int nextClearBit(int fromLow) {
+			int position = lowerBound(fromLow);
+			while(position < cardinality && values[position] == fromLow) {
+				++position;
+				++fromLow;
+			}
+			return fromLow;
+		}
+
+		@Override
+		int last() {
+			return values[cardinality - 1];
+		}
+
+		@Override
+		long word(int wordIndex) {
+			int firstLow = wordIndex << 6;
+			long result = 0L;
+			for(int i = lowerBound(firstLow); i < cardinality && values[i] < firstLow + 64; ++i) result |= 1L << values[i];
+			return result;
+		}
+
+		@Override
+		long[] toBitmap() {
+			long[] words = new long[CHUNK_WORDS];
+			for(int i = 0; i < cardinality; ++i) words[values[i] >>> 6] |= 1L << values[i];
+			return words;
+		}
+
+		@Override
+		Container copy() {
+			return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+		}
+
+		@Override
+		void forEachNonZeroWord(int firstWordIndex, LongIndexBiConsumer action) {
+			int i = 0;
+			while(i < cardinality) {
+				int wordIndex = values[i] >>> 6;
+				long word = 0L;
+				for(; i < cardinality && values[i] >>> 6 == wordIndex; ++i) word |= 1L << values[i];
+				action.accept(word, firstWordIndex + wordIndex);
+			}
+		}
+
+		ArrayContainer filter(Container other, boolean isContained) {
+			char[] result = new char[cardinality];
+			int resultNumber = 0;
+			for(int i = 0; i < cardinality; ++i) {
+				if(other.contains(values[i]) == isContained) result[resultNumber++] = values[i];
+			}
+			return resultNumber == 0 ? null : new ArrayContainer(result, resultNumber);
+		}
+
+		private int lowerBound(int low) {
+			int position = Arrays.binarySearch(values, 0, cardinality, (char) low);
+			return position >= 0 ? position : -position - 1;
+		}
+	}
+
+	private static final class BitmapContainer extends Container {
+
+		private final long[] words;
+		private int cardinality;
+
+		BitmapContainer(long[] words, int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		boolean contains(int low) {
+			return (words[low >>> 6] & (1L << low)) != 0L;
+		}
+
+		@Override
+		Container add(int low) {
+			if(!contains(low)) {
+				words[low >>> 6] |= 1L << low;
+				++cardinality;
+			}
+			return this;
+		}
+
+		@Override
+		Container remove(int low) {
+			if(contains(low)) {
+				words[low >>> 6] &= ~(1L << low);
+				if(--cardinality <= ARRAY_MAX_CARDINALITY) return ArrayContainer.fromBitmap(words, cardinality);
+			}
+			return this;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		int nextSetBit(int fromLow) {
+			return CompressedBits.nextSetBit(words, fromLow);
+		}
+
+		@Override
+		int nextClearBit(int fromLow) {
+			return CompressedBits.nextClearBit(words, fromLow);
+		}
+
+		@Override
+		int last() {
+			int wordIndex = CHUNK_WORDS - 1;
+			while(words[wordIndex] == 0L) --wordIndex;
+			return (wordIndex << 6) + 63 - Long.numberOfLeadingZeros(words[wordIndex]);
+		}
+
+		@Override
+		long word(int wordIndex) {
+			return words[wordIndex];
+		}
+
+		@Override
+		long[] toBitmap() {
+			return words.clone();
+		}
+
+		@Override
+		Container copy() {
+			return new BitmapContainer(words.clone(), cardinality);
+		}
+
+		@Override
+		void forEachNonZeroWord(int firstWordIndex, LongIndexBiConsumer action) {
+			for(int w = 0; w < CHUNK_WORDS; ++w) {
+				if(words[w] != 0L) action.accept(words[w], firstWordIndex + w);
+			}
+		}
+	}
+
+	private static final class RunContainer extends Container {
+
+		static RunContainer full() {
+			return new RunContainer(new char[]{0, (char) (CHUNK_BITS - 1)}, 1, CHUNK_BITS);
+		}
+
+		static RunContainer fromBitmap(long[] words, int runsNumber, int cardinality) {
+			char[] runs = new char[runsNumber * 2];
+			int run = 0;
+			for(int start = CompressedBits.nextSetBit(words, 0); start != -1; ) {
+				int end = CompressedBits.nextClearBit(words, start);
+				runs[run++] = (char) start;
+				runs[run++] = (char) (end - 1);
+				start = end < CHUNK_BITS ? CompressedBits.nextSetBit(words, end) : -1;
+			}
+			return new RunContainer(runs, runsNumber, cardinality);
+		}
+
+		private char[] runs;
+		private int runsNumber;
+		private int cardinality;
+
+		RunContainer(char[] runs, int runsNumber, int cardinality) {
+			this.runs = runs;
+			this.runsNumber = runsNumber;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		boolean contains(int low) {
+			int run = runIndex(low);
+			return run >= 0 && low <= runs[run * 2 + 1];
+		}
+
+		@Override
+		Container add(int low) {
+			int run = runIndex(low);
+			if(run >= 0 && low <= runs[run * 2 + 1]) return this;
+
+			boolean extendsPrevious = run >= 0 && runs[run * 2 + 1] + 1 == low;
+			boolean extendsNext = run + 1 < runsNumber && runs[(run + 1) * 2] == low + 1;
+			if(extendsPrevious && extendsNext) {
+				runs[run * 2 + 1] = runs[(run + 1) * 2 + 1];
+				removeRun(run + 1);
+			} else if(extendsPrevious) {
+				runs[run * 2 + 1] = (char) low;
+			} else if(extendsNext) {
+				runs[(run + 1) * 2] = (char) low;
+			} else {
+				insertRun(run + 1, low, low);
+			}
+			++cardinality;
+			return runsNumber > RUN_MAX_NUMBER ? CompressedBits.fromBitmap(toBitmap()) : this;
+		}
+
+		@Override
+		Container remove(int low) {
+			int run = runIndex(low);
+			if(run < 0 || low > runs[run * 2 + 1]) return this;
+
+			int start = runs[run * 2];
+			int last = runs[run * 2 + 1];
+			if(start == last) {
+				removeRun(run);
+			} else if(low == start) {
+				runs[run * 2] = (char) (low + 1);
+			} else if(low == last) {
+				runs[run * 2 + 1] = (char) (low - 1);
+			} else {
+				runs[run * 2 + 1] = (char) (low - 1);
+				insertRun(run + 1, low + 1, last);
+			}
+			--cardinality;
+			return runsNumber > RUN_MAX_NUMBER ? CompressedBits.fromBitmap(toBitmap()) : this;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		int nextSetBit(int fromLow) {
+			int run = runIndex(fromLow);
+			if(run >= 0 && fromLow <= runs[run * 2 + 1]) return fromLow;
+			return run + 1 < runsNumber ? runs[(run + 1) * 2] : -1;
+		}
+
+		@Override
+		int nextClearBit(int fromLow) {
+			int run = runIndex(fromLow);
+			return run >= 0 && fromLow <= runs[run * 2 + 1] ? runs[run * 2 + 1] + 1 : fromLow;
+		}
+
+		@Override
+		int last() {
+			return runs[runsNumber * 2 - 1];
+		}
+
+		@Override
+		long word(int wordIndex) {
+			int firstLow = wordIndex << 6;
+			int lastLow = firstLow + 63;
+			long result = 0L;
+			for(int run = runIndex(lastLow); run >= 0 && runs[run * 2 + 1] >= firstLow; --run) {
+				int from = Math.max(runs[run * 2], firstLow) - firstLow;
+				int to = Math.min(runs[run * 2 + 1], lastLow) - firstLow;
+				result |= (-1L >>> (63 - to)) & (-1L << from);
+			}
+			return result;
+		}
+
+		@Override
+		long[] toBitmap() {
+			long[] words = new long[CHUNK_WORDS];
+			for(int run = 0; run < runsNumber; ++run) {
+				int from = runs[run * 2];
+				int to = runs[run * 2 + 1] + 1;
+				for(int w = from >>> 6; w <= (to - 1) >>> 6; ++w) words[w] |= rangeMask(w, from, to);
+			}
+			return words;
+		}
+
+		@Override
+		Container copy() {
+			return new RunContainer(Arrays.copyOf(runs, runsNumber * 2), runsNumber, cardinality);
+		}
+
+		@Override
+		void forEachNonZeroWord(int firstWordIndex, LongIndexBiConsumer action) {
+			long[] words = toBitmap();
+			for(int w = 0; w < CHUNK_WORDS; ++w) {
+				if(words[w] != 0L) action.accept(words[w], firstWordIndex + w);
+			}
+		}
+
+		private int runIndex(int low) {
+			int from = 0;
+			int to = runsNumber - 1;
+			while(from <= to) {
+				int middle = (from + to) >>> 1;
+				if(runs[middle * 2] <= low) from = middle + 1;
+				else to = middle - 1;
+			}
+			return to;
+		}
+
+		private void insertRun(int run, int start, int last) {
+			if(runsNumber * 2 == runs.length) runs = Arrays.copyOf(runs, Math.max(4, runs.length * 2));
+			System.arraycopy(runs, run * 2, runs, run * 2 + 2, (runsNumber - run) * 2);
+			runs[run * 2] = (char) start;
+			runs[run * 2 + 1] = (char) last;
+			++runsNumber;
+		}
+
+		private void removeRun(int run) {
+			System.arraycopy(runs, run * 2 + 2, runs, run * 2, (runsNumber - run - 1) * 2);
+			--runsNumber;
+		}
+	}
+}
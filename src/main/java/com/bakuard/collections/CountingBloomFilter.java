@@ -0,0 +1,235 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>Фильтр Блума со счетчиками вместо бит, поддерживающий удаление элементов. Каждой позиции фильтра
+ * соответствует 4-битный счетчик, который увеличивается при добавлении элемента и уменьшается при его удалении.
+ * Метод {@link #mightContain(Object)} проверяет, что все счетчики элемента больше нуля.</p>
+ *
+ * <p>Расчет кол-ва счетчиков и хеш-функций, а также вычисление индексов счетчиков выполняются так же, как у
+ * {@link BloomFilter}. Поэтому метод {@link #toBloomFilter()} возвращает обычный фильтр Блума, совместимый с
+ * фильтром, созданным с теми же параметрами, и, например, пригодный для объединения или сохранения.</p>
+ *
+ * <p>Счетчик, достигший значения 15, больше не изменяется ни при добавлении, ни при удалении элементов, чтобы
+ * удаление не приводило к ложноотрицательным результатам. Удаление элемента, который не добавлялся в фильтр (но для
+ * которого {@link #mightContain(Object)} возвращает true), может привести к ложноотрицательным результатам для
+ * других элементов.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ *
+ * @param <T> тип элементов, добавляемых в фильтр.
+ */
+public final class CountingBloomFilter<T> {
+
+	private static final int MAX_COUNTER = 15;
+	private static final long NIBBLE_LOW_BITS = 0x1111111111111111L;
+
+
+	private final long[] counters;
+	private final int numberCounters;
+	private final int numberHashFunctions;
+	private final ToLongFunction<? super T> hashFunction;
+
+	/**
+	 * Создает пустой фильтр, рассчитанный на указанное кол-во элементов и вероятность ложноположительного
+	 * результата. 64-битный хеш элементов вычисляется перемешиванием {@link Object#hashCode()}.
+	 * @param expectedInsertions ожидаемое кол-во добавляемых элементов.
+	 * @param falsePositiveRate допустимая вероятность ложноположительного результата.
+	 * @throws NegativeSizeException если expectedInsertions меньше нуля.
+	 * @throws IllegalArgumentException если не выполняется условие
+	 *                                  {@code falsePositiveRate > 0 && falsePositiveRate < 1} или для фильтра
+	 *                                  требуется больше {@link Integer#MAX_VALUE} счетчиков.
+	 */
+	public CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+		this(expectedInsertions, falsePositiveRate, Objects::hashCode);
+	}
+
+	/**
+	 * Создает пустой фильтр, рассчитанный на указанное кол-во элементов и вероятность ложноположительного
+	 * результата.
+	 * @param expectedInsertions ожидаемое кол-во добавляемых элементов.
+	 * @param falsePositiveRate допустимая вероятность ложноположительного результата.
+	 * @param hashFunction функция, вычисляющая 64-битный хеш элемента.
+	 * @throws NullPointerException если hashFunction равен null.
+	 * @throws NegativeSizeException если expectedInsertions меньше нуля.
+	 * @throws IllegalArgumentException если не выполняется условие
+	 *                                  {@code falsePositiveRate > 0 && falsePositiveRate < 1} или для фильтра
+	 *                                  требуется больше {@link Integer#MAX_VALUE} счетчиков.
+	 */
+	public CountingBloomFilter(int expectedInsertions,
+	                           double falsePositiveRate,
+	                           ToLongFunction<? super T> hashFunction) {
+		this.numberCounters = BloomFilter.optimalNumberBits(expectedInsertions, falsePositiveRate);
+		this.numberHashFunctions = BloomFilter.optimalNumberHashFunctions(expectedInsertions, numberCounters);
+		this.hashFunction = Objects.requireNonNull(hashFunction);
+		this.counters = new long[(int) ((numberCounters + 15L) >>> 4)];
+	}
+
+	/**
+	 * Создает точную копию переданного фильтра.
+	 * @param other фильтр, для которого создается копия.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public CountingBloomFilter(CountingBloomFilter<T> other) {
+		this.numberCounters = other.numberCounters;
+		this.numberHashFunctions = other.numberHashFunctions;
+		this.hashFunction = other.hashFunction;
+		this.counters = other.counters.clone();
+	}
+
+	/**
+	 * Добавляет элемент в фильтр, увеличивая все его счетчики на единицу.
+	 * @param value добавляемый элемент.
+	 * @return true - если до добавления хотя бы один счетчик элемента был равен нулю (т.е. элемент точно не
+	 *         содержался в фильтре), иначе - false.
+	 */
+	public boolean put(T value) {
+		long hash = BloomFilter.mix(hashFunction.applyAsLong(value));
+		boolean changed = false;
+		for(int i = 0; i < numberHashFunctions; ++i) {
+			int index = BloomFilter.index(hash, i, numberCounters);
+			int counter = counter(index);
+			changed |= counter == 0;
+			if(counter < MAX_COUNTER) counters[index >>> 4] += 1L << shift(index);
+		}
+		return changed;
+	}
+
+	/**
+	 * Добавляет в фильтр все элементы указанного массива.
+	 * @param values добавляемые элементы.
+	 * @return true - если хотя бы один из элементов точно не содержался в фильтре до добавления, иначе - false.
+	 * @throws NullPointerException если values равен null.
+	 */
+	public boolean putAll(T... values) {
+		boolean changed = false;
+		for(T value : values) changed |= put(value);
+		return changed;
+	}
+
+	/**
+	 * Добавляет в фильтр все элементы указанной последовательности.
+	 * @param values добавляемые элементы.
+	 * @return true - если хотя бы один из элементов точно не содержался в фильтре до добавления, иначе - false.
+	 * @throws NullPointerException если values равен null.
+	 */
+	public boolean putAll(Iterable<? extends T> values) {
+		boolean changed = false;
+		for(T value : values) changed |= put(value);
+		return changed;
+	}
+
+	/**
+	 * Удаляет элемент из фильтра, уменьшая все его счетчики на единицу. Если элемент точно не содержится в
+	 * фильтре ({@link #mightContain(Object)} возвращает false), то метод ничего не изменяет.
+	 * @param value удаляемый элемент.
+	 * @return true - если счетчики элемента были уменьшены, иначе - false.
+	 */
+	public boolean remove(T value) {
+		if(!mightContain(value)) return false;
+
+		long hash = BloomFilter.mix(hashFunction.applyAsLong(value));
+		for(int i = 0; i < numberHashFunctions; ++i) {
+			int index = BloomFilter.index(hash, i, numberCounters);
+			int counter = counter(index);
+			if(counter > 0 && counter < MAX_COUNTER) counters[index >>> 4] -= 1L << shift(index);
+		}
+		return true;
+	}
+
+	/**
+	 * Проверяет - мог ли указанный элемент быть добавлен в фильтр и не удален из него.
+	 * @param value проверяемый элемент.
+	 * @return false - если элемент точно не содержится в фильтре, true - если элемент, вероятно, содержится.
+	 */
+	public boolean mightContain(T value) {
+		long hash = BloomFilter.mix(hashFunction.applyAsLong(value));
+		boolean result = true;
+		for(int i = 0; i < numberHashFunctions && result; ++i) {
+			result = counter(BloomFilter.index(hash, i, numberCounters)) > 0;
+		}
+		return result;
+	}
+
+	/**
+	 * Удаляет из фильтра все элементы.
+	 * @return ссылку на этот же объект.
+	 */
+	public CountingBloomFilter<T> clear() {
+		Arrays.fill(counters, 0L);
+		return this;
+	}
+
+	/**
+	 * Возвращает кол-во счетчиков фильтра.
+	 */
+	public int numberCounters() {
+		return numberCounters;
+	}
+
+	/**
+	 * Возвращает кол-во хеш-функций (кол-во счетчиков, изменяемых для каждого элемента).
+	 */
+	public int numberHashFunctions() {
+		return numberHashFunctions;
+	}
+
+	/**
+	 * Создает обычный фильтр Блума с той же хеш-функцией, бит которого установлен в единицу тогда и только тогда,
+	 * когда соответствующий ему счетчик больше нуля. Последующие изменения текущего фильтра не отражаются на
+	 * возвращаемом объекте.
+	 * @return новый объект BloomFilter.
+	 */
+	public BloomFilter<T> toBloomFilter() {
+		long[] words = new long[(int) ((numberCounters + 63L) >>> 6)];
+		for(int i = 0; i < counters.length; ++i) {
+			long nonZero = counters[i] | (counters[i] >>> 1);
+			nonZero |= nonZero >>> 2;
+			words[i >>> 2] |= Long.compress(nonZero, NIBBLE_LOW_BITS) << ((i & 3) << 4);
+		}
+		return new BloomFilter<>(Bits.wrap(words, numberCounters), numberHashFunctions, hashFunction);
+	}
+
+	/**
+	 * Два фильтра считаются одинаковыми, если у них совпадают кол-во хеш-функций и значения всех счетчиков.
+	 * Хеш-функции при сравнении не учитываются.
+	 * @param other объект, с которым производится сравнение.
+	 * @return true - если фильтры равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		CountingBloomFilter<?> otherFilter = (CountingBloomFilter<?>) other;
+		return numberCounters == otherFilter.numberCounters &&
+				numberHashFunctions == otherFilter.numberHashFunctions &&
+				Arrays.equals(counters, otherFilter.counters);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Arrays.hashCode(counters);
+		result = result * 31 + numberCounters;
+		return result * 31 + numberHashFunctions;
+	}
+
+	@Override
+	public String toString() {
+		return "CountingBloomFilter{numberCounters=" + numberCounters +
+				", numberHashFunctions=" + numberHashFunctions + '}';
+	}
+
+
+	private int counter(int index) {
+		return (int) (counters[index >>> 4] >>> shift(index)) & MAX_COUNTER;
+	}
+
+	private static int shift(int index) {
+		return (index & 15) << 2;
+	}
+}
@@ -1,5 +1,6 @@
 package com.bakuard.collections;
 
+import com.bakuard.collections.exception.MaxSizeExceededException;
 import com.bakuard.collections.function.IndexBiFunction;
 import com.bakuard.collections.function.IndexBiPredicate;
 
@@ -8,6 +9,12 @@ import java.util.NoSuchElementException;
 
 /**
  * <p>Реализация динамической двусторонней очереди с объектами произвольного типа.</p>
+ *
+ * <p>Емкость внутреннего массива двусторонней очереди всегда является степенью двойки. Это позволяет вычислять позицию
+ * элемента во внутреннем массиве битовой маской, а не операцией взятия остатка от деления. Поэтому длина
+ * двусторонней очереди не может превышать {@code 2^30 - 1} элементов: попытка добавить элемент в двустороннюю
+ * очередь такой длины выбрасывает {@link MaxSizeExceededException}.</p>
+ *
  * <p>Данный класс не является потокобезопасным.</p>
  */
 public final class Deque<T> extends Queue<T> {
@@ -22,6 +29,7 @@ public final class Deque<T> extends Queue<T> {
 	 *
 	 * @param data элементы, включаемые в создаваемую двустороннюю очередь.
 	 * @throws NullPointerException если передаваемый массив элементов равен null.
+	 * @throws MaxSizeExceededException если итоговая длина двусторонней очереди больше или равна {@code 2^30}.
 	 */
 	public static <T> Deque<T> of(T... data) {
 		if(data == null) throw new NullPointerException("data[] can not be null.");
@@ -31,7 +39,7 @@ public final class Deque<T> extends Queue<T> {
 		return deque;
 	}
 
-	private static final int MIN_CAPACITY = 10;
+	private static final int MIN_CAPACITY = 16;
 
 
 	/**
@@ -56,6 +64,7 @@ public final class Deque<T> extends Queue<T> {
 	 * Создает новую двустороннюю очередь, копируя в неё все элементы iterable в порядке их возвращения итератором.
 	 * @param iterable структура данных, элементы которой копируются в новую двустороннюю очередь.
 	 * @throws NullPointerException если iterable равен null.
+	 * @throws MaxSizeExceededException если итоговая длина двусторонней очереди больше или равна {@code 2^30}.
 	 */
 	public Deque(Iterable<T> iterable) {
 		this();
@@ -64,8 +73,7 @@ public final class Deque<T> extends Queue<T> {
 
 	@SuppressWarnings("unchecked")
 	private Deque(int size) {
-		int capacity = Math.max(calculateCapacity(size), MIN_CAPACITY);
-		this.values = (T[]) new Object[calculateCapacity(capacity)];
+		this.values = (T[]) new Object[calculateCapacity(Math.max(size, MIN_CAPACITY - 1))];
 		this.lastItemIndex = size;
 	}
 
@@ -73,13 +81,14 @@ public final class Deque<T> extends Queue<T> {
 	 * Добавляет элемент в начало двусторонней очереди увеличивая его длину ({@link #size()}) на единицу.
 	 * Добавляемый элемент может иметь значение null.
 	 * @param value добавляемый элемент.
+	 * @throws MaxSizeExceededException если итоговая длина двусторонней очереди больше или равна {@code 2^30}.
 	 */
 	public void addFirst(T value) {
 		++actualModCount;
 
 		int currentSize = size();
 		grow(currentSize, currentSize + 1);
-		firstItemIndex = firstItemIndex - 1 >= 0 ? firstItemIndex - 1 : values.length - 1;
+		firstItemIndex = (firstItemIndex - 1) & (values.length - 1);
 		values[firstItemIndex] = value;
 	}
 
@@ -88,6 +97,7 @@ public final class Deque<T> extends Queue<T> {
 	 * Элементы добавляются в порядке их возвращения итератором.
 	 * @param iterable структура данных, все элементы которого добавляются в текущую двустороннюю очередь.
 	 * @throws NullPointerException если iterable равен null.
+	 * @throws MaxSizeExceededException если итоговая длина двусторонней очереди больше или равна {@code 2^30}.
 	 */
 	public void addAllOnFirst(Iterable<T> iterable) {
 		++actualModCount;
@@ -98,7 +108,7 @@ public final class Deque<T> extends Queue<T> {
 		int currentSize = size();
 		grow(currentSize, currentSize + stack.size());
 		while(!stack.isEmpty()) {
-			firstItemIndex = firstItemIndex - 1 >= 0 ? firstItemIndex - 1 : values.length - 1;
+			firstItemIndex = (firstItemIndex - 1) & (values.length - 1);
 			values[firstItemIndex] = stack.removeLast();
 		}
 	}
@@ -108,6 +118,7 @@ public final class Deque<T> extends Queue<T> {
 	 * их следования в массиве.
 	 * @param data массив, все элементы которого добавляются в текущую двустороннюю очередь.
 	 * @throws NullPointerException если передаваемый массив элементов равен null.
+	 * @throws MaxSizeExceededException если итоговая длина двусторонней очереди больше или равна {@code 2^30}.
 	 */
 	public void addAllOnFirst(T... data) {
 		++actualModCount;
@@ -115,7 +126,7 @@ public final class Deque<T> extends Queue<T> {
 		int currentSize = size();
 		grow(currentSize, currentSize + data.length);
 		for(int i = data.length - 1; i >= 0; --i) {
-			firstItemIndex = firstItemIndex - 1 >= 0 ? firstItemIndex - 1 : values.length - 1;
+			firstItemIndex = (firstItemIndex - 1) & (values.length - 1);
 			values[firstItemIndex] = data[i];
 		}
 	}
@@ -133,7 +144,7 @@ public final class Deque<T> extends Queue<T> {
 
 		T result = null;
 		if(!isEmpty()) {
-			lastItemIndex = lastItemIndex - 1 >= 0 ? lastItemIndex - 1 : values.length - 1;
+			lastItemIndex = (lastItemIndex - 1) & (values.length - 1);
 			result = values[lastItemIndex];
 			values[lastItemIndex] = null;
 		}
@@ -341,7 +341,11 @@ public final class DynamicArray<T> implements ReadableLinearStructure<T> {
 	}
 
 	/**
-	 * Удаляет все элементы массива, удовлетворяющие заданному предикату.
+	 * <p>Удаляет все элементы массива, удовлетворяющие заданному предикату. Порядок оставшихся элементов сохраняется.</p>
+	 *
+	 * <p>Предикату передается индекс, который элемент имел до вызова этого метода. Удаление выполняется за один
+	 * проход по массиву, независимо от кол-ва удаляемых элементов.</p>
+	 *
 	 * @param predicate проверяет, нужно ли удалять элемент. Вызывается для
 	 *                  каждого элемента массива.
 	 * @return кол-во удаленных элементов.
@@ -349,17 +353,57 @@ public final class DynamicArray<T> implements ReadableLinearStructure<T> {
 	 * @throws NullPointerException если predicate равен null.
 	 */
 	public int removeIf(IndexBiPredicate<T> predicate) {
-		final int EXPECTED_COUNT_MOD = ++actualModCount;
+		return batchRemove(predicate, true);
+	}
 
-		int result = 0;
-		for(int i = size - 1; i >= 0; --i) {
-			if(predicate.test(values[i], i)) {
-				orderedRemoveAtUncheckedIndex(i);
-				++result;
-			}
-			if(EXPECTED_COUNT_MOD != actualModCount) throw new ConcurrentModificationException();
+	/**
+	 * <p>Удаляет все элементы массива, НЕ удовлетворяющие заданному предикату. Порядок оставшихся элементов
+	 * сохраняется.</p>
+	 *
+	 * <p>Предикату передается индекс, который элемент имел до вызова этого метода. Удаление выполняется за один
+	 * проход по массиву, независимо от кол-ва удаляемых элементов.</p>
+	 *
+	 * @param predicate проверяет, нужно ли оставить элемент. Вызывается для
+	 *                  каждого элемента массива.
+	 * @return кол-во удаленных элементов.
+	 * @throws ConcurrentModificationException при попытке изменить массив из predicate.
+	 * @throws NullPointerException если predicate равен null.
+	 */
+	public int retainIf(IndexBiPredicate<T> predicate) {
+		return batchRemove(predicate, false);
+	}
+
+	/**
+	 * <p>Удаляет все элементы в диапазоне [fromIndex, toIndex). Все элементы, индекс которых больше или равен toIndex,
+	 * сдвигаются вниз на {@code toIndex - fromIndex} позиций. В случае если {@code fromIndex == toIndex}, метод
+	 * не делает никаких изменений.</p>
+	 *
+	 * <p>Данный метод не уменьшает емкость внутреннего хранилища. Если вам необходимо уменьшить объем памяти занимаемый
+	 * данным объектом {@link DynamicArray}, используйте метод {@link #trimToSize()}.</p>
+	 *
+	 * @param fromIndex индекс первого удаляемого элемента.
+	 * @param toIndex индекс, следующий за индексом последнего удаляемого элемента.
+	 * @throws IndexOutOfBoundsException генерируется в одном из следующих случаев:
+	 *                                   <ol>
+	 *                                       <li>Если {@code fromIndex > toIndex}</li>
+	 *                                       <li>Если {@code fromIndex < 0}</li>
+	 *                                       <li>Если {@code toIndex > } {@link #size()}</li>
+	 *                                   </ol>
+	 */
+	public void removeRange(int fromIndex, int toIndex) {
+		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
+					", toIndex=" + toIndex + "). Actual: size=" + size);
+		}
+
+		++actualModCount;
+
+		if(fromIndex < toIndex) {
+			int oldSize = size;
+			System.arraycopy(values, toIndex, values, fromIndex, oldSize - toIndex);
+			size = oldSize - (toIndex - fromIndex);
+			Arrays.fill(values, size, oldSize, null);
 		}
-		return result;
 	}
 
 	/**
@@ -754,6 +798,30 @@ public final class DynamicArray<T> implements ReadableLinearStructure<T> {
 		return removableItem;
 	}
 
+	private int batchRemove(IndexBiPredicate<T> predicate, boolean removeMatched) {
+		final int EXPECTED_COUNT_MOD = ++actualModCount;
+
+		final int oldSize = size;
+		int readIndex = 0;
+		int writeIndex = 0;
+		try {
+			for(; readIndex < oldSize; ++readIndex) {
+				T item = values[readIndex];
+				boolean matched = predicate.test(item, readIndex);
+				if(EXPECTED_COUNT_MOD != actualModCount) throw new ConcurrentModificationException();
+				if(matched != removeMatched) values[writeIndex++] = item;
+			}
+		} finally {
+			int removedNumber = readIndex - writeIndex;
+			if(removedNumber > 0 && readIndex <= size) {
+				System.arraycopy(values, readIndex, values, writeIndex, size - readIndex);
+				Arrays.fill(values, size - removedNumber, size, null);
+				size -= removedNumber;
+			}
+		}
+		return readIndex - writeIndex;
+	}
+
 	private void swapAtUncheckedIndexes(int firstIndex, int secondIndex) {
 		T first = values[firstIndex];
 		values[firstIndex] = values[secondIndex];
@@ -0,0 +1,198 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Циклический буфер, элементы которого удаляются не только при переполнении (как в
+ * {@link RingBuffer#addLastOrReplace(Object)}), но и по истечении заданного времени жизни. Каждый добавляемый
+ * элемент помечается текущим значением часов в наносекундах. Элемент считается устаревшим, если с момента его
+ * добавления прошло не меньше {@link #timeToLive()}.</p>
+ *
+ * <p>Устаревшие элементы удаляются лениво - при вызове методов {@link #add(Object)}, {@link #size()},
+ * {@link #isEmpty()} и {@link #liveEntries()}, а также явно методом {@link #removeExpired(long)}. Т.к. элементы
+ * добавляются в порядке неубывания их меток времени, устаревшие элементы всегда находятся в начале буфера и
+ * удаляются за время, пропорциональное их кол-ву.</p>
+ *
+ * <p>Часы задаются при создании объекта и по умолчанию равны {@link System#nanoTime()}. Значения, возвращаемые
+ * часами, не должны убывать.</p>
+ *
+ * <p>Для подсчета статистик за последние N секунд при большом потоке событий, когда хранение каждого события
+ * требует слишком много памяти, используйте {@link TimeBucketedAggregator}.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class ExpiringRingBuffer<T> {
+
+	private final RingBuffer<T> values;
+	private final long[] timestamps;
+	private int firstTimestamp;
+	private final long timeToLiveNanos;
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Создает пустой буфер, использующий в качестве часов {@link System#nanoTime()}.
+	 * @param maxSize максимальное кол-во элементов в буфере.
+	 * @param timeToLive время жизни одного элемента.
+	 * @throws NegativeSizeException если {@code maxSize < 0}
+	 * @throws IllegalArgumentException если timeToLive меньше или равен нулю.
+	 * @throws NullPointerException если timeToLive равен null.
+	 */
+	public ExpiringRingBuffer(int maxSize, Duration timeToLive) {
+		this(maxSize, timeToLive, System::nanoTime);
+	}
+
+	/**
+	 * Создает пустой буфер с заданными часами.
+	 * @param maxSize максимальное кол-во элементов в буфере.
+	 * @param timeToLive время жизни одного элемента.
+	 * @param nanoClock часы, возвращающие текущее время в наносекундах.
+	 * @throws NegativeSizeException если {@code maxSize < 0}
+	 * @throws IllegalArgumentException если timeToLive меньше или равен нулю.
+	 * @throws NullPointerException если timeToLive или nanoClock равны null.
+	 */
+	public ExpiringRingBuffer(int maxSize, Duration timeToLive, LongSupplier nanoClock) {
+		if(maxSize < 0) {
+			throw new NegativeSizeException("Expected: maxSize >= 0; Actual: maxSize=" + maxSize);
+		}
+		this.timeToLiveNanos = toPositiveNanos(timeToLive, "timeToLive");
+		this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock can not be null.");
+		values = new RingBuffer<>(maxSize);
+		timestamps = new long[maxSize];
+	}
+
+	/**
+	 * Удаляет все устаревшие элементы, после чего добавляет элемент в конец буфера, помечая его текущим временем.
+	 * Если буфер по-прежнему заполнен, то самый старый элемент вытесняется и возвращается в качестве результата.
+	 * Иначе метод возвращает null. Если {@link #maxSize()} {@code == 0}, то метод возвращает добавляемый элемент,
+	 * не изменяя буфер.
+	 * @param value добавляемый элемент.
+	 * @return вытесненный элемент, добавляемый элемент или null (см. описание метода).
+	 */
+	public T add(T value) {
+		long now = nanoClock.getAsLong();
+		removeExpired(now);
+
+		if(values.maxSize() == 0) return value;
+		if(values.hasAvailableSpace()) {
+			timestamps[wrap(firstTimestamp + values.size())] = now;
+		} else {
+			timestamps[firstTimestamp] = now;
+			firstTimestamp = next(firstTimestamp);
+		}
+		return values.addLastOrReplace(value);
+	}
+
+	/**
+	 * Удаляет все элементы, устаревшие на момент времени, возвращаемый часами данного буфера.
+	 * @return кол-во удаленных элементов.
+	 */
+	public int removeExpired() {
+		return removeExpired(nanoClock.getAsLong());
+	}
+
+	/**
+	 * Удаляет все элементы, устаревшие на указанный момент времени, т.е. элементы, с момента добавления которых
+	 * до момента now прошло не меньше {@link #timeToLive()}.
+	 * @param now момент времени в наносекундах в той же шкале, что и часы данного буфера.
+	 * @return кол-во удаленных элементов.
+	 */
+	public int removeExpired(long now) {
+		int removed = 0;
+		while(!values.isEmpty() && now - timestamps[firstTimestamp] >= timeToLiveNanos) {
+			values.removeFirst();
+			firstTimestamp = next(firstTimestamp);
+			++removed;
+		}
+		return removed;
+	}
+
+	/**
+	 * Удаляет все устаревшие элементы и возвращает оставшиеся элементы буфера в порядке их добавления. Возвращаемый
+	 * объект является представлением данного буфера, а не копией: после любого изменения буфера его итераторы
+	 * выбрасывают {@link java.util.ConcurrentModificationException}.
+	 * @return не устаревшие элементы буфера.
+	 */
+	public ReadableLinearStructure<T> liveEntries() {
+		removeExpired();
+		return values;
+	}
+
+	/**
+	 * Возвращает метку времени элемента с указанным индексом в {@link #liveEntries()}. Метод не удаляет устаревшие
+	 * элементы.
+	 * @param index индекс элемента.
+	 * @return время добавления элемента в наносекундах.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index <} кол-ва элементов
+	 *                                   буфера.
+	 */
+	public long timestamp(int index) {
+		if(index < 0 || index >= values.size()) {
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index < size; Actual: index=" + index + ", size=" + values.size());
+		}
+		return timestamps[wrap(firstTimestamp + index)];
+	}
+
+	/**
+	 * Удаляет все устаревшие элементы и возвращает кол-во оставшихся элементов.
+	 */
+	public int size() {
+		removeExpired();
+		return values.size();
+	}
+
+	/**
+	 * Удаляет все устаревшие элементы и проверяет - является ли буфер пустым.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Возвращает максимальное кол-во элементов в буфере.
+	 */
+	public int maxSize() {
+		return values.maxSize();
+	}
+
+	/**
+	 * Возвращает время жизни одного элемента буфера.
+	 */
+	public Duration timeToLive() {
+		return Duration.ofNanos(timeToLiveNanos);
+	}
+
+	/**
+	 * Удаляет все элементы буфера.
+	 */
+	public void clear() {
+		values.clear();
+		firstTimestamp = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "ExpiringRingBuffer{timeToLive=" + timeToLive() + ", values=" + values + '}';
+	}
+
+
+	static long toPositiveNanos(Duration duration, String name) {
+		Objects.requireNonNull(duration, name + " can not be null.");
+		if(duration.isNegative() || duration.isZero()) {
+			throw new IllegalArgumentException("Expected: " + name + " > 0; Actual: " + name + '=' + duration);
+		}
+		return duration.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : duration.toNanos();
+	}
+
+	private int next(int index) {
+		return wrap(index + 1);
+	}
+
+	private int wrap(int index) {
+		return index >= timestamps.length ? index - timestamps.length : index;
+	}
+}
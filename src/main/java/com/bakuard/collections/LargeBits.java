@@ -0,0 +1,749 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.util.Arrays;
+
+/**
+ * <p>Битовый вектор с индексами типа long, размер которого может превышать {@link Integer#MAX_VALUE} бит
+ * (но не более {@link #MAX_SIZE} бит).</p>
+ *
+ * <p>Биты хранятся в страницах - массивах long фиксированного размера по {@value #PAGE_BITS} бит в каждом. Страница
+ * создается только при первой записи единичного бита в соответствующий ей диапазон, поэтому диапазоны, в которые
+ * ни разу не записывались единичные биты, не занимают памяти. Страницы, целиком обнуленные методами
+ * {@link #clearRange(long, long)} и {@link #clearAll()}, освобождаются. Метод {@link #and(LargeBits)} освобождает
+ * только те страницы, для которых у другого операнда нет выделенной страницы.</p>
+ *
+ * <p>Логические операции над двумя объектами LargeBits подчиняются тем же правилам, что и у {@link Bits}: методы
+ * {@link #or(LargeBits)} и {@link #xor(LargeBits)} увеличивают размер текущего объекта до размера другого
+ * операнда, а недостающие биты более короткого операнда считаются равными нулю.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class LargeBits implements Comparable<LargeBits> {
+
+	/**
+	 * Кол-во бит в одной странице.
+	 */
+	public static final int PAGE_BITS = 65536;
+	/**
+	 * Максимально допустимый размер объекта LargeBits в битах.
+	 */
+	public static final long MAX_SIZE = 1L << 46;
+	private static final int PAGE_SHIFT = 16;
+	private static final int PAGE_WORDS = PAGE_BITS / 64;
+	private static final int PAGE_WORDS_SHIFT = 10;
+	private static final long[][] EMPTY_PAGES = {};
+
+	/**
+	 * Создает и возвращает новый объект LargeBits, зарезервированный для хранения указанного кол-ва бит. Все биты,
+	 * индексы которых указаны в массиве indexes, будут установлены в единицу.
+	 * @param numberBits кол-во бит создаваемого объекта.
+	 * @param indexes индексы бит, устанавливаемых в единицу.
+	 * @throws NullPointerException если передаваемый массив indexes равен null.
+	 * @throws NegativeSizeException если numberBits меньше нуля.
+	 * @throws IllegalArgumentException если numberBits больше {@link #MAX_SIZE}.
+	 * @throws IndexOutOfBoundsException если хотя бы для одного из индексов выполняется условие:
+	 *                                   {@code index < 0 || index >= numberBits}
+	 */
+	public static LargeBits of(long numberBits, long... indexes) {
+		LargeBits result = new LargeBits(numberBits);
+		for(long index : indexes) result.set(index);
+		return result;
+	}
+
+	private long[][] pages = EMPTY_PAGES;
+	private long size;
+
+	/**
+	 * Создает пустой объект LargeBits размер которого ({@link #size()}) равен 0.
+	 */
+	public LargeBits() {}
+
+	/**
+	 * Создает объект LargeBits, зарезервированный для хранения указанного кол-ва бит. Значение любого бита после
+	 * вызова этого конструктора будет равняться 0. Память под биты при этом не выделяется.
+	 * @param numberBits кол-во бит создаваемого объекта.
+	 * @throws NegativeSizeException если numberBits меньше нуля.
+	 * @throws IllegalArgumentException если numberBits больше {@link #MAX_SIZE}.
+	 */
+	public LargeBits(long numberBits) {
+		assertCorrectSize(numberBits);
+		size = numberBits;
+		pages = new long[pagesNumber(numberBits)][];
+	}
+
+	/**
+	 * Создает точную копию переданного объекта LargeBits.
+	 * @param other объект, для которого создается копия.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public LargeBits(LargeBits other) {
+		size = other.size;
+		pages = new long[other.pages.length][];
+		for(int i = 0; i < pages.length; ++i) {
+			if(other.pages[i] != null) pages[i] = other.pages[i].clone();
+		}
+	}
+
+	/**
+	 * Возвращает значение бита с указанным индексом.
+	 * @param index индекс бита.
+	 * @return true - если бит установлен в единицу, иначе - false.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public boolean get(long index) {
+		assertInHalfOpenInterval(index);
+		return (word(index >>> 6) & (1L << index)) != 0L;
+	}
+
+	/**
+	 * <p>Возвращает 64 бита, начиная с бита с индексом {@code wordIndex * 64}, в виде одного значения типа long.
+	 * Бит с индексом {@code wordIndex * 64 + i} соответствует i-ому биту возвращаемого значения.</p>
+	 *
+	 * <p>Если {@code wordIndex * 64 >= } {@link #size()}, то метод вернет 0.</p>
+	 *
+	 * @param wordIndex порядковый номер группы из 64 бит.
+	 * @return 64 бита с указанным порядковым номером.
+	 * @throws IndexOutOfBoundsException если {@code wordIndex < 0}.
+	 */
+	public long getWord(long wordIndex) {
+		assertNotNegativeIndex(wordIndex);
+		return wordIndex < (long) pages.length << PAGE_WORDS_SHIFT ? word(wordIndex) : 0L;
+	}
+
+	/**
+	 * Устанавливает бит с указанным индексом в единицу.
+	 * @param index индекс бита, устанавливаемого в единицу.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void set(long index) {
+		assertInHalfOpenInterval(index);
+		long wordIndex = index >>> 6;
+		pageForWrite(pageIndex(wordIndex))[wordInPage(wordIndex)] |= 1L << index;
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в единицу. В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало заполняемого диапазона.
+	 * @param toIndex индекс, задающий конец заполняемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public LargeBits setRange(long fromIndex, long toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		long firstWordIndex = fromIndex >>> 6;
+		long lastWordIndex = (toIndex - 1) >>> 6;
+		for(long wordIndex = firstWordIndex; fromIndex < toIndex && wordIndex <= lastWordIndex; ++wordIndex) {
+			long mask = rangeMask(wordIndex, fromIndex, toIndex);
+			pageForWrite(pageIndex(wordIndex))[wordInPage(wordIndex)] |= mask;
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в единицу, при этом размер объекта не изменяется. Метод выделяет память под все
+	 * страницы объекта.
+	 * @return ссылку на этот же объект.
+	 */
+	public LargeBits setAll() {
+		for(int i = 0; i < pages.length; ++i) Arrays.fill(pageForWrite(i), -1L);
+		clearTail();
+		return this;
+	}
+
+	/**
+	 * Устанавливает бит с указанным индексом в ноль.
+	 * @param index индекс бита, устанавливаемого в ноль.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void clear(long index) {
+		assertInHalfOpenInterval(index);
+		long wordIndex = index >>> 6;
+		long[] page = pages[pageIndex(wordIndex)];
+		if(page != null) page[wordInPage(wordIndex)] &= ~(1L << index);
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в ноль. В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений. Страницы, целиком попадающие в диапазон, освобождаются.
+	 * @param fromIndex индекс, задающий начало очищаемого диапазона.
+	 * @param toIndex индекс, задающий конец очищаемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public LargeBits clearRange(long fromIndex, long toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			int firstPage = (int) (fromIndex >>> PAGE_SHIFT);
+			int lastPage = (int) ((toIndex - 1) >>> PAGE_SHIFT);
+			for(int pageIndex = firstPage; pageIndex <= lastPage; ++pageIndex) {
+				long pageStart = (long) pageIndex << PAGE_SHIFT;
+				long[] page = pages[pageIndex];
+				if(page == null) continue;
+
+				if(fromIndex <= pageStart && toIndex >= pageStart + PAGE_BITS) {
+					pages[pageIndex] = null;
+				} else {
+					long firstWordIndex = Math.max(fromIndex, pageStart) >>> 6;
+					long lastWordIndex = (Math.min(toIndex, pageStart + PAGE_BITS) - 1) >>> 6;
+					for(long wordIndex = firstWordIndex; wordIndex <= lastWordIndex; ++wordIndex) {
+						page[wordInPage(wordIndex)] &= ~rangeMask(wordIndex, fromIndex, toIndex);
+					}
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в ноль и освобождает все страницы, при этом размер объекта не изменяется.
+	 * @return ссылку на этот же объект.
+	 */
+	public LargeBits clearAll() {
+		Arrays.fill(pages, null);
+		return this;
+	}
+
+	/**
+	 * Инвертирует бит под указанным индексом.
+	 * @param index индекс инвертируемого бита.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void flip(long index) {
+		assertInHalfOpenInterval(index);
+		long wordIndex = index >>> 6;
+		pageForWrite(pageIndex(wordIndex))[wordInPage(wordIndex)] ^= 1L << index;
+	}
+
+	/**
+	 * Инвертирует все биты в диапазоне [fromIndex, toIndex). В случае если {@code fromIndex == toIndex}, метод
+	 * не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало инвертируемого диапазона.
+	 * @param toIndex индекс, задающий конец инвертируемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public LargeBits flipRange(long fromIndex, long toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		long firstWordIndex = fromIndex >>> 6;
+		long lastWordIndex = (toIndex - 1) >>> 6;
+		for(long wordIndex = firstWordIndex; fromIndex < toIndex && wordIndex <= lastWordIndex; ++wordIndex) {
+			long mask = rangeMask(wordIndex, fromIndex, toIndex);
+			pageForWrite(pageIndex(wordIndex))[wordInPage(wordIndex)] ^= mask;
+		}
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию пересечения двух множеств и записывает результат в текущий объект.</p>
+	 *
+	 * <p>Если операнды имеют разный размер, то операция выполняется таким образом, как будто недостающие биты
+	 * более короткого операнда заполнены нулями. Страницы текущего объекта, для которых у other нет выделенной
+	 * страницы, освобождаются.</p>
+	 *
+	 * @param other второй операнд операции пересечения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public LargeBits and(LargeBits other) {
+		for(int pageIndex = 0; pageIndex < pages.length; ++pageIndex) {
+			long[] page = pages[pageIndex];
+			if(page == null) continue;
+
+			long[] otherPage = other.page(pageIndex);
+			if(otherPage == null) pages[pageIndex] = null;
+			else for(int i = 0; i < PAGE_WORDS; ++i) page[i] &= otherPage[i];
+		}
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию объединения двух множеств и записывает результат в текущий объект.</p>
+	 *
+	 * <p>Если размер текущего объекта меньше чем other, то его размер увеличивается до размера other. Если же размер
+	 * other меньше, то операция выполняется таким образом, как будто недостающие биты other заполнены нулями.</p>
+	 *
+	 * @param other второй операнд операции объединения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public LargeBits or(LargeBits other) {
+		growToIndexOrDoNothing(other.size - 1);
+		for(int pageIndex = 0; pageIndex < other.pages.length; ++pageIndex) {
+			long[] otherPage = other.pages[pageIndex];
+			if(otherPage == null) continue;
+
+			long[] page = pages[pageIndex];
+			if(page == null) pages[pageIndex] = otherPage.clone();
+			else for(int i = 0; i < PAGE_WORDS; ++i) page[i] |= otherPage[i];
+		}
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию симметричной разности двух множеств и записывает результат в текущий объект.</p>
+	 *
+	 * <p>Если размер текущего объекта меньше чем other, то его размер увеличивается до размера other. Если же размер
+	 * other меньше, то операция выполняется таким образом, как будто недостающие биты other заполнены нулями.</p>
+	 *
+	 * @param other второй операнд для операции xor.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public LargeBits xor(LargeBits other) {
+		growToIndexOrDoNothing(other.size - 1);
+		for(int pageIndex = 0; pageIndex < other.pages.length; ++pageIndex) {
+			long[] otherPage = other.pages[pageIndex];
+			if(otherPage == null) continue;
+
+			long[] page = pages[pageIndex];
+			if(page == null) pages[pageIndex] = otherPage.clone();
+			else for(int i = 0; i < PAGE_WORDS; ++i) page[i] ^= otherPage[i];
+		}
+		return this;
+	}
+
+	/**
+	 * <p>Выполняет операцию вычитания двух множеств и записывает результат в текущий объект.</p>
+	 *
+	 * <p>Если операнды имеют разный размер, то операция выполняется таким образом, как будто недостающие биты более
+	 * короткого операнда заполнены нулями.</p>
+	 *
+	 * @param other второй операнд для операции разности множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public LargeBits andNot(LargeBits other) {
+		for(int pageIndex = 0; pageIndex < pages.length; ++pageIndex) {
+			long[] page = pages[pageIndex];
+			long[] otherPage = other.page(pageIndex);
+			if(page != null && otherPage != null) {
+				for(int i = 0; i < PAGE_WORDS; ++i) page[i] &= ~otherPage[i];
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Выполняет операцию дополнения множества и записывает результат в текущий объект. Метод выделяет память
+	 * под все страницы объекта.
+	 * @return объект, у которого был вызван данный метод.
+	 */
+	public LargeBits not() {
+		for(int pageIndex = 0; pageIndex < pages.length; ++pageIndex) {
+			long[] page = pageForWrite(pageIndex);
+			for(int i = 0; i < PAGE_WORDS; ++i) page[i] = ~page[i];
+		}
+		clearTail();
+		return this;
+	}
+
+	/**
+	 * <p>Увеличивает емкость текущего объекта таким образом, чтобы индекс самого старшего бита был равен index.
+	 * Все старшие биты, добавленные в результате вызова этого метода, будут установлены в 0. Память под новые
+	 * биты при этом не выделяется.</p>
+	 *
+	 * <p>Если {@code index >= 0 && index < } {@link #size()}, то метод ничего не делает.</p>
+	 *
+	 * @param index индекс бита, до которого нужно увеличить емкость текущего объекта.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если index меньше нуля.
+	 * @throws IllegalArgumentException если {@code index >= } {@link #MAX_SIZE}.
+	 */
+	public LargeBits growToIndex(long index) {
+		assertNotNegativeIndex(index);
+		assertCorrectSize(index + 1);
+		growToIndexOrDoNothing(index);
+		return this;
+	}
+
+	/**
+	 * Обрезает текущий объект до указанного кол-ва бит. Если передаваемый аргумент больше или равен текущему
+	 * кол-ву бит - не оказывает никакого эффекта.
+	 * @param newSize кол-во бит, до которого нужно обрезать текущий объект.
+	 * @return ссылку на этот же объект.
+	 * @throws NegativeSizeException если newSize меньше нуля.
+	 * @throws IllegalArgumentException если newSize больше {@link #MAX_SIZE}.
+	 */
+	public LargeBits truncateToSize(long newSize) {
+		assertCorrectSize(newSize);
+
+		if(newSize < size) {
+			size = newSize;
+			pages = Arrays.copyOf(pages, pagesNumber(newSize));
+			clearTail();
+		}
+		return this;
+	}
+
+	/**
+	 * Возвращает кол-во бит, установленных в единицу.
+	 */
+	public long cardinality() {
+		long countBits = 0L;
+		for(long[] page : pages) {
+			if(page != null) {
+				for(long word : page) countBits += Long.bitCount(word);
+			}
+		}
+		return countBits;
+	}
+
+	/**
+	 * Возвращает индекс самого старшего бита установленного в единицу. Если все биты установлены в ноль,
+	 * возвращает -1.
+	 */
+	public long getHighBitIndex() {
+		for(int pageIndex = pages.length - 1; pageIndex >= 0; --pageIndex) {
+			long[] page = pages[pageIndex];
+			if(page == null) continue;
+
+			for(int i = PAGE_WORDS - 1; i >= 0; --i) {
+				if(page[i] != 0L) return wordStart(pageIndex, i) + (63 - Long.numberOfLeadingZeros(page[i]));
+			}
+		}
+		return -1L;
+	}
+
+	/**
+	 * Проверяет - установлены ли все биты в ноль.
+	 */
+	public boolean isClear() {
+		for(long[] page : pages) {
+			if(page != null && !WordsOperations.isClear(page, 0, PAGE_WORDS)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Возвращает кол-во бит, которое хранит данный объект.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * <p>Возвращает индекс первого встретившегося бита установленного в единицу. Поиск ведется начиная с бита,
+	 * индекс которого указан в качестве аргумента, включая его. Страницы, под которые не выделена память,
+	 * пропускаются целиком.</p>
+	 *
+	 * <p>Если начиная с бита с указанным индексом нет ни одного единичного бита или
+	 * {@code fromIndex >= } {@link #size()} - метод вернет -1.</p>
+	 *
+	 * @param fromIndex индекс бита, с которого начинается поиск.
+	 * @return индекс первого встретившегося бита установленного в единицу или -1.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex < 0}.
+	 */
+	public long nextSetBit(long fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+		if(fromIndex >= size) return -1L;
+
+		long wordIndex = fromIndex >>> 6;
+		int pageIndex = pageIndex(wordIndex);
+		long[] page = pages[pageIndex];
+		if(page != null) {
+			int i = wordInPage(wordIndex);
+			long word = page[i] >>> fromIndex;
+			if(word != 0L) return fromIndex + Long.numberOfTrailingZeros(word);
+
+			for(++i; i < PAGE_WORDS; ++i) {
+				if(page[i] != 0L) return wordStart(pageIndex, i) + Long.numberOfTrailingZeros(page[i]);
+			}
+		}
+
+		for(++pageIndex; pageIndex < pages.length; ++pageIndex) {
+			page = pages[pageIndex];
+			if(page == null) continue;
+
+			for(int i = 0; i < PAGE_WORDS; ++i) {
+				if(page[i] != 0L) return wordStart(pageIndex, i) + Long.numberOfTrailingZeros(page[i]);
+			}
+		}
+		return -1L;
+	}
+
+	/**
+	 * <p>Возвращает индекс первого встретившегося бита установленного в ноль. Поиск ведется начиная с бита,
+	 * индекс которого указан в качестве аргумента, включая его.</p>
+	 *
+	 * <p>Если начиная с бита с указанным индексом нет ни одного нулевого бита или
+	 * {@code fromIndex >= } {@link #size()} - метод вернет -1.</p>
+	 *
+	 * @param fromIndex индекс бита, с которого начинается поиск.
+	 * @return индекс первого встретившегося бита установленного в ноль или -1.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex < 0}.
+	 */
+	public long nextClearBit(long fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+		if(fromIndex >= size) return -1L;
+
+		long result = -1L;
+		long wordIndex = fromIndex >>> 6;
+		int pageIndex = pageIndex(wordIndex);
+		long[] page = pages[pageIndex];
+		if(page == null) {
+			result = fromIndex;
+		} else {
+			int i = wordInPage(wordIndex);
+			long word = ~page[i] >>> fromIndex;
+			if(word != 0L) result = fromIndex + Long.numberOfTrailingZeros(word);
+			for(++i; i < PAGE_WORDS && result == -1L; ++i) {
+				if(page[i] != -1L) result = wordStart(pageIndex, i) + Long.numberOfTrailingZeros(~page[i]);
+			}
+		}
+
+		for(++pageIndex; pageIndex < pages.length && result == -1L; ++pageIndex) {
+			page = pages[pageIndex];
+			if(page == null) {
+				result = (long) pageIndex << PAGE_SHIFT;
+			} else {
+				for(int i = 0; i < PAGE_WORDS && result == -1L; ++i) {
+					if(page[i] != -1L) result = wordStart(pageIndex, i) + Long.numberOfTrailingZeros(~page[i]);
+				}
+			}
+		}
+
+		return result < size ? result : -1L;
+	}
+
+	/**
+	 * Проверяет - является ли множество other не строгим подмножеством данного множества бит.
+	 * @param other объект, для которого проверяется, является ли он не строгим подмножеством текущего объекта.
+	 * @return true, если other является не строгим подмножеством текущего объекта, иначе возвращает false.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public boolean contains(LargeBits other) {
+		for(int pageIndex = 0; pageIndex < other.pages.length; ++pageIndex) {
+			long[] otherPage = other.pages[pageIndex];
+			if(otherPage == null) continue;
+
+			long[] page = page(pageIndex);
+			if(page == null) {
+				if(!WordsOperations.isClear(otherPage, 0, PAGE_WORDS)) return false;
+			} else if(!WordsOperations.contains(page, otherPage, PAGE_WORDS)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Проверяют - пересекаются ли два множества бит, представленных объектами other и текущим объектом.
+	 * @param other объект, с которым проверяется наличие пересечения.
+	 * @return true, если оба объекта имеют биты, установленные в единицу на совпадающих позициях, иначе - false.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public boolean intersect(LargeBits other) {
+		int commonPages = Math.min(pages.length, other.pages.length);
+		for(int pageIndex = 0; pageIndex < commonPages; ++pageIndex) {
+			long[] page = pages[pageIndex];
+			long[] otherPage = other.pages[pageIndex];
+			if(page != null && otherPage != null && WordsOperations.intersect(page, otherPage, PAGE_WORDS)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Проверяет - выполняется ли условие {@code index >= 0 && index < } {@link #size()}.
+	 */
+	public boolean inBound(long index) {
+		return index >= 0 && index < size;
+	}
+
+	/**
+	 * Два объекта LargeBits считаются одинаковыми если их размеры (значения возвращаемые методом {@link #size()})
+	 * равны и значения всех бит попарно равны. Выделена ли память под страницы, не состоящие из одних нулей,
+	 * значения не имеет.
+	 * @param other объект типа LargeBits, с которым производится сравнение.
+	 * @return true - если объекты равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		LargeBits otherBits = (LargeBits) other;
+		return size == otherBits.size && compareIgnoreSize(otherBits) == 0;
+	}
+
+	/**
+	 * Данный метод сравнивает два объекта LargeBits, как целые беззнаковые числа без учета их размеров.
+	 * @param other объект, с которым производится сравнение.
+	 * @return true - если логические значения объектов равны, false - в противном случае.
+	 */
+	public boolean equalsIgnoreSize(Object other) {
+		if(this == other) return true;
+		return other instanceof LargeBits otherBits && compareIgnoreSize(otherBits) == 0;
+	}
+
+	/**
+	 * <p>Выполняет упорядочивающее сравнение двух объектов LargeBits.</p>
+	 *
+	 * <p>Сперва сравниваются размеры обоих объектов, и если их размеры равны, тогда два объекта сравниваются как
+	 * два беззнаковых целых числа.</p>
+	 *
+	 * @param other объект, с которым производится сравнение.
+	 * @return отрицательное число, ноль или положительное число, если объект, у которого вызывается
+	 *         данный метод, меньше, равен или больше указанного соответственно.
+	 * @throws NullPointerException если other равен null.
+	 */
+	@Override
+	public int compareTo(LargeBits other) {
+		int result = Long.compare(size, other.size);
+		return result != 0 ? result : compareIgnoreSize(other);
+	}
+
+	/**
+	 * Выполняет упорядочивающее сравнение двух объектов LargeBits как целых беззнаковых чисел, без учета их
+	 * размеров.
+	 * @param other объект, с которым производится сравнение.
+	 * @return отрицательное число, ноль или положительное число, если объект, у которого вызывается
+	 *         данный метод, меньше, равен или больше указанного соответственно.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public int compareIgnoreSize(LargeBits other) {
+		for(int pageIndex = Math.max(pages.length, other.pages.length) - 1; pageIndex >= 0; --pageIndex) {
+			long[] page = page(pageIndex);
+			long[] otherPage = other.page(pageIndex);
+			if(page == null && otherPage == null) continue;
+
+			for(int i = PAGE_WORDS - 1; i >= 0; --i) {
+				int result = Long.compareUnsigned(page == null ? 0L : page[i], otherPage == null ? 0L : otherPage[i]);
+				if(result != 0) return result;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCodeIgnoreSize() * 31 + Long.hashCode(size);
+	}
+
+	/**
+	 * Возвращает хеш-код, вычисленный без учета размера объекта. Для объектов, равных согласно
+	 * {@link #equalsIgnoreSize(Object)}, метод возвращает одинаковое значение.
+	 */
+	public int hashCodeIgnoreSize() {
+		int result = 17;
+		for(int pageIndex = 0; pageIndex < pages.length; ++pageIndex) {
+			long[] page = pages[pageIndex];
+			if(page == null) continue;
+
+			for(int i = 0; i < PAGE_WORDS; ++i) {
+				if(page[i] != 0L) {
+					result = result * 31 + Long.hashCode(((long) pageIndex << PAGE_WORDS_SHIFT) + i);
+					result = result * 31 + Long.hashCode(page[i]);
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "LargeBits{size=" + size + ", count pages=" + pages.length +
+				", allocated pages=" + allocatedPagesNumber() + '}';
+	}
+
+
+	int allocatedPagesNumber() {
+		int result = 0;
+		for(long[] page : pages) {
+			if(page != null) ++result;
+		}
+		return result;
+	}
+
+	private long word(long wordIndex) {
+		long[] page = pages[pageIndex(wordIndex)];
+		return page == null ? 0L : page[wordInPage(wordIndex)];
+	}
+
+	private long[] page(int pageIndex) {
+		return pageIndex < pages.length ? pages[pageIndex] : null;
+	}
+
+	private long[] pageForWrite(int pageIndex) {
+		long[] page = pages[pageIndex];
+		if(page == null) {
+			page = new long[PAGE_WORDS];
+			pages[pageIndex] = page;
+		}
+		return page;
+	}
+
+	private void clearTail() {
+		int bitsInLastPage = (int) (size & (PAGE_BITS - 1));
+		if(bitsInLastPage > 0 && pages[pages.length - 1] != null) {
+			long[] lastPage = pages[pages.length - 1];
+			int lastWord = (bitsInLastPage - 1) >>> 6;
+			lastPage[lastWord] &= -1L >>> -bitsInLastPage;
+			Arrays.fill(lastPage, lastWord + 1, PAGE_WORDS, 0L);
+		}
+	}
+
+	private void growToIndexOrDoNothing(long index) {
+		if(index >= size) {
+			size = index + 1;
+			int pagesNumber = pagesNumber(size);
+			if(pagesNumber > pages.length) pages = Arrays.copyOf(pages, pagesNumber);
+		}
+	}
+
+	private void assertInHalfOpenInterval(long index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index < size; Actual: index=" + index + ", size=" + size);
+		}
+	}
+
+	private void assertCorrectRange(long fromIndex, long toIndex) {
+		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
+					", toIndex=" + toIndex + ')');
+		}
+	}
+
+	private static void assertNotNegativeIndex(long index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Expected: index >= 0; Actual: index=" + index);
+		}
+	}
+
+	private static void assertCorrectSize(long size) {
+		if(size < 0) {
+			throw new NegativeSizeException("Expected: size >= 0; Actual: size=" + size);
+		}
+		if(size > MAX_SIZE) {
+			throw new IllegalArgumentException("Expected: size <= " + MAX_SIZE + "; Actual: size=" + size);
+		}
+	}
+
+	private static int pagesNumber(long size) {
+		return (int) ((size + PAGE_BITS - 1) >>> PAGE_SHIFT);
+	}
+
+	private static int pageIndex(long wordIndex) {
+		return (int) (wordIndex >>> PAGE_WORDS_SHIFT);
+	}
+
+	private static int wordInPage(long wordIndex) {
+		return (int) wordIndex & (PAGE_WORDS - 1);
+	}
+
+	private static long wordStart(int pageIndex, int wordInPage) {
+		return ((long) pageIndex << PAGE_SHIFT) + ((long) wordInPage << 6);
+	}
+
+	private static long rangeMask(long wordIndex, long fromIndex, long toIndex) {
+		long mask = -1L;
+		if(wordIndex == fromIndex >>> 6) mask &= -1L << fromIndex;
+		if(wordIndex == (toIndex - 1) >>> 6) mask &= -1L >>> -toIndex;
+		return mask;
+	}
+}
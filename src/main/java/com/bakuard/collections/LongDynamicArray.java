@@ -0,0 +1,793 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import com.bakuard.collections.function.LongIndexBiConsumer;
+import com.bakuard.collections.function.LongIndexBiFunction;
+import com.bakuard.collections.function.LongIndexBiPredicate;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+
+/**
+ * <p>Реализация динамического массива со значениями типа long. Является аналогом {@link DynamicArray}, хранящим
+ * значения без упаковки: каждый элемент занимает ровно 8 байт, а все элементы располагаются в памяти
+ * последовательно.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class LongDynamicArray {
+
+	/**
+	 * <p>Создает и возвращает массив, содержащий указанные элементы в указанном порядке.</p>
+	 *
+	 * <p>Длина создаваемого объекта ({@link #size()}) будет равна кол-ву передаваемых элементов. Если передаваемый
+	 * массив не содержит ни одного элемента - создает пустой объект LongDynamicArray.</p>
+	 *
+	 * <p>Итоговый объект LongDynamicArray будет содержать копию передаваемого массива, а не сам массив.</p>
+	 *
+	 * @param data элементы, включаемые в создаваемый объект.
+	 * @throws NullPointerException если передаваемый массив элементов равен null.
+	 */
+	public static LongDynamicArray of(long... data) {
+		if(data == null) throw new NullPointerException("data[] can not be null.");
+
+		LongDynamicArray result = new LongDynamicArray();
+		result.addAllOnLast(data);
+		return result;
+	}
+
+	private static final int MIN_CAPACITY = 10;
+
+
+	private long[] values;
+	private int size;
+	private int actualModCount;
+
+	/**
+	 * Создает пустой массив нулевой длины.
+	 */
+	public LongDynamicArray() {
+		values = new long[MIN_CAPACITY];
+	}
+
+	/**
+	 * Создает массив указанной длины, все элементы которого равны 0.
+	 * @param size длина массива.
+	 * @throws NegativeSizeException если указанная длина меньше нуля.
+	 */
+	public LongDynamicArray(int size) {
+		assertNotNegativeSize(size);
+
+		this.size = size;
+		values = new long[Math.max(calculateCapacity(size), MIN_CAPACITY)];
+	}
+
+	/**
+	 * Создает копию указанного массива.
+	 * @param other массив, для которого создается копия.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public LongDynamicArray(LongDynamicArray other) {
+		values = other.values.clone();
+		size = other.size;
+	}
+
+	/**
+	 * Возвращает элемент по его индексу.
+	 * @param index индекс искомого элемента.
+	 * @throws IndexOutOfBoundsException если {@code index < 0 или index >=} {@link #size()}
+	 */
+	public long get(int index) {
+		assertInBound(index);
+
+		return values[index];
+	}
+
+	/**
+	 * <p>Возвращает элемент по его индексу.</p>
+	 *
+	 * <p>Данный метод представляет расширенную версию метода {@link #get(int)}, которая также может принимать отрицательные значения.
+	 * Элементу с индексом [-1] соответствует последний элемент, а элементу с индексом [-({@link #size()})] - первый элемент.</p>
+	 *
+	 * @param index индекс искомого элемента.
+	 * @throws IndexOutOfBoundsException если {@code index < -}{@link #size()} или {@code index >= } {@link #size()}
+	 */
+	public long at(int index) {
+		assertInExpandBound(index);
+
+		return index < 0 ? values[size + index] : values[index];
+	}
+
+	/**
+	 * Записывает элемент в ячейку с указанным индексом и возвращает элемент, который находился в этой
+	 * ячейке до вызова этого метода. При вызове данного метода длина массива не изменяется.
+	 * @param index индекс ячейки массива, куда будет записан элемент.
+	 * @param value добавляемое значение.
+	 * @return элемент, который находился в массиве под указанным индексом до вызова этого метода.
+	 * @throws IndexOutOfBoundsException если не соблюдается условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public long replace(int index, long value) {
+		assertInBound(index);
+
+		++actualModCount;
+
+		long oldValue = values[index];
+		values[index] = value;
+		return oldValue;
+	}
+
+	/**
+	 * <p>Записывает элемент в ячейку с указанным индексом и возвращает элемент, который находился в этой
+	 * ячейке до вызова этого метода.</p>
+	 *
+	 * <p>Если {@code index >= } {@link #size()}, то увеличивает размер массива до {@code index + 1}, затем записывает
+	 * указанное значение по заданному индексу, а затем возвращает 0.</p>
+	 *
+	 * @param index индекс ячейки массива, куда будет записан элемент.
+	 * @param value добавляемое значение.
+	 * @return элемент, который находился в массиве под указанным индексом до вызова этого метода.
+	 * @throws IndexOutOfBoundsException если {@code index < 0}.
+	 */
+	public long replaceWithGrow(int index, long value) {
+		++actualModCount;
+
+		assertNotNegativeIndex(index);
+		growToSizeOrDoNothing(index + 1);
+
+		long oldValue = values[index];
+		values[index] = value;
+		return oldValue;
+	}
+
+	/**
+	 * Заменяет каждый элемент в массиве результатом вызова для него функции mapper.
+	 * @param mapper функция обратного вызова, заменяющая каждый элемент массива.
+	 * @throws ConcurrentModificationException при попытке изменить сам массив из mapper.
+	 * @throws NullPointerException если mapper равен null.
+	 */
+	public void replaceAll(LongIndexBiFunction mapper) {
+		final int EXPECTED_COUNT_MOD = ++actualModCount;
+
+		for(int i = 0; i < size; ++i) {
+			long newItem = mapper.apply(values[i], i);
+			if(EXPECTED_COUNT_MOD != actualModCount) throw new ConcurrentModificationException();
+			values[i] = newItem;
+		}
+	}
+
+	/**
+	 * Увеличивает длину массива на единицу и затем записывает элемент в конец массива.
+	 * @param value добавляемое значение.
+	 */
+	public void addLast(long value) {
+		++actualModCount;
+
+		int lastIndex = size;
+		growToSizeOrDoNothing(size + 1);
+		values[lastIndex] = value;
+	}
+
+	/**
+	 * Добавляет все переданные элементы в конец массива, увеличивая его длину на кол-во переданных элементов.
+	 * Порядок, в котором элементы передаются методу, сохраняется.
+	 * @param data добавляемые элементы.
+	 * @throws NullPointerException если передаваемый массив элементов равен null.
+	 */
+	public void addAllOnLast(long... data) {
+		++actualModCount;
+		if(data.length > 0) {
+			int lastIndex = size;
+			growToSizeOrDoNothing(size + data.length);
+			System.arraycopy(data, 0, values, lastIndex, data.length);
+		}
+	}
+
+	/**
+	 * Добавляет все элементы другого массива в конец данного массива, увеличивая его длину на кол-во добавляемых
+	 * элементов. Порядок добавляемых элементов сохраняется.
+	 * @param other массив, все элементы которого добавляются в данный массив.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public void addAllOnLast(LongDynamicArray other) {
+		++actualModCount;
+		int otherSize = other.size;
+		if(otherSize > 0) {
+			int lastIndex = size;
+			growToSizeOrDoNothing(size + otherSize);
+			System.arraycopy(other.values, 0, values, lastIndex, otherSize);
+		}
+	}
+
+	/**
+	 * Вставляет указанный элемент в указанную позицию. При этом - элемент, который ранее находился на данной
+	 * позиции, и все элементы, следующие за ним, сдвигаются вверх на одну позицию.
+	 * @param index позиция, в которую будет добавлен элемент
+	 * @param value добавляемое значение
+	 * @throws IndexOutOfBoundsException если не соблюдается условие {@code index >= 0 && index <= } {@link #size()}
+	 */
+	public void insert(int index, long value) {
+		assertInClosedBound(index);
+
+		++actualModCount;
+
+		int oldSize = size;
+		growToSizeOrDoNothing(size + 1);
+		if(index < oldSize) {
+			System.arraycopy(values, index, values, index + 1, oldSize - index);
+		}
+		values[index] = value;
+	}
+
+	/**
+	 * <p>Добавляет указанный элемент в массив, сохраняя порядок по возрастанию, и возвращает индекс
+	 * добавленного элемента. Если массив содержит несколько элементов с тем же значением, что и добавляемый
+	 * элемент - метод не дает гарантий, куда будет вставлен элемент относительно элементов с тем же значением.
+	 * Выполняет вставку элемента с использованием двоичного поиска.</p>
+	 *
+	 * <p><b>ВАЖНО!</b> Данный метод требует, чтобы массив был предварительно отсортирован по возрастанию
+	 * (см. {@link #sort()}). Если это условие не соблюдается - результат не определен.</p>
+	 * @param value добавляемое значение.
+	 * @return индекс вставки добавляемого элемента.
+	 */
+	public int binaryInsert(long value) {
+		int fromIndex = 0;
+		int toIndex = size;
+		while(fromIndex < toIndex) {
+			int middle = (fromIndex + toIndex) >>> 1;
+			int different = Long.compare(value, values[middle]);
+
+			if(different == 0) {
+				fromIndex = middle;
+				break;
+			}
+			else if(different > 0) fromIndex = middle + 1;
+			else toIndex = middle;
+		}
+
+		insert(fromIndex, value);
+		return fromIndex;
+	}
+
+	/**
+	 * Меняет местами два элемента.
+	 * @param firstIndex индекс первого элемента
+	 * @param secondIndex индекс второго элемента
+	 * @throws IndexOutOfBoundsException если хотя бы для одного из индексов не соблюдается
+	 *                                   условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void swap(int firstIndex, int secondIndex) {
+		assertInBound(firstIndex);
+		assertInBound(secondIndex);
+
+		++actualModCount;
+
+		swapAtUncheckedIndexes(firstIndex, secondIndex);
+	}
+
+	/**
+	 * <p>Удаляет элемент под указанным индексом и возвращает его. На место удаленного элемента будет записан
+	 * последний элемент массива и длина массива будет уменьшена на единицу.</p>
+	 *
+	 * <p>Данный метод работает быстрее {@link #orderedRemove(int)}. Если порядок элементов в массиве для вас не
+	 * важен - для удаления рекомендуется использовать этот метод.</p>
+	 *
+	 * @param index индекс удаляемого элемента.
+	 * @return удаляемый элемент под указанным индексом.
+	 * @throws IndexOutOfBoundsException если не соблюдается условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public long quickRemove(int index) {
+		assertInBound(index);
+
+		++actualModCount;
+
+		long removableItem = values[index];
+		values[index] = values[--size];
+		return removableItem;
+	}
+
+	/**
+	 * Удаляет элемент под указанным индексом и возвращает его. Все элементы, индекс которых больше указанного,
+	 * сдвигаются вниз на одну позицию. Иначе говоря, данный метод выполняет удаление элемента с сохранением
+	 * порядка для оставшихся элементов.
+	 * @param index индекс удаляемого элемента.
+	 * @return удаляемый элемент под указанным индексом.
+	 * @throws IndexOutOfBoundsException если не соблюдается условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public long orderedRemove(int index) {
+		assertInBound(index);
+
+		++actualModCount;
+
+		long removableItem = values[index];
+		if(--size > index) {
+			System.arraycopy(values, index + 1, values, index, size - index);
+		}
+		return removableItem;
+	}
+
+	/**
+	 * Удаляет последний элемент и возвращает его.
+	 * @return удаленный элемент.
+	 * @throws NoSuchElementException если массив пуст.
+	 */
+	public long removeLast() {
+		if(size == 0) {
+			throw new NoSuchElementException("Fail to remove last item: array is empty.");
+		}
+
+		++actualModCount;
+
+		return values[--size];
+	}
+
+	/**
+	 * <p>Удаляет все элементы массива, удовлетворяющие заданному предикату. Порядок оставшихся элементов сохраняется.</p>
+	 *
+	 * <p>Предикату передается индекс, который элемент имел до вызова этого метода. Удаление выполняется за один
+	 * проход по массиву, независимо от кол-ва удаляемых элементов.</p>
+	 *
+	 * @param predicate проверяет, нужно ли удалять элемент. Вызывается для
+	 *                  каждого элемента массива.
+	 * @return кол-во удаленных элементов.
+	 * @throws ConcurrentModificationException при попытке изменить массив из predicate.
+	 * @throws NullPointerException если predicate равен null.
+	 */
+	public int removeIf(LongIndexBiPredicate predicate) {
+		return batchRemove(predicate, true);
+	}
+
+	/**
+	 * <p>Удаляет все элементы массива, НЕ удовлетворяющие заданному предикату. Порядок оставшихся элементов
+	 * сохраняется.</p>
+	 *
+	 * <p>Предикату передается индекс, который элемент имел до вызова этого метода. Удаление выполняется за один
+	 * проход по массиву, независимо от кол-ва удаляемых элементов.</p>
+	 *
+	 * @param predicate проверяет, нужно ли оставить элемент. Вызывается для
+	 *                  каждого элемента массива.
+	 * @return кол-во удаленных элементов.
+	 * @throws ConcurrentModificationException при попытке изменить массив из predicate.
+	 * @throws NullPointerException если predicate равен null.
+	 */
+	public int retainIf(LongIndexBiPredicate predicate) {
+		return batchRemove(predicate, false);
+	}
+
+	/**
+	 * Удаляет все элементы в диапазоне [fromIndex, toIndex). Все элементы, индекс которых больше или равен toIndex,
+	 * сдвигаются вниз на {@code toIndex - fromIndex} позиций. В случае если {@code fromIndex == toIndex}, метод
+	 * не делает никаких изменений.
+	 * @param fromIndex индекс первого удаляемого элемента.
+	 * @param toIndex индекс, следующий за индексом последнего удаляемого элемента.
+	 * @throws IndexOutOfBoundsException генерируется в одном из следующих случаев:
+	 *                                   <ol>
+	 *                                       <li>Если {@code fromIndex > toIndex}</li>
+	 *                                       <li>Если {@code fromIndex < 0}</li>
+	 *                                       <li>Если {@code toIndex > } {@link #size()}</li>
+	 *                                   </ol>
+	 */
+	public void removeRange(int fromIndex, int toIndex) {
+		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
+					", toIndex=" + toIndex + "). Actual: size=" + size);
+		}
+
+		++actualModCount;
+
+		System.arraycopy(values, toIndex, values, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+
+	/**
+	 * <p>Удаляет все элементы массива и уменьшает его длину до нуля.</p>
+	 *
+	 * <p>Данный метод не уменьшает емкость внутреннего хранилища. Если вам необходимо уменьшить объем памяти занимаемый
+	 * данным объектом, используйте метод {@link #trimToSize()}.</p>
+	 */
+	public void clear() {
+		++actualModCount;
+		size = 0;
+	}
+
+	/**
+	 * Сортирует массив по возрастанию.
+	 */
+	public void sort() {
+		++actualModCount;
+
+		Arrays.sort(values, 0, size);
+	}
+
+	/**
+	 * Случайным образом меняет элементы местами друг с другом. Использует для выбора новых позиций элементов
+	 * переданный генератор случайных или псевдослучайных чисел.
+	 * @param randomGenerator генератор случайных или псевдослучайных чисел.
+	 * @throws NullPointerException если randomGenerator равен null.
+	 */
+	public void shuffle(RandomGenerator randomGenerator) {
+		++actualModCount;
+
+		for(int i = 0; i < size; ++i) {
+			int randomIndex = randomGenerator.nextInt(size - i) + i;
+			swapAtUncheckedIndexes(i, randomIndex);
+		}
+	}
+
+	/**
+	 * Возвращает кол-во элементов.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Возвращает true, если кол-во элементов равно нулю, иначе - false.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Проверяет - выполняется ли для индекса условие: {@code index >= 0 && index < } {@link #size()}
+	 * @param index проверяемый индекс.
+	 * @return true - если описанное выше условие выполняется, иначе - false.
+	 */
+	public boolean inBound(int index) {
+		return index >= 0 && index < size;
+	}
+
+	/**
+	 * Проверяет - выполняется ли для индекса условие: {@code index >= -}{@link #size()} {@code && index < } {@link #size()}.
+	 * @param index проверяемый индекс.
+	 * @return true - если описанное выше условие выполняется, иначе - false.
+	 */
+	public boolean inBoundByModulo(int index) {
+		return index >= -size && index < size;
+	}
+
+	/**
+	 * Возвращает индекс первого встретившегося элемента с указанным значением или -1, если массив
+	 * не содержит такого элемента.
+	 * @param value значение искомого элемента.
+	 * @return индекс первого встретившегося элемента с указанным значением или -1.
+	 */
+	public int linearSearch(long value) {
+		long[] vs = values;
+		for(int i = 0; i < size; ++i) if(vs[i] == value) return i;
+		return -1;
+	}
+
+	/**
+	 * Возвращает индекс первого элемента, который удовлетворяет предикату или -1, если массив
+	 * не содержит такого элемента.
+	 * @param predicate условие, которому должен соответствовать искомый элемент.
+	 * @return индекс первого элемента, удовлетворяющего предикату или -1.
+	 * @throws NullPointerException если predicate равен null.
+	 */
+	public int linearSearch(LongPredicate predicate) {
+		long[] vs = values;
+		for(int i = 0; i < size; ++i) if(predicate.test(vs[i])) return i;
+		return -1;
+	}
+
+	/**
+	 * Возвращает индекс последнего элемента, который удовлетворяет предикату или -1, если массив
+	 * не содержит такого элемента.
+	 * @param predicate условие, которому должен соответствовать искомый элемент.
+	 * @return индекс последнего элемента, удовлетворяющего предикату или -1.
+	 * @throws NullPointerException если predicate равен null.
+	 */
+	public int linearSearchLast(LongPredicate predicate) {
+		long[] vs = values;
+		for(int i = size - 1; i >= 0; --i) if(predicate.test(vs[i])) return i;
+		return -1;
+	}
+
+	/**
+	 * Проверяет, содержит ли массив элемент с указанным значением.
+	 * @param value значение искомого элемента.
+	 * @return true - если массив содержит элемент с указанным значением, иначе - false.
+	 */
+	public boolean contains(long value) {
+		return linearSearch(value) != -1;
+	}
+
+	/**
+	 * Возвращает кол-во элементов удовлетворяющих заданному предикату.
+	 * @param predicate условие, которому должны соответствовать подсчитываемые элементы.
+	 * @throws NullPointerException если predicate равен null.
+	 */
+	public int frequency(LongPredicate predicate) {
+		int result = 0;
+		for(int i = 0; i < size; ++i) {
+			if(predicate.test(values[i])) ++result;
+		}
+		return result;
+	}
+
+	/**
+	 * <p>Возвращает индекс элемента с указанным значением или -1, если массив не содержит такого элемента.
+	 * Если массив содержит несколько подходящих элементов - метод не дает гарантий, индекс какого именно из этих
+	 * элементов будет возвращен. Поиск искомого элемента осуществляется с использованием двоичного поиска.</p>
+	 *
+	 * <p>Данный метод требует, чтобы массив был предварительно отсортирован по возрастанию (см. {@link #sort()}).
+	 * Если это условие не соблюдается - результат не определен.</p>
+	 *
+	 * @param value значение искомого элемента.
+	 * @return индекс элемента с указанным значением или -1, если таковой не был найден.
+	 */
+	public int binarySearch(long value) {
+		int fromIndex = 0;
+		int toIndex = size;
+		while(fromIndex < toIndex) {
+			int middle = (fromIndex + toIndex) >>> 1;
+			int different = Long.compare(value, values[middle]);
+
+			if(different == 0) return middle;
+			else if(different > 0) fromIndex = middle + 1;
+			else toIndex = middle;
+		}
+		return -1;
+	}
+
+	/**
+	 * <p>Если newSize больше длины массива ({@link #size()}), то увеличивает внутреннюю емкость массива
+	 * таким образом, чтобы вмещать кол-во элементов как минимум равное newSize, а длина массива станет
+	 * равна newSize. Все добавленные элементы будут равны 0.</p>
+	 *
+	 * <p>Если значение {@code newSize >= 0 и newSize <= } {@link #size()} - метод не вносит никаких изменений.</p>
+	 *
+	 * @param newSize новая длина массива.
+	 * @return ссылку на этот же объект.
+	 * @throws NegativeSizeException если {@code newSize < 0}
+	 */
+	public LongDynamicArray growToSize(int newSize) {
+		++actualModCount;
+
+		assertNotNegativeSize(newSize);
+		growToSizeOrDoNothing(newSize);
+		return this;
+	}
+
+	/**
+	 * <p>Если index больше или равен длине массива ({@link #size()}), то увеличивает внутреннюю емкость массива
+	 * таким образом, чтобы вместить элемент с указанным индексом. Все добавленные элементы будут равны 0.</p>
+	 *
+	 * <p>Если значение {@code index >= 0 и index < } {@link #size()} - метод не вносит никаких изменений.</p>
+	 *
+	 * @param index индекс, до которого увеличивается размер массива.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code index < 0}
+	 */
+	public LongDynamicArray growToIndex(int index) {
+		++actualModCount;
+
+		assertNotNegativeIndex(index);
+		growToSizeOrDoNothing(index + 1);
+		return this;
+	}
+
+	/**
+	 * <p>Если размер внутреннего массива больше его минимально необходимого значения в соответствии с текущей
+	 * длиной объекта ({@link #size()}), то уменьшает емкость внутреннего массива, иначе - не вносит
+	 * никаких изменений.</p>
+	 *
+	 * <p>Данный метод следует использовать в тех случаях, когда необходимо минимизировать объем памяти, занимаемый
+	 * объектом LongDynamicArray.</p>
+	 *
+	 * @return true - если объем внутреннего массива был уменьшен, иначе - false.
+	 */
+	public boolean trimToSize() {
+		++actualModCount;
+
+		boolean isTrim = size < values.length && size >= MIN_CAPACITY;
+
+		if(isTrim) values = Arrays.copyOf(values, size);
+
+		return isTrim;
+	}
+
+	/**
+	 * Создает и возвращает новый массив, каждый элемент которого равен результату вызова функции mapper для
+	 * элемента данного массива с тем же индексом.
+	 * @param mapper функция, вычисляющая значение элементов нового массива.
+	 * @throws ConcurrentModificationException при попытке изменить данный массив из mapper.
+	 * @throws NullPointerException если mapper равен null.
+	 */
+	public LongDynamicArray cloneAndMap(LongIndexBiFunction mapper) {
+		final int EXPECTED_COUNT_MOD = actualModCount;
+
+		LongDynamicArray result = new LongDynamicArray(size);
+		for(int i = 0; i < size; ++i) {
+			result.values[i] = mapper.apply(values[i], i);
+			if(EXPECTED_COUNT_MOD != actualModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Создает и возвращает новый массив, содержащий только те элементы данного массива, которые удовлетворяют
+	 * предикату. Порядок элементов сохраняется.
+	 * @param predicate условие, которому должны соответствовать элементы нового массива.
+	 * @throws ConcurrentModificationException при попытке изменить данный массив из predicate.
+	 * @throws NullPointerException если predicate равен null.
+	 */
+	public LongDynamicArray cloneAndFilter(LongIndexBiPredicate predicate) {
+		final int EXPECTED_COUNT_MOD = actualModCount;
+
+		LongDynamicArray result = new LongDynamicArray();
+		for(int i = 0; i < size; ++i) {
+			if(predicate.test(values[i], i)) result.addLast(values[i]);
+			if(EXPECTED_COUNT_MOD != actualModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Выполняет свертку всех элементов массива в порядке возрастания их индексов, начиная с initValue.
+	 * Если массив пуст - возвращает initValue.
+	 * @param initValue начальное значение свертки.
+	 * @param accumulator функция, объединяющая текущий результат свертки и очередной элемент.
+	 * @throws ConcurrentModificationException при попытке изменить массив из accumulator.
+	 * @throws NullPointerException если accumulator равен null.
+	 */
+	public long reduce(long initValue, LongBinaryOperator accumulator) {
+		final int EXPECTED_COUNT_MOD = actualModCount;
+
+		long result = initValue;
+		for(int i = 0; i < size; ++i) {
+			result = accumulator.applyAsLong(result, values[i]);
+			if(EXPECTED_COUNT_MOD != actualModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Возвращает новый массив, длина которого равна {@link #size()}, содержащий все элементы данного объекта
+	 * в том же порядке.
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * Возвращает последовательный поток всех элементов массива. Изменение массива во время обработки
+	 * потока приводит к неопределенному результату.
+	 */
+	public LongStream stream() {
+		return Arrays.stream(values, 0, size);
+	}
+
+	/**
+	 * Вызывает action для каждого элемента массива в порядке возрастания их индексов.
+	 * @param action функция обратного вызова, обрабатывающая каждый элемент массива.
+	 * @throws ConcurrentModificationException при попытке изменить массив из action.
+	 * @throws NullPointerException если action равен null.
+	 */
+	public void forEach(LongIndexBiConsumer action) {
+		final int EXPECTED_COUNT_MOD = actualModCount;
+
+		for(int i = 0; i < size; ++i) {
+			action.accept(values[i], i);
+			if(EXPECTED_COUNT_MOD != actualModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		LongDynamicArray array = (LongDynamicArray) o;
+
+		return Arrays.equals(values, 0, size, array.values, 0, array.size);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = size;
+		for(int i = 0; i < size; ++i) result = result * 31 + Long.hashCode(values[i]);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder valuesToString = new StringBuilder("[");
+		if(size > 0) {
+			valuesToString.append(values[0]);
+			for(int i = 1; i < size; ++i) valuesToString.append(',').append(values[i]);
+		}
+		valuesToString.append(']');
+
+		return "LongDynamicArray{size=" + size + ", " + valuesToString + '}';
+	}
+
+
+	private int calculateCapacity(int size) {
+		return size + (size >>> 1);
+	}
+
+	private void assertInBound(int index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index < size. Actual: size=" + size + ", index=" + index);
+		}
+	}
+
+	private void assertInClosedBound(int index) {
+		if(index < 0 || index > size) {
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index <= size. Actual: size=" + size + ", index=" + index);
+		}
+	}
+
+	private void assertInExpandBound(int index) {
+		if(!inBoundByModulo(index)) {
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= -size() && index < size. Actual: size=" + size + ", index=" + index);
+		}
+	}
+
+	private void assertNotNegativeSize(int size) {
+		if(size < 0) {
+			throw new NegativeSizeException("Expected: size >= 0; Actual: size=" + size);
+		}
+	}
+
+	private void assertNotNegativeIndex(int index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Expected: index >= 0. Actual: index=" + index);
+		}
+	}
+
+	private void growToSizeOrDoNothing(int newSize) {
+		if(newSize > size) {
+			Arrays.fill(values, size, Math.min(newSize, values.length), 0L);
+			if(newSize > values.length) {
+				values = Arrays.copyOf(values, calculateCapacity(newSize));
+			}
+			size = newSize;
+		}
+	}
+
+	private int batchRemove(LongIndexBiPredicate predicate, boolean removeMatched) {
+		final int EXPECTED_COUNT_MOD = ++actualModCount;
+
+		final int oldSize = size;
+		int readIndex = 0;
+		int writeIndex = 0;
+		try {
+			for(; readIndex < oldSize; ++readIndex) {
+				long item = values[readIndex];
+				boolean matched = predicate.test(item, readIndex);
+				if(EXPECTED_COUNT_MOD != actualModCount) throw new ConcurrentModificationException();
+				if(matched != removeMatched) values[writeIndex++] = item;
+			}
+		} finally {
+			int removedNumber = readIndex - writeIndex;
+			if(removedNumber > 0 && readIndex <= size) {
+				System.arraycopy(values, readIndex, values, writeIndex, size - readIndex);
+				size -= removedNumber;
+			}
+		}
+		return readIndex - writeIndex;
+	}
+
+	private void swapAtUncheckedIndexes(int firstIndex, int secondIndex) {
+		long first = values[firstIndex];
+		values[firstIndex] = values[secondIndex];
+		values[secondIndex] = first;
+	}
+}
@@ -0,0 +1,418 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>Битовый вектор фиксированного размера, биты которого хранятся в файле, отображенном в память
+ * ({@link FileChannel#map(FileChannel.MapMode, long, long, Arena)}). Изменения бит записываются непосредственно
+ * в страничный кеш операционной системы и сохраняются в файле, поэтому повторно открытый файл сразу содержит
+ * все ранее установленные биты и не требует повторного построения.</p>
+ *
+ * <p>Файл начинается с заголовка размером {@value #HEADER_SIZE} байт, содержащего сигнатуру формата и
+ * {@link #size()}. За заголовком следуют биты, сгруппированные по 64 в значения типа long с порядком байт
+ * little-endian.</p>
+ *
+ * <p>Операционная система записывает измененные страницы на диск в произвольный момент времени. Чтобы
+ * гарантировать сохранность изменений (например, при сбое питания), используйте метод {@link #force()}.</p>
+ *
+ * <p>Отображение файла освобождается явным вызовом метода {@link #close()}. После этого любой метод,
+ * обращающийся к битам, выбрасывает {@link IllegalStateException}.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class MappedBits implements ReadableBits, AutoCloseable {
+
+	/**
+	 * Размер заголовка файла в байтах.
+	 */
+	public static final int HEADER_SIZE = 16;
+	private static final long SIGNATURE = 0x3130535449424B42L;
+	private static final ValueLayout.OfLong HEADER_FIELD = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+	/**
+	 * Создает файл для хранения указанного кол-ва бит и отображает его в память. Если файл уже существует, то
+	 * его содержимое будет перезаписано. Значение любого бита после вызова этого метода будет равняться 0.
+	 * @param file путь к создаваемому файлу.
+	 * @param numberBits кол-во бит создаваемого объекта.
+	 * @return новый объект MappedBits.
+	 * @throws NullPointerException если file равен null.
+	 * @throws NegativeSizeException если numberBits меньше нуля.
+	 * @throws IOException если при создании или отображении файла возникла ошибка ввода-вывода.
+	 */
+	public static MappedBits create(Path file, int numberBits) throws IOException {
+		if(numberBits < 0) {
+			throw new NegativeSizeException("Expected: size >= 0; Actual: size=" + numberBits);
+		}
+
+		long fileSize = HEADER_SIZE + OffHeapBits.calculateWordsNumber(numberBits) * Long.BYTES;
+		try(FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			Arena arena = Arena.ofShared();
+			try {
+				MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+				segment.fill((byte) 0);
+				segment.set(HEADER_FIELD, 0, SIGNATURE);
+				segment.set(HEADER_FIELD, Long.BYTES, numberBits);
+				return new MappedBits(arena, segment, numberBits);
+			} catch(IOException | RuntimeException | Error e) {
+				arena.close();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Открывает ранее созданный методом {@link #create(Path, int)} файл и отображает его в память. Размер
+	 * возвращаемого объекта считывается из заголовка файла.
+	 * @param file путь к открываемому файлу.
+	 * @return новый объект MappedBits.
+	 * @throws NullPointerException если file равен null.
+	 * @throws IOException если файл не существует, имеет неверный формат или при его отображении возникла
+	 *                     ошибка ввода-вывода.
+	 */
+	public static MappedBits open(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			long fileSize = channel.size();
+			if(fileSize < HEADER_SIZE) {
+				throw new IOException("Incorrect file format: file size=" + fileSize + " is less than header size.");
+			}
+
+			Arena arena = Arena.ofShared();
+			try {
+				MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+				long signature = segment.get(HEADER_FIELD, 0);
+				long size = segment.get(HEADER_FIELD, Long.BYTES);
+				if(signature != SIGNATURE) {
+					throw new IOException("Incorrect file format: unknown signature " + Long.toHexString(signature));
+				}
+				if(size < 0 || size > Integer.MAX_VALUE ||
+						fileSize != HEADER_SIZE + OffHeapBits.calculateWordsNumber(size) * Long.BYTES) {
+					throw new IOException("Incorrect file format: size=" + size + ", file size=" + fileSize);
+				}
+				return new MappedBits(arena, segment, (int) size);
+			} catch(IOException | RuntimeException | Error e) {
+				arena.close();
+				throw e;
+			}
+		}
+	}
+
+
+	private final MemorySegment file;
+	private final OffHeapBits bits;
+	private final int wordsNumber;
+	private final int size;
+
+	private MappedBits(Arena arena, MemorySegment file, int size) {
+		this.file = file;
+		this.bits = new OffHeapBits(arena, file.asSlice(HEADER_SIZE), size);
+		this.wordsNumber = (int) OffHeapBits.calculateWordsNumber(size);
+		this.size = size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean get(int index) {
+		return bits.get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getWord(int wordIndex) {
+		assertNotNegativeIndex(wordIndex);
+		return wordIndex < wordsNumber ? bits.word(wordIndex) : 0L;
+	}
+
+	/**
+	 * Устанавливает бит с указанным индексом в единицу.
+	 * @param index индекс бита, устанавливаемого в единицу.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void set(int index) {
+		bits.set(index);
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в единицу. В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало заполняемого диапазона.
+	 * @param toIndex индекс, задающий конец заполняемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public MappedBits setRange(int fromIndex, int toIndex) {
+		bits.setRange(fromIndex, toIndex);
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в единицу.
+	 * @return ссылку на этот же объект.
+	 */
+	public MappedBits setAll() {
+		bits.setAll();
+		return this;
+	}
+
+	/**
+	 * Устанавливает бит с указанным индексом в ноль.
+	 * @param index индекс бита, устанавливаемого в ноль.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void clear(int index) {
+		bits.clear(index);
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в ноль. В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало очищаемого диапазона.
+	 * @param toIndex индекс, задающий конец очищаемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public MappedBits clearRange(int fromIndex, int toIndex) {
+		bits.clearRange(fromIndex, toIndex);
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в ноль.
+	 * @return ссылку на этот же объект.
+	 */
+	public MappedBits clearAll() {
+		bits.clearAll();
+		return this;
+	}
+
+	/**
+	 * Инвертирует значение бита с указанным индексом.
+	 * @param index индекс инвертируемого бита.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void flip(int index) {
+		bits.flip(index);
+	}
+
+	/**
+	 * Инвертирует значения всех бит в диапазоне [fromIndex, toIndex). В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало инвертируемого диапазона.
+	 * @param toIndex индекс, задающий конец инвертируемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public MappedBits flipRange(int fromIndex, int toIndex) {
+		bits.flipRange(fromIndex, toIndex);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int cardinality() {
+		return (int) bits.cardinality();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getHighBitIndex() {
+		return (int) bits.getHighBitIndex();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean isClear() {
+		return bits.isClear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextSetBit(int fromIndex) {
+		return (int) bits.nextSetBit(fromIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextClearBit(int fromIndex) {
+		return (int) bits.nextClearBit(fromIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean contains(ReadableBits other) {
+		int otherWordsNumber = wordsNumber(other);
+		for(int i = 0; i < otherWordsNumber; ++i) {
+			long otherWord = other.getWord(i);
+			if((getWord(i) & otherWord) != otherWord) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean intersect(ReadableBits other) {
+		int commonWords = Math.min(wordsNumber, wordsNumber(other));
+		for(int i = 0; i < commonWords; ++i) {
+			if((bits.word(i) & other.getWord(i)) != 0L) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean inBound(int index) {
+		return index >= 0 && index < size;
+	}
+
+	/**
+	 * Записывает на устройство хранения все изменения бит, которые еще не были записаны операционной системой.
+	 * @throws IllegalStateException если объект был закрыт.
+	 * @throws java.io.UncheckedIOException если при записи возникла ошибка ввода-вывода.
+	 */
+	public void force() {
+		file.force();
+	}
+
+	/**
+	 * Проверяет - было ли освобождено отображение файла вызовом метода {@link #close()}.
+	 */
+	public boolean isClosed() {
+		return bits.isClosed();
+	}
+
+	/**
+	 * Освобождает отображение файла в память. Изменения, которые еще не были записаны на устройство хранения,
+	 * будут записаны операционной системой позднее. Повторный вызов этого метода ничего не делает.
+	 */
+	@Override
+	public void close() {
+		bits.close();
+	}
+
+	/**
+	 * Два объекта MappedBits считаются одинаковыми если их размеры (значения возвращаемые методом {@link #size()})
+	 * равны и значения всех бит попарно равны.
+	 * @param other объект типа MappedBits, с которым производится сравнение.
+	 * @return true - если объекты равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		MappedBits otherBits = (MappedBits) other;
+		return bits.equals(otherBits.bits);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean equalsIgnoreSize(Object other) {
+		if(this == other) return true;
+		if(!(other instanceof ReadableBits otherBits)) return false;
+
+		int maxWords = Math.max(wordsNumber, wordsNumber(otherBits));
+		boolean isEqual = true;
+		for(int i = 0; i < maxWords && isEqual; ++i) {
+			isEqual = getWord(i) == otherBits.getWord(i);
+		}
+		return isEqual;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compareTo(ReadableBits other) {
+		int result = size - other.size();
+		for(int i = wordsNumber - 1; i >= 0 && result == 0; --i) {
+			result = Long.compareUnsigned(bits.word(i), other.getWord(i));
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int compareIgnoreSize(ReadableBits other) {
+		int result = 0;
+		for(int i = Math.max(wordsNumber, wordsNumber(other)) - 1; i >= 0 && result == 0; --i) {
+			result = Long.compareUnsigned(getWord(i), other.getWord(i));
+		}
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		return bits.hashCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int hashCodeIgnoreSize() {
+		return Bits.wordsHashCode(bits::word, wordsNumber);
+	}
+
+	@Override
+	public String toString() {
+		return "MappedBits{size=" + size + ", count words=" + wordsNumber + ", closed=" + isClosed() + '}';
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String toBinaryString() {
+		StringBuilder result = new StringBuilder();
+
+		if(size > 0) {
+			int lastWordBitsNumber = (size & 63) == 0 ? 64 : size & 63;
+			result.append(Bits.toBinaryString(bits.word(wordsNumber - 1), lastWordBitsNumber));
+
+			for(int i = wordsNumber - 2; i >= 0; --i) {
+				result.append(Bits.toBinaryString(bits.word(i), 64));
+			}
+		}
+
+		return result.toString();
+	}
+
+
+	private void assertNotNegativeIndex(int index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Expected: index >= 0; Actual: index=" + index);
+		}
+	}
+
+	private static int wordsNumber(ReadableBits bits) {
+		return Math.max(1, (bits.size() + 63) >>> 6);
+	}
+}
@@ -0,0 +1,308 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.MaxSizeExceededException;
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * <p>Реализация ограниченной очереди с объектами произвольного типа, которая может одновременно использоваться
+ * произвольным кол-вом потоков-производителей и потоков-потребителей (multi-producer/multi-consumer). Не использует
+ * блокировок.</p>
+ *
+ * <p>Каждая ячейка внутреннего массива имеет собственный порядковый номер, по которому производители и потребители
+ * определяют - свободна ли ячейка или содержит элемент. Поэтому производители конкурируют только за конец очереди,
+ * потребители - только за её начало, а начало и конец очереди хранятся в разных кеш-линиях. Элемент, добавленный
+ * производителем, становится видимым потребителю вместе со всеми изменениями, выполненными производителем до его
+ * добавления.</p>
+ *
+ * <p>Максимальный размер очереди всегда является степенью двойки и не может быть меньше 2.</p>
+ *
+ * <p>Методы {@link #size()}, {@link #isEmpty()}, {@link #hasAvailableSpace()} и {@link #toArray(Class)} возвращают
+ * приблизительный результат, если очередь одновременно изменяется другими потоками.</p>
+ */
+public final class MpmcQueue<T> {
+
+	private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+	private static final int HEAD = 16;
+	private static final int TAIL = 32;
+	private static final int SEQUENCES_LENGTH = 48;
+
+
+	private final T[] values;
+	private final long[] slotSequences;
+	private final int mask;
+	private final long[] sequences;
+
+	/**
+	 * Создает новую пустую очередь. Максимальный размер очереди будет равен наименьшей степени двойки, которая
+	 * больше или равна max(2, maxSize).
+	 * @param maxSize минимально допустимый максимальный размер очереди.
+	 * @throws NegativeSizeException если {@code maxSize < 0}
+	 * @throws MaxSizeExceededException если {@code maxSize > 2^30}
+	 */
+	@SuppressWarnings("unchecked")
+	public MpmcQueue(int maxSize) {
+		if(maxSize < 0) {
+			throw new NegativeSizeException("Expected: maxSize >= 0. Actual: maxSize=" + maxSize);
+		}
+		if(maxSize > 1 << 30) {
+			throw new MaxSizeExceededException("Expected: maxSize <= " + (1 << 30) + ". Actual: maxSize=" + maxSize);
+		}
+
+		int capacity = maxSize <= 2 ? 2 : Integer.highestOneBit(maxSize - 1) << 1;
+		this.values = (T[]) new Object[capacity];
+		this.slotSequences = new long[capacity];
+		this.mask = capacity - 1;
+		this.sequences = new long[SEQUENCES_LENGTH];
+		for(int i = 0; i < capacity; ++i) slotSequences[i] = i;
+	}
+
+	/**
+	 * Пробует добавить элемент в конец очереди. Если очередь заполнена, то элемент не будет добавлен, а метод
+	 * вернет false. В противном случае элемент будет добавлен в конец очереди, а данный метод вернет true.
+	 * @param value добавляемый элемент.
+	 * @return true - если удалось добавить элемент, иначе - false.
+	 */
+	public boolean addLastOrSkip(T value) {
+		long tail = (long) SEQUENCES.getVolatile(sequences, TAIL);
+		while(true) {
+			int index = (int) tail & mask;
+			long difference = slotSequence(tail) - tail;
+			if(difference == 0L) {
+				long witness = (long) SEQUENCES.compareAndExchange(sequences, TAIL, tail, tail + 1);
+				if(witness == tail) {
+					values[index] = value;
+					SEQUENCES.setRelease(slotSequences, index, tail + 1);
+					return true;
+				}
+				tail = witness;
+			} else if(difference < 0L) {
+				return false;
+			} else {
+				tail = (long) SEQUENCES.getVolatile(sequences, TAIL);
+			}
+		}
+	}
+
+	/**
+	 * Добавляет элемент в конец очереди. Если очередь заполнена, то выбрасывает исключение.
+	 * @param value добавляемый элемент.
+	 * @throws MaxSizeExceededException если очередь заполнена.
+	 */
+	public void tryAddLast(T value) {
+		if(!addLastOrSkip(value)) {
+			throw new MaxSizeExceededException(
+					"There is not enough available space to add this value. MaxSize: " +
+							maxSize() + ", added item: " + value
+			);
+		}
+	}
+
+	/**
+	 * <p>Пробует добавить в конец очереди все элементы массива data. Добавляет столько элементов с начала массива,
+	 * сколько помещается в свободное место очереди. Элементы добавляются группами: за каждую группу подряд идущих
+	 * свободных ячеек производитель конкурирует с другими производителями только один раз.</p>
+	 *
+	 * <p>Порядок добавления элементов соответствует порядку их следования в массиве, однако элементы, добавляемые
+	 * одновременно другими производителями, могут оказаться между ними.</p>
+	 *
+	 * @param data массив, элементы которого добавляются в текущую очередь.
+	 * @return кол-во добавленных элементов.
+	 * @throws NullPointerException если передаваемый массив data равен null.
+	 */
+	public int addAllOnLastOrSkip(T... data) {
+		int addedValuesNumber = 0;
+		while(addedValuesNumber < data.length) {
+			long tail = (long) SEQUENCES.getVolatile(sequences, TAIL);
+			int limit = Math.min(data.length - addedValuesNumber, values.length);
+			int freeSlotsNumber = 0;
+			while(freeSlotsNumber < limit && slotSequence(tail + freeSlotsNumber) == tail + freeSlotsNumber) {
+				++freeSlotsNumber;
+			}
+
+			if(freeSlotsNumber == 0) {
+				if(slotSequence(tail) < tail) break;
+			} else if(SEQUENCES.compareAndSet(sequences, TAIL, tail, tail + freeSlotsNumber)) {
+				for(int i = 0; i < freeSlotsNumber; ++i) {
+					int index = (int) (tail + i) & mask;
+					values[index] = data[addedValuesNumber + i];
+					SEQUENCES.setRelease(slotSequences, index, tail + i + 1);
+				}
+				addedValuesNumber += freeSlotsNumber;
+			}
+		}
+		return addedValuesNumber;
+	}
+
+	/**
+	 * <p>Удаляет элемент из начала очереди и возвращает его. Если очередь пуста, то возвращает null.</p>
+	 *
+	 * <p><b>ВАЖНО!</b> Т.к. очередь допускает хранение null элементов, то возвращение данным методом
+	 * null в качестве результата не гарантирует, что очередь пуста. Для однозначного определения
+	 * наличия элементов в очереди используйте метод {@link #tryRemoveFirst()}.</p>
+	 */
+	public T removeFirst() {
+		long position = claimFirst();
+		return position < 0L ? null : releaseSlot((int) position & mask, position);
+	}
+
+	/**
+	 * Удаляет элемент из начала очереди и возвращает его.
+	 * @throws NoSuchElementException если очередь пуста.
+	 */
+	public T tryRemoveFirst() {
+		long position = claimFirst();
+		if(position < 0L) {
+			throw new NoSuchElementException("Fail to remove first item: queue is empty.");
+		}
+		return releaseSlot((int) position & mask, position);
+	}
+
+	/**
+	 * Удаляет элементы из начала очереди и добавляет их в конец target в порядке их следования в очереди.
+	 * Элементы извлекаются группами: за каждую группу подряд идущих заполненных ячеек потребитель конкурирует
+	 * с другими потребителями только один раз. Метод завершается, когда очередь становится пустой или когда было
+	 * извлечено {@link #maxSize()} элементов.
+	 * @param target динамический массив, в конец которого добавляются извлеченные элементы.
+	 * @return кол-во извлеченных элементов.
+	 * @throws NullPointerException если target равен null.
+	 */
+	public int drainTo(DynamicArray<T> target) {
+		if(target == null) throw new NullPointerException("target can not be null.");
+		return drainTo(target::addLast);
+	}
+
+	/**
+	 * Удаляет элементы из начала очереди и передает их consumer в порядке их следования в очереди. Элементы
+	 * извлекаются группами, как в методе {@link #drainTo(DynamicArray)}. Если consumer выбрасывает исключение, то
+	 * оно пробрасывается из данного метода, а элементы группы, которые еще не были переданы consumer, удаляются из
+	 * очереди без обработки. Ячейки всех извлеченных элементов в любом случае освобождаются для производителей.
+	 * @param consumer получатель извлеченных элементов.
+	 * @return кол-во извлеченных элементов.
+	 * @throws NullPointerException если consumer равен null.
+	 */
+	public int drainTo(Consumer<? super T> consumer) {
+		if(consumer == null) throw new NullPointerException("consumer can not be null.");
+
+		int drainedValuesNumber = 0;
+		while(drainedValuesNumber < values.length) {
+			long head = (long) SEQUENCES.getVolatile(sequences, HEAD);
+			int limit = values.length - drainedValuesNumber;
+			int filledSlotsNumber = 0;
+			while(filledSlotsNumber < limit && slotSequence(head + filledSlotsNumber) == head + filledSlotsNumber + 1) {
+				++filledSlotsNumber;
+			}
+
+			if(filledSlotsNumber == 0) {
+				if(slotSequence(head) < head + 1) break;
+			} else if(SEQUENCES.compareAndSet(sequences, HEAD, head, head + filledSlotsNumber)) {
+				int releasedSlotsNumber = 0;
+				try {
+					while(releasedSlotsNumber < filledSlotsNumber) {
+						long position = head + releasedSlotsNumber++;
+						consumer.accept(releaseSlot((int) position & mask, position));
+					}
+				} finally {
+					for(; releasedSlotsNumber < filledSlotsNumber; ++releasedSlotsNumber) {
+						long position = head + releasedSlotsNumber;
+						releaseSlot((int) position & mask, position);
+					}
+				}
+				drainedValuesNumber += filledSlotsNumber;
+			}
+		}
+		return drainedValuesNumber;
+	}
+
+	/**
+	 * Возвращает массив содержащий элементы очереди в порядке их следования в очереди. Если очередь одновременно
+	 * изменяется другими потоками, то возвращаемый массив содержит только те элементы, которые находились в очереди
+	 * в течение всего времени их чтения данным методом.
+	 * @param itemType тип элементов возвращаемого массива.
+	 * @throws NullPointerException если itemType равен null.
+	 */
+	public T[] toArray(Class<T> itemType) {
+		DynamicArray<T> result = new DynamicArray<>();
+		long head = (long) SEQUENCES.getVolatile(sequences, HEAD);
+		long tail = (long) SEQUENCES.getVolatile(sequences, TAIL);
+		for(long position = head; position < tail; ++position) {
+			if(slotSequence(position) == position + 1) {
+				T value = values[(int) position & mask];
+				VarHandle.acquireFence();
+				if(slotSequence(position) == position + 1) result.addLast(value);
+			}
+		}
+		return result.toArray(itemType);
+	}
+
+	/**
+	 * Возвращает кол-во элементов в очереди.
+	 */
+	public int size() {
+		long tail = (long) SEQUENCES.getVolatile(sequences, TAIL);
+		while(true) {
+			long head = (long) SEQUENCES.getVolatile(sequences, HEAD);
+			long currentTail = (long) SEQUENCES.getVolatile(sequences, TAIL);
+			if(currentTail == tail) return (int) Math.max(0L, Math.min(values.length, tail - head));
+			tail = currentTail;
+		}
+	}
+
+	/**
+	 * Возвращает максимально возможное кол-во элементов, которое может хранить очередь.
+	 */
+	public int maxSize() {
+		return values.length;
+	}
+
+	/**
+	 * Проверяет - является ли очередь пустой.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Проверяет, выполняется ли условие {@link #size()} {@code <} {@link #maxSize()}.
+	 */
+	public boolean hasAvailableSpace() {
+		return size() < values.length;
+	}
+
+	@Override
+	public String toString() {
+		return "MpmcQueue{size=" + size() + ", maxSize=" + maxSize() + '}';
+	}
+
+
+	private long claimFirst() {
+		long head = (long) SEQUENCES.getVolatile(sequences, HEAD);
+		while(true) {
+			long difference = slotSequence(head) - (head + 1);
+			if(difference == 0L) {
+				long witness = (long) SEQUENCES.compareAndExchange(sequences, HEAD, head, head + 1);
+				if(witness == head) return head;
+				head = witness;
+			} else if(difference < 0L) {
+				return -1L;
+			} else {
+				head = (long) SEQUENCES.getVolatile(sequences, HEAD);
+			}
+		}
+	}
+
+	private long slotSequence(long position) {
+		return (long) SEQUENCES.getAcquire(slotSequences, (int) position & mask);
+	}
+
+	private T releaseSlot(int index, long position) {
+		T value = values[index];
+		values[index] = null;
+		SEQUENCES.setRelease(slotSequences, index, position + values.length);
+		return value;
+	}
+}
@@ -0,0 +1,528 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>Битовый вектор фиксированного размера, биты которого хранятся вне кучи Java - в памяти, выделенной с помощью
+ * Foreign Memory API ({@link Arena}, {@link MemorySegment}). Предназначен для очень больших битовых векторов:
+ * индексы бит имеют тип long, а хранимые биты не увеличивают размер кучи и не обрабатываются сборщиком мусора.</p>
+ *
+ * <p>Память, занимаемая объектом, освобождается явным вызовом метода {@link #close()}. После этого любой метод,
+ * обращающийся к битам, выбрасывает {@link IllegalStateException}. Рекомендуется использовать объект в конструкции
+ * try-with-resources.</p>
+ *
+ * <p>Размер объекта задается при создании и в дальнейшем не изменяется. Если операнды логических операций
+ * имеют разный размер, то операция выполняется так, как будто недостающие биты более короткого операнда заполнены
+ * нулями, а биты более длинного операнда, выходящие за пределы {@link #size()}, отбрасываются.</p>
+ *
+ * <p>Данный класс не является потокобезопасным, но объект может использоваться и закрываться в любом потоке.</p>
+ */
+public final class OffHeapBits implements AutoCloseable {
+
+	private static final ValueLayout.OfLong WORD = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+
+	private final Arena arena;
+	private final MemorySegment words;
+	private final long wordsNumber;
+	private final long size;
+
+	/**
+	 * Создает объект OffHeapBits, зарезервированный для хранения указанного кол-ва бит. Значение любого бита после
+	 * вызова этого конструктора будет равняться 0.
+	 * @param numberBits кол-во бит создаваемого объекта.
+	 * @throws NegativeSizeException если numberBits меньше нуля.
+	 * @throws OutOfMemoryError если не удалось выделить память необходимого размера.
+	 */
+	public OffHeapBits(long numberBits) {
+		this(numberBits, null);
+	}
+
+	/**
+	 * Создает точную копию переданного объекта OffHeapBits. Копия занимает отдельную область памяти и должна быть
+	 * закрыта независимо от оригинала.
+	 * @param other копируемый объект.
+	 * @throws NullPointerException если other равен null.
+	 * @throws IllegalStateException если other был закрыт.
+	 */
+	public OffHeapBits(OffHeapBits other) {
+		this(other.size, other);
+	}
+
+	private OffHeapBits(long numberBits, OffHeapBits source) {
+		assertNotNegativeSize(numberBits);
+
+		this.arena = Arena.ofShared();
+		this.size = numberBits;
+		this.wordsNumber = calculateWordsNumber(numberBits);
+		try {
+			this.words = arena.allocate(wordsNumber * Long.BYTES, Long.BYTES);
+			if(source != null) words.copyFrom(source.words);
+		} catch(RuntimeException | Error e) {
+			arena.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * <p>Создает объект OffHeapBits, использующий переданный сегмент памяти в качестве хранилища бит без копирования.
+	 * Изменения бит объекта отражаются в сегменте и наоборот. Биты хранятся в сегменте в том же формате, что и
+	 * у объекта, созданного конструктором: сгруппированными по 64 в значения типа long с порядком байт
+	 * little-endian, поэтому сегмент может содержать, например, данные, записанные методом
+	 * {@link Bits#writeTo(ByteBuffer)} без заголовка.</p>
+	 *
+	 * <p>Возвращаемый объект не владеет памятью сегмента: метод {@link #close()} у такого объекта ничего не делает,
+	 * а память освобождается владельцем сегмента. После освобождения памяти сегмента любой метод, обращающийся к
+	 * битам, выбрасывает {@link IllegalStateException}.</p>
+	 *
+	 * @param segment сегмент памяти, содержащий не менее {@code max(1, ceil(numberBits / 64))} выровненных по
+	 *                8 байтам значений типа long. Биты за пределами numberBits должны быть равны нулю.
+	 * @param numberBits кол-во бит создаваемого объекта.
+	 * @return новый объект OffHeapBits.
+	 * @throws NullPointerException если segment равен null.
+	 * @throws NegativeSizeException если numberBits меньше нуля.
+	 * @throws IndexOutOfBoundsException если сегмент меньше необходимого размера.
+	 * @throws IllegalArgumentException если сегмент не выровнен по 8 байтам, доступен только для чтения или если
+	 *                                  установлен хотя бы один бит за пределами numberBits.
+	 * @throws IllegalStateException если память сегмента уже освобождена.
+	 */
+	public static OffHeapBits view(MemorySegment segment, long numberBits) {
+		assertNotNegativeSize(numberBits);
+		if(segment.isReadOnly()) {
+			throw new IllegalArgumentException("Expected: writable segment; Actual: read-only segment");
+		}
+
+		long wordsNumber = calculateWordsNumber(numberBits);
+		MemorySegment words = segment.asSlice(0, wordsNumber * Long.BYTES, Long.BYTES);
+		OffHeapBits result = new OffHeapBits(null, words, numberBits);
+		long lastWord = result.word(wordsNumber - 1);
+		if(numberBits > 0 ? (lastWord & (-1L >>> -numberBits)) != lastWord : lastWord != 0L) {
+			throw new IllegalArgumentException(
+					"Expected: bits beyond numberBits are clear; Actual: numberBits=" + numberBits);
+		}
+		return result;
+	}
+
+	OffHeapBits(Arena arena, MemorySegment words, long size) {
+		this.arena = arena;
+		this.words = words;
+		this.size = size;
+		this.wordsNumber = calculateWordsNumber(size);
+	}
+
+	/**
+	 * Возвращает значение бита с указанным индексом.
+	 * @param index индекс бита.
+	 * @return true - если бит установлен в единицу, иначе - false.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public boolean get(long index) {
+		assertInHalfOpenInterval(index);
+		return (word(index >>> 6) & (1L << index)) != 0L;
+	}
+
+	/**
+	 * Устанавливает бит с указанным индексом в единицу.
+	 * @param index индекс бита, устанавливаемого в единицу.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void set(long index) {
+		assertInHalfOpenInterval(index);
+		long wordIndex = index >>> 6;
+		setWord(wordIndex, word(wordIndex) | (1L << index));
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в единицу. В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало заполняемого диапазона.
+	 * @param toIndex индекс, задающий конец заполняемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public OffHeapBits setRange(long fromIndex, long toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			long firstWordIndex = fromIndex >>> 6;
+			long lastWordIndex = (toIndex - 1) >>> 6;
+			long firstWordMask = -1L << fromIndex;
+			long lastWordMask = -1L >>> -toIndex;
+			if(firstWordIndex == lastWordIndex) {
+				setWord(firstWordIndex, word(firstWordIndex) | (firstWordMask & lastWordMask));
+			} else {
+				setWord(firstWordIndex, word(firstWordIndex) | firstWordMask);
+				wordsSlice(firstWordIndex + 1, lastWordIndex).fill((byte) -1);
+				setWord(lastWordIndex, word(lastWordIndex) | lastWordMask);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в единицу.
+	 * @return ссылку на этот же объект.
+	 */
+	public OffHeapBits setAll() {
+		if(size > 0) {
+			words.fill((byte) -1);
+			clearTail();
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает бит с указанным индексом в ноль.
+	 * @param index индекс бита, устанавливаемого в ноль.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void clear(long index) {
+		assertInHalfOpenInterval(index);
+		long wordIndex = index >>> 6;
+		setWord(wordIndex, word(wordIndex) & ~(1L << index));
+	}
+
+	/**
+	 * Устанавливает все биты в диапазоне [fromIndex, toIndex) в ноль. В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало очищаемого диапазона.
+	 * @param toIndex индекс, задающий конец очищаемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public OffHeapBits clearRange(long fromIndex, long toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			long firstWordIndex = fromIndex >>> 6;
+			long lastWordIndex = (toIndex - 1) >>> 6;
+			long firstWordMask = -1L << fromIndex;
+			long lastWordMask = -1L >>> -toIndex;
+			if(firstWordIndex == lastWordIndex) {
+				setWord(firstWordIndex, word(firstWordIndex) & ~(firstWordMask & lastWordMask));
+			} else {
+				setWord(firstWordIndex, word(firstWordIndex) & ~firstWordMask);
+				wordsSlice(firstWordIndex + 1, lastWordIndex).fill((byte) 0);
+				setWord(lastWordIndex, word(lastWordIndex) & ~lastWordMask);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Устанавливает все биты в ноль.
+	 * @return ссылку на этот же объект.
+	 */
+	public OffHeapBits clearAll() {
+		words.fill((byte) 0);
+		return this;
+	}
+
+	/**
+	 * Инвертирует значение бита с указанным индексом.
+	 * @param index индекс инвертируемого бита.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public void flip(long index) {
+		assertInHalfOpenInterval(index);
+		long wordIndex = index >>> 6;
+		setWord(wordIndex, word(wordIndex) ^ (1L << index));
+	}
+
+	/**
+	 * Инвертирует значения всех бит в диапазоне [fromIndex, toIndex). В случае если {@code fromIndex == toIndex},
+	 * метод не делает никаких изменений.
+	 * @param fromIndex индекс, задающий начало инвертируемого диапазона.
+	 * @param toIndex индекс, задающий конец инвертируемого диапазона.
+	 * @return ссылку на этот же объект.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex > toIndex || fromIndex < 0 || toIndex > } {@link #size()}
+	 */
+	public OffHeapBits flipRange(long fromIndex, long toIndex) {
+		assertCorrectRange(fromIndex, toIndex);
+
+		if(fromIndex < toIndex) {
+			long firstWordIndex = fromIndex >>> 6;
+			long lastWordIndex = (toIndex - 1) >>> 6;
+			long firstWordMask = -1L << fromIndex;
+			long lastWordMask = -1L >>> -toIndex;
+			if(firstWordIndex == lastWordIndex) {
+				setWord(firstWordIndex, word(firstWordIndex) ^ (firstWordMask & lastWordMask));
+			} else {
+				setWord(firstWordIndex, word(firstWordIndex) ^ firstWordMask);
+				for(long i = firstWordIndex + 1; i < lastWordIndex; ++i) setWord(i, ~word(i));
+				setWord(lastWordIndex, word(lastWordIndex) ^ lastWordMask);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Выполняет операцию пересечения двух множеств и записывает результат в текущий объект.
+	 * @param other второй операнд операции пересечения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public OffHeapBits and(OffHeapBits other) {
+		long commonWords = Math.min(wordsNumber, other.wordsNumber);
+		for(long i = 0; i < commonWords; ++i) setWord(i, word(i) & other.word(i));
+		if(commonWords < wordsNumber) wordsSlice(commonWords, wordsNumber).fill((byte) 0);
+		return this;
+	}
+
+	/**
+	 * Выполняет операцию объединения двух множеств и записывает результат в текущий объект.
+	 * @param other второй операнд операции объединения множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public OffHeapBits or(OffHeapBits other) {
+		long commonWords = Math.min(wordsNumber, other.wordsNumber);
+		for(long i = 0; i < commonWords; ++i) setWord(i, word(i) | other.word(i));
+		clearTail();
+		return this;
+	}
+
+	/**
+	 * Выполняет операцию симметричной разности двух множеств и записывает результат в текущий объект.
+	 * @param other второй операнд операции xor.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public OffHeapBits xor(OffHeapBits other) {
+		long commonWords = Math.min(wordsNumber, other.wordsNumber);
+		for(long i = 0; i < commonWords; ++i) setWord(i, word(i) ^ other.word(i));
+		clearTail();
+		return this;
+	}
+
+	/**
+	 * Выполняет операцию вычитания двух множеств и записывает результат в текущий объект.
+	 * @param other второй операнд операции разности множеств.
+	 * @return объект, у которого был вызван данный метод.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public OffHeapBits andNot(OffHeapBits other) {
+		long commonWords = Math.min(wordsNumber, other.wordsNumber);
+		for(long i = 0; i < commonWords; ++i) setWord(i, word(i) & ~other.word(i));
+		return this;
+	}
+
+	/**
+	 * Выполняет операцию дополнения множества и записывает результат в текущий объект.
+	 * @return объект, у которого был вызван данный метод.
+	 */
+	public OffHeapBits not() {
+		if(size > 0) {
+			for(long i = 0; i < wordsNumber; ++i) setWord(i, ~word(i));
+			clearTail();
+		}
+		return this;
+	}
+
+	/**
+	 * Возвращает кол-во бит установленных в единицу.
+	 */
+	public long cardinality() {
+		long countBits = 0L;
+		for(long i = 0; i < wordsNumber; ++i) countBits += Long.bitCount(word(i));
+		return countBits;
+	}
+
+	/**
+	 * Возвращает индекс самого старшего бита установленного в единицу. Если все биты установлены в ноль,
+	 * возвращает -1.
+	 */
+	public long getHighBitIndex() {
+		for(long i = wordsNumber - 1; i >= 0; --i) {
+			long word = word(i);
+			if(word != 0L) return (i << 6) + (63 - Long.numberOfLeadingZeros(word));
+		}
+		return -1L;
+	}
+
+	/**
+	 * Проверяет - установлены ли все биты в ноль.
+	 */
+	public boolean isClear() {
+		for(long i = 0; i < wordsNumber; ++i) {
+			if(word(i) != 0L) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Возвращает кол-во бит, которое хранит данный объект.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * <p>Возвращает индекс первого встретившегося бита установленного в единицу. Поиск ведется начиная с бита,
+	 * индекс которого указан в качестве аргумента, включая его.</p>
+	 *
+	 * <p>Если начиная с бита с указанным индексом нет ни одного единичного бита или
+	 * {@code fromIndex >= } {@link #size()} - метод вернет -1.</p>
+	 *
+	 * @param fromIndex индекс бита, с которого начинается поиск.
+	 * @return индекс первого встретившегося бита установленного в единицу или -1.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex < 0}.
+	 */
+	public long nextSetBit(long fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+
+		if(fromIndex < size) {
+			long wordIndex = fromIndex >>> 6;
+			long word = word(wordIndex) >>> fromIndex;
+			if(word != 0L) return fromIndex + Long.numberOfTrailingZeros(word);
+
+			for(++wordIndex; wordIndex < wordsNumber; ++wordIndex) {
+				word = word(wordIndex);
+				if(word != 0L) return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+			}
+		}
+
+		return -1L;
+	}
+
+	/**
+	 * <p>Возвращает индекс первого встретившегося бита установленного в ноль. Поиск ведется начиная с бита,
+	 * индекс которого указан в качестве аргумента, включая его.</p>
+	 *
+	 * <p>Если начиная с бита с указанным индексом нет ни одного нулевого бита или
+	 * {@code fromIndex >= } {@link #size()} - метод вернет -1.</p>
+	 *
+	 * @param fromIndex индекс бита, с которого начинается поиск.
+	 * @return индекс первого встретившегося бита установленного в ноль или -1.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex < 0}.
+	 */
+	public long nextClearBit(long fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+
+		long result = -1L;
+		if(fromIndex < size) {
+			long wordIndex = fromIndex >>> 6;
+			long word = ~word(wordIndex) >>> fromIndex;
+			if(word != 0L) {
+				result = fromIndex + Long.numberOfTrailingZeros(word);
+			} else {
+				for(++wordIndex; wordIndex < wordsNumber && result == -1L; ++wordIndex) {
+					word = ~word(wordIndex);
+					if(word != 0L) result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+				}
+			}
+		}
+
+		return result < size ? result : -1L;
+	}
+
+	/**
+	 * Проверяет - выполняется ли условие {@code index >= 0 && index < } {@link #size()}.
+	 */
+	public boolean inBound(long index) {
+		return index >= 0 && index < size;
+	}
+
+	/**
+	 * Проверяет - была ли освобождена память данного объекта вызовом метода {@link #close()}.
+	 */
+	public boolean isClosed() {
+		return !words.scope().isAlive();
+	}
+
+	/**
+	 * Освобождает память, занимаемую данным объектом. После вызова этого метода любой метод, обращающийся к битам,
+	 * будет выбрасывать {@link IllegalStateException}. Повторный вызов этого метода ничего не делает. Для объекта,
+	 * созданного методом {@link #view(MemorySegment, long)}, этот метод ничего не делает.
+	 */
+	@Override
+	public void close() {
+		if(arena != null && !isClosed()) arena.close();
+	}
+
+	/**
+	 * Два объекта OffHeapBits считаются одинаковыми если их размеры (значения возвращаемые методом {@link #size()})
+	 * равны и значения всех бит попарно равны.
+	 * @param other объект типа OffHeapBits, с которым производится сравнение.
+	 * @return true - если объекты равны, false - в противном случае.
+	 * @throws IllegalStateException если один из сравниваемых объектов был закрыт.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		OffHeapBits otherBits = (OffHeapBits) other;
+
+		return size == otherBits.size && words.mismatch(otherBits.words) == -1L;
+	}
+
+	/**
+	 * @throws IllegalStateException если объект был закрыт.
+	 */
+	@Override
+	public int hashCode() {
+		int result = 17;
+		for(long i = 0; i < wordsNumber; ++i) result = result * 31 + Long.hashCode(word(i));
+		result = result * 31 + Long.hashCode(size);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "OffHeapBits{size=" + size + ", count words=" + wordsNumber + ", closed=" + isClosed() + '}';
+	}
+
+
+	long word(long wordIndex) {
+		return words.getAtIndex(WORD, wordIndex);
+	}
+
+	private void setWord(long wordIndex, long word) {
+		words.setAtIndex(WORD, wordIndex, word);
+	}
+
+	private MemorySegment wordsSlice(long fromWordIndex, long toWordIndex) {
+		return words.asSlice(fromWordIndex * Long.BYTES, (toWordIndex - fromWordIndex) * Long.BYTES);
+	}
+
+	private void clearTail() {
+		long lastWordIndex = wordsNumber - 1;
+		if(size > 0) setWord(lastWordIndex, word(lastWordIndex) & (-1L >>> -size));
+		else setWord(0, 0L);
+	}
+
+	private void assertInHalfOpenInterval(long index) {
+		if(index < 0 || index >= size)
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index < size; Actual: index=" + index + ", size=" + size);
+	}
+
+	private void assertCorrectRange(long fromIndex, long toIndex) {
+		if(fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+			throw new IndexOutOfBoundsException("Incorrect interval [fromIndex=" + fromIndex +
+					", toIndex=" + toIndex + ')');
+		}
+	}
+
+	private void assertNotNegativeIndex(long index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Expected: index >= 0; Actual: index=" + index);
+		}
+	}
+
+	private static void assertNotNegativeSize(long size) {
+		if(size < 0) {
+			throw new NegativeSizeException("Expected: size >= 0; Actual: size=" + size);
+		}
+	}
+
+	static long calculateWordsNumber(long numberBits) {
+		return (Math.max(numberBits - 1, 0L) >>> 6) + 1;
+	}
+}
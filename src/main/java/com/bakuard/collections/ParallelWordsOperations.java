@@ -0,0 +1,175 @@
+package com.bakuard.collections;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>Параллельные операции над массивами 64-битных слов, из которых состоят битовые векторы. Массив рекурсивно
+ * делится пополам на части, границы которых кратны {@value #CACHE_LINE_WORDS} словам (64 байтам - размеру строки
+ * кеша), пока размер части больше {@value #LEAF_WORDS} слов. Части обрабатываются потоками общего пула
+ * {@link ForkJoinPool#commonPool()}.</p>
+ *
+ * <p>Если общий размер обрабатываемых слов в битах меньше {@link #THRESHOLD_BITS}, то операция целиком
+ * выполняется в вызывающем потоке. Порог задается системным свойством {@value #THRESHOLD_PROPERTY}
+ * (по умолчанию 2^24 бит).</p>
+ */
+final class ParallelWordsOperations {
+
+	static final String THRESHOLD_PROPERTY = "com.bakuard.collections.parallelThreshold";
+	static final int THRESHOLD_BITS = Math.max(0, Integer.getInteger(THRESHOLD_PROPERTY, 1 << 24));
+	private static final int LEAF_WORDS = 1 << 13;
+	private static final int CACHE_LINE_WORDS = 8;
+
+
+	private ParallelWordsOperations() {}
+
+	/**
+	 * Поэлементная операция, результат которой записывается в первый операнд.
+	 */
+	enum Operation {
+		AND, OR, XOR, AND_NOT
+	}
+
+	/**
+	 * Возвращает кол-во единичных бит во всех словах массива words.
+	 */
+	static int cardinality(long[] words) {
+		if(isBelowThreshold(words.length)) return cardinality(words, 0, words.length);
+		return ForkJoinPool.commonPool().invoke(new CardinalityTask(words, 0, words.length));
+	}
+
+	/**
+	 * Для всех i из [0, length) записывает в target[i] результат операции operation над target[i] и source[i].
+	 */
+	static void apply(Operation operation, long[] target, long[] source, int length) {
+		if(isBelowThreshold(length)) apply(operation, target, source, 0, length);
+		else ForkJoinPool.commonPool().invoke(new ApplyAction(operation, target, source, 0, length));
+	}
+
+	/**
+	 * Возвращает true, если для всех i из [0, length) слова a[i] и b[i] равны.
+	 */
+	static boolean equals(long[] a, long[] b, int length) {
+		if(isBelowThreshold(length)) return Arrays.equals(a, 0, length, b, 0, length);
+		return ForkJoinPool.commonPool().invoke(new EqualsTask(a, b, 0, length));
+	}
+
+	private static boolean isBelowThreshold(int length) {
+		return ((long) length << 6) < THRESHOLD_BITS;
+	}
+
+	private static int middle(int fromIndex, int toIndex) {
+		return fromIndex + (((toIndex - fromIndex) >>> 1) & -CACHE_LINE_WORDS);
+	}
+
+	private static int cardinality(long[] words, int fromIndex, int toIndex) {
+		int result = 0;
+		for(int i = fromIndex; i < toIndex; ++i) result += Long.bitCount(words[i]);
+		return result;
+	}
+
+	private static void apply(Operation operation, long[] target, long[] source, int fromIndex, int toIndex) {
+		switch(operation) {
+			case AND -> {
+				for(int i = fromIndex; i < toIndex; ++i) target[i] &= source[i];
+			}
+			case OR -> {
+				for(int i = fromIndex; i < toIndex; ++i) target[i] |= source[i];
+			}
+			case XOR -> {
+				for(int i = fromIndex; i < toIndex; ++i) target[i] ^= source[i];
+			}
+			case AND_NOT -> {
+				for(int i = fromIndex; i < toIndex; ++i) target[i] &= ~source[i];
+			}
+		}
+	}
+
+	private static final class CardinalityTask extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] words;
+		private final int fromIndex;
+		private final int toIndex;
+
+		private CardinalityTask(long[] words, int fromIndex, int toIndex) {
+			this.words = words;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+
+		@Override
+		protected Integer compute() {
+			if(toIndex - fromIndex <= LEAF_WORDS) return cardinality(words, fromIndex, toIndex);
+
+			int middle = middle(fromIndex, toIndex);
+			CardinalityTask left = new CardinalityTask(words, fromIndex, middle);
+			CardinalityTask right = new CardinalityTask(words, middle, toIndex);
+			invokeAll(left, right);
+			return left.join() + right.join();
+		}
+	}
+
+	private static final class ApplyAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Operation operation;
+		private final long[] target;
+		private final long[] source;
+		private final int fromIndex;
+		private final int toIndex;
+
+		private ApplyAction(Operation operation, long[] target, long[] source, int fromIndex, int toIndex) {
+			this.operation = operation;
+			this.target = target;
+			this.source = source;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+
+		@Override
+		protected void compute() {
+			if(toIndex - fromIndex <= LEAF_WORDS) {
+				apply(operation, target, source, fromIndex, toIndex);
+			} else {
+				int middle = middle(fromIndex, toIndex);
+				invokeAll(
+						new ApplyAction(operation, target, source, fromIndex, middle),
+						new ApplyAction(operation, target, source, middle, toIndex)
+				);
+			}
+		}
+	}
+
+	private static final class EqualsTask extends RecursiveTask<Boolean> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] a;
+		private final long[] b;
+		private final int fromIndex;
+		private final int toIndex;
+
+		private EqualsTask(long[] a, long[] b, int fromIndex, int toIndex) {
+			this.a = a;
+			this.b = b;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+
+		@Override
+		protected Boolean compute() {
+			if(toIndex - fromIndex <= LEAF_WORDS) return Arrays.equals(a, fromIndex, toIndex, b, fromIndex, toIndex);
+
+			int middle = middle(fromIndex, toIndex);
+			EqualsTask left = new EqualsTask(a, b, fromIndex, middle);
+			EqualsTask right = new EqualsTask(a, b, middle, toIndex);
+			invokeAll(left, right);
+			return left.join() && right.join();
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.bakuard.collections;
 
+import com.bakuard.collections.exception.MaxSizeExceededException;
 import com.bakuard.collections.function.IndexBiConsumer;
 import com.bakuard.collections.function.IndexBiFunction;
 import com.bakuard.collections.function.IndexBiPredicate;
@@ -15,6 +16,11 @@ import java.util.function.Predicate;
 /**
  * <p>Реализация динамической очереди с объектами произвольного типа.</p>
  *
+ * <p>Емкость внутреннего массива очереди всегда является степенью двойки. Это позволяет вычислять позицию
+ * элемента во внутреннем массиве битовой маской, а не операцией взятия остатка от деления. Поэтому длина очереди
+ * не может превышать {@code 2^30 - 1} элементов: попытка добавить элемент в очередь такой длины выбрасывает
+ * {@link MaxSizeExceededException}.</p>
+ *
  * <p>Данный класс не является потокобезопасным.</p>
  */
 public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque {
@@ -29,6 +35,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 	 *
 	 * @param data элементы, включаемые в создаваемую очередь.
 	 * @throws NullPointerException если передаваемый массив элементов равен null.
+	 * @throws MaxSizeExceededException если итоговая длина очереди больше или равна {@code 2^30}.
 	 */
 	public static <T> Queue<T> of(T... data) {
 		if(data == null) throw new NullPointerException("data[] can not be null.");
@@ -38,7 +45,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 		return queue;
 	}
 
-	private static final int MIN_CAPACITY = 10;
+	private static final int MIN_CAPACITY = 16;
 
 
 	protected T[] values;
@@ -68,6 +75,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 	 * Создает новую очередь, копируя в неё все элементы iterable в порядке их возвращения итератором.
 	 * @param iterable структура данных, элементы которой копируются в новую очередь.
 	 * @throws NullPointerException если iterable равен null.
+	 * @throws MaxSizeExceededException если итоговая длина очереди больше или равна {@code 2^30}.
 	 */
 	public Queue(Iterable<T> iterable) {
 		this();
@@ -76,8 +84,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 
 	@SuppressWarnings("unchecked")
 	private Queue(int size) {
-		int capacity = Math.max(calculateCapacity(size), MIN_CAPACITY);
-		this.values = (T[]) new Object[calculateCapacity(capacity)];
+		this.values = (T[]) new Object[calculateCapacity(Math.max(size, MIN_CAPACITY - 1))];
 		this.lastItemIndex = size;
 	}
 
@@ -85,6 +92,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 	 * Добавляет элемент в конец очереди увеличивая его длину ({@link #size()}) на единицу.
 	 * Добавляемый элемент может иметь значение null.
 	 * @param value добавляемый элемент.
+	 * @throws MaxSizeExceededException если итоговая длина очереди больше или равна {@code 2^30}.
 	 */
 	public void addLast(T value) {
 		++actualModCount;
@@ -92,7 +100,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 		int currentSize = size();
 		grow(currentSize, currentSize + 1);
 		values[lastItemIndex] = value;
-		lastItemIndex = (lastItemIndex + 1) % values.length;
+		lastItemIndex = (lastItemIndex + 1) & (values.length - 1);
 	}
 
 	/**
@@ -100,6 +108,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 	 * добавляются в порядке их возвращения итератором.
 	 * @param iterable структура данных, все элементы которой добавляются в текущую очередь.
 	 * @throws NullPointerException если iterable равен null.
+	 * @throws MaxSizeExceededException если итоговая длина очереди больше или равна {@code 2^30}.
 	 */
 	public void addAllOnLast(Iterable<T> iterable) {
 		for(T value: iterable) addLast(value);
@@ -110,6 +119,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 	 * их следования в массиве.
 	 * @param data массив, все элементы которого добавляются в текущую очередь.
 	 * @throws NullPointerException если передаваемый массив элементов равен null.
+	 * @throws MaxSizeExceededException если итоговая длина очереди больше или равна {@code 2^30}.
 	 */
 	public void addAllOnLast(T... data) {
 		++actualModCount;
@@ -118,7 +128,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 		grow(currentSize, currentSize + data.length);
 		for(T item : data) {
 			values[lastItemIndex] = item;
-			lastItemIndex = (lastItemIndex + 1) % values.length;
+			lastItemIndex = (lastItemIndex + 1) & (values.length - 1);
 		}
 	}
 
@@ -136,7 +146,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 		if(!isEmpty()) {
 			result = values[firstItemIndex];
 			values[firstItemIndex] = null;
-			firstItemIndex = (firstItemIndex + 1) % values.length;
+			firstItemIndex = (firstItemIndex + 1) & (values.length - 1);
 		}
 
 		return result;
@@ -181,11 +191,12 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 	public boolean trimToSize() {
 		++actualModCount;
 
-		int size = Math.max(MIN_CAPACITY - 1, size());
-		boolean isTrim = size < values.length;
+		int size = size();
+		int capacity = calculateCapacity(Math.max(MIN_CAPACITY - 1, size));
+		boolean isTrim = capacity < values.length;
 
 		if(isTrim) {
-			T[] newValues = (T[]) new Object[size + 1];
+			T[] newValues = (T[]) new Object[capacity];
 			fillArray(newValues, size);
 			values = newValues;
 			firstItemIndex = 0;
@@ -213,7 +224,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 		assertInBoundByModulo(index);
 
 		return index < 0 ?
-				values[(firstItemIndex + size() + index) % values.length] :
+				values[(firstItemIndex + size() + index) & (values.length - 1)] :
 				unsafeGet(index);
 	}
 
@@ -221,9 +232,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 	 * {@inheritDoc}
 	 */
 	public int size() {
-		int size = lastItemIndex - firstItemIndex;
-		if(size < 0) size = values.length + size;
-		return size;
+		return (lastItemIndex - firstItemIndex) & (values.length - 1);
 	}
 
 	/**
@@ -426,7 +435,7 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 
 
 	protected T unsafeGet(int index) {
-		return values[(firstItemIndex + index) % values.length];
+		return values[(firstItemIndex + index) & (values.length - 1)];
 	}
 
 	@SuppressWarnings("unchecked")
@@ -441,7 +450,12 @@ public sealed class Queue<T> implements ReadableLinearStructure<T> permits Deque
 	}
 
 	protected int calculateCapacity(int size) {
-		return size + (size >>> 1);
+		if(size >= 1 << 30) {
+			throw new MaxSizeExceededException(
+					"Expected: size < " + (1 << 30) + ". Actual: size=" + size
+			);
+		}
+		return Integer.highestOneBit(size) << 1;
 	}
 
 	private void assertInBound(int index) {
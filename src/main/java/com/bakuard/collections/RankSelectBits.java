@@ -0,0 +1,290 @@
+package com.bakuard.collections;
+
+/**
+ * <p>Неизменяемый снимок битового вектора, дополненный индексом для быстрого выполнения операций rank
+ * (кол-во единичных бит перед заданной позицией) и select (позиция k-ого единичного бита). Позволяет, например,
+ * за константное время отображать позиции единичных бит в плотные порядковые номера и обратно.</p>
+ *
+ * <p>Объект строится один раз по любому {@link ReadableBits} и не зависит от него: последующие изменения исходного
+ * объекта не отражаются на снимке. Чтобы учесть изменения, постройте новый объект RankSelectBits.</p>
+ *
+ * <p>Индекс rank хранит для каждого блока из {@value #BLOCK_BITS} бит одно значение типа long: кол-во единичных бит
+ * перед блоком и кол-во единичных бит в первых трех из четырех его подблоков по {@value #SUBBLOCK_BITS} бит.
+ * Поэтому {@link #rank(int)} подсчитывает единичные биты не более чем в восьми 64-битных словах. Индекс select
+ * хранит номер блока для каждого {@value #SELECT_SAMPLE}-ого единичного бита. Суммарно индексы занимают примерно
+ * 3.5% от объема самих бит.</p>
+ *
+ * <p>Данный класс является потокобезопасным, так как его объекты неизменяемы.</p>
+ */
+public final class RankSelectBits implements ReadableBits {
+
+	private static final int BLOCK_BITS = 2048;
+	private static final int SUBBLOCK_BITS = 512;
+	private static final int SELECT_SAMPLE = 8192;
+	private static final int BLOCK_WORDS = BLOCK_BITS / 64;
+	private static final int SUBBLOCK_WORDS = SUBBLOCK_BITS / 64;
+
+
+	private final Bits bits;
+	private final long[] words;
+	private final long[] blocks;
+	private final int[] samples;
+	private final int cardinality;
+
+	/**
+	 * Создает неизменяемый снимок переданного объекта и строит для него индексы rank и select. Время работы
+	 * конструктора пропорционально {@link ReadableBits#size()}.
+	 * @param other объект, для которого создается снимок.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public RankSelectBits(ReadableBits other) {
+		bits = new Bits(other);
+		words = bits.words();
+		blocks = new long[(words.length + BLOCK_WORDS - 1) / BLOCK_WORDS];
+
+		long ranks = 0L;
+		for(int block = 0; block < blocks.length; ++block) {
+			long entry = ranks << 32;
+			int firstWord = block * BLOCK_WORDS;
+			for(int subblock = 0; subblock < 4; ++subblock) {
+				int count = popCount(firstWord + subblock * SUBBLOCK_WORDS, SUBBLOCK_WORDS);
+				if(subblock < 3) entry |= (long) count << (20 - subblock * 10);
+				ranks += count;
+			}
+			blocks[block] = entry;
+		}
+		cardinality = (int) ranks;
+
+		samples = new int[(cardinality + SELECT_SAMPLE - 1) / SELECT_SAMPLE];
+		for(int sample = 0, block = 0; sample < samples.length; ++sample) {
+			long rank = (long) sample * SELECT_SAMPLE;
+			while(block + 1 < blocks.length && blockRank(block + 1) <= rank) ++block;
+			samples[sample] = block;
+		}
+	}
+
+	/**
+	 * Возвращает кол-во единичных бит с индексами из полуинтервала [0, index). Время работы метода не зависит от
+	 * размера объекта.
+	 * @param index индекс бита, перед которым подсчитываются единичные биты.
+	 * @return кол-во единичных бит, индексы которых меньше index.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index <= } {@link #size()}
+	 */
+	public int rank(int index) {
+		if(index < 0 || index > bits.size()) {
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index <= size; Actual: index=" + index + ", size=" + bits.size());
+		}
+		if(index == bits.size()) return cardinality;
+
+		int block = index / BLOCK_BITS;
+		long entry = blocks[block];
+		int result = (int) (entry >>> 32);
+		int subblock = (index % BLOCK_BITS) / SUBBLOCK_BITS;
+		for(int i = 0; i < subblock; ++i) result += subblockCount(entry, i);
+
+		int wordIndex = index >>> 6;
+		result += popCount(block * BLOCK_WORDS + subblock * SUBBLOCK_WORDS, wordIndex & (SUBBLOCK_WORDS - 1));
+		result += Long.bitCount(words[wordIndex] & ((1L << index) - 1L));
+		return result;
+	}
+
+	/**
+	 * Возвращает индекс единичного бита с порядковым номером k (считая с нуля в порядке возрастания индексов).
+	 * Для любого единичного бита с индексом i выполняется {@code select(rank(i)) == i}.
+	 * @param k порядковый номер искомого единичного бита.
+	 * @return индекс k-ого единичного бита.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code k >= 0 && k < } {@link #cardinality()}
+	 */
+	public int select(int k) {
+		if(k < 0 || k >= cardinality) {
+			throw new IndexOutOfBoundsException(
+					"Expected: k >= 0 && k < cardinality; Actual: k=" + k + ", cardinality=" + cardinality);
+		}
+
+		int sample = k / SELECT_SAMPLE;
+		int low = samples[sample];
+		int high = sample + 1 < samples.length ? samples[sample + 1] : blocks.length - 1;
+		while(low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if(blockRank(middle) <= k) low = middle;
+			else high = middle - 1;
+		}
+
+		long entry = blocks[low];
+		int remaining = k - (int) (entry >>> 32);
+		int subblock = 0;
+		while(subblock < 3 && subblockCount(entry, subblock) <= remaining) {
+			remaining -= subblockCount(entry, subblock++);
+		}
+
+		int wordIndex = low * BLOCK_WORDS + subblock * SUBBLOCK_WORDS;
+		int count = Long.bitCount(words[wordIndex]);
+		while(count <= remaining) {
+			remaining -= count;
+			count = Long.bitCount(words[++wordIndex]);
+		}
+		return (wordIndex << 6) + Long.numberOfTrailingZeros(Long.expand(1L << remaining, words[wordIndex]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean get(int index) {
+		return bits.get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getWord(int wordIndex) {
+		return bits.getWord(wordIndex);
+	}
+
+	/**
+	 * Возвращает кол-во бит, установленных в единицу. Значение вычисляется при создании объекта, поэтому время
+	 * работы метода не зависит от размера объекта.
+	 * @return кол-во бит установленных в единицу.
+	 */
+	public int cardinality() {
+		return cardinality;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getHighBitIndex() {
+		return cardinality == 0 ? -1 : select(cardinality - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean isClear() {
+		return cardinality == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		return bits.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextSetBit(int fromIndex) {
+		return bits.nextSetBit(fromIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextClearBit(int fromIndex) {
+		return bits.nextClearBit(fromIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean contains(ReadableBits other) {
+		return bits.contains(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean intersect(ReadableBits other) {
+		return bits.intersect(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean inBound(int index) {
+		return bits.inBound(index);
+	}
+
+	/**
+	 * Два объекта RankSelectBits считаются одинаковыми если их размеры (значения возвращаемые методом {@link #size()})
+	 * равны и значения всех бит попарно равны.
+	 * @param other объект типа RankSelectBits, с которым производится сравнение.
+	 * @return true - если объекты равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		RankSelectBits otherBits = (RankSelectBits) other;
+		return bits.equals(otherBits.bits);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean equalsIgnoreSize(Object other) {
+		return this == other || bits.equalsIgnoreSize(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compareTo(ReadableBits other) {
+		return bits.compareTo(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int compareIgnoreSize(ReadableBits other) {
+		return bits.compareIgnoreSize(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return bits.hashCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int hashCodeIgnoreSize() {
+		return bits.hashCodeIgnoreSize();
+	}
+
+	@Override
+	public String toString() {
+		return "RankSelectBits{size=" + bits.size() + ", cardinality=" + cardinality +
+				", count blocks=" + blocks.length + ", count samples=" + samples.length + '}';
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String toBinaryString() {
+		return bits.toBinaryString();
+	}
+
+
+	long[] words() {
+		return words;
+	}
+
+	private int blockRank(int block) {
+		return (int) (blocks[block] >>> 32);
+	}
+
+	private int popCount(int fromWord, int wordsNumber) {
+		int result = 0;
+		for(int i = fromWord, to = Math.min(words.length, fromWord + wordsNumber); i < to; ++i) {
+			result += Long.bitCount(words[i]);
+		}
+		return result;
+	}
+
+	private static int subblockCount(long entry, int subblock) {
+		return (int) (entry >>> (20 - subblock * 10)) & 0x3FF;
+	}
+}
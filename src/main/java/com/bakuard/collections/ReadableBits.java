@@ -8,7 +8,8 @@ package com.bakuard.collections;
  *
  * <p>Используется как аналог boolean массивов, расходующий меньше памяти (на одно значение - один бит).</p>
  */
-public sealed interface ReadableBits extends Comparable<ReadableBits> permits Bits {
+public sealed interface ReadableBits extends Comparable<ReadableBits>
+		permits Bits, MappedBits, CompressedBits, RankSelectBits, AtomicBits, BitMatrix.Row, RunLengthBits {
 
 	/**
 	 * Возвращает значение бита с указанным индексом. Возвращает true - если бит установлен в 1, false - в противном
@@ -19,6 +20,20 @@ public sealed interface ReadableBits extends Comparable<ReadableBits> permits Bi
 	 */
 	public boolean get(int index);
 
+	/**
+	 * <p>Возвращает 64 бита, начиная с бита с индексом {@code wordIndex * 64}, в виде одного значения типа long.
+	 * Бит с индексом {@code wordIndex * 64 + i} соответствует i-ому биту возвращаемого значения (считая от младшего
+	 * бита).</p>
+	 *
+	 * <p>Биты, индексы которых больше или равны {@link #size()}, считаются равными нулю. В частности, если
+	 * {@code wordIndex * 64 >= } {@link #size()}, то метод вернет 0.</p>
+	 *
+	 * @param wordIndex порядковый номер группы из 64 бит.
+	 * @return 64 бита с указанным порядковым номером.
+	 * @throws IndexOutOfBoundsException если {@code wordIndex < 0}.
+	 */
+	public long getWord(int wordIndex);
+
 	/**
 	 * Возвращает кол-во бит, установленных в единицу.
 	 * @return кол-во бит установленных в единицу.
@@ -140,8 +155,9 @@ public sealed interface ReadableBits extends Comparable<ReadableBits> permits Bi
 	public int compareIgnoreSize(ReadableBits other);
 
 	/**
-	 * Возвращает хеш-код текущего объекта Bits, как для целого беззнакового числа. Остальные требования к этому
-	 * методу аналогичны требованиям к методу {@link Object#hashCode()}.
+	 * Возвращает хеш-код текущего объекта Bits, как для целого беззнакового числа. Объекты, равные согласно
+	 * {@link #equalsIgnoreSize(Object)}, имеют одинаковый хеш-код независимо от их размеров и реализации. Остальные
+	 * требования к этому методу аналогичны требованиям к методу {@link Object#hashCode()}.
 	 */
 	public int hashCodeIgnoreSize();
 
@@ -130,11 +130,11 @@ public final class RingBuffer<T> implements ReadableLinearStructure<T> {
 		if(maxSize() == 0) {
 			rewritingValue = value;
 		} else if(hasAvailableSpace()) {
-			values[(firstItemIndex + currentSize++) % values.length] = value;
+			values[toArrayIndex(currentSize++)] = value;
 		} else {
 			rewritingValue = values[firstItemIndex];
 			values[firstItemIndex] = value;
-			firstItemIndex = (firstItemIndex + 1) % values.length;
+			firstItemIndex = toArrayIndex(1);
 		}
 
 		return rewritingValue;
@@ -214,7 +214,7 @@ public final class RingBuffer<T> implements ReadableLinearStructure<T> {
 		++actualModCount;
 
 		boolean canBeAdded = hasAvailableSpace();
-		if(canBeAdded) values[(firstItemIndex + currentSize++) % values.length] = value;
+		if(canBeAdded) values[toArrayIndex(currentSize++)] = value;
 		return canBeAdded;
 	}
 
@@ -261,8 +261,10 @@ public final class RingBuffer<T> implements ReadableLinearStructure<T> {
 
 		final int addedValuesNumber = Math.min(values.length - currentSize, data.length);
 		if(addedValuesNumber > 0) {
-			final int startIndex = (firstItemIndex + currentSize) % values.length;
-			System.arraycopy(data, 0, values, startIndex, addedValuesNumber);
+			final int startIndex = toArrayIndex(currentSize);
+			final int lengthBeforeWrap = Math.min(addedValuesNumber, values.length - startIndex);
+			System.arraycopy(data, 0, values, startIndex, lengthBeforeWrap);
+			System.arraycopy(data, lengthBeforeWrap, values, 0, addedValuesNumber - lengthBeforeWrap);
 			currentSize += addedValuesNumber;
 		}
 
@@ -285,7 +287,7 @@ public final class RingBuffer<T> implements ReadableLinearStructure<T> {
 							maxSize() + ", added item: " + value
 			);
 		}
-		values[(firstItemIndex + currentSize++) % values.length] = value;
+		values[toArrayIndex(currentSize++)] = value;
 	}
 
 	/**
@@ -303,7 +305,7 @@ public final class RingBuffer<T> implements ReadableLinearStructure<T> {
 		if(!isEmpty()) {
 			removedValue = values[firstItemIndex];
 			values[firstItemIndex] = null;
-			firstItemIndex = (firstItemIndex + 1) % values.length;
+			firstItemIndex = toArrayIndex(1);
 			--currentSize;
 		}
 		return removedValue;
@@ -371,7 +373,7 @@ public final class RingBuffer<T> implements ReadableLinearStructure<T> {
 		assertInBoundByModulo(index);
 
 		return index < 0 ?
-				values[(firstItemIndex + currentSize + index) % values.length] :
+				values[toArrayIndex(currentSize + index)] :
 				unsafeGet(index);
 	}
 
@@ -604,7 +606,12 @@ public final class RingBuffer<T> implements ReadableLinearStructure<T> {
 
 
 	private T unsafeGet(int index) {
-		return values[(firstItemIndex + index) % values.length];
+		return values[toArrayIndex(index)];
+	}
+
+	private int toArrayIndex(int index) {
+		int lengthBeforeWrap = values.length - firstItemIndex;
+		return index < lengthBeforeWrap ? firstItemIndex + index : index - lengthBeforeWrap;
 	}
 
 	private void assertInBound(int index) {
@@ -631,9 +638,9 @@ public final class RingBuffer<T> implements ReadableLinearStructure<T> {
 
 	private void fillArray(T[] array) {
 		if(currentSize > 0) {
-			int lengthBeforeWrap = values.length - firstItemIndex;
+			int lengthBeforeWrap = Math.min(currentSize, values.length - firstItemIndex);
 			System.arraycopy(values, firstItemIndex, array, 0, lengthBeforeWrap);
-			System.arraycopy(values, 0, array, lengthBeforeWrap, values.length - lengthBeforeWrap);
+			System.arraycopy(values, 0, array, lengthBeforeWrap, currentSize - lengthBeforeWrap);
 		}
 	}
 
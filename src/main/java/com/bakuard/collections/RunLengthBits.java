@@ -0,0 +1,303 @@
+package com.bakuard.collections;
+
+import java.util.Arrays;
+
+/**
+ * <p>Неизменяемый снимок битового вектора, хранящий только границы последовательностей подряд идущих единичных бит
+ * (run-length encoding). Каждая такая последовательность занимает 8 байт независимо от своей длины, поэтому
+ * битовые векторы, состоящие из небольшого кол-ва длинных последовательностей единиц и нулей (например, карты
+ * занятых блоков после дефрагментации), занимают на порядки меньше памяти, чем {@link Bits} того же размера.</p>
+ *
+ * <p>Объект строится один раз по любому {@link ReadableBits} (см. также {@link Bits#toRunLengthEncoded()}) и не
+ * зависит от него: последующие изменения исходного объекта не отражаются на снимке.</p>
+ *
+ * <p>Методы {@link #get(int)}, {@link #getWord(int)}, {@link #nextSetBit(int)}, {@link #nextClearBit(int)} и
+ * {@link #previousSetBit(int)} выполняют двоичный поиск по границам последовательностей и работают за время
+ * O(log(r)), где r - кол-во последовательностей единичных бит (см. {@link #runsNumber()}). Методы
+ * {@link #cardinality()}, {@link #getHighBitIndex()} и {@link #isClear()} работают за константное время.
+ * Логические операции {@link Bits#and(ReadableBits)}, {@link Bits#or(ReadableBits)}, {@link Bits#xor(ReadableBits)}
+ * и {@link Bits#andNot(ReadableBits)}, которым передается объект RunLengthBits, обрабатывают каждую
+ * последовательность целиком и не распаковывают данный объект. Методы {@link #compareTo(ReadableBits)},
+ * {@link #compareIgnoreSize(ReadableBits)}, {@link #hashCode()}, {@link #hashCodeIgnoreSize()} и
+ * {@link #toBinaryString()} временно распаковывают данный объект, и их время работы пропорционально
+ * {@link #size()}.</p>
+ *
+ * <p>Данный класс является потокобезопасным, так как его объекты неизменяемы.</p>
+ */
+public final class RunLengthBits implements ReadableBits {
+
+	private final int size;
+	private final int[] bounds;
+	private final int cardinality;
+
+	/**
+	 * Создает неизменяемый снимок переданного объекта. Время работы конструктора пропорционально времени перебора
+	 * всех последовательностей единичных бит объекта other с помощью методов {@link ReadableBits#nextSetBit(int)}
+	 * и {@link ReadableBits#nextClearBit(int)}.
+	 * @param other объект, для которого создается снимок.
+	 * @throws NullPointerException если other равен null.
+	 */
+	public RunLengthBits(ReadableBits other) {
+		size = other.size();
+
+		int[] result = new int[16];
+		int length = 0;
+		int count = 0;
+		int start = other.nextSetBit(0);
+		while(start != -1) {
+			int end = other.nextClearBit(start);
+			if(end == -1) end = size;
+			if(length == result.length) result = Arrays.copyOf(result, length << 1);
+			result[length++] = start;
+			result[length++] = end;
+			count += end - start;
+			start = other.nextSetBit(end);
+		}
+		bounds = Arrays.copyOf(result, length);
+		cardinality = count;
+	}
+
+	/**
+	 * Возвращает кол-во последовательностей подряд идущих единичных бит, каждая из которых ограничена нулевыми
+	 * битами или границами объекта.
+	 * @return кол-во последовательностей подряд идущих единичных бит.
+	 */
+	public int runsNumber() {
+		return bounds.length >>> 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean get(int index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(
+					"Expected: index >= 0 && index < size; Actual: index=" + index + ", size=" + size);
+		}
+		return (boundsNumberBefore(index) & 1) == 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getWord(int wordIndex) {
+		assertNotNegativeIndex(wordIndex);
+
+		long firstBit = (long) wordIndex << 6;
+		if(firstBit >= size) return 0L;
+
+		int fromIndex = (int) firstBit;
+		int toIndex = (int) Math.min(firstBit + 64, size);
+		long result = 0L;
+		for(int i = boundsNumberBefore(fromIndex) & ~1; i < bounds.length && bounds[i] < toIndex; i += 2) {
+			int start = Math.max(bounds[i], fromIndex) - fromIndex;
+			int end = Math.min(bounds[i + 1], toIndex) - fromIndex;
+			result |= (-1L << start) & (-1L >>> (64 - end));
+		}
+		return result;
+	}
+
+	/**
+	 * Возвращает кол-во бит, установленных в единицу. Значение вычисляется при создании объекта, поэтому время
+	 * работы метода не зависит от размера объекта.
+	 * @return кол-во бит установленных в единицу.
+	 */
+	public int cardinality() {
+		return cardinality;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getHighBitIndex() {
+		return bounds.length == 0 ? -1 : bounds[bounds.length - 1] - 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean isClear() {
+		return bounds.length == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextSetBit(int fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+		if(fromIndex >= size) return -1;
+
+		int boundIndex = boundsNumberBefore(fromIndex);
+		if((boundIndex & 1) == 1) return fromIndex;
+		return boundIndex < bounds.length ? bounds[boundIndex] : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int nextClearBit(int fromIndex) {
+		assertNotNegativeIndex(fromIndex);
+		if(fromIndex >= size) return -1;
+
+		int boundIndex = boundsNumberBefore(fromIndex);
+		if((boundIndex & 1) == 0) return fromIndex;
+		return bounds[boundIndex] < size ? bounds[boundIndex] : -1;
+	}
+
+	/**
+	 * Аналог метода {@link Bits#previousSetBit(int)}.
+	 * @param fromIndex индекс бита, с которого начинается поиск.
+	 * @return индекс первого встретившегося бита установленного в единицу или -1.
+	 * @throws IndexOutOfBoundsException если {@code fromIndex < -1}.
+	 */
+	public int previousSetBit(int fromIndex) {
+		if(fromIndex < -1) {
+			throw new IndexOutOfBoundsException("Expected: index >= -1; Actual: index=" + fromIndex);
+		}
+
+		fromIndex = Math.min(fromIndex, size - 1);
+		if(fromIndex < 0) return -1;
+
+		int boundIndex = boundsNumberBefore(fromIndex);
+		if((boundIndex & 1) == 1) return fromIndex;
+		return boundIndex > 0 ? bounds[boundIndex - 1] - 1 : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean contains(ReadableBits other) {
+		int next = other.nextSetBit(0);
+		while(next != -1) {
+			int boundIndex = boundsNumberBefore(next);
+			if((boundIndex & 1) == 0) return false;
+			next = other.nextSetBit(bounds[boundIndex]);
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean intersect(ReadableBits other) {
+		int boundIndex = 0;
+		while(boundIndex < bounds.length) {
+			int next = other.nextSetBit(bounds[boundIndex]);
+			if(next == -1) return false;
+			boundIndex = boundsNumberBefore(next);
+			if((boundIndex & 1) == 1) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean inBound(int index) {
+		return index >= 0 && index < size;
+	}
+
+	/**
+	 * Два объекта RunLengthBits считаются одинаковыми если их размеры (значения возвращаемые методом {@link #size()})
+	 * равны и значения всех бит попарно равны.
+	 * @param other объект типа RunLengthBits, с которым производится сравнение.
+	 * @return true - если объекты равны, false - в противном случае.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) return true;
+		if(other == null || getClass() != other.getClass()) return false;
+		RunLengthBits otherBits = (RunLengthBits) other;
+		return size == otherBits.size && Arrays.equals(bounds, otherBits.bounds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean equalsIgnoreSize(Object other) {
+		if(this == other) return true;
+		if(!(other instanceof ReadableBits otherBits)) return false;
+		return cardinality == otherBits.cardinality() && contains(otherBits);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int compareTo(ReadableBits other) {
+		return toBits().compareTo(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int compareIgnoreSize(ReadableBits other) {
+		return toBits().compareIgnoreSize(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return toBits().hashCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int hashCodeIgnoreSize() {
+		return toBits().hashCodeIgnoreSize();
+	}
+
+	@Override
+	public String toString() {
+		return "RunLengthBits{size=" + size + ", cardinality=" + cardinality + ", count runs=" + runsNumber() + '}';
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String toBinaryString() {
+		return toBits().toBinaryString();
+	}
+
+
+	int[] bounds() {
+		return bounds;
+	}
+
+	long[] toWords(int wordsNumber) {
+		long[] result = new long[wordsNumber];
+		long toIndex = (long) wordsNumber << 6;
+		for(int i = 0; i < bounds.length && bounds[i] < toIndex; i += 2) {
+			Bits.setWords(result, bounds[i], (int) Math.min(bounds[i + 1], toIndex));
+		}
+		return result;
+	}
+
+	private Bits toBits() {
+		return Bits.wrap(toWords(Math.max(1, (size + 63) >>> 6)), size);
+	}
+
+	private int boundsNumberBefore(int index) {
+		int low = 0;
+		int high = bounds.length;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(bounds[middle] <= index) low = middle + 1;
+			else high = middle;
+		}
+		return low;
+	}
+
+	private void assertNotNegativeIndex(int index) {
+		if(index < 0) {
+			throw new IndexOutOfBoundsException("Expected: index >= 0; Actual: index=" + index);
+		}
+	}
+}
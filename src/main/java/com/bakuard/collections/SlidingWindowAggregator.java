@@ -0,0 +1,159 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * <p>Скользящее окно из последних {@link #windowSize()} элементов, поддерживающее результат свертки всех элементов
+ * окна произвольной ассоциативной операцией (сумма, минимум, максимум, наибольший общий делитель, конкатенация и
+ * т.д.). Элементы окна хранятся в {@link RingBuffer}, при переполнении которого самый старый элемент вытесняется
+ * (см. {@link RingBuffer#addLastOrReplace(Object)}).</p>
+ *
+ * <p>В отличие от вызова {@link RingBuffer#reduce(BinaryOperator)} после каждого добавления, требующего
+ * O(N) применений операции, данный класс применяет операцию в среднем O(1) раз на одно добавление, удаление или
+ * запрос результата. Для этого окно делится на две части (схема "очередь на двух стеках"): для более старой части
+ * хранятся свертки всех её суффиксов, а для более новой - свертка всех её элементов. Когда старая часть
+ * заканчивается, все элементы окна переносятся в нее за O(N) операций, что происходит не чаще одного раза на N
+ * вытеснений.</p>
+ *
+ * <p>Операция должна быть ассоциативной, но не обязана быть коммутативной: элементы всегда сворачиваются в порядке
+ * их добавления.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class SlidingWindowAggregator<T> {
+
+	private final RingBuffer<T> window;
+	private final BinaryOperator<T> operator;
+	private final T[] frontAggregates;
+	private int frontStart;
+	private int frontSize;
+	private T backAggregate;
+	private int backSize;
+
+	/**
+	 * Создает пустое скользящее окно заданного размера.
+	 * @param windowSize максимальное кол-во элементов в окне.
+	 * @param operator ассоциативная операция, которой сворачиваются элементы окна.
+	 * @throws NegativeSizeException если {@code windowSize < 0}
+	 * @throws NullPointerException если operator равен null.
+	 */
+	@SuppressWarnings("unchecked")
+	public SlidingWindowAggregator(int windowSize, BinaryOperator<T> operator) {
+		if(windowSize < 0) {
+			throw new NegativeSizeException("Expected: windowSize >= 0; Actual: windowSize=" + windowSize);
+		}
+		this.operator = Objects.requireNonNull(operator, "operator can not be null.");
+		window = new RingBuffer<>(windowSize);
+		frontAggregates = (T[]) new Object[windowSize];
+	}
+
+	/**
+	 * Добавляет элемент в конец окна. Если окно заполнено, то самый старый элемент вытесняется из окна и
+	 * возвращается в качестве результата. Если окно не заполнено, то метод возвращает null. Если
+	 * {@link #windowSize()} {@code == 0}, то метод возвращает добавляемый элемент, не изменяя окно.
+	 * @param value добавляемый элемент.
+	 * @return вытесненный элемент, добавляемый элемент или null (см. описание метода).
+	 */
+	public T add(T value) {
+		if(window.maxSize() == 0) return value;
+
+		if(!window.hasAvailableSpace()) removeFromFront();
+		T replaced = window.addLastOrReplace(value);
+		backAggregate = backSize++ == 0 ? value : operator.apply(backAggregate, value);
+		return replaced;
+	}
+
+	/**
+	 * Удаляет самый старый элемент окна и возвращает его. Если окно пусто, то возвращает null.
+	 */
+	public T removeFirst() {
+		if(window.isEmpty()) return null;
+
+		removeFromFront();
+		return window.removeFirst();
+	}
+
+	/**
+	 * Удаляет все элементы окна.
+	 */
+	public void clear() {
+		window.clear();
+		Arrays.fill(frontAggregates, null);
+		frontStart = 0;
+		frontSize = 0;
+		backAggregate = null;
+		backSize = 0;
+	}
+
+	/**
+	 * Возвращает результат свертки всех элементов окна в порядке их добавления. Если окно пусто, то возвращает null.
+	 * Если окно содержит один элемент, то возвращает этот элемент.
+	 */
+	public T aggregate() {
+		if(frontSize == 0) return backAggregate;
+
+		T frontAggregate = frontAggregates[frontStart];
+		return backSize == 0 ? frontAggregate : operator.apply(frontAggregate, backAggregate);
+	}
+
+	/**
+	 * Возвращает элемент окна по его индексу. Самый старый элемент окна имеет индекс 0.
+	 * @param index индекс элемента окна.
+	 * @throws IndexOutOfBoundsException если не выполняется условие {@code index >= 0 && index < } {@link #size()}
+	 */
+	public T get(int index) {
+		return window.get(index);
+	}
+
+	/**
+	 * Возвращает кол-во элементов в окне.
+	 */
+	public int size() {
+		return window.size();
+	}
+
+	/**
+	 * Возвращает максимальное кол-во элементов в окне.
+	 */
+	public int windowSize() {
+		return window.maxSize();
+	}
+
+	/**
+	 * Проверяет - является ли окно пустым.
+	 */
+	public boolean isEmpty() {
+		return window.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "SlidingWindowAggregator{windowSize=" + window.maxSize() + ", size=" + window.size() +
+				", aggregate=" + aggregate() + '}';
+	}
+
+
+	private void removeFromFront() {
+		if(frontSize == 0) moveAllToFront();
+		frontAggregates[frontStart++] = null;
+		--frontSize;
+	}
+
+	private void moveAllToFront() {
+		int size = window.size();
+		T aggregate = window.get(size - 1);
+		frontAggregates[size - 1] = aggregate;
+		for(int i = size - 2; i >= 0; --i) {
+			aggregate = operator.apply(window.get(i), aggregate);
+			frontAggregates[i] = aggregate;
+		}
+		frontStart = 0;
+		frontSize = size;
+		backAggregate = null;
+		backSize = 0;
+	}
+}
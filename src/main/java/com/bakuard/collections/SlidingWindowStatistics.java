@@ -0,0 +1,248 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Скользящее окно из последних {@link #windowSize()} значений типа double, поддерживающее сумму, среднее
+ * значение, дисперсию, минимум и максимум значений окна. При переполнении окна самое старое значение вытесняется,
+ * как в {@link RingBuffer#addLastOrReplace(Object)}. Значения хранятся без упаковки в циклическом массиве.</p>
+ *
+ * <p>Добавление и удаление значений выполняется за амортизированное время O(1), а все статистики возвращаются за
+ * время O(1):</p>
+ * <ul>
+ *     <li>Сумма, среднее значение и дисперсия обновляются инкрементально (алгоритм Уэлфорда с поддержкой
+ *     удаления значений). Чтобы погрешность округления не накапливалась, они пересчитываются заново после каждых
+ *     {@link #windowSize()} вытеснений или удалений.</li>
+ *     <li>Минимум и максимум хранятся в монотонных очередях позиций значений: очередь для максимума содержит
+ *     значения окна в порядке убывания, а очередь для минимума - в порядке возрастания. Каждое значение
+ *     добавляется в каждую очередь и удаляется из нее не более одного раза.</li>
+ * </ul>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class SlidingWindowStatistics {
+
+	private final double[] samples;
+	private int first;
+	private int count;
+	private int removalsBeforeRecount;
+
+	private double sum;
+	private double mean;
+	private double m2;
+
+	private final int[] minQueue;
+	private int minHead;
+	private int minSize;
+	private final int[] maxQueue;
+	private int maxHead;
+	private int maxSize;
+
+	/**
+	 * Создает пустое скользящее окно заданного размера.
+	 * @param windowSize максимальное кол-во значений в окне.
+	 * @throws NegativeSizeException если {@code windowSize < 0}
+	 */
+	public SlidingWindowStatistics(int windowSize) {
+		if(windowSize < 0) {
+			throw new NegativeSizeException("Expected: windowSize >= 0; Actual: windowSize=" + windowSize);
+		}
+		samples = new double[windowSize];
+		minQueue = new int[windowSize];
+		maxQueue = new int[windowSize];
+		removalsBeforeRecount = windowSize;
+	}
+
+	/**
+	 * Добавляет значение в конец окна. Если окно заполнено, то самое старое значение вытесняется из окна. Если
+	 * {@link #windowSize()} {@code == 0}, то метод не изменяет окно.
+	 * @param value добавляемое значение.
+	 */
+	public void add(double value) {
+		if(samples.length == 0) return;
+
+		if(count == samples.length) {
+			double evicted = samples[first];
+			int position = first;
+			removeFromQueues(position);
+			first = next(first);
+			samples[position] = value;
+			addToQueues(position, value);
+
+			double delta = value - evicted;
+			double oldMean = mean;
+			sum += delta;
+			mean += delta / count;
+			m2 += delta * (value - mean + evicted - oldMean);
+			if(--removalsBeforeRecount == 0) recount();
+		} else {
+			int position = wrap(first + count++);
+			samples[position] = value;
+			addToQueues(position, value);
+
+			double delta = value - mean;
+			sum += value;
+			mean += delta / count;
+			m2 += delta * (value - mean);
+		}
+	}
+
+	/**
+	 * Удаляет самое старое значение окна и возвращает его.
+	 * @return удаленное значение.
+	 * @throws NoSuchElementException если окно пусто.
+	 */
+	public double removeFirst() {
+		if(count == 0) {
+			throw new NoSuchElementException("Fail to remove first value: window is empty.");
+		}
+
+		double removed = samples[first];
+		removeFromQueues(first);
+		first = next(first);
+		if(--count == 0) {
+			clear();
+		} else {
+			double oldMean = mean;
+			sum -= removed;
+			mean -= (removed - mean) / count;
+			m2 -= (removed - oldMean) * (removed - mean);
+			if(--removalsBeforeRecount == 0) recount();
+		}
+		return removed;
+	}
+
+	/**
+	 * Удаляет все значения окна.
+	 */
+	public void clear() {
+		first = 0;
+		count = 0;
+		removalsBeforeRecount = samples.length;
+		sum = 0.0;
+		mean = 0.0;
+		m2 = 0.0;
+		minHead = 0;
+		minSize = 0;
+		maxHead = 0;
+		maxSize = 0;
+	}
+
+	/**
+	 * Возвращает кол-во значений в окне.
+	 */
+	public int count() {
+		return count;
+	}
+
+	/**
+	 * Возвращает максимальное кол-во значений в окне.
+	 */
+	public int windowSize() {
+		return samples.length;
+	}
+
+	/**
+	 * Проверяет - является ли окно пустым.
+	 */
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Возвращает сумму значений окна. Если окно пусто, то возвращает 0.
+	 */
+	public double sum() {
+		return sum;
+	}
+
+	/**
+	 * Возвращает среднее арифметическое значений окна. Если окно пусто, то возвращает {@link Double#NaN}.
+	 */
+	public double mean() {
+		return count == 0 ? Double.NaN : mean;
+	}
+
+	/**
+	 * Возвращает дисперсию значений окна (сумму квадратов отклонений от среднего, деленную на {@link #count()}).
+	 * Если окно пусто, то возвращает {@link Double#NaN}.
+	 */
+	public double variance() {
+		return count == 0 ? Double.NaN : Math.max(0.0, m2 / count);
+	}
+
+	/**
+	 * Возвращает стандартное отклонение значений окна - квадратный корень из {@link #variance()}. Если окно пусто,
+	 * то возвращает {@link Double#NaN}.
+	 */
+	public double standardDeviation() {
+		return Math.sqrt(variance());
+	}
+
+	/**
+	 * Возвращает наименьшее значение окна. Если окно пусто, то возвращает {@link Double#NaN}.
+	 */
+	public double min() {
+		return count == 0 ? Double.NaN : samples[minQueue[minHead]];
+	}
+
+	/**
+	 * Возвращает наибольшее значение окна. Если окно пусто, то возвращает {@link Double#NaN}.
+	 */
+	public double max() {
+		return count == 0 ? Double.NaN : samples[maxQueue[maxHead]];
+	}
+
+	@Override
+	public String toString() {
+		return "SlidingWindowStatistics{windowSize=" + samples.length + ", count=" + count + ", sum=" + sum() +
+				", mean=" + mean() + ", variance=" + variance() + ", min=" + min() + ", max=" + max() + '}';
+	}
+
+
+	private void addToQueues(int position, double value) {
+		while(minSize > 0 && samples[minQueue[wrap(minHead + minSize - 1)]] >= value) --minSize;
+		minQueue[wrap(minHead + minSize++)] = position;
+
+		while(maxSize > 0 && samples[maxQueue[wrap(maxHead + maxSize - 1)]] <= value) --maxSize;
+		maxQueue[wrap(maxHead + maxSize++)] = position;
+	}
+
+	private void removeFromQueues(int position) {
+		if(minQueue[minHead] == position) {
+			minHead = next(minHead);
+			--minSize;
+		}
+		if(maxQueue[maxHead] == position) {
+			maxHead = next(maxHead);
+			--maxSize;
+		}
+	}
+
+	private void recount() {
+		double newSum = 0.0;
+		for(int i = 0; i < count; ++i) newSum += samples[wrap(first + i)];
+
+		double newMean = newSum / count;
+		double newM2 = 0.0;
+		for(int i = 0; i < count; ++i) {
+			double delta = samples[wrap(first + i)] - newMean;
+			newM2 += delta * delta;
+		}
+
+		sum = newSum;
+		mean = newMean;
+		m2 = newM2;
+		removalsBeforeRecount = samples.length;
+	}
+
+	private int next(int index) {
+		return wrap(index + 1);
+	}
+
+	private int wrap(int index) {
+		return index >= samples.length ? index - samples.length : index;
+	}
+}
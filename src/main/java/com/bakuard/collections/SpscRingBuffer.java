@@ -0,0 +1,229 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.MaxSizeExceededException;
+import com.bakuard.collections.exception.NegativeSizeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * <p>Реализация циклического буфера с объектами произвольного типа для передачи элементов между двумя потоками:
+ * одним потоком-производителем и одним потоком-потребителем (single-producer/single-consumer). Не использует
+ * блокировок.</p>
+ *
+ * <p>Методы добавления элементов ({@link #addLastOrSkip(Object)}, {@link #addLastOrReplace(Object)},
+ * {@link #addAllOnLastOrSkip(Object[])}) должны вызываться только из потока-производителя, а методы извлечения
+ * элементов ({@link #removeFirst()}, {@link #drainTo(DynamicArray)}) - только из потока-потребителя. Остальные
+ * методы могут вызываться из любого потока. Элемент, добавленный производителем, становится видимым потребителю
+ * вместе со всеми изменениями, выполненными производителем до его добавления.</p>
+ *
+ * <p>Начало и конец буфера хранятся в разных кеш-линиях, чтобы производитель и потребитель не мешали друг другу.
+ * Емкость внутреннего массива является степенью двойки, при этом максимальный размер буфера ({@link #maxSize()})
+ * остается ровно таким, каким он был указан при создании.</p>
+ *
+ * <p>Извлеченные элементы не удаляются из внутреннего массива немедленно, а перезаписываются последующими
+ * добавляемыми элементами. Поэтому буфер может удерживать ссылки на уже извлеченные элементы, но не больше,
+ * чем емкость его внутреннего массива.</p>
+ */
+public final class SpscRingBuffer<T> {
+
+	private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+	private static final int HEAD = 16;
+	private static final int CACHED_TAIL = HEAD + 1;
+	private static final int TAIL = 32;
+	private static final int CACHED_HEAD = TAIL + 1;
+	private static final int SEQUENCES_LENGTH = 48;
+
+
+	private final T[] values;
+	private final int mask;
+	private final int maxSize;
+	private final long[] sequences;
+
+	/**
+	 * Создает новый пустой циклический буфер с заданным максимальным размером.
+	 * @param maxSize максимальный размер циклического буфера.
+	 * @throws NegativeSizeException если {@code maxSize < 0}
+	 * @throws MaxSizeExceededException если {@code maxSize > 2^30}
+	 */
+	@SuppressWarnings("unchecked")
+	public SpscRingBuffer(int maxSize) {
+		if(maxSize < 0) {
+			throw new NegativeSizeException("Expected: maxSize >= 0. Actual: maxSize=" + maxSize);
+		}
+		if(maxSize > 1 << 30) {
+			throw new MaxSizeExceededException("Expected: maxSize <= " + (1 << 30) + ". Actual: maxSize=" + maxSize);
+		}
+
+		int capacity = maxSize <= 1 ? 1 : Integer.highestOneBit(maxSize - 1) << 1;
+		this.values = (T[]) new Object[capacity];
+		this.mask = capacity - 1;
+		this.maxSize = maxSize;
+		this.sequences = new long[SEQUENCES_LENGTH];
+	}
+
+	/**
+	 * Пробует добавить элемент в конец циклического буфера. Если в буфере нет свободного места, то элемент не будет
+	 * добавлен, а метод вернет false. В противном случае элемент будет добавлен в конец циклического буфера, а данный
+	 * метод вернет true. Должен вызываться только из потока-производителя.
+	 * @param value добавляемый элемент.
+	 * @return true - если удалось добавить элемент, иначе - false.
+	 */
+	public boolean addLastOrSkip(T value) {
+		long tail = sequences[TAIL];
+		boolean canBeAdded = tail - sequences[CACHED_HEAD] < maxSize || tail - refreshCachedHead() < maxSize;
+		if(canBeAdded) {
+			values[(int) tail & mask] = value;
+			SEQUENCES.setRelease(sequences, TAIL, tail + 1);
+		}
+		return canBeAdded;
+	}
+
+	/**
+	 * <p>Добавляет элемент в конец циклического буфера. Должен вызываться только из потока-производителя.</p>
+	 * <ol>
+	 *     <li> Если {@link #maxSize()} {@code > 0} и в буфере нет свободного места, удаляет первый элемент,
+	 *     добавляет новый элемент в конец буфера и возвращает удаленный элемент.</li>
+	 *     <li> Если {@link #maxSize()} {@code > 0} и в буфере есть свободное место, добавляет элемент в конец
+	 *     циклического буфера и возвращает null.</li>
+	 *     <li> Если {@link #maxSize()} {@code == 0}, возвращает добавляемый элемент, не изменяя циклический буфер.</li>
+	 * </ol>
+	 *
+	 * <p><b>ВАЖНО!</b> Т.к. циклический буфер допускает хранение null элементов, то возвращение данным методом
+	 * null в качестве результата не гарантирует, что в буфере оставалось свободное место.</p>
+	 *
+	 * @param value добавляемый элемент.
+	 */
+	public T addLastOrReplace(T value) {
+		if(maxSize == 0) return value;
+
+		T rewritingValue = null;
+		long tail = sequences[TAIL];
+		if(tail - sequences[CACHED_HEAD] >= maxSize) {
+			long head = refreshCachedHead();
+			while(tail - head >= maxSize) {
+				T oldestValue = values[(int) head & mask];
+				if(SEQUENCES.compareAndSet(sequences, HEAD, head, head + 1)) {
+					rewritingValue = oldestValue;
+					++head;
+				} else {
+					head = (long) SEQUENCES.getAcquire(sequences, HEAD);
+				}
+			}
+			sequences[CACHED_HEAD] = head;
+		}
+
+		values[(int) tail & mask] = value;
+		SEQUENCES.setRelease(sequences, TAIL, tail + 1);
+		return rewritingValue;
+	}
+
+	/**
+	 * <p>Пробует добавить в конец циклического буфера все элементы массива data. Добавляет столько элементов
+	 * с начала массива, сколько помещается в свободное место буфера. Все добавленные элементы становятся видимыми
+	 * потребителю одновременно. Должен вызываться только из потока-производителя.</p>
+	 *
+	 * <p>Порядок добавления элементов соответствует порядку их следования в массиве.</p>
+	 *
+	 * @param data массив, элементы которого добавляются в текущий циклический буфер.
+	 * @return кол-во добавленных элементов.
+	 * @throws NullPointerException если передаваемый массив data равен null.
+	 */
+	public int addAllOnLastOrSkip(T... data) {
+		long tail = sequences[TAIL];
+		int addedValuesNumber = (int) Math.min(data.length, maxSize - (tail - refreshCachedHead()));
+		if(addedValuesNumber > 0) {
+			for(int i = 0; i < addedValuesNumber; ++i) values[(int) (tail + i) & mask] = data[i];
+			SEQUENCES.setRelease(sequences, TAIL, tail + addedValuesNumber);
+		}
+		return addedValuesNumber;
+	}
+
+	/**
+	 * <p>Удаляет элемент из начала циклического буфера и возвращает его. Если циклический буфер пуст, то
+	 * возвращает null. Должен вызываться только из потока-потребителя.</p>
+	 *
+	 * <p><b>ВАЖНО!</b> Т.к. циклический буфер допускает хранение null элементов, то возвращение данным методом
+	 * null в качестве результата не гарантирует, что буфер пуст.</p>
+	 */
+	public T removeFirst() {
+		while(true) {
+			long head = (long) SEQUENCES.getAcquire(sequences, HEAD);
+			if(head >= sequences[CACHED_TAIL] && head >= refreshCachedTail()) return null;
+
+			T value = values[(int) head & mask];
+			if(SEQUENCES.compareAndSet(sequences, HEAD, head, head + 1)) return value;
+		}
+	}
+
+	/**
+	 * Удаляет все элементы из начала циклического буфера, добавленные на момент вызова этого метода, и добавляет
+	 * их в конец target в порядке их следования в буфере. Должен вызываться только из потока-потребителя.
+	 * @param target динамический массив, в конец которого добавляются извлеченные элементы.
+	 * @return кол-во извлеченных элементов.
+	 * @throws NullPointerException если target равен null.
+	 */
+	public int drainTo(DynamicArray<T> target) {
+		final int targetSize = target.size();
+		while(true) {
+			long head = (long) SEQUENCES.getAcquire(sequences, HEAD);
+			long tail = refreshCachedTail();
+			if(head >= tail) return 0;
+
+			for(long i = head; i < tail; ++i) target.addLast(values[(int) i & mask]);
+			if(SEQUENCES.compareAndSet(sequences, HEAD, head, tail)) return (int) (tail - head);
+			target.removeRange(targetSize, target.size());
+		}
+	}
+
+	/**
+	 * Возвращает кол-во элементов в циклическом буфере. Если буфер одновременно используется другими потоками,
+	 * то возвращаемое значение является приблизительным.
+	 */
+	public int size() {
+		long head = (long) SEQUENCES.getAcquire(sequences, HEAD);
+		long tail = (long) SEQUENCES.getAcquire(sequences, TAIL);
+		return (int) Math.max(0L, Math.min(maxSize, tail - head));
+	}
+
+	/**
+	 * Возвращает максимально возможное кол-во элементов, которое может хранить циклический буфер.
+	 */
+	public int maxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Проверяет - является ли циклический буфер пустым. Если буфер одновременно используется другими потоками,
+	 * то возвращаемое значение является приблизительным.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Проверяет, выполняется ли условие {@link #size()} {@code <} {@link #maxSize()}. Если буфер одновременно
+	 * используется другими потоками, то возвращаемое значение является приблизительным.
+	 */
+	public boolean hasAvailableSpace() {
+		return size() < maxSize;
+	}
+
+	@Override
+	public String toString() {
+		return "SpscRingBuffer{size=" + size() + ", maxSize=" + maxSize + '}';
+	}
+
+
+	private long refreshCachedHead() {
+		long head = (long) SEQUENCES.getAcquire(sequences, HEAD);
+		sequences[CACHED_HEAD] = head;
+		return head;
+	}
+
+	private long refreshCachedTail() {
+		long tail = (long) SEQUENCES.getAcquire(sequences, TAIL);
+		sequences[CACHED_TAIL] = tail;
+		return tail;
+	}
+}
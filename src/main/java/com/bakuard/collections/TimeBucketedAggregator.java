@@ -0,0 +1,159 @@
+package com.bakuard.collections;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Свертка событий за последние {@link #bucketsNumber()} интервалов времени (например, за последние 60 секунд
+ * с интервалом в одну секунду) произвольной ассоциативной операцией. В отличие от {@link ExpiringRingBuffer},
+ * данный класс хранит не сами события, а по одному результату свертки на каждый интервал, поэтому объем
+ * занимаемой памяти ограничен кол-вом интервалов и не зависит от частоты событий.</p>
+ *
+ * <p>Время делится на последовательные интервалы длиной {@link #bucketDuration()}, отсчитываемые от момента
+ * создания объекта. Событие попадает в интервал, которому принадлежит текущее значение часов. Результат
+ * {@link #aggregate()} включает текущий (еще не завершенный) интервал и {@code bucketsNumber - 1} предшествующих
+ * ему интервалов, т.е. охватывает от {@code (bucketsNumber - 1) * bucketDuration} до
+ * {@code bucketsNumber * bucketDuration} последних наносекунд. Результаты завершенных интервалов хранятся в
+ * {@link SlidingWindowAggregator}, поэтому добавление события и запрос результата выполняются за амортизированное
+ * время O(1). Интервалы, в течение которых не было событий, не занимают памяти.</p>
+ *
+ * <p>Часы задаются при создании объекта и по умолчанию равны {@link System#nanoTime()}. Значения, возвращаемые
+ * часами, не должны убывать.</p>
+ *
+ * <p>Данный класс не является потокобезопасным.</p>
+ */
+public final class TimeBucketedAggregator<T> {
+
+	private final int bucketsNumber;
+	private final long bucketNanos;
+	private final BinaryOperator<T> operator;
+	private final LongSupplier nanoClock;
+	private final long origin;
+
+	private final SlidingWindowAggregator<T> closedBuckets;
+	private final long[] closedBucketIndexes;
+	private int firstClosedBucket;
+
+	private long currentBucket;
+	private T currentValue;
+	private boolean hasCurrentValue;
+
+	/**
+	 * Создает объект без событий, использующий в качестве часов {@link System#nanoTime()}.
+	 * @param bucketsNumber кол-во интервалов, события которых учитываются в результате.
+	 * @param bucketDuration длина одного интервала.
+	 * @param operator ассоциативная операция, которой сворачиваются события.
+	 * @throws IllegalArgumentException если {@code bucketsNumber <= 0} или bucketDuration меньше или равен нулю.
+	 * @throws NullPointerException если bucketDuration или operator равны null.
+	 */
+	public TimeBucketedAggregator(int bucketsNumber, Duration bucketDuration, BinaryOperator<T> operator) {
+		this(bucketsNumber, bucketDuration, operator, System::nanoTime);
+	}
+
+	/**
+	 * Создает объект без событий с заданными часами.
+	 * @param bucketsNumber кол-во интервалов, события которых учитываются в результате.
+	 * @param bucketDuration длина одного интервала.
+	 * @param operator ассоциативная операция, которой сворачиваются события.
+	 * @param nanoClock часы, возвращающие текущее время в наносекундах.
+	 * @throws IllegalArgumentException если {@code bucketsNumber <= 0} или bucketDuration меньше или равен нулю.
+	 * @throws NullPointerException если bucketDuration, operator или nanoClock равны null.
+	 */
+	public TimeBucketedAggregator(int bucketsNumber,
+	                              Duration bucketDuration,
+	                              BinaryOperator<T> operator,
+	                              LongSupplier nanoClock) {
+		if(bucketsNumber <= 0) {
+			throw new IllegalArgumentException("Expected: bucketsNumber > 0; Actual: bucketsNumber=" + bucketsNumber);
+		}
+		this.bucketsNumber = bucketsNumber;
+		this.bucketNanos = ExpiringRingBuffer.toPositiveNanos(bucketDuration, "bucketDuration");
+		this.operator = Objects.requireNonNull(operator, "operator can not be null.");
+		this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock can not be null.");
+		origin = nanoClock.getAsLong();
+		closedBuckets = new SlidingWindowAggregator<>(bucketsNumber - 1, operator);
+		closedBucketIndexes = new long[bucketsNumber - 1];
+	}
+
+	/**
+	 * Добавляет событие в интервал, которому принадлежит текущее значение часов.
+	 * @param value добавляемое событие.
+	 */
+	public void add(T value) {
+		advance(nanoClock.getAsLong());
+		currentValue = hasCurrentValue ? operator.apply(currentValue, value) : value;
+		hasCurrentValue = true;
+	}
+
+	/**
+	 * Возвращает результат свертки всех событий текущего интервала и {@code bucketsNumber - 1} предшествующих ему
+	 * интервалов в порядке их добавления. Если за это время не было ни одного события, то возвращает null.
+	 */
+	public T aggregate() {
+		advance(nanoClock.getAsLong());
+		if(closedBuckets.isEmpty()) return currentValue;
+
+		T closedValue = closedBuckets.aggregate();
+		return hasCurrentValue ? operator.apply(closedValue, currentValue) : closedValue;
+	}
+
+	/**
+	 * Возвращает кол-во интервалов, события которых учитываются в результате.
+	 */
+	public int bucketsNumber() {
+		return bucketsNumber;
+	}
+
+	/**
+	 * Возвращает длину одного интервала.
+	 */
+	public Duration bucketDuration() {
+		return Duration.ofNanos(bucketNanos);
+	}
+
+	/**
+	 * Удаляет все события.
+	 */
+	public void clear() {
+		closedBuckets.clear();
+		firstClosedBucket = 0;
+		currentValue = null;
+		hasCurrentValue = false;
+	}
+
+	@Override
+	public String toString() {
+		return "TimeBucketedAggregator{bucketsNumber=" + bucketsNumber + ", bucketDuration=" + bucketDuration() +
+				", aggregate=" + aggregate() + '}';
+	}
+
+
+	private void advance(long now) {
+		long bucket = Math.floorDiv(now - origin, bucketNanos);
+		if(bucket <= currentBucket) return;
+
+		long firstLiveBucket = bucket - bucketsNumber + 1;
+		while(!closedBuckets.isEmpty() && closedBucketIndexes[firstClosedBucket] < firstLiveBucket) {
+			closedBuckets.removeFirst();
+			firstClosedBucket = next(firstClosedBucket);
+		}
+		if(hasCurrentValue && currentBucket >= firstLiveBucket) {
+			closedBucketIndexes[wrap(firstClosedBucket + closedBuckets.size())] = currentBucket;
+			closedBuckets.add(currentValue);
+		}
+
+		currentBucket = bucket;
+		currentValue = null;
+		hasCurrentValue = false;
+	}
+
+	private int next(int index) {
+		return wrap(index + 1);
+	}
+
+	private int wrap(int index) {
+		return index >= closedBucketIndexes.length ? index - closedBucketIndexes.length : index;
+	}
+}
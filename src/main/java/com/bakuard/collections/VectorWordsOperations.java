@@ -0,0 +1,58 @@
+package com.bakuard.collections;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация операций {@link WordsOperations} с помощью Vector API. Класс загружается только в том случае, если
+ * модуль jdk.incubator.vector доступен во время выполнения. Слова, не заполняющие целый вектор, обрабатываются
+ * поэлементно.
+ */
+final class VectorWordsOperations {
+
+	private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+
+	private VectorWordsOperations() {}
+
+	static boolean isEffective() {
+		return SPECIES.length() > 1;
+	}
+
+	static boolean isClear(long[] words, int fromIndex, int toIndex) {
+		int i = fromIndex;
+		for(int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex); i < bound; i += SPECIES.length()) {
+			if(!LongVector.fromArray(SPECIES, words, i).test(VectorOperators.IS_DEFAULT).allTrue()) return false;
+		}
+		for(; i < toIndex; ++i) {
+			if(words[i] != 0L) return false;
+		}
+		return true;
+	}
+
+	static boolean contains(long[] a, long[] b, int length) {
+		int i = 0;
+		for(int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+			LongVector missing = LongVector.fromArray(SPECIES, b, i)
+					.lanewise(VectorOperators.AND_NOT, LongVector.fromArray(SPECIES, a, i));
+			if(!missing.test(VectorOperators.IS_DEFAULT).allTrue()) return false;
+		}
+		for(; i < length; ++i) {
+			if((b[i] & ~a[i]) != 0L) return false;
+		}
+		return true;
+	}
+
+	static boolean intersect(long[] a, long[] b, int length) {
+		int i = 0;
+		for(int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+			LongVector common = LongVector.fromArray(SPECIES, a, i).and(LongVector.fromArray(SPECIES, b, i));
+			if(!common.test(VectorOperators.IS_DEFAULT).allTrue()) return true;
+		}
+		for(; i < length; ++i) {
+			if((a[i] & b[i]) != 0L) return true;
+		}
+		return false;
+	}
+}
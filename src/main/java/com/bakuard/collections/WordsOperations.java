@@ -0,0 +1,65 @@
+package com.bakuard.collections;
+
+/**
+ * <p>Операции поиска над массивами 64-битных слов, из которых состоят битовые векторы. Все методы обрабатывают слова
+ * с индексами из полуинтервала [fromIndex, toIndex) или [0, length) и завершаются сразу, как только результат
+ * становится известен.</p>
+ *
+ * <p>Поэлементные операции (and, or, xor, not, подсчет единичных бит) в этот класс не входят: JIT компилятор
+ * HotSpot сам преобразует такие циклы в векторные инструкции, а циклы с досрочным выходом - нет.</p>
+ *
+ * <p>Если модуль jdk.incubator.vector доступен во время выполнения (например, приложение запущено с параметром
+ * --add-modules jdk.incubator.vector), то операции выполняются с помощью Vector API
+ * (см. {@link VectorWordsOperations}). Иначе используется обычный поэлементный цикл.</p>
+ */
+final class WordsOperations {
+
+	static final boolean VECTORIZED = isVectorApiAvailable();
+
+
+	private WordsOperations() {}
+
+	/**
+	 * Возвращает true, если все слова с индексами из [fromIndex, toIndex) равны нулю.
+	 */
+	static boolean isClear(long[] words, int fromIndex, int toIndex) {
+		if(VECTORIZED) return VectorWordsOperations.isClear(words, fromIndex, toIndex);
+
+		for(int i = fromIndex; i < toIndex; ++i) {
+			if(words[i] != 0L) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Возвращает true, если для всех i из [0, length) каждый единичный бит слова b[i] установлен и в слове a[i].
+	 */
+	static boolean contains(long[] a, long[] b, int length) {
+		if(VECTORIZED) return VectorWordsOperations.contains(a, b, length);
+
+		for(int i = 0; i < length; ++i) {
+			if((b[i] & ~a[i]) != 0L) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Возвращает true, если хотя бы для одного i из [0, length) слова a[i] и b[i] имеют общий единичный бит.
+	 */
+	static boolean intersect(long[] a, long[] b, int length) {
+		if(VECTORIZED) return VectorWordsOperations.intersect(a, b, length);
+
+		for(int i = 0; i < length; ++i) {
+			if((a[i] & b[i]) != 0L) return true;
+		}
+		return false;
+	}
+
+	private static boolean isVectorApiAvailable() {
+		return ModuleLayer.boot()
+				.findModule("jdk.incubator.vector")
+				.filter(WordsOperations.class.getModule()::canRead)
+				.isPresent()
+				&& VectorWordsOperations.isEffective();
+	}
+}
@@ -0,0 +1,15 @@
+package com.bakuard.collections.function;
+
+/**
+ * Аналог {@link IndexBiConsumer} для линейных структур данных, хранящих значения типа int.
+ */
+@FunctionalInterface
+public interface IntIndexBiConsumer {
+
+	/**
+	 * Обрабатывает указанный элемент под указанным индексом.
+	 * @param item обрабатываемый элемент.
+	 * @param index индекс обрабатываемого элемента.
+	 */
+	void accept(int item, int index);
+}
@@ -0,0 +1,17 @@
+package com.bakuard.collections.function;
+
+/**
+ * Аналог {@link IndexBiFunction} для линейных структур данных, хранящих значения типа int. Представляет функцию
+ * двух аргументов, где первый аргумент это элемент линейной структуры данных, а второй - индекс этого элемента.
+ * Результатом функции является значение того же типа, что и элемент.
+ */
+@FunctionalInterface
+public interface IntIndexBiFunction {
+
+	/**
+	 * Применяет данную функцию к элементу и его индексу и возвращает результат.
+	 * @param item элемент линейной структуры данных.
+	 * @param index индекс элемента в линейной структуре данных.
+	 */
+	public int apply(int item, int index);
+}
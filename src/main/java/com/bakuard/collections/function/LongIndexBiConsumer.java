@@ -0,0 +1,15 @@
+package com.bakuard.collections.function;
+
+/**
+ * Аналог {@link IndexBiConsumer} для линейных структур данных, хранящих значения типа long.
+ */
+@FunctionalInterface
+public interface LongIndexBiConsumer {
+
+	/**
+	 * Обрабатывает указанный элемент под указанным индексом.
+	 * @param item обрабатываемый элемент.
+	 * @param index индекс обрабатываемого элемента.
+	 */
+	void accept(long item, int index);
+}
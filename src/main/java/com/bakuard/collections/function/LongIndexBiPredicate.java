@@ -0,0 +1,15 @@
+package com.bakuard.collections.function;
+
+/**
+ * Аналог {@link IndexBiPredicate} для линейных структур данных, хранящих значения типа long.
+ */
+@FunctionalInterface
+public interface LongIndexBiPredicate {
+
+	/**
+	 * Проверяет, соответствует ли указанный элемент под указанным индексом некоторому условию.
+	 * @param item проверяемый элемент.
+	 * @param index индекс проверяемого элемента.
+	 */
+	public boolean test(long item, int index);
+}
@@ -1,4 +1,6 @@
 module com.bakuard.collections {
+	requires static jdk.incubator.vector;
+
 	exports com.bakuard.collections;
 	exports com.bakuard.collections.exception;
 	exports com.bakuard.collections.function;
@@ -0,0 +1,437 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class AtomicBitsTest {
+
+    @DisplayName("AtomicBits(numberBits): numberBits < 0 => exception")
+    @Test
+    void AtomicBits_numberBits_exception() {
+        Assertions.assertThatExceptionOfType(NegativeSizeException.class).
+                isThrownBy(() -> new AtomicBits(-1));
+    }
+
+    @DisplayName("AtomicBits(other): compare with Bits, origin and copy must be independent of each other")
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void AtomicBits_copy(int size) {
+        Bits origin = randomBits(size, 1);
+        AtomicBits copy = new AtomicBits(origin);
+
+        origin.clearAll();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(new Bits(copy)).isEqualTo(randomBits(size, 1));
+        assertions.assertThat(copy.size()).isEqualTo(size);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            get(index), set(index), clear(index), flip(index), testAndSet(index), testAndClear(index),
+            getAndSet(index, value), compareAndSet(index, expectedValue, newValue):
+             index < 0 or index >= size => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForSingleIndex_exception")
+    void singleIndex_exception(int size, int index) {
+        AtomicBits bits = new AtomicBits(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> bits.get(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.set(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.clear(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.flip(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.testAndSet(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.testAndClear(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.getAndSet(index, true))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.compareAndSet(index, false, true))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            set(index), clear(index), flip(index), testAndSet(index), testAndClear(index), getAndSet(index, value),
+            compareAndSet(index, expectedValue, newValue), get(index):
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void singleIndexOperations(int size) {
+        Random random = new Random(size);
+        Bits expected = new Bits(size);
+        AtomicBits actual = new AtomicBits(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < size * 3; ++i) {
+            int index = random.nextInt(size);
+            boolean previous = expected.get(index);
+            switch(random.nextInt(7)) {
+                case 0 -> { actual.set(index); expected.set(index); }
+                case 1 -> { actual.clear(index); expected.clear(index); }
+                case 2 -> { actual.flip(index); expected.flip(index); }
+                case 3 -> {
+                    assertions.assertThat(actual.testAndSet(index)).isEqualTo(previous);
+                    expected.set(index);
+                }
+                case 4 -> {
+                    assertions.assertThat(actual.testAndClear(index)).isEqualTo(previous);
+                    expected.clear(index);
+                }
+                case 5 -> {
+                    boolean value = random.nextBoolean();
+                    assertions.assertThat(actual.getAndSet(index, value)).isEqualTo(previous);
+                    if(value) expected.set(index);
+                    else expected.clear(index);
+                }
+                default -> {
+                    boolean expectedValue = random.nextBoolean();
+                    boolean newValue = random.nextBoolean();
+                    assertions.assertThat(actual.compareAndSet(index, expectedValue, newValue))
+                            .isEqualTo(previous == expectedValue);
+                    if(previous == expectedValue && newValue) expected.set(index);
+                    if(previous == expectedValue && !newValue) expected.clear(index);
+                }
+            }
+            assertions.assertThat(actual.get(index)).isEqualTo(expected.get(index));
+        }
+        assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            compareAndSetWord(wordIndex, expectedWord, newWord):
+             bits beyond size are ignored, wrong expected word => false
+            """)
+    @Test
+    void compareAndSetWord() {
+        AtomicBits actual = new AtomicBits(100);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.compareAndSetWord(1, 0L, -1L)).isTrue();
+        assertions.assertThat(actual.getWord(1)).isEqualTo(-1L >>> 28);
+        assertions.assertThat(actual.compareAndSetWord(1, 0L, 1L)).isFalse();
+        assertions.assertThat(actual.compareAndSetWord(0, 0L, 5L)).isTrue();
+        assertions.assertThat(actual.cardinality()).isEqualTo(38);
+        assertions.assertThatThrownBy(() -> actual.compareAndSetWord(2, 0L, 1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> actual.compareAndSetWord(-1, 0L, 1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            nextClearBitAndSet(fromIndex):
+             compare with nextClearBit(fromIndex) followed by set(index)
+            """)
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void nextClearBitAndSet(int size) {
+        Bits expected = randomBits(size, 2);
+        AtomicBits actual = new AtomicBits(expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i <= size + 64; i += 3) {
+            int expectedIndex = nextBit(expected, i, false);
+            if(expectedIndex != -1) expected.set(expectedIndex);
+            assertions.assertThat(actual.nextClearBitAndSet(i)).isEqualTo(expectedIndex);
+        }
+        assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+        assertions.assertThatThrownBy(() -> actual.nextClearBitAndSet(-1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setRange(fromIndex, toIndex), clearRange(fromIndex, toIndex), flipRange(fromIndex, toIndex):
+             compare with Bits for all ranges
+            """)
+    @Test
+    void rangeOperations_allRanges() {
+        Bits expected = randomBits(200, 3);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int from = 0; from <= 200; ++from) {
+            for(int to = from; to <= 200; to += 7) {
+                assertions.assertThat(new Bits(new AtomicBits(expected).setRange(from, to)))
+                        .isEqualTo(new Bits(expected).setRange(from, to));
+                assertions.assertThat(new Bits(new AtomicBits(expected).clearRange(from, to)))
+                        .isEqualTo(new Bits(expected).clearRange(from, to));
+                assertions.assertThat(new Bits(new AtomicBits(expected).flipRange(from, to)))
+                        .isEqualTo(new Bits(expected).flipRange(from, to));
+            }
+        }
+        AtomicBits bits = new AtomicBits(10);
+        assertions.assertThatThrownBy(() -> bits.setRange(5, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.clearRange(-1, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.flipRange(0, 11)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setAll(), clearAll(), and(other), or(other), xor(other), andNot(other):
+             compare with Bits, size of result is not changed
+            """)
+    @ParameterizedTest(name = """
+             first operand size is {0},
+             second operand size is {1}
+            """)
+    @MethodSource("provideForLogicalOperations")
+    void wholeOperations(int firstSize, int secondSize) {
+        Bits first = randomBits(firstSize, 4);
+        Bits second = randomBits(secondSize, 5);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(new Bits(new AtomicBits(first).and(second)))
+                .isEqualTo(new Bits(first).and(second).truncateToSize(firstSize));
+        assertions.assertThat(new Bits(new AtomicBits(first).or(second)))
+                .isEqualTo(new Bits(first).or(second).truncateToSize(firstSize));
+        assertions.assertThat(new Bits(new AtomicBits(first).xor(second)))
+                .isEqualTo(new Bits(first).xor(second).truncateToSize(firstSize));
+        assertions.assertThat(new Bits(new AtomicBits(first).andNot(second)))
+                .isEqualTo(new Bits(first).andNot(second).truncateToSize(firstSize));
+        assertions.assertThat(new Bits(new AtomicBits(first).setAll())).isEqualTo(new Bits(first).setAll());
+        assertions.assertThat(new Bits(new AtomicBits(first).clearAll())).isEqualTo(new Bits(first).clearAll());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            cardinality(), getHighBitIndex(), isClear(), nextSetBit(fromIndex), nextClearBit(fromIndex),
+            contains(other), intersect(other), equalsIgnoreSize(other), compareTo(other), hashCodeIgnoreSize(),
+            toBinaryString():
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void readableBits(int size) {
+        Bits expected = randomBits(size, 6);
+        Bits other = randomBits(size, 7);
+        AtomicBits actual = new AtomicBits(expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i <= size + 64; ++i) {
+            assertions.assertThat(actual.nextSetBit(i)).isEqualTo(nextBit(expected, i, true));
+            assertions.assertThat(actual.nextClearBit(i)).isEqualTo(nextBit(expected, i, false));
+        }
+        assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+        assertions.assertThat(actual.isClear()).isEqualTo(expected.isClear());
+        assertions.assertThat(actual.contains(other)).isEqualTo(expected.contains(other));
+        assertions.assertThat(other.contains(actual)).isEqualTo(other.contains(expected));
+        assertions.assertThat(actual.intersect(other)).isEqualTo(expected.intersect(other));
+        assertions.assertThat(actual.equalsIgnoreSize(expected)).isTrue();
+        assertions.assertThat(expected.equalsIgnoreSize(actual)).isTrue();
+        assertions.assertThat(actual.compareTo(expected)).isZero();
+        assertions.assertThat(actual.compareTo(other)).isEqualTo(Integer.signum(expected.compareTo(other)));
+        assertions.assertThat(actual.hashCodeIgnoreSize()).isEqualTo(expected.hashCodeIgnoreSize());
+        assertions.assertThat(actual.toBinaryString()).isEqualTo(expected.toBinaryString());
+        assertions.assertThat(actual).isEqualTo(new AtomicBits(expected));
+        assertions.assertThat(actual.hashCode()).isEqualTo(new AtomicBits(expected).hashCode());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            testAndSet(index), testAndClear(index):
+             several threads claim and release the same bits
+             => each bit is claimed exactly once per release
+            """)
+    @Test
+    void testAndSet_concurrent() throws Exception {
+        final int threadsNumber = 4;
+        final int size = 10_000;
+        AtomicBits bits = new AtomicBits(size);
+        ExecutorService executor = Executors.newFixedThreadPool(threadsNumber);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            DynamicArray<Future<int[]>> workers = new DynamicArray<>();
+            for(int thread = 0; thread < threadsNumber; ++thread) {
+                workers.addLast(executor.submit(() -> {
+                    int[] claims = new int[size];
+                    start.await();
+                    for(int round = 0; round < 20; ++round) {
+                        for(int i = 0; i < size; ++i) {
+                            if(!bits.testAndSet(i)) ++claims[i];
+                        }
+                    }
+                    return claims;
+                }));
+            }
+            start.countDown();
+
+            int[] totalClaims = new int[size];
+            for(Future<int[]> worker : workers) {
+                int[] claims = worker.get(1, TimeUnit.MINUTES);
+                for(int i = 0; i < size; ++i) totalClaims[i] += claims[i];
+            }
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(totalClaims).containsOnly(1);
+            assertions.assertThat(bits.cardinality()).isEqualTo(size);
+            assertions.assertAll();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("""
+            set(index), flip(index):
+             several threads change different bits of the same words
+             => no update is lost
+            """)
+    @Test
+    void set_concurrent() throws Exception {
+        final int threadsNumber = 4;
+        final int size = 64 * 100;
+        AtomicBits bits = new AtomicBits(size);
+        ExecutorService executor = Executors.newFixedThreadPool(threadsNumber);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            DynamicArray<Future<?>> workers = new DynamicArray<>();
+            for(int thread = 0; thread < threadsNumber; ++thread) {
+                final int firstIndex = thread;
+                workers.addLast(executor.submit(() -> {
+                    start.await();
+                    for(int i = firstIndex; i < size; i += threadsNumber) bits.set(i);
+                    for(int round = 0; round < 10; ++round) {
+                        for(int i = firstIndex; i < size; i += threadsNumber) bits.flip(i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for(Future<?> worker : workers) worker.get(1, TimeUnit.MINUTES);
+
+            Assertions.assertThat(bits.cardinality()).isEqualTo(size);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("""
+            nextClearBitAndSet(fromIndex), testAndClear(index):
+             several threads allocate and release slots
+             => each allocated slot is owned by one thread at a time, all slots are released at the end
+            """)
+    @Test
+    void nextClearBitAndSet_concurrent() throws Exception {
+        final int threadsNumber = 4;
+        final int size = 130;
+        AtomicBits slots = new AtomicBits(size);
+        AtomicBits owned = new AtomicBits(size);
+        ExecutorService executor = Executors.newFixedThreadPool(threadsNumber);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            DynamicArray<Future<Integer>> workers = new DynamicArray<>();
+            for(int thread = 0; thread < threadsNumber; ++thread) {
+                workers.addLast(executor.submit(() -> {
+                    int conflicts = 0;
+                    start.await();
+                    for(int i = 0; i < 50_000; ++i) {
+                        int slot = slots.nextClearBitAndSet(0);
+                        if(slot == -1) continue;
+                        if(owned.testAndSet(slot)) ++conflicts;
+                        owned.clear(slot);
+                        if(!slots.testAndClear(slot)) ++conflicts;
+                    }
+                    return conflicts;
+                }));
+            }
+            start.countDown();
+
+            int conflicts = 0;
+            for(Future<Integer> worker : workers) conflicts += worker.get(1, TimeUnit.MINUTES);
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(conflicts).isZero();
+            assertions.assertThat(slots.isClear()).isTrue();
+            assertions.assertAll();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    private static Stream<Arguments> provideSizes() {
+        return Stream.of(
+                Arguments.of(0),
+                Arguments.of(1),
+                Arguments.of(63),
+                Arguments.of(64),
+                Arguments.of(65),
+                Arguments.of(127),
+                Arguments.of(128),
+                Arguments.of(1000)
+        );
+    }
+
+    private static Stream<Arguments> provideForSingleIndex_exception() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(10, -1),
+                Arguments.of(10, 10),
+                Arguments.of(64, 64),
+                Arguments.of(64, Integer.MAX_VALUE),
+                Arguments.of(64, Integer.MIN_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForLogicalOperations() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(0, 100),
+                Arguments.of(100, 0),
+                Arguments.of(64, 64),
+                Arguments.of(65, 63),
+                Arguments.of(63, 65),
+                Arguments.of(200, 130),
+                Arguments.of(130, 200),
+                Arguments.of(1000, 1000)
+        );
+    }
+
+    private static Bits randomBits(int size, long seed) {
+        Random random = new Random(seed);
+        Bits result = new Bits(size);
+        for(int i = 0; i < size; ++i) {
+            if(random.nextBoolean()) result.set(i);
+        }
+        return result;
+    }
+
+    private static int nextBit(Bits bits, int fromIndex, boolean value) {
+        for(int i = fromIndex; i < bits.size(); ++i) {
+            if(bits.get(i) == value) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,365 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class BitMatrixTest {
+
+    @DisplayName("""
+            BitMatrix(rows, columns):
+             rows < 0 or columns < 0 => NegativeSizeException,
+             matrix is too large => IllegalArgumentException
+            """)
+    @Test
+    void BitMatrix_exception() {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatExceptionOfType(NegativeSizeException.class).
+                isThrownBy(() -> new BitMatrix(-1, 10));
+        assertions.assertThatExceptionOfType(NegativeSizeException.class).
+                isThrownBy(() -> new BitMatrix(10, -1));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> new BitMatrix(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            get(row, column), set(row, column), clear(row, column), flip(row, column):
+             => compare with boolean array
+            """)
+    @ParameterizedTest(name = """
+             rows is {0},
+             columns is {1}
+            """)
+    @MethodSource("provideSizes")
+    void singleBitOperations(int rows, int columns) {
+        BitMatrix matrix = new BitMatrix(rows, columns);
+        boolean[][] expected = new boolean[rows][columns];
+        Random random = new Random(rows * 31L + columns);
+        for(int i = 0; i < rows * columns; ++i) {
+            int row = random.nextInt(rows);
+            int column = random.nextInt(columns);
+            switch(random.nextInt(3)) {
+                case 0 -> {
+                    matrix.set(row, column);
+                    expected[row][column] = true;
+                }
+                case 1 -> {
+                    matrix.clear(row, column);
+                    expected[row][column] = false;
+                }
+                default -> {
+                    matrix.flip(row, column);
+                    expected[row][column] = !expected[row][column];
+                }
+            }
+        }
+
+        Assertions.assertThat(toArray(matrix)).isDeepEqualTo(expected);
+    }
+
+    @DisplayName("""
+            get(row, column), set(row, column), row(row), column(column), setRow(row, bits), setColumn(column, bits):
+             index is out of bounds => exception
+            """)
+    @Test
+    void index_exception() {
+        BitMatrix matrix = new BitMatrix(10, 70);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.get(-1, 0));
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.get(10, 0));
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.set(0, -1));
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.set(0, 70));
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.row(10));
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.column(70));
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.setRow(-1, new Bits(70)));
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.setColumn(-1, new Bits(10)));
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> matrix.row(0).get(70));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            row(row):
+             => return view of row, that reflects all changes of matrix and behaves like Bits
+            """)
+    @ParameterizedTest(name = """
+             rows is {0},
+             columns is {1}
+            """)
+    @MethodSource("provideSizes")
+    void row(int rows, int columns) {
+        BitMatrix matrix = randomMatrix(rows, columns, 0.3, 1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int row = 0; row < rows; ++row) {
+            BitMatrix.Row actual = matrix.row(row);
+            Bits expected = rowAsBits(matrix, row);
+            assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+            assertions.assertThat(actual.size()).isEqualTo(columns);
+            assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+            assertions.assertThat(actual.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+            assertions.assertThat(actual.isClear()).isEqualTo(expected.isClear());
+            assertions.assertThat(actual.compareTo(expected)).isZero();
+            assertions.assertThat(actual.equalsIgnoreSize(expected)).isTrue();
+            assertions.assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+            assertions.assertThat(actual.toBinaryString()).isEqualTo(expected.toBinaryString());
+            assertions.assertThat(actual.contains(expected)).isTrue();
+            assertions.assertThat(actual.intersect(expected)).isEqualTo(!expected.isClear());
+            for(int i = 0; i < columns; ++i) {
+                assertions.assertThat(actual.nextSetBit(i)).isEqualTo(expected.nextSetBit(i));
+            }
+            assertions.assertThat(actual.nextClearBit(0)).isEqualTo(nextClearBit(expected, 0));
+        }
+        if(rows > 0 && columns > 0) {
+            BitMatrix.Row view = matrix.row(rows - 1);
+            matrix.flip(rows - 1, columns - 1);
+            assertions.assertThat(view.get(columns - 1)).isEqualTo(matrix.get(rows - 1, columns - 1));
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setRow(row, bits), setColumn(column, bits), column(column):
+             => row or column must be replaced, other bits must not be changed,
+                bits beyond matrix size must be ignored
+            """)
+    @ParameterizedTest(name = """
+             rows is {0},
+             columns is {1}
+            """)
+    @MethodSource("provideSizes")
+    void setRow_setColumn_column(int rows, int columns) {
+        BitMatrix matrix = randomMatrix(rows, columns, 0.5, 2);
+        boolean[][] expected = toArray(matrix);
+        Bits newRow = Bits.filled(columns + 5);
+        Bits newColumn = Bits.of(Math.max(0, rows - 1), rows > 2 ? new int[]{0, rows - 2} : new int[0]);
+
+        if(rows > 0) {
+            matrix.setRow(rows / 2, newRow);
+            for(int j = 0; j < columns; ++j) expected[rows / 2][j] = true;
+        }
+        if(columns > 0) {
+            matrix.setColumn(columns / 2, newColumn);
+            for(int i = 0; i < rows; ++i) expected[i][columns / 2] = i < newColumn.size() && newColumn.get(i);
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(toArray(matrix)).isDeepEqualTo(expected);
+        for(int column = 0; column < columns; ++column) {
+            Bits expectedColumn = new Bits(rows);
+            for(int i = 0; i < rows; ++i) if(expected[i][column]) expectedColumn.set(i);
+            assertions.assertThat(matrix.column(column)).isEqualTo(expectedColumn);
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            transpose():
+             => bit (i, j) of result must be equal to bit (j, i) of origin
+            """)
+    @ParameterizedTest(name = """
+             rows is {0},
+             columns is {1}
+            """)
+    @MethodSource("provideSizes")
+    void transpose(int rows, int columns) {
+        BitMatrix matrix = randomMatrix(rows, columns, 0.5, 3);
+        boolean[][] origin = toArray(matrix);
+        boolean[][] expected = new boolean[columns][rows];
+        for(int i = 0; i < rows; ++i) {
+            for(int j = 0; j < columns; ++j) expected[j][i] = origin[i][j];
+        }
+
+        BitMatrix actual = matrix.transpose();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.rows()).isEqualTo(columns);
+        assertions.assertThat(actual.columns()).isEqualTo(rows);
+        assertions.assertThat(toArray(actual)).isDeepEqualTo(expected);
+        assertions.assertThat(actual.transpose()).isEqualTo(matrix);
+        assertions.assertThat(actual.cardinality()).isEqualTo(matrix.cardinality());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            multiply(other):
+             => compare with naive boolean matrix multiplication
+            """)
+    @ParameterizedTest(name = """
+             first is {0}x{1},
+             second is {1}x{2}
+            """)
+    @MethodSource("provideForMultiply")
+    void multiply(int rows, int common, int columns) {
+        BitMatrix first = randomMatrix(rows, common, 0.05, 4);
+        BitMatrix second = randomMatrix(common, columns, 0.05, 5);
+        boolean[][] a = toArray(first);
+        boolean[][] b = toArray(second);
+        boolean[][] expected = new boolean[rows][columns];
+        for(int i = 0; i < rows; ++i) {
+            for(int j = 0; j < columns; ++j) {
+                for(int k = 0; k < common && !expected[i][j]; ++k) expected[i][j] = a[i][k] && b[k][j];
+            }
+        }
+
+        BitMatrix actual = first.multiply(second);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(toArray(actual)).isDeepEqualTo(expected);
+        assertions.assertThat(first.multiply(BitMatrix.identity(common))).isEqualTo(first);
+        assertions.assertThat(BitMatrix.identity(rows).multiply(first)).isEqualTo(first);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            multiply(other):
+             columns != other.rows => exception
+            """)
+    @Test
+    void multiply_exception() {
+        Assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> new BitMatrix(3, 4).multiply(new BitMatrix(5, 3)));
+    }
+
+    @DisplayName("""
+            transitiveClosure():
+             => compare with reachability computed by depth-first search
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForTransitiveClosure")
+    void transitiveClosure(int size, double density) {
+        BitMatrix matrix = randomMatrix(size, size, density, 6);
+        boolean[][] adjacency = toArray(matrix);
+        boolean[][] expected = new boolean[size][size];
+        for(int start = 0; start < size; ++start) {
+            IntDynamicArray stack = new IntDynamicArray();
+            stack.addLast(start);
+            while(!stack.isEmpty()) {
+                int vertex = stack.removeLast();
+                for(int next = 0; next < size; ++next) {
+                    if(adjacency[vertex][next] && !expected[start][next]) {
+                        expected[start][next] = true;
+                        stack.addLast(next);
+                    }
+                }
+            }
+        }
+
+        BitMatrix actual = matrix.transitiveClosure();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isSameAs(matrix);
+        assertions.assertThat(toArray(actual)).isDeepEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            transitiveClosure():
+             matrix is not square => exception
+            """)
+    @Test
+    void transitiveClosure_exception() {
+        Assertions.assertThatIllegalStateException().
+                isThrownBy(() -> new BitMatrix(3, 4).transitiveClosure());
+    }
+
+    @DisplayName("""
+            BitMatrix(other), equals(other), hashCode():
+             => origin and copy must be equal and independent of each other
+            """)
+    @Test
+    void BitMatrix_copy() {
+        BitMatrix origin = randomMatrix(100, 130, 0.5, 7);
+        BitMatrix copy = new BitMatrix(origin);
+        BitMatrix expected = new BitMatrix(origin);
+
+        origin.flip(5, 5);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(copy).isEqualTo(expected);
+        assertions.assertThat(copy.hashCode()).isEqualTo(expected.hashCode());
+        assertions.assertThat(origin).isNotEqualTo(copy);
+        assertions.assertThat(new BitMatrix(2, 3)).isNotEqualTo(new BitMatrix(3, 2));
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideSizes() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(0, 10),
+                Arguments.of(10, 0),
+                Arguments.of(1, 1),
+                Arguments.of(63, 65),
+                Arguments.of(64, 64),
+                Arguments.of(65, 63),
+                Arguments.of(130, 200),
+                Arguments.of(200, 130)
+        );
+    }
+
+    private static Stream<Arguments> provideForMultiply() {
+        return Stream.of(
+                Arguments.of(0, 0, 0),
+                Arguments.of(1, 1, 1),
+                Arguments.of(10, 70, 5),
+                Arguments.of(64, 64, 64),
+                Arguments.of(130, 65, 200)
+        );
+    }
+
+    private static Stream<Arguments> provideForTransitiveClosure() {
+        return Stream.of(
+                Arguments.of(0, 0.5),
+                Arguments.of(1, 1.0),
+                Arguments.of(65, 0.01),
+                Arguments.of(130, 0.005),
+                Arguments.of(200, 0.01),
+                Arguments.of(200, 0.2)
+        );
+    }
+
+    private static BitMatrix randomMatrix(int rows, int columns, double density, long seed) {
+        Random random = new Random(seed);
+        BitMatrix result = new BitMatrix(rows, columns);
+        for(int i = 0; i < rows; ++i) {
+            for(int j = 0; j < columns; ++j) {
+                if(random.nextDouble() < density) result.set(i, j);
+            }
+        }
+        return result;
+    }
+
+    private static boolean[][] toArray(BitMatrix matrix) {
+        boolean[][] result = new boolean[matrix.rows()][matrix.columns()];
+        for(int i = 0; i < matrix.rows(); ++i) {
+            for(int j = 0; j < matrix.columns(); ++j) result[i][j] = matrix.get(i, j);
+        }
+        return result;
+    }
+
+    private static Bits rowAsBits(BitMatrix matrix, int row) {
+        Bits result = new Bits(matrix.columns());
+        for(int j = 0; j < matrix.columns(); ++j) if(matrix.get(row, j)) result.set(j);
+        return result;
+    }
+
+    private static int nextClearBit(Bits bits, int fromIndex) {
+        for(int i = fromIndex; i < bits.size(); ++i) {
+            if(!bits.get(i)) return i;
+        }
+        return -1;
+    }
+}
@@ -10,7 +10,23 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -311,6 +327,168 @@ class BitsTest {
         Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> bits.flip(index));
     }
 
+    @DisplayName("flipRange(fromIndex, toIndex):")
+    @ParameterizedTest(name = """
+             fromIndex is {1},
+             toIndex is {2},
+             bits is {0}
+             => expected bits {3}
+            """)
+    @MethodSource("provideForFlipRange")
+    void flipRange(Bits origin, int fromIndex, int toIndex, Bits expected) {
+        origin.flipRange(fromIndex, toIndex);
+
+        Assertions.assertThat(origin).isEqualTo(expected);
+    }
+
+    @DisplayName("flipRange(fromIndex, toIndex):")
+    @ParameterizedTest(name = """
+             bits is {0},
+             fromIndex is {1},
+             toIndex is {2}
+             => exception, don't change bits
+            """)
+    @MethodSource("provideForMethodWithRange_ExceptionCase")
+    void flipRange_exception(Bits bits, int fromIndex, int toIndex) {
+        Bits expected = new Bits(bits);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> bits.flipRange(fromIndex, toIndex));
+        assertions.assertThat(bits).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setRange(fromIndex, toIndex), clearRange(fromIndex, toIndex), flipRange(fromIndex, toIndex):
+             compare with bit-by-bit implementation for all ranges
+            """)
+    @Test
+    void rangeOperations_allRanges() {
+        Bits origin = new Bits(200);
+        for(int i = 0; i < 200; i += 3) origin.set(i);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int from = 0; from <= 200; ++from) {
+            for(int to = from; to <= 200; to += 7) {
+                Bits expectedSet = new Bits(origin);
+                Bits expectedClear = new Bits(origin);
+                Bits expectedFlip = new Bits(origin);
+                for(int i = from; i < to; ++i) {
+                    expectedSet.set(i);
+                    expectedClear.clear(i);
+                    expectedFlip.flip(i);
+                }
+
+                assertions.assertThat(new Bits(origin).setRange(from, to)).isEqualTo(expectedSet);
+                assertions.assertThat(new Bits(origin).clearRange(from, to)).isEqualTo(expectedClear);
+                assertions.assertThat(new Bits(origin).flipRange(from, to)).isEqualTo(expectedFlip);
+            }
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("copyRangeFrom(src, srcPos, destPos, length): arbitrary bit offsets")
+    @Test
+    void copyRangeFrom_arbitraryOffsets() {
+        Bits pattern = new Bits(200);
+        for(int i = 0; i < 200; ++i) if(i % 3 == 0 || i % 7 == 0) pattern.set(i);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int srcPos = 0; srcPos < 200; srcPos += 5) {
+            for(int destPos = 0; destPos < 200; destPos += 3) {
+                for(int length = 0; length <= 200; length += 29) {
+                    Bits src = new Bits(pattern).flipRange(0, 200);
+                    Bits actual = new Bits(pattern);
+                    Bits actualSelf = new Bits(pattern);
+                    Bits expected = new Bits(pattern);
+                    Bits expectedSelf = new Bits(pattern);
+                    int range = Math.min(length, 200 - Math.max(srcPos, destPos));
+                    for(int i = 0; i < range; ++i) {
+                        if(src.get(srcPos + i)) expected.set(destPos + i);
+                        else expected.clear(destPos + i);
+                        if(pattern.get(srcPos + i)) expectedSelf.set(destPos + i);
+                        else expectedSelf.clear(destPos + i);
+                    }
+
+                    assertions.assertThat(actual.copyRangeFrom(src, srcPos, destPos, length)).isEqualTo(range);
+                    assertions.assertThat(actual).isEqualTo(expected);
+                    assertions.assertThat(actualSelf.copyRangeFrom(actualSelf, srcPos, destPos, length)).isEqualTo(range);
+                    assertions.assertThat(actualSelf).isEqualTo(expectedSelf);
+                }
+            }
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("shiftLeft(distance): distance < 0 => exception")
+    @Test
+    void shiftLeft_exception() {
+        Bits origin = new Bits(100);
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> origin.shiftLeft(-1));
+    }
+
+    @DisplayName("shiftLeft(distance):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             distance is {1}
+             => expected is {2}
+            """)
+    @MethodSource("provideForShiftLeft")
+    void shiftLeft(Bits origin, int distance, Bits expected) {
+        Bits actual = origin.shiftLeft(distance);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isSameAs(origin);
+        assertions.assertThat(actual).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("shiftRight(distance): distance < 0 => exception")
+    @Test
+    void shiftRight_exception() {
+        Bits origin = new Bits(100);
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> origin.shiftRight(-1));
+    }
+
+    @DisplayName("shiftRight(distance):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             distance is {1}
+             => expected is {2}
+            """)
+    @MethodSource("provideForShiftRight")
+    void shiftRight(Bits origin, int distance, Bits expected) {
+        Bits actual = origin.shiftRight(distance);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isSameAs(origin);
+        assertions.assertThat(actual).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("shiftLeft(distance), shiftRight(distance): all distances")
+    @Test
+    void shift_allDistances() {
+        Bits origin = new Bits(200);
+        for(int i = 0; i < 200; ++i) if(i % 3 == 0 || i % 11 == 0) origin.set(i);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int distance = 0; distance <= 201; ++distance) {
+            Bits expectedLeft = new Bits(200);
+            Bits expectedRight = new Bits(200);
+            for(int i = 0; i < 200; ++i) {
+                if(i + distance < 200 && origin.get(i)) expectedLeft.set(i + distance);
+                if(i + distance < 200 && origin.get(i + distance)) expectedRight.set(i);
+            }
+
+            assertions.assertThat(new Bits(origin).shiftLeft(distance)).isEqualTo(expectedLeft);
+            assertions.assertThat(new Bits(origin).shiftRight(distance)).isEqualTo(expectedRight);
+        }
+        assertions.assertAll();
+    }
+
     @DisplayName("and(other):")
     @ParameterizedTest(name = """
              note: {3},
@@ -664,6 +842,117 @@ class BitsTest {
         Assertions.assertThat(actual).isEqualTo(expected);
     }
 
+    @DisplayName("getWord(wordIndex): wordIndex < 0 => exception")
+    @Test
+    void getWord_exception() {
+        Assertions.assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> new Bits(100).getWord(-1));
+    }
+
+    @DisplayName("getWord(wordIndex):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             wordIndex is {1}
+             => expected {2}
+            """)
+    @MethodSource("provideForGetWord")
+    void getWord(Bits origin, int wordIndex, long expected) {
+        long actual = origin.getWord(wordIndex);
+
+        Assertions.assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("""
+            enableTracking(), disableTracking(), isTracking():
+             tracking is enabled for non-empty object
+             => cardinality and high bit index are counted at once
+            """)
+    @Test
+    void enableTracking() {
+        Bits bits = Bits.of(200, 3, 64, 150);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(bits.isTracking()).isFalse();
+        bits.enableTracking();
+        assertions.assertThat(bits.isTracking()).isTrue();
+        assertions.assertThat(bits.cardinality()).isEqualTo(3);
+        assertions.assertThat(bits.getHighBitIndex()).isEqualTo(150);
+        assertions.assertThat(bits.isClear()).isFalse();
+        assertions.assertThat(new Bits(bits).isTracking()).isFalse();
+        bits.disableTracking();
+        bits.set(199);
+        assertions.assertThat(bits.isTracking()).isFalse();
+        assertions.assertThat(bits.cardinality()).isEqualTo(4);
+        assertions.assertThat(bits.enableTracking().getHighBitIndex()).isEqualTo(199);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            cardinality(), getHighBitIndex(), isClear():
+             tracking is enabled,
+             random sequence of mutating operations
+             => same results as without tracking
+            """)
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideForTracking")
+    void tracking_randomOperations(int size) {
+        Random random = new Random(size);
+        Bits tracked = new Bits(size).enableTracking();
+        Bits expected = new Bits(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < 3000; ++i) {
+            int currentSize = expected.size();
+            int index = currentSize > 0 ? random.nextInt(currentSize) : 0;
+            int toIndex = index + random.nextInt(currentSize - index + 1);
+            int lastIndex = Math.max(index, toIndex - 1);
+            int highBitOrIndex = Math.max(index, expected.getHighBitIndex());
+            Bits other = Bits.of(random.nextInt(size * 2 + 1));
+            for(int j = 0; j < 20 && other.size() > 0; ++j) other.set(random.nextInt(other.size()));
+
+            int operation = random.nextInt(20);
+            if(currentSize == 0 && operation < 5) operation = 5;
+            switch(operation) {
+                case 0 -> { tracked.set(index); expected.set(index); }
+                case 1 -> { tracked.clear(index); expected.clear(index); }
+                case 2 -> { tracked.flip(index); expected.flip(index); }
+                case 3 -> { tracked.setAll(index, lastIndex); expected.setAll(index, lastIndex); }
+                case 4 -> { tracked.clearAll(index, highBitOrIndex); expected.clearAll(index, highBitOrIndex); }
+                case 5 -> { tracked.setRange(index, toIndex); expected.setRange(index, toIndex); }
+                case 6 -> { tracked.clearRange(index, toIndex); expected.clearRange(index, toIndex); }
+                case 7 -> { tracked.flipRange(index, toIndex); expected.flipRange(index, toIndex); }
+                case 8 -> { tracked.and(other); expected.and(other); }
+                case 9 -> { tracked.or(other); expected.or(other); }
+                case 10 -> { tracked.xor(other); expected.xor(other); }
+                case 11 -> { tracked.andNot(other); expected.andNot(other); }
+                case 12 -> { tracked.not(); expected.not(); }
+                case 13 -> { tracked.shiftLeft(toIndex - index); expected.shiftLeft(toIndex - index); }
+                case 14 -> { tracked.shiftRight(toIndex - index); expected.shiftRight(toIndex - index); }
+                case 15 -> { tracked.truncateToSize(toIndex); expected.truncateToSize(toIndex); }
+                case 16 -> { tracked.growToIndex(size); expected.growToIndex(size); }
+                case 17 -> {
+                    if(other.size() > 0 && currentSize > 0) {
+                        tracked.copyRangeFrom(other, 0, index, toIndex - index);
+                        expected.copyRangeFrom(other, 0, index, toIndex - index);
+                    }
+                }
+                case 18 -> { tracked.setAll(); expected.setAll(); }
+                default -> {
+                    if(random.nextBoolean()) { tracked.clearAll(); expected.clearAll(); }
+                    else { tracked.copyFullStateFrom(other); expected.copyFullStateFrom(other); }
+                }
+            }
+
+            assertions.assertThat(tracked).isEqualTo(expected);
+            assertions.assertThat(tracked.cardinality()).isEqualTo(expected.cardinality());
+            assertions.assertThat(tracked.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+            assertions.assertThat(tracked.isClear()).isEqualTo(expected.isClear());
+        }
+        assertions.assertAll();
+    }
+
     @DisplayName("getHighBitIndex():")
     @ParameterizedTest(name = """
              origin is {0}
@@ -752,6 +1041,436 @@ class BitsTest {
         Assertions.assertThat(actualIndexSequence).isEqualTo(expectedIndexSequence);
     }
 
+    @DisplayName("""
+            nextClearBit(fromIndex):
+             fromIndex is in the last word,
+             all bits from fromIndex to size are set
+             => return -1
+            """)
+    @Test
+    void nextClearBit_lastWordIsFilled() {
+        SoftAssertions assertions = new SoftAssertions();
+        for(int size = 1; size <= 192; ++size) {
+            Bits bits = Bits.filled(size);
+            for(int fromIndex = (size - 1) & -64; fromIndex < size; ++fromIndex) {
+                assertions.assertThat(bits.nextClearBit(fromIndex))
+                        .as("size=" + size + ", fromIndex=" + fromIndex)
+                        .isEqualTo(-1);
+            }
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("previousSetBit(fromIndex): fromIndex < -1 => exception")
+    @Test
+    void previousSetBit_exception() {
+        Bits bits = Bits.filled(100);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> bits.previousSetBit(-2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.previousSetBit(Integer.MIN_VALUE))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            previousSetBit(fromIndex):
+             compare with bit-by-bit search for all fromIndex
+            """)
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideForSetBitIteration")
+    void previousSetBit(int size, double density) {
+        Bits bits = randomBits(size, density);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = -1; i <= size + 64; ++i) {
+            int expected = -1;
+            for(int j = Math.min(i, size - 1); j >= 0 && expected == -1; --j) {
+                if(bits.get(j)) expected = j;
+            }
+            assertions.assertThat(bits.previousSetBit(i)).isEqualTo(expected);
+        }
+        assertions.assertThat(bits.previousSetBit(Integer.MAX_VALUE)).isEqualTo(bits.getHighBitIndex());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            forEachSetBit(action), setBitCursor(), setBitStream():
+             compare with nextSetBit(fromIndex) loop
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForSetBitIteration")
+    void setBitIteration(int size, double density) {
+        Bits bits = randomBits(size, density);
+        int[] expected = nextSetBitSequence(bits, 0);
+
+        IntDynamicArray forEachResult = new IntDynamicArray();
+        bits.forEachSetBit(forEachResult::addLast);
+        IntDynamicArray cursorResult = new IntDynamicArray();
+        Bits.SetBitCursor cursor = bits.setBitCursor();
+        while(cursor.hasNext()) cursorResult.addLast(cursor.nextInt());
+        IntDynamicArray forEachRemainingResult = new IntDynamicArray();
+        bits.setBitCursor().forEachRemaining((int index) -> forEachRemainingResult.addLast(index));
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(forEachResult.toArray()).containsExactly(expected);
+        assertions.assertThat(cursorResult.toArray()).containsExactly(expected);
+        assertions.assertThat(forEachRemainingResult.toArray()).containsExactly(expected);
+        assertions.assertThat(bits.setBitStream().toArray()).containsExactly(expected);
+        assertions.assertThat(bits.setBitStream().parallel().toArray()).containsExactly(expected);
+        assertions.assertThat(bits.setBitStream().parallel().count()).isEqualTo(bits.cardinality());
+        assertions.assertThatThrownBy(cursor::nextInt).isInstanceOf(NoSuchElementException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setBitCursor():
+             cursor is reset after bits were changed
+             => cursor iterates set bits starting from fromIndex with all changes
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForSetBitIteration")
+    void setBitCursor_reset(int size, double density) {
+        Bits bits = randomBits(size, density);
+        Bits.SetBitCursor cursor = bits.setBitCursor();
+        while(cursor.hasNext()) cursor.nextInt();
+
+        bits.growToIndex(size + 100);
+        bits.flipRange(size / 3, size + 50);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int fromIndex = 0; fromIndex <= size + 101; fromIndex += 17) {
+            IntDynamicArray actual = new IntDynamicArray();
+            cursor.reset(fromIndex).forEachRemaining((int index) -> actual.addLast(index));
+            assertions.assertThat(actual.toArray()).containsExactly(nextSetBitSequence(bits, fromIndex));
+        }
+        assertions.assertThatThrownBy(() -> cursor.reset(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setBitSpliterator():
+             split recursively
+             => each part contains its own ascending subsequence of set bits
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForSetBitIteration")
+    void setBitSpliterator_split(int size, double density) {
+        Bits bits = randomBits(size, density);
+        IntDynamicArray actual = new IntDynamicArray();
+        splitAndCollect(bits.setBitSpliterator(), actual);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.toArray()).containsExactly(nextSetBitSequence(bits, 0));
+        assertions.assertThat(bits.setBitSpliterator().hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertions.assertThat(bits.setBitSpliterator().getComparator()).isNull();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            writeTo(ByteBuffer), readFrom(ByteBuffer):
+             => restored bits must be equal to origin and buffer position must be moved to the end of written data
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForSerialization")
+    void writeTo_readFrom_byteBuffer(int size, double density) {
+        Bits origin = randomBits(size, density);
+        ByteBuffer buffer = ByteBuffer.allocate(origin.serializedSize() + 10).order(ByteOrder.BIG_ENDIAN);
+        buffer.position(3);
+
+        origin.writeTo(buffer);
+        int writtenPosition = buffer.position();
+        buffer.flip().position(3);
+        Bits restored = Bits.readFrom(buffer);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.serializedSize()).isEqualTo(8 + (size + 63) / 64 * 8);
+        assertions.assertThat(writtenPosition).isEqualTo(3 + origin.serializedSize());
+        assertions.assertThat(buffer.position()).isEqualTo(writtenPosition);
+        assertions.assertThat(buffer.order()).isEqualTo(ByteOrder.BIG_ENDIAN);
+        assertions.assertThat(restored).isEqualTo(origin);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            writeTo(WritableByteChannel), readFrom(ReadableByteChannel):
+             => restored bits must be equal to origin, written data must be equal to data written to ByteBuffer and
+                data following the written bits in the channel must not be read
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForSerialization")
+    void writeTo_readFrom_channel(int size, double density) throws IOException {
+        Bits origin = randomBits(size, density);
+        ByteBuffer expected = ByteBuffer.allocate(origin.serializedSize());
+        origin.writeTo(expected);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        origin.writeTo(Channels.newChannel(output));
+        output.write(42);
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+        Bits restored = Bits.readFrom(Channels.newChannel(input));
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(Arrays.copyOf(output.toByteArray(), origin.serializedSize())).
+                isEqualTo(expected.array());
+        assertions.assertThat(restored).isEqualTo(origin);
+        assertions.assertThat(input.read()).isEqualTo(42);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            writeTo(ByteBuffer):
+             buffer has not enough space => BufferOverflowException, buffer is not changed
+            """)
+    @Test
+    void writeTo_byteBuffer_exception() {
+        Bits bits = Bits.filled(100);
+        ByteBuffer buffer = ByteBuffer.allocate(bits.serializedSize() - 1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatExceptionOfType(BufferOverflowException.class).
+                isThrownBy(() -> bits.writeTo(buffer));
+        assertions.assertThat(buffer.position()).isZero();
+        assertions.assertThat(buffer.array()).containsOnly(0);
+        assertions.assertThatExceptionOfType(ReadOnlyBufferException.class).
+                isThrownBy(() -> bits.writeTo(ByteBuffer.allocate(100).asReadOnlyBuffer()));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            readFrom(ByteBuffer):
+             data is truncated => BufferUnderflowException,
+             data is incorrect => IllegalArgumentException,
+             buffer position is not changed
+            """)
+    @Test
+    void readFrom_byteBuffer_exception() {
+        ByteBuffer data = ByteBuffer.allocate(Bits.filled(100).serializedSize());
+        Bits.filled(100).writeTo(data);
+        ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(data.array(), data.capacity() - 1));
+        ByteBuffer wrongSignature = ByteBuffer.wrap(data.array().clone());
+        wrongSignature.put(0, (byte) 0);
+        ByteBuffer negativeSize = ByteBuffer.wrap(data.array().clone());
+        negativeSize.put(7, (byte) -1);
+        ByteBuffer bitsBeyondSize = ByteBuffer.wrap(data.array().clone());
+        bitsBeyondSize.put(4, (byte) 99);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatExceptionOfType(BufferUnderflowException.class).
+                isThrownBy(() -> Bits.readFrom(ByteBuffer.allocate(7)));
+        assertions.assertThatExceptionOfType(BufferUnderflowException.class).
+                isThrownBy(() -> Bits.readFrom(truncated));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.readFrom(wrongSignature));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.readFrom(negativeSize));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.readFrom(bitsBeyondSize));
+        assertions.assertThat(truncated.position()).isZero();
+        assertions.assertThat(bitsBeyondSize.position()).isZero();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            readFrom(ReadableByteChannel):
+             channel ends before all data is read => EOFException,
+             data is incorrect => IOException
+            """)
+    @Test
+    void readFrom_channel_exception() {
+        ByteBuffer data = ByteBuffer.allocate(Bits.filled(100).serializedSize());
+        Bits.filled(100).writeTo(data);
+        byte[] truncated = Arrays.copyOf(data.array(), data.capacity() - 1);
+        byte[] wrongSignature = data.array().clone();
+        wrongSignature[0] = 0;
+        byte[] bitsBeyondSize = data.array().clone();
+        bitsBeyondSize[4] = 99;
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatExceptionOfType(EOFException.class).
+                isThrownBy(() -> Bits.readFrom(Channels.newChannel(new ByteArrayInputStream(new byte[5]))));
+        assertions.assertThatExceptionOfType(EOFException.class).
+                isThrownBy(() -> Bits.readFrom(Channels.newChannel(new ByteArrayInputStream(truncated))));
+        assertions.assertThatIOException().
+                isThrownBy(() -> Bits.readFrom(Channels.newChannel(new ByteArrayInputStream(wrongSignature))));
+        assertions.assertThatIOException().
+                isThrownBy(() -> Bits.readFrom(Channels.newChannel(new ByteArrayInputStream(bitsBeyondSize))));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            view(words, numberBits):
+             => bits and buffer must share storage until number of words is changed
+            """)
+    @Test
+    void view() {
+        long[] array = new long[2];
+        LongBuffer buffer = LongBuffer.wrap(array);
+
+        Bits bits = Bits.view(buffer, 100);
+        bits.set(1);
+        bits.set(99);
+        array[0] |= 1L << 5;
+        boolean sharedBit = bits.get(5);
+        bits.growToIndex(200);
+        bits.set(2);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(sharedBit).isTrue();
+        assertions.assertThat(array).containsExactly(0b100010L, 1L << 35);
+        assertions.assertThat(bits).isEqualTo(Bits.of(201, 1, 2, 5, 99));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            view(words, numberBits):
+             buffer is not suitable for view => exception
+            """)
+    @Test
+    void view_exception() {
+        LongBuffer offsetBuffer = LongBuffer.wrap(new long[3]);
+        offsetBuffer.position(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatExceptionOfType(NegativeSizeException.class).
+                isThrownBy(() -> Bits.view(LongBuffer.wrap(new long[1]), -1));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.view(LongBuffer.wrap(new long[1]), 65));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.view(LongBuffer.wrap(new long[3]), 65));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.view(offsetBuffer, 65));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.view(LongBuffer.wrap(new long[1]).asReadOnlyBuffer(), 64));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.view(ByteBuffer.allocateDirect(8).asLongBuffer(), 64));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.view(LongBuffer.wrap(new long[]{1L << 10}), 10));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.view(LongBuffer.wrap(new long[]{1L}), 0));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            andAll(operands), orAll(operands), xorAll(operands), atLeast(threshold, operands):
+             => result must be equal to result of counting set bits of operands bit by bit,
+                operands must not be changed
+            """)
+    @ParameterizedTest(name = """
+             sizes are {0},
+             density is {1}
+            """)
+    @MethodSource("provideForBulkOperations")
+    void bulkOperations(int[] sizes, double density) {
+        ReadableBits[] operands = new ReadableBits[sizes.length];
+        for(int i = 0; i < sizes.length; ++i) {
+            Bits operand = randomBits(sizes[i], density + i * 0.001);
+            operands[i] = i % 3 == 2 ? new CompressedBits(operand) : operand;
+        }
+        Bits[] expectedOperands = Arrays.stream(operands).map(Bits::new).toArray(Bits[]::new);
+        int size = Arrays.stream(sizes).max().orElse(0);
+        int[] counts = new int[size];
+        for(ReadableBits operand : operands) {
+            for(int i = 0; i < operand.size(); ++i) if(operand.get(i)) ++counts[i];
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(Bits.andAll(operands)).
+                isEqualTo(bitsByCounts(counts, count -> count == sizes.length && count > 0));
+        assertions.assertThat(Bits.orAll(operands)).
+                isEqualTo(bitsByCounts(counts, count -> count > 0));
+        assertions.assertThat(Bits.xorAll(operands)).
+                isEqualTo(bitsByCounts(counts, count -> count % 2 == 1));
+        for(int threshold = 1; threshold <= sizes.length + 1; ++threshold) {
+            int expectedThreshold = threshold;
+            assertions.assertThat(Bits.atLeast(threshold, operands)).
+                    as("threshold=" + threshold).
+                    isEqualTo(bitsByCounts(counts, count -> count >= expectedThreshold));
+        }
+        for(int i = 0; i < operands.length; ++i) {
+            assertions.assertThat(new Bits(operands[i])).isEqualTo(expectedOperands[i]);
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            andAll(operands), orAll(operands), xorAll(operands), atLeast(threshold, operands):
+             operands is empty => return empty Bits,
+             threshold < 1 => exception
+            """)
+    @Test
+    void bulkOperations_edgeCases() {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(Bits.andAll()).isEqualTo(new Bits());
+        assertions.assertThat(Bits.orAll()).isEqualTo(new Bits());
+        assertions.assertThat(Bits.xorAll()).isEqualTo(new Bits());
+        assertions.assertThat(Bits.atLeast(3)).isEqualTo(new Bits());
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.atLeast(0, Bits.filled(10)));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> Bits.atLeast(-1, Bits.filled(10)));
+        assertions.assertThatNullPointerException().
+                isThrownBy(() -> Bits.andAll(Bits.filled(10), null));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            parallelCardinality(), parallelAnd(other), parallelOr(other), parallelXor(other), parallelAndNot(other),
+            parallelEquals(other):
+             => result must be equal to result of sequential operation
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             size of other is {1},
+             tracking is {2}
+            """)
+    @MethodSource("provideForParallelOperations")
+    void parallelOperations(int size, int otherSize, boolean tracking) {
+        Bits origin = randomBits(size, 0.5);
+        Bits other = randomBits(otherSize, 0.3);
+        if(tracking) origin.enableTracking();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.parallelCardinality()).isEqualTo(origin.cardinality());
+        assertions.assertThat(new Bits(origin).parallelAnd(other)).isEqualTo(new Bits(origin).and(other));
+        assertions.assertThat(new Bits(origin).parallelOr(other)).isEqualTo(new Bits(origin).or(other));
+        assertions.assertThat(new Bits(origin).parallelXor(other)).isEqualTo(new Bits(origin).xor(other));
+        assertions.assertThat(new Bits(origin).parallelAndNot(other)).isEqualTo(new Bits(origin).andNot(other));
+        assertions.assertThat(new Bits(origin).parallelOr(new CompressedBits(other)))
+                .isEqualTo(new Bits(origin).or(other));
+        if(tracking) {
+            assertions.assertThat(new Bits(origin).enableTracking().parallelXor(other).cardinality())
+                    .isEqualTo(new Bits(origin).xor(other).cardinality());
+        }
+        assertions.assertThat(origin.parallelEquals(new Bits(origin))).isTrue();
+        assertions.assertThat(origin.parallelEquals(origin)).isTrue();
+        assertions.assertThat(origin.parallelEquals(other)).isEqualTo(origin.equals(other));
+        assertions.assertThat(origin.parallelEquals(new CompressedBits(origin))).isFalse();
+        if(size > 0) {
+            Bits changed = new Bits(origin);
+            changed.flip(size - 1);
+            assertions.assertThat(origin.parallelEquals(changed)).isFalse();
+        }
+        assertions.assertAll();
+    }
+
     @DisplayName("contains(other):")
     @ParameterizedTest(name = """
              origin is {0},
@@ -1196,6 +1915,30 @@ class BitsTest {
         );
     }
 
+    private static Stream<Arguments> provideForFlipRange() {
+        Bits twoWords1 = Bits.of(128, 1, 5, 70, 100);
+        Bits twoWords2 = Bits.of(128, 1, 5, 70, 100);
+        Bits longWords1 = Bits.of(1000, 1, 5, 70, 100, 611, 612, 999);
+        Bits longWords2 = Bits.of(1000, 1, 5, 70, 100, 611, 612, 999);
+        for(int i = 0; i < 72; i++) twoWords1.flip(i);
+        for(int i = 57; i < 128; i++) twoWords2.flip(i);
+        for(int i = 0; i < 612; i++) longWords1.flip(i);
+        for(int i = 479; i < 1000; i++) longWords2.flip(i);
+
+        return Stream.of(
+                Arguments.of(new Bits(1), 0, 1, Bits.filled(1)),
+                Arguments.of(Bits.filled(1), 0, 1, new Bits(1)),
+                Arguments.of(Bits.of(10, 0, 7), 0, 5, Bits.of(10, 1, 2, 3, 4, 7)),
+                Arguments.of(Bits.of(10, 0, 7), 5, 10, Bits.of(10, 0, 5, 6, 8, 9)),
+                Arguments.of(Bits.of(128, 1, 5, 70, 100), 0, 72, twoWords1),
+                Arguments.of(Bits.of(128, 1, 5, 70, 100), 57, 128, twoWords2),
+                Arguments.of(Bits.of(1000, 1, 5, 70, 100, 611, 612, 999), 0, 612, longWords1),
+                Arguments.of(Bits.of(1000, 1, 5, 70, 100, 611, 612, 999), 479, 1000, longWords2),
+                Arguments.of(Bits.of(1000, 479), 479, 479, Bits.of(1000, 479)),
+                Arguments.of(new Bits(1000), 0, 0, new Bits(1000))
+        );
+    }
+
     private static Stream<Arguments> provideForSetAllWithArguments() {
         Bits bits1000_origin = new Bits(1000);
         IntStream.of(0, 100, 215, 317, 600, 999).forEach(bits1000_origin::set);
@@ -2059,6 +2802,83 @@ class BitsTest {
         );
     }
 
+    private static Stream<Arguments> provideForGetWord() {
+        return Stream.of(
+                Arguments.of(new Bits(0), 0, 0L),
+                Arguments.of(new Bits(0), 5, 0L),
+                Arguments.of(Bits.of(64, 0, 1, 63), 0, 0x8000000000000003L),
+                Arguments.of(Bits.of(64, 0, 1, 63), 1, 0L),
+                Arguments.of(Bits.of(200, 0, 64, 130, 199), 1, 1L),
+                Arguments.of(Bits.of(200, 0, 64, 130, 199), 2, 4L),
+                Arguments.of(Bits.of(200, 0, 64, 130, 199), 3, 0x80L),
+                Arguments.of(Bits.filled(70), 1, 0x3FL),
+                Arguments.of(Bits.filled(70), Integer.MAX_VALUE, 0L)
+        );
+    }
+
+    private static Stream<Arguments> provideForSetBitIteration() {
+        return Stream.of(
+                Arguments.of(0, 0.5),
+                Arguments.of(1, 1.0),
+                Arguments.of(63, 0.5),
+                Arguments.of(64, 1.0),
+                Arguments.of(65, 0.5),
+                Arguments.of(200, 0.0),
+                Arguments.of(1000, 0.01),
+                Arguments.of(1000, 0.5),
+                Arguments.of(1000, 1.0)
+        );
+    }
+
+    private static Stream<Arguments> provideForSerialization() {
+        return Stream.of(
+                Arguments.of(0, 0.5),
+                Arguments.of(1, 1.0),
+                Arguments.of(63, 0.5),
+                Arguments.of(64, 1.0),
+                Arguments.of(65, 0.5),
+                Arguments.of(1000, 0.5),
+                Arguments.of(65536, 0.5),
+                Arguments.of(200_001, 0.3)
+        );
+    }
+
+    private static Stream<Arguments> provideForParallelOperations() {
+        return Stream.of(
+                Arguments.of(0, 0, false),
+                Arguments.of(100, 1_000, true),
+                Arguments.of(1_000_000, 999_937, false),
+                Arguments.of(20_000_003, 20_000_003, false),
+                Arguments.of(20_000_003, 17_000_000, true),
+                Arguments.of(17_000_000, 20_000_003, false)
+        );
+    }
+
+    private static Stream<Arguments> provideForBulkOperations() {
+        return Stream.of(
+                Arguments.of(new int[]{0}, 0.5),
+                Arguments.of(new int[]{100}, 0.5),
+                Arguments.of(new int[]{64, 64}, 0.5),
+                Arguments.of(new int[]{63, 65, 0}, 0.5),
+                Arguments.of(new int[]{1000, 1000, 1000, 1000, 1000}, 0.9),
+                Arguments.of(new int[]{1000, 200, 5000, 1000, 3000, 1000, 1000}, 0.5),
+                Arguments.of(new int[]{20000, 20000, 20000}, 0.01),
+                Arguments.of(new int[]{30000, 20000, 40000, 100}, 1.0),
+                Arguments.of(IntStream.range(0, 40).map(i -> 17000 + i * 100).toArray(), 0.7)
+        );
+    }
+
+    private static Stream<Arguments> provideForTracking() {
+        return Stream.of(
+                Arguments.of(1),
+                Arguments.of(63),
+                Arguments.of(64),
+                Arguments.of(65),
+                Arguments.of(200),
+                Arguments.of(1000)
+        );
+    }
+
     private static Stream<Arguments> provideForGetHighBitIndex() {
         return Stream.of(
                 Arguments.of(new Bits(0), -1),
@@ -2101,6 +2921,8 @@ class BitsTest {
     private static Stream<Arguments> provideForNextClearBit() {
         return Stream.of(
                 Arguments.of(Bits.filled(500), 0, List.of(-1)),
+                Arguments.of(Bits.filled(1), 0, List.of(-1)),
+                Arguments.of(Bits.filled(100), 70, List.of(-1)),
                 Arguments.of(Bits.filled(500).clearRange(150, 307), 307, List.of(-1)),
                 Arguments.of(Bits.filled(500).clearRange(250, 255), 250,
                         List.of(250, 251, 252, 253, 254, -1)),
@@ -2275,6 +3097,36 @@ class BitsTest {
         );
     }
 
+    private static Stream<Arguments> provideForShiftLeft() {
+        return Stream.of(
+                Arguments.of(new Bits(0), 0, new Bits(0)),
+                Arguments.of(new Bits(0), 10, new Bits(0)),
+                Arguments.of(Bits.of(10, 0, 3, 9), 0, Bits.of(10, 0, 3, 9)),
+                Arguments.of(Bits.of(10, 0, 3, 9), 1, Bits.of(10, 1, 4)),
+                Arguments.of(Bits.of(10, 0, 3, 9), 10, new Bits(10)),
+                Arguments.of(Bits.of(10, 0, 3, 9), 100, new Bits(10)),
+                Arguments.of(Bits.of(130, 0, 63, 64, 127, 129), 1, Bits.of(130, 1, 64, 65, 128)),
+                Arguments.of(Bits.of(130, 0, 63, 64, 127, 129), 64, Bits.of(130, 64, 127, 128)),
+                Arguments.of(Bits.of(130, 0, 63, 64, 127, 129), 65, Bits.of(130, 65, 128, 129)),
+                Arguments.of(Bits.filled(130), 129, Bits.of(130, 129))
+        );
+    }
+
+    private static Stream<Arguments> provideForShiftRight() {
+        return Stream.of(
+                Arguments.of(new Bits(0), 0, new Bits(0)),
+                Arguments.of(new Bits(0), 10, new Bits(0)),
+                Arguments.of(Bits.of(10, 0, 3, 9), 0, Bits.of(10, 0, 3, 9)),
+                Arguments.of(Bits.of(10, 0, 3, 9), 1, Bits.of(10, 2, 8)),
+                Arguments.of(Bits.of(10, 0, 3, 9), 10, new Bits(10)),
+                Arguments.of(Bits.of(10, 0, 3, 9), 100, new Bits(10)),
+                Arguments.of(Bits.of(130, 0, 63, 64, 127, 129), 1, Bits.of(130, 62, 63, 126, 128)),
+                Arguments.of(Bits.of(130, 0, 63, 64, 127, 129), 64, Bits.of(130, 0, 63, 65)),
+                Arguments.of(Bits.of(130, 0, 63, 64, 127, 129), 65, Bits.of(130, 62, 64)),
+                Arguments.of(Bits.filled(130), 129, Bits.of(130, 0))
+        );
+    }
+
     private static Stream<Arguments> provideForToBinaryString() {
         return Stream.of(
                 Arguments.of(new Bits(0), ""),
@@ -2306,4 +3158,38 @@ class BitsTest {
                         "000000000000000000000000000000000000011111000010000000110111011000111000110111010010001010111101")
         );
     }
+
+    private static Bits randomBits(int size, double density) {
+        Random random = new Random(size + Double.hashCode(density));
+        Bits result = new Bits(size);
+        for(int i = 0; i < size; ++i) {
+            if(random.nextDouble() < density) result.set(i);
+        }
+        return result;
+    }
+
+    private static Bits bitsByCounts(int[] counts, IntPredicate predicate) {
+        Bits result = new Bits(counts.length);
+        for(int i = 0; i < counts.length; ++i) if(predicate.test(counts[i])) result.set(i);
+        return result;
+    }
+
+    private static int[] nextSetBitSequence(Bits bits, int fromIndex) {
+        IntDynamicArray result = new IntDynamicArray();
+        for(int i = bits.nextSetBit(fromIndex); i != -1; i = i + 1 < bits.size() ? bits.nextSetBit(i + 1) : -1) {
+            result.addLast(i);
+        }
+        return result.toArray();
+    }
+
+    private static void splitAndCollect(Spliterator.OfInt spliterator, IntDynamicArray result) {
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        if(prefix != null) splitAndCollect(prefix, result);
+        if(prefix != null && result.size() % 2 == 0) {
+            splitAndCollect(spliterator, result);
+        } else {
+            boolean hasNext = spliterator.tryAdvance((int index) -> result.addLast(index));
+            if(hasNext) spliterator.forEachRemaining((int index) -> result.addLast(index));
+        }
+    }
 }
@@ -0,0 +1,313 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class BloomFilterTest {
+
+    @DisplayName("""
+            BloomFilter(expectedInsertions, falsePositiveRate):
+             expectedInsertions < 0 => NegativeSizeException,
+             falsePositiveRate not in (0, 1) => IllegalArgumentException
+            """)
+    @Test
+    void BloomFilter_exception() {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatExceptionOfType(NegativeSizeException.class).
+                isThrownBy(() -> new BloomFilter<Integer>(-1, 0.01));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> new BloomFilter<Integer>(100, 0));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> new BloomFilter<Integer>(100, 1));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> new BloomFilter<Integer>(100, Double.NaN));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> new BloomFilter<Integer>(Integer.MAX_VALUE, 1.0E-10));
+        assertions.assertThatNullPointerException().
+                isThrownBy(() -> new BloomFilter<Integer>(100, 0.01, null));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            BloomFilter(expectedInsertions, falsePositiveRate):
+             => numberBits and numberHashFunctions are optimal
+            """)
+    @ParameterizedTest(name = """
+             expectedInsertions is {0},
+             falsePositiveRate is {1},
+             => numberBits is {2},
+             numberHashFunctions is {3}
+            """)
+    @MethodSource("provideForSizing")
+    void BloomFilter_sizing(int expectedInsertions,
+                            double falsePositiveRate,
+                            int expectedNumberBits,
+                            int expectedNumberHashFunctions) {
+        BloomFilter<Integer> filter = new BloomFilter<>(expectedInsertions, falsePositiveRate);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(filter.numberBits()).isEqualTo(expectedNumberBits);
+        assertions.assertThat(filter.numberHashFunctions()).isEqualTo(expectedNumberHashFunctions);
+        assertions.assertThat(filter.bits().size()).isEqualTo(expectedNumberBits);
+        assertions.assertThat(filter.bits().isClear()).isTrue();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            put(value), mightContain(value):
+             => mightContain must return true for every added value and
+                false positive rate must not exceed the target rate significantly
+            """)
+    @ParameterizedTest(name = """
+             expectedInsertions is {0},
+             falsePositiveRate is {1}
+            """)
+    @MethodSource("provideForFalsePositiveRate")
+    void put_mightContain(int expectedInsertions, double falsePositiveRate) {
+        BloomFilter<Integer> filter = new BloomFilter<>(expectedInsertions, falsePositiveRate);
+
+        for(int i = 0; i < expectedInsertions; ++i) filter.put(i);
+
+        long falsePositives = IntStream.range(expectedInsertions, expectedInsertions + 100_000).
+                filter(filter::mightContain).
+                count();
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(IntStream.range(0, expectedInsertions).allMatch(filter::mightContain)).isTrue();
+        assertions.assertThat(falsePositives / 100_000.0).isLessThan(falsePositiveRate * 1.5);
+        assertions.assertThat(filter.expectedFalsePositiveRate()).isLessThan(falsePositiveRate * 1.5);
+        assertions.assertThat(filter.approximateElementCount()).
+                isBetween((long) (expectedInsertions * 0.95), (long) (expectedInsertions * 1.05));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            put(value):
+             value wasn't added before => return true,
+             value was added before => return false
+            """)
+    @Test
+    void put() {
+        BloomFilter<String> filter = new BloomFilter<>(100, 0.01);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(filter.put("first")).isTrue();
+        assertions.assertThat(filter.put("first")).isFalse();
+        assertions.assertThat(filter.put("second")).isTrue();
+        assertions.assertThat(filter.mightContain("first")).isTrue();
+        assertions.assertThat(filter.mightContain("second")).isTrue();
+        assertions.assertThat(filter.mightContain("third")).isFalse();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            putAll(values...), putAll(Iterable):
+             => filter must be equal to filter with the same values added by put(value)
+            """)
+    @Test
+    void putAll() {
+        BloomFilter<Integer> expected = new BloomFilter<>(1000, 0.01);
+        IntStream.range(0, 500).forEach(expected::put);
+        BloomFilter<Integer> fromArray = new BloomFilter<>(1000, 0.01);
+        BloomFilter<Integer> fromIterable = new BloomFilter<>(1000, 0.01);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(fromArray.putAll(IntStream.range(0, 500).boxed().toArray(Integer[]::new))).isTrue();
+        assertions.assertThat(fromArray.putAll(1, 2, 3)).isFalse();
+        assertions.assertThat(fromIterable.putAll(IntStream.range(0, 500).boxed().toList())).isTrue();
+        assertions.assertThat(fromIterable.putAll(List.of())).isFalse();
+        assertions.assertThat(fromArray).isEqualTo(expected);
+        assertions.assertThat(fromIterable).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            union(other):
+             filters are compatible
+             => filter must contain values of both filters and be equal to filter with all values
+            """)
+    @Test
+    void union() {
+        BloomFilter<Integer> first = new BloomFilter<>(1000, 0.01);
+        BloomFilter<Integer> second = new BloomFilter<>(1000, 0.01);
+        BloomFilter<Integer> expected = new BloomFilter<>(1000, 0.01);
+        IntStream.range(0, 400).forEach(first::put);
+        IntStream.range(300, 800).forEach(second::put);
+        IntStream.range(0, 800).forEach(expected::put);
+
+        first.union(second);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(first).isEqualTo(expected);
+        assertions.assertThat(IntStream.range(0, 800).allMatch(first::mightContain)).isTrue();
+        assertions.assertThat(first.bits().cardinality()).isEqualTo(expected.bits().cardinality());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            union(other):
+             filters have different number of bits or hash functions => exception
+            """)
+    @Test
+    void union_exception() {
+        BloomFilter<Integer> filter = new BloomFilter<>(1000, 0.01);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(filter.isCompatible(new BloomFilter<>(1000, 0.01))).isTrue();
+        assertions.assertThat(filter.isCompatible(new BloomFilter<>(2000, 0.01))).isFalse();
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> filter.union(new BloomFilter<>(2000, 0.01)));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> filter.union(new BloomFilter<>(1000, 0.0001)));
+        assertions.assertThatNullPointerException().
+                isThrownBy(() -> filter.union(null));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            BloomFilter(other):
+             => origin and copy must be equal and independent of each other
+            """)
+    @Test
+    void BloomFilter_copy() {
+        BloomFilter<Integer> origin = new BloomFilter<>(1000, 0.01);
+        IntStream.range(0, 500).forEach(origin::put);
+        BloomFilter<Integer> copy = new BloomFilter<>(origin);
+        BloomFilter<Integer> expected = new BloomFilter<>(origin);
+
+        origin.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(copy).isEqualTo(expected);
+        assertions.assertThat(IntStream.range(0, 500).allMatch(copy::mightContain)).isTrue();
+        assertions.assertThat(origin.bits().isClear()).isTrue();
+        assertions.assertThat(origin.mightContain(1)).isFalse();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            toByteArray(), fromByteArray(data, hashFunction):
+             => restored filter must be equal to origin
+            """)
+    @ParameterizedTest(name = """
+             expectedInsertions is {0},
+             falsePositiveRate is {1}
+            """)
+    @MethodSource("provideForFalsePositiveRate")
+    void toByteArray_fromByteArray(int expectedInsertions, double falsePositiveRate) {
+        ToLongFunction<Integer> hashFunction = value -> value * 0x9E3779B97F4A7C15L;
+        BloomFilter<Integer> origin = new BloomFilter<>(expectedInsertions, falsePositiveRate, hashFunction);
+        IntStream.range(0, expectedInsertions / 2).forEach(origin::put);
+
+        byte[] data = origin.toByteArray();
+        BloomFilter<Integer> restored = BloomFilter.fromByteArray(data, hashFunction);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(data).hasSize(16 + (origin.numberBits() + 63) / 64 * 8);
+        assertions.assertThat(restored).isEqualTo(origin);
+        assertions.assertThat(restored.hashCode()).isEqualTo(origin.hashCode());
+        assertions.assertThat(IntStream.range(0, expectedInsertions / 2).allMatch(restored::mightContain)).isTrue();
+        assertions.assertThat(restored.put(expectedInsertions)).isEqualTo(origin.put(expectedInsertions));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            fromByteArray(data, hashFunction):
+             data doesn't contain correctly saved filter => exception
+            """)
+    @Test
+    void fromByteArray_exception() {
+        byte[] data = new BloomFilter<Integer>(100, 0.01).toByteArray();
+        byte[] wrongSignature = data.clone();
+        wrongSignature[0] ^= 1;
+        byte[] wrongNumberBits = data.clone();
+        wrongNumberBits[8] = 0;
+        wrongNumberBits[9] = 0;
+        byte[] zeroHashFunctions = data.clone();
+        zeroHashFunctions[12] = 0;
+        ToLongFunction<Integer> hashFunction = Integer::longValue;
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> BloomFilter.fromByteArray(new byte[0], hashFunction));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> BloomFilter.fromByteArray(wrongSignature, hashFunction));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> BloomFilter.fromByteArray(wrongNumberBits, hashFunction));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> BloomFilter.fromByteArray(zeroHashFunctions, hashFunction));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> BloomFilter.fromByteArray(Arrays.copyOf(data, data.length - 1), hashFunction));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> BloomFilter.fromByteArray(Arrays.copyOf(data, data.length + 8), hashFunction));
+        assertions.assertThatNullPointerException().
+                isThrownBy(() -> BloomFilter.fromByteArray(null, hashFunction));
+        assertions.assertThatNullPointerException().
+                isThrownBy(() -> BloomFilter.fromByteArray(data, null));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            clear():
+             => filter must not contain any value
+            """)
+    @Test
+    void clear() {
+        BloomFilter<Integer> filter = new BloomFilter<>(1000, 0.01);
+        IntStream.range(0, 1000).forEach(filter::put);
+
+        filter.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(IntStream.range(0, 1000).noneMatch(filter::mightContain)).isTrue();
+        assertions.assertThat(filter.approximateElementCount()).isZero();
+        assertions.assertThat(filter.expectedFalsePositiveRate()).isZero();
+        assertions.assertThat(filter).isEqualTo(new BloomFilter<>(1000, 0.01));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            bits():
+             => return view of filter bits
+            """)
+    @Test
+    void bits() {
+        BloomFilter<Integer> filter = new BloomFilter<>(1000, 0.01);
+        ReadableBits bits = filter.bits();
+
+        filter.put(1);
+
+        Assertions.assertThat(bits.cardinality()).isBetween(1, filter.numberHashFunctions());
+    }
+
+
+    private static Stream<Arguments> provideForSizing() {
+        return Stream.of(
+                Arguments.of(0, 0.01, 64, 44),
+                Arguments.of(1, 0.01, 64, 44),
+                Arguments.of(1000, 0.01, 9586, 7),
+                Arguments.of(1000, 0.001, 14378, 10),
+                Arguments.of(1_000_000, 0.03, 7298441, 5)
+        );
+    }
+
+    private static Stream<Arguments> provideForFalsePositiveRate() {
+        return Stream.of(
+                Arguments.of(1000, 0.1),
+                Arguments.of(1000, 0.01),
+                Arguments.of(10_000, 0.01),
+                Arguments.of(100_000, 0.001)
+        );
+    }
+}
@@ -0,0 +1,533 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class CompressedBitsTest {
+
+    @TempDir
+    private Path directory;
+
+    @DisplayName("CompressedBits(numberBits): numberBits < 0 => exception")
+    @Test
+    void CompressedBits_numberBits_exception() {
+        Assertions.assertThatExceptionOfType(NegativeSizeException.class)
+                .isThrownBy(() -> new CompressedBits(-1));
+    }
+
+    @DisplayName("CompressedBits(other): compare with Bits")
+    @ParameterizedTest(name = """
+             pattern is {0},
+             size is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void CompressedBits_copy(String pattern, int size) {
+        Bits expected = generate(pattern, size, 1);
+
+        CompressedBits fromBits = new CompressedBits(expected);
+        CompressedBits fromCompressed = new CompressedBits(fromBits);
+        if(size > 0) fromCompressed.flip(0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(new Bits(fromBits)).isEqualTo(expected);
+        assertions.assertThat(fromBits.size()).isEqualTo(size);
+        if(size > 0) {
+            assertions.assertThat(fromBits.get(0)).isEqualTo(expected.get(0));
+            assertions.assertThat(fromCompressed.get(0)).isNotEqualTo(expected.get(0));
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            get(index), set(index), clear(index), flip(index):
+             index < 0 or index >= size => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForSingleIndex_exception")
+    void singleIndex_exception(int size, int index) {
+        CompressedBits bits = new CompressedBits(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> bits.get(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.set(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.clear(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.flip(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            set(index), clear(index), flip(index):
+             containers change their kind while bits are changed one by one
+             => compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             pattern is {0},
+             size is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void singleIndexOperations(String pattern, int size) {
+        Bits expected = generate(pattern, size, 2);
+        CompressedBits actual = new CompressedBits(expected);
+        Random random = new Random(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < 20_000 && size > 0; ++i) {
+            int index = random.nextInt(size);
+            switch(random.nextInt(3)) {
+                case 0 -> { actual.set(index); expected.set(index); }
+                case 1 -> { actual.clear(index); expected.clear(index); }
+                default -> { actual.flip(index); expected.flip(index); }
+            }
+            if(i % 1000 == 0) assertions.assertThat(actual.get(index)).isEqualTo(expected.get(index));
+        }
+        assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+        assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            set(index), clear(index):
+             fill whole chunk bit by bit and clear it bit by bit
+             => container is converted between array, bitmap and run kinds
+            """)
+    @Test
+    void singleIndexOperations_containerTransitions() {
+        CompressedBits actual = new CompressedBits(200_000);
+        Bits expected = new Bits(200_000);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 65536; i < 2 * 65536; ++i) {
+            actual.set(i);
+            expected.set(i);
+        }
+        assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+        for(int i = 65536; i < 2 * 65536; i += 2) {
+            actual.clear(i);
+            expected.clear(i);
+        }
+        assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+        for(int i = 65537; i < 2 * 65536; i += 2) {
+            actual.clear(i);
+            expected.clear(i);
+        }
+        assertions.assertThat(actual.isClear()).isTrue();
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(-1);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setRange(fromIndex, toIndex), clearRange(fromIndex, toIndex), flipRange(fromIndex, toIndex):
+             incorrect range => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             fromIndex is {1},
+             toIndex is {2}
+             => exception
+            """)
+    @MethodSource("provideForRange_exception")
+    void rangeOperations_exception(int size, int fromIndex, int toIndex) {
+        CompressedBits bits = new CompressedBits(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> bits.setRange(fromIndex, toIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.clearRange(fromIndex, toIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.flipRange(fromIndex, toIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setRange(fromIndex, toIndex), clearRange(fromIndex, toIndex), flipRange(fromIndex, toIndex):
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             pattern is {0},
+             size is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void rangeOperations(String pattern, int size) {
+        Bits expected = generate(pattern, size, 3);
+        CompressedBits actual = new CompressedBits(expected);
+        Random random = new Random(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < 30 && size > 0; ++i) {
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from + 1);
+            switch(i % 3) {
+                case 0 -> { actual.setRange(from, to); expected.setRange(from, to); }
+                case 1 -> { actual.clearRange(from, to); expected.clearRange(from, to); }
+                default -> { actual.flipRange(from, to); expected.flipRange(from, to); }
+            }
+            assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+        }
+        assertions.assertThat(new Bits(actual.setAll())).isEqualTo(expected.setAll());
+        assertions.assertThat(new Bits(actual.clearAll())).isEqualTo(expected.clearAll());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            get(index), getWord(wordIndex), cardinality(), getHighBitIndex(), isClear(),
+            nextSetBit(fromIndex), nextClearBit(fromIndex), toBinaryString():
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             pattern is {0},
+             size is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void queries(String pattern, int size) {
+        Bits expected = generate(pattern, size, 4);
+        CompressedBits actual = new CompressedBits(expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < size; i += 7) {
+            assertions.assertThat(actual.get(i)).isEqualTo(expected.get(i));
+            assertions.assertThat(actual.nextSetBit(i)).isEqualTo(expected.nextSetBit(i));
+            assertions.assertThat(actual.nextClearBit(i)).isEqualTo(nextClearBit(expected, i));
+        }
+        for(int i = 0; i < size / 64 + 3; ++i) {
+            assertions.assertThat(actual.getWord(i)).isEqualTo(expected.getWord(i));
+        }
+        assertions.assertThat(actual.nextSetBit(size)).isEqualTo(-1);
+        assertions.assertThat(actual.nextClearBit(size)).isEqualTo(-1);
+        assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+        assertions.assertThat(actual.isClear()).isEqualTo(expected.isClear());
+        if(size <= 10_000) assertions.assertThat(actual.toBinaryString()).isEqualTo(expected.toBinaryString());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            and(other):
+             object is Bits.view(buffer, numberBits),
+             other is CompressedBits
+             => result is written to buffer
+            """)
+    @ParameterizedTest(name = """
+             first operand pattern is {0},
+             first operand size is {1},
+             second operand pattern is {2},
+             second operand size is {3}
+            """)
+    @MethodSource("provideForBinaryOperations")
+    void and_view(String firstPattern, int firstSize, String secondPattern, int secondSize) {
+        Bits first = generate(firstPattern, firstSize, 5);
+        Bits second = generate(secondPattern, secondSize, 6);
+        long[] array = new long[Math.max(1, (firstSize + 63) >>> 6)];
+        Bits actual = Bits.view(LongBuffer.wrap(array), firstSize).or(first);
+
+        actual.and(new CompressedBits(second));
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(new Bits(first).and(second));
+        assertions.assertThat(Bits.view(LongBuffer.wrap(array), firstSize)).isEqualTo(actual);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            and(other), or(other), xor(other), andNot(other):
+             operands are CompressedBits or Bits in any combination
+             => compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             first operand pattern is {0},
+             first operand size is {1},
+             second operand pattern is {2},
+             second operand size is {3}
+            """)
+    @MethodSource("provideForBinaryOperations")
+    void logicalOperations(String firstPattern, int firstSize, String secondPattern, int secondSize) {
+        Bits first = generate(firstPattern, firstSize, 5);
+        Bits second = generate(secondPattern, secondSize, 6);
+        CompressedBits compressedSecond = new CompressedBits(second);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(ReadableBits secondOperand : new ReadableBits[]{second, compressedSecond}) {
+            assertions.assertThat(new Bits(new CompressedBits(first).and(secondOperand)))
+                    .isEqualTo(new Bits(first).and(second));
+            assertions.assertThat(new Bits(new CompressedBits(first).or(secondOperand)))
+                    .isEqualTo(new Bits(first).or(second));
+            assertions.assertThat(new Bits(new CompressedBits(first).xor(secondOperand)))
+                    .isEqualTo(new Bits(first).xor(second));
+            assertions.assertThat(new Bits(new CompressedBits(first).andNot(secondOperand)))
+                    .isEqualTo(new Bits(first).andNot(second));
+        }
+        assertions.assertThat(new Bits(first).and(compressedSecond)).isEqualTo(new Bits(first).and(second));
+        assertions.assertThat(new Bits(first).or(compressedSecond)).isEqualTo(new Bits(first).or(second));
+        assertions.assertThat(new Bits(first).xor(compressedSecond)).isEqualTo(new Bits(first).xor(second));
+        assertions.assertThat(new Bits(first).andNot(compressedSecond)).isEqualTo(new Bits(first).andNot(second));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            and(other), or(other), xor(other), andNot(other):
+             other is the same object
+            """)
+    @Test
+    void logicalOperations_sameObject() {
+        Bits expected = generate("runs", 300_000, 7);
+
+        SoftAssertions assertions = new SoftAssertions();
+        CompressedBits actual = new CompressedBits(expected);
+        assertions.assertThat(new Bits(actual.and(actual))).isEqualTo(expected);
+        assertions.assertThat(new Bits(actual.or(actual))).isEqualTo(expected);
+        assertions.assertThat(actual.xor(actual).isClear()).isTrue();
+        actual = new CompressedBits(expected);
+        assertions.assertThat(actual.andNot(actual).isClear()).isTrue();
+        assertions.assertThat(actual.size()).isEqualTo(300_000);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            contains(other), intersect(other), equalsIgnoreSize(other), compareTo(other), compareIgnoreSize(other):
+             operands are CompressedBits or Bits in any combination
+             => same result as for two Bits
+            """)
+    @ParameterizedTest(name = """
+             first operand pattern is {0},
+             first operand size is {1},
+             second operand pattern is {2},
+             second operand size is {3}
+            """)
+    @MethodSource("provideForBinaryOperations")
+    void relations(String firstPattern, int firstSize, String secondPattern, int secondSize) {
+        Bits first = generate(firstPattern, firstSize, 8);
+        Bits second = generate(secondPattern, secondSize, 9);
+        Bits subset = new Bits(first).and(second);
+        Bits copy = new Bits(secondSize).or(first);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(Bits other : new Bits[]{second, subset, copy}) {
+            for(ReadableBits a : new ReadableBits[]{first, new CompressedBits(first)}) {
+                for(ReadableBits b : new ReadableBits[]{other, new CompressedBits(other)}) {
+                    assertions.assertThat(a.contains(b)).isEqualTo(first.contains(other));
+                    assertions.assertThat(b.contains(a)).isEqualTo(other.contains(first));
+                    assertions.assertThat(a.intersect(b)).isEqualTo(first.intersect(other));
+                    assertions.assertThat(a.equalsIgnoreSize(b)).isEqualTo(first.equalsIgnoreSize(other));
+                    assertions.assertThat(Integer.signum(a.compareTo(b)))
+                            .isEqualTo(Integer.signum(first.compareTo(other)));
+                    assertions.assertThat(Integer.signum(a.compareIgnoreSize(b)))
+                            .isEqualTo(Integer.signum(first.compareIgnoreSize(other)));
+                }
+            }
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            equals(other), hashCode():
+             same bits stored in containers of different kinds
+             => objects are equal
+            """)
+    @Test
+    void equals_differentContainers() {
+        CompressedBits runs = new CompressedBits(100_000).setRange(10, 5000);
+        CompressedBits bitmap = new CompressedBits(100_000);
+        for(int i = 10; i < 5000; ++i) bitmap.set(i);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(runs).isEqualTo(bitmap);
+        assertions.assertThat(runs.hashCode()).isEqualTo(bitmap.hashCode());
+        assertions.assertThat(runs.hashCodeIgnoreSize()).isEqualTo(bitmap.hashCodeIgnoreSize());
+        bitmap.clear(4999);
+        assertions.assertThat(runs).isNotEqualTo(bitmap);
+        assertions.assertThat(runs).isNotEqualTo(new CompressedBits(100_001).setRange(10, 5000));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            contains(other), intersect(other), equalsIgnoreSize(other), compareTo(other), compareIgnoreSize(other),
+            copyRangeFrom(src, srcPos, destPos, length):
+             object is small Bits,
+             other is sparse CompressedBits or RunLengthBits with size near Integer.MAX_VALUE
+             => other is read only within words of the object, same result as for small operand
+            """)
+    @Test
+    void relations_sparseOperandWithMaxSize() {
+        Bits bits = Bits.of(128, 5, 70);
+        CompressedBits huge = CompressedBits.of(Integer.MAX_VALUE, 5, 1_000_000_000);
+        CompressedBits hugeSubset = CompressedBits.of(Integer.MAX_VALUE, 5, 70);
+        Bits copy = new Bits(128);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(bits.contains(huge)).isFalse();
+        assertions.assertThat(bits.contains(hugeSubset)).isTrue();
+        assertions.assertThat(bits.contains(new RunLengthBits(hugeSubset))).isTrue();
+        assertions.assertThat(bits.intersect(huge)).isTrue();
+        assertions.assertThat(bits.intersect(CompressedBits.of(Integer.MAX_VALUE, 6, 1_000_000_000))).isFalse();
+        assertions.assertThat(bits.equalsIgnoreSize(hugeSubset)).isTrue();
+        assertions.assertThat(bits.equalsIgnoreSize(huge)).isFalse();
+        assertions.assertThat(bits.equalsIgnoreSize(new RunLengthBits(huge))).isFalse();
+        assertions.assertThat(Integer.signum(bits.compareTo(huge))).isEqualTo(-1);
+        assertions.assertThat(bits.compareIgnoreSize(hugeSubset)).isZero();
+        assertions.assertThat(Integer.signum(bits.compareIgnoreSize(huge))).isEqualTo(-1);
+        assertions.assertThat(copy.copyRangeFrom(huge, 0, 0, 128)).isEqualTo(128);
+        assertions.assertThat(copy).isEqualTo(Bits.of(128, 5));
+        assertions.assertThat(new Bits(bits).and(huge)).isEqualTo(Bits.of(128, 5));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            hashCodeIgnoreSize():
+             same bits in any implementation of ReadableBits of any size
+             => same hash code
+            """)
+    @ParameterizedTest(name = """
+             pattern is {0},
+             size is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void hashCodeIgnoreSize_allImplementations(String pattern, int size) throws IOException {
+        Bits expected = generate(pattern, size, 10);
+        Bits wider = new Bits(size + 200).or(expected);
+        BitMatrix matrix = new BitMatrix(1, size).setRow(0, expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        try(MappedBits mapped = MappedBits.create(directory.resolve("bits"), size)) {
+            for(int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1)) mapped.set(i);
+
+            ReadableBits[] implementations = {
+                    wider,
+                    new CompressedBits(expected),
+                    new CompressedBits(wider),
+                    new AtomicBits(expected),
+                    new RankSelectBits(expected),
+                    new RunLengthBits(expected),
+                    matrix.row(0),
+                    mapped
+            };
+            for(ReadableBits actual : implementations) {
+                assertions.assertThat(actual.hashCodeIgnoreSize())
+                        .as(actual.getClass().getSimpleName() + " with size " + actual.size())
+                        .isEqualTo(expected.hashCodeIgnoreSize());
+            }
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            set(index), nextSetBit(fromIndex), cardinality(), getHighBitIndex():
+             size is Integer.MAX_VALUE, few bits are set
+             => memory is allocated only for non-empty chunks
+            """)
+    @Test
+    void sparseBitsOfMaxSize() {
+        CompressedBits actual = CompressedBits.of(Integer.MAX_VALUE, 0, 1_000_000, 1_000_000_000, Integer.MAX_VALUE - 1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.cardinality()).isEqualTo(4);
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(Integer.MAX_VALUE - 1);
+        assertions.assertThat(actual.nextSetBit(1)).isEqualTo(1_000_000);
+        assertions.assertThat(actual.nextSetBit(1_000_001)).isEqualTo(1_000_000_000);
+        assertions.assertThat(actual.nextSetBit(1_000_000_001)).isEqualTo(Integer.MAX_VALUE - 1);
+        assertions.assertThat(actual.nextClearBit(Integer.MAX_VALUE - 1)).isEqualTo(-1);
+        assertions.assertThat(actual.getWord((Integer.MAX_VALUE - 1) >>> 6)).isEqualTo(1L << 62);
+        assertions.assertThat(actual.contains(CompressedBits.of(Integer.MAX_VALUE, 1_000_000_000))).isTrue();
+        assertions.assertThat(actual.intersect(CompressedBits.of(Integer.MAX_VALUE, 5))).isFalse();
+        actual.or(CompressedBits.of(Integer.MAX_VALUE, 5)).andNot(CompressedBits.of(100, 0));
+        assertions.assertThat(actual.nextSetBit(0)).isEqualTo(5);
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForPatterns() {
+        return Stream.of(
+                Arguments.of("empty", 0),
+                Arguments.of("empty", 1000),
+                Arguments.of("sparse", 1000),
+                Arguments.of("sparse", 1_000_000),
+                Arguments.of("dense", 70_000),
+                Arguments.of("dense", 200_000),
+                Arguments.of("runs", 200_000),
+                Arguments.of("full", 65_536),
+                Arguments.of("full", 131_073)
+        );
+    }
+
+    private static Stream<Arguments> provideForSingleIndex_exception() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(10, -1),
+                Arguments.of(10, 10),
+                Arguments.of(Integer.MAX_VALUE, Integer.MIN_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForRange_exception() {
+        return Stream.of(
+                Arguments.of(10, -1, 5),
+                Arguments.of(10, 5, 4),
+                Arguments.of(10, 0, 11),
+                Arguments.of(0, 0, 1)
+        );
+    }
+
+    private static Stream<Arguments> provideForBinaryOperations() {
+        return Stream.of(
+                Arguments.of("empty", 0, "sparse", 100_000),
+                Arguments.of("sparse", 100_000, "empty", 0),
+                Arguments.of("sparse", 300_000, "sparse", 300_000),
+                Arguments.of("sparse", 300_000, "dense", 200_000),
+                Arguments.of("dense", 200_000, "sparse", 300_000),
+                Arguments.of("dense", 200_000, "dense", 200_000),
+                Arguments.of("runs", 300_000, "dense", 250_000),
+                Arguments.of("dense", 250_000, "runs", 300_000),
+                Arguments.of("runs", 300_000, "runs", 300_000),
+                Arguments.of("full", 131_073, "sparse", 200_000),
+                Arguments.of("sparse", 200_000, "full", 131_073),
+                Arguments.of("full", 131_073, "runs", 131_073)
+        );
+    }
+
+    private static Bits generate(String pattern, int size, long seed) {
+        Random random = new Random(seed);
+        Bits result = new Bits(size);
+        switch(pattern) {
+            case "sparse" -> {
+                for(int i = 0; i < Math.min(size, 2000); ++i) result.set(random.nextInt(size));
+            }
+            case "dense" -> {
+                for(int i = 0; i < size; ++i) {
+                    if(random.nextInt(3) != 0) result.set(i);
+                }
+            }
+            case "runs" -> {
+                for(int from = random.nextInt(1000); from < size; from += random.nextInt(20_000)) {
+                    int to = Math.min(size, from + random.nextInt(10_000));
+                    result.setRange(from, to);
+                    from = to;
+                }
+            }
+            case "full" -> result.setAll();
+        }
+        return result;
+    }
+
+    private static int nextClearBit(Bits bits, int fromIndex) {
+        for(int i = fromIndex; i < bits.size(); ++i) {
+            if(!bits.get(i)) return i;
+        }
+        return -1;
+    }
+}
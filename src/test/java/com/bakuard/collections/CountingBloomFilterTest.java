@@ -0,0 +1,202 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class CountingBloomFilterTest {
+
+    @DisplayName("""
+            CountingBloomFilter(expectedInsertions, falsePositiveRate):
+             expectedInsertions < 0 => NegativeSizeException,
+             falsePositiveRate not in (0, 1) => IllegalArgumentException
+            """)
+    @Test
+    void CountingBloomFilter_exception() {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatExceptionOfType(NegativeSizeException.class).
+                isThrownBy(() -> new CountingBloomFilter<Integer>(-1, 0.01));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> new CountingBloomFilter<Integer>(100, 0));
+        assertions.assertThatIllegalArgumentException().
+                isThrownBy(() -> new CountingBloomFilter<Integer>(100, 1));
+        assertions.assertThatNullPointerException().
+                isThrownBy(() -> new CountingBloomFilter<Integer>(100, 0.01, null));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            CountingBloomFilter(expectedInsertions, falsePositiveRate):
+             => numberCounters and numberHashFunctions must be equal to BloomFilter with the same parameters
+            """)
+    @ParameterizedTest(name = """
+             expectedInsertions is {0},
+             falsePositiveRate is {1}
+            """)
+    @MethodSource("provideForFalsePositiveRate")
+    void CountingBloomFilter_sizing(int expectedInsertions, double falsePositiveRate) {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(expectedInsertions, falsePositiveRate);
+        BloomFilter<Integer> expected = new BloomFilter<>(expectedInsertions, falsePositiveRate);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(filter.numberCounters()).isEqualTo(expected.numberBits());
+        assertions.assertThat(filter.numberHashFunctions()).isEqualTo(expected.numberHashFunctions());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            put(value), remove(value), mightContain(value):
+             some values were added and then part of them were removed
+             => mightContain must return true for remaining values and
+                false positive rate must not exceed the target rate significantly
+            """)
+    @ParameterizedTest(name = """
+             expectedInsertions is {0},
+             falsePositiveRate is {1}
+            """)
+    @MethodSource("provideForFalsePositiveRate")
+    void put_remove_mightContain(int expectedInsertions, double falsePositiveRate) {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(expectedInsertions, falsePositiveRate);
+        IntStream.range(0, expectedInsertions * 2).forEach(filter::put);
+
+        boolean allRemoved = IntStream.range(expectedInsertions, expectedInsertions * 2).allMatch(filter::remove);
+
+        long falsePositives = IntStream.range(expectedInsertions * 2, expectedInsertions * 2 + 100_000).
+                filter(filter::mightContain).
+                count();
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(allRemoved).isTrue();
+        assertions.assertThat(IntStream.range(0, expectedInsertions).allMatch(filter::mightContain)).isTrue();
+        assertions.assertThat(falsePositives / 100_000.0).isLessThan(falsePositiveRate * 1.5);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            put(value), remove(value):
+             value was added several times
+             => value must be contained until it is removed the same number of times
+            """)
+    @Test
+    void put_remove() {
+        CountingBloomFilter<String> filter = new CountingBloomFilter<>(100, 0.01);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(filter.remove("first")).isFalse();
+        assertions.assertThat(filter.put("first")).isTrue();
+        assertions.assertThat(filter.put("first")).isFalse();
+        assertions.assertThat(filter.put("second")).isTrue();
+        assertions.assertThat(filter.remove("first")).isTrue();
+        assertions.assertThat(filter.mightContain("first")).isTrue();
+        assertions.assertThat(filter.remove("first")).isTrue();
+        assertions.assertThat(filter.mightContain("first")).isFalse();
+        assertions.assertThat(filter.remove("first")).isFalse();
+        assertions.assertThat(filter.mightContain("second")).isTrue();
+        assertions.assertThat(filter.remove("second")).isTrue();
+        assertions.assertThat(filter).isEqualTo(new CountingBloomFilter<String>(100, 0.01));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            put(value), remove(value):
+             value was added more than 15 times
+             => counters are saturated and value must be contained after any number of removals
+            """)
+    @Test
+    void put_remove_saturation() {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(100, 0.01);
+        for(int i = 0; i < 20; ++i) filter.put(7);
+
+        boolean allRemoved = IntStream.range(0, 40).allMatch(i -> filter.remove(7));
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(allRemoved).isTrue();
+        assertions.assertThat(filter.mightContain(7)).isTrue();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            putAll(values...), putAll(Iterable):
+             => filter must be equal to filter with the same values added by put(value)
+            """)
+    @Test
+    void putAll() {
+        CountingBloomFilter<Integer> expected = new CountingBloomFilter<>(1000, 0.01);
+        IntStream.range(0, 500).forEach(expected::put);
+        CountingBloomFilter<Integer> fromArray = new CountingBloomFilter<>(1000, 0.01);
+        CountingBloomFilter<Integer> fromIterable = new CountingBloomFilter<>(1000, 0.01);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(fromArray.putAll(IntStream.range(0, 500).boxed().toArray(Integer[]::new))).isTrue();
+        assertions.assertThat(fromIterable.putAll(IntStream.range(0, 500).boxed().toList())).isTrue();
+        assertions.assertThat(fromIterable.putAll(List.of())).isFalse();
+        assertions.assertThat(fromArray).isEqualTo(expected);
+        assertions.assertThat(fromIterable).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            toBloomFilter():
+             => return BloomFilter equal to BloomFilter with the same remaining values
+            """)
+    @ParameterizedTest(name = """
+             expectedInsertions is {0},
+             falsePositiveRate is {1}
+            """)
+    @MethodSource("provideForFalsePositiveRate")
+    void toBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(expectedInsertions, falsePositiveRate);
+        BloomFilter<Integer> expected = new BloomFilter<>(expectedInsertions, falsePositiveRate);
+        IntStream.range(0, expectedInsertions).forEach(filter::put);
+        IntStream.range(0, expectedInsertions / 2).forEach(filter::remove);
+        IntStream.range(expectedInsertions / 2, expectedInsertions).forEach(expected::put);
+
+        BloomFilter<Integer> actual = filter.toBloomFilter();
+        filter.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(expected);
+        assertions.assertThat(actual.bits().cardinality()).isEqualTo(expected.bits().cardinality());
+        assertions.assertThat(actual.isCompatible(expected)).isTrue();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            CountingBloomFilter(other):
+             => origin and copy must be equal and independent of each other
+            """)
+    @Test
+    void CountingBloomFilter_copy() {
+        CountingBloomFilter<Integer> origin = new CountingBloomFilter<>(1000, 0.01);
+        IntStream.range(0, 500).forEach(origin::put);
+        CountingBloomFilter<Integer> copy = new CountingBloomFilter<>(origin);
+        CountingBloomFilter<Integer> expected = new CountingBloomFilter<>(origin);
+
+        origin.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(copy).isEqualTo(expected);
+        assertions.assertThat(copy.hashCode()).isEqualTo(expected.hashCode());
+        assertions.assertThat(IntStream.range(0, 500).allMatch(copy::mightContain)).isTrue();
+        assertions.assertThat(IntStream.range(0, 500).noneMatch(origin::mightContain)).isTrue();
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForFalsePositiveRate() {
+        return Stream.of(
+                Arguments.of(0, 0.01),
+                Arguments.of(1000, 0.1),
+                Arguments.of(1000, 0.01),
+                Arguments.of(10_000, 0.01),
+                Arguments.of(100_000, 0.001)
+        );
+    }
+}
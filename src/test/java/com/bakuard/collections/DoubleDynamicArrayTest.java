@@ -0,0 +1,531 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import com.bakuard.collections.function.DoubleIndexBiPredicate;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+class DoubleDynamicArrayTest {
+
+    @Test
+    @DisplayName("DoubleDynamicArray(size): negative size => exception")
+    public void DoubleDynamicArray_size_exception() {
+        Assertions.assertThatThrownBy(() -> new DoubleDynamicArray(-1))
+                .isInstanceOf(NegativeSizeException.class);
+    }
+
+    @Test
+    @DisplayName("DoubleDynamicArray(size): size is 15 => all items is zero")
+    public void DoubleDynamicArray_size() {
+        DoubleDynamicArray actual = new DoubleDynamicArray(15);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.size()).isEqualTo(15);
+        assertions.assertThat(actual.toArray()).containsOnly(0.0);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("DoubleDynamicArray(other): origin and copy must be independent of each other")
+    public void DoubleDynamicArray_copy() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        DoubleDynamicArray copy = new DoubleDynamicArray(origin);
+        copy.addLast(40.0);
+        origin.replace(0, 50.0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(50.0, 20.0, 30.0));
+        assertions.assertThat(copy).isEqualTo(DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0));
+        assertions.assertAll();
+    }
+
+    @DisplayName("get(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void get_exception(DoubleDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.get(index));
+    }
+
+    @Test
+    @DisplayName("at(index): negative index => return item from the end")
+    public void at() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.at(-1)).isEqualTo(30.0);
+        assertions.assertThat(origin.at(-3)).isEqualTo(10.0);
+        assertions.assertThat(origin.at(1)).isEqualTo(20.0);
+        assertions.assertThatThrownBy(() -> origin.at(-4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("replaceWithGrow(index, value): index >= size => grow and fill new items with zero")
+    public void replaceWithGrow() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        double actual = origin.replaceWithGrow(5, 40.0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(0.0);
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 20.0, 30.0, 0.0, 0.0, 40.0));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("replaceAll(mapper): mapper change array => exception")
+    public void replaceAll_exception() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.replaceAll((item, index) -> {
+                    origin.addLast(item);
+                    return item;
+                }));
+    }
+
+    @Test
+    @DisplayName("replaceAll(mapper): => replace all items with mapper result")
+    public void replaceAll() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        origin.replaceAll((item, index) -> item * index);
+
+        Assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(0.0, 20.0, 30.0 * 2));
+    }
+
+    @Test
+    @DisplayName("addLast(value): add many items => all items in same order")
+    public void addLast() {
+        DoubleDynamicArray actual = new DoubleDynamicArray();
+        double[] expected = new double[1000];
+        for(int i = 0; i < 1000; ++i) {
+            actual.addLast(i);
+            expected[i] = i;
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.size()).isEqualTo(1000);
+        assertions.assertThat(actual.toArray()).containsExactly(expected);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("addAllOnLast(other): => append all items of other")
+    public void addAllOnLast_other() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0);
+
+        origin.addAllOnLast(DoubleDynamicArray.of(30.0, 40.0, 50.0));
+
+        Assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0));
+    }
+
+    @DisplayName("insert(index, value):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1},
+             value is {2}
+             => expected is {3}
+            """)
+    @MethodSource("provideForInsert")
+    public void insert(DoubleDynamicArray origin, int index, double value, DoubleDynamicArray expected) {
+        origin.insert(index, value);
+
+        Assertions.assertThat(origin).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("insert(index, value): index > size => exception")
+    public void insert_exception() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.insert(4, 40.0));
+    }
+
+    @Test
+    @DisplayName("binaryInsert(value): insert shuffled items => array is sorted")
+    public void binaryInsert() {
+        DoubleDynamicArray expected = new DoubleDynamicArray();
+        for(int i = 0; i < 200; ++i) expected.addLast(i / 2);
+        DoubleDynamicArray shuffled = new DoubleDynamicArray(expected);
+        shuffled.shuffle(new Random(1000));
+
+        DoubleDynamicArray actual = new DoubleDynamicArray();
+        SoftAssertions assertions = new SoftAssertions();
+        shuffled.forEach((item, index) -> {
+            int insertedIndex = actual.binaryInsert(item);
+            assertions.assertThat(actual.get(insertedIndex)).isEqualTo(item);
+        });
+        assertions.assertThat(actual).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("swap(firstIndex, secondIndex): => items swapped")
+    public void swap() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        origin.swap(0, 2);
+
+        Assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(30.0, 20.0, 10.0));
+    }
+
+    @DisplayName("quickRemove(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void quickRemove_exception(DoubleDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.quickRemove(index));
+    }
+
+    @Test
+    @DisplayName("quickRemove(index): => last item moves to removed position")
+    public void quickRemove() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0);
+
+        double actual = origin.quickRemove(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(20.0);
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 40.0, 30.0));
+        assertions.assertAll();
+    }
+
+    @DisplayName("orderedRemove(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void orderedRemove_exception(DoubleDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.orderedRemove(index));
+    }
+
+    @Test
+    @DisplayName("orderedRemove(index): => order of remaining items is preserved")
+    public void orderedRemove() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0);
+
+        double actual = origin.orderedRemove(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(20.0);
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 30.0, 40.0));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeLast(): array is empty => exception")
+    public void removeLast_exception() {
+        Assertions.assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> new DoubleDynamicArray().removeLast());
+    }
+
+    @Test
+    @DisplayName("removeLast(): remove and grow => new item is zero")
+    public void removeLast() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        double actual = origin.removeLast();
+        origin.growToSize(3);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(30.0);
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 20.0, 0.0));
+        assertions.assertAll();
+    }
+
+    @DisplayName("removeIf(predicate):")
+    @ParameterizedTest(name = """
+             origin is {0}
+             => expectedRemovedNumber is {2},
+                expected is {3}
+            """)
+    @MethodSource("provideForRemoveIf")
+    public void removeIf(DoubleDynamicArray origin,
+                         DoubleIndexBiPredicate predicate,
+                         int expectedRemovedNumber,
+                         DoubleDynamicArray expected) {
+        int actualRemovedNumber = origin.removeIf(predicate);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(expected);
+        assertions.assertThat(actualRemovedNumber).isEqualTo(expectedRemovedNumber);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeIf(predicate): predicate change array => exception")
+    public void removeIf_exception() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    origin.addLast(item);
+                    return true;
+                }));
+    }
+
+    @Test
+    @DisplayName("removeIf(predicate): predicate change array in the middle of scan => exception, unchecked items are kept")
+    public void removeIf_predicateChangesArrayInTheMiddle() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0, 60.0);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    if(index == 3) origin.addLast(100.0);
+                    return index % 2 == 0;
+                }));
+
+        Assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(20.0, 40.0, 50.0, 60.0, 100.0));
+    }
+
+    @Test
+    @DisplayName("retainIf(predicate): => keep only matched items")
+    public void retainIf() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0);
+
+        int actual = origin.retainIf((item, index) -> index % 2 == 0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(2);
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 30.0, 50.0));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeRange(fromIndex, toIndex): => remove items in range")
+    public void removeRange() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0);
+
+        origin.removeRange(1, 3);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 40.0, 50.0));
+        assertions.assertThatThrownBy(() -> origin.removeRange(2, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> origin.removeRange(0, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("clear(): => size is 0 and grown items is zero")
+    public void clear() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        origin.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.isEmpty()).isTrue();
+        assertions.assertThat(origin.growToSize(3).toArray()).containsOnly(0.0);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("sort(): => array is sorted in ascending order")
+    public void sort() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(50.0, 10.0, 40.0, 20.0, 30.0, 10.0);
+
+        origin.sort();
+
+        Assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 10.0, 20.0, 30.0, 40.0, 50.0));
+    }
+
+    @DisplayName("binarySearch(value):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             value is {1}
+             => expected is {2}
+            """)
+    @MethodSource("provideForBinarySearch")
+    public void binarySearch(DoubleDynamicArray origin, double value, int expected) {
+        int actual = origin.binarySearch(value);
+
+        Assertions.assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("linearSearch(value), linearSearch(predicate), linearSearchLast(predicate), frequency(predicate)")
+    public void search() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0, 20.0, 10.0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.linearSearch(20.0)).isEqualTo(1);
+        assertions.assertThat(origin.linearSearch(50.0)).isEqualTo(-1);
+        assertions.assertThat(origin.linearSearch(item -> item > 10.0)).isEqualTo(1);
+        assertions.assertThat(origin.linearSearchLast(item -> item > 10.0)).isEqualTo(3);
+        assertions.assertThat(origin.linearSearchLast(item -> item > 50.0)).isEqualTo(-1);
+        assertions.assertThat(origin.contains(30.0)).isTrue();
+        assertions.assertThat(origin.frequency(item -> item == 10.0)).isEqualTo(2);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("trimToSize(): => capacity reduced, items preserved")
+    public void trimToSize() {
+        DoubleDynamicArray origin = new DoubleDynamicArray(100);
+        origin.removeRange(20, 100);
+        origin.replace(19, 50.0);
+
+        boolean actual = origin.trimToSize();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isTrue();
+        assertions.assertThat(origin.size()).isEqualTo(20);
+        assertions.assertThat(origin.get(19)).isEqualTo(50.0);
+        assertions.assertThat(origin.trimToSize()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("cloneAndMap(mapper), cloneAndFilter(predicate): => origin is not changed")
+    public void cloneAndMap_cloneAndFilter() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        DoubleDynamicArray mapped = origin.cloneAndMap((item, index) -> item + index);
+        DoubleDynamicArray filtered = origin.cloneAndFilter((item, index) -> item != 20.0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(mapped).isEqualTo(DoubleDynamicArray.of(10.0, 20.0 + 1, 30.0 + 2));
+        assertions.assertThat(filtered).isEqualTo(DoubleDynamicArray.of(10.0, 30.0));
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(10.0, 20.0, 30.0));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("reduce(initValue, accumulator), stream(): => same result")
+    public void reduce_stream() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.reduce(0.0, (a, b) -> a + b)).isEqualTo(10.0 + 20.0 + 30.0 + 40.0);
+        assertions.assertThat(origin.stream().sum()).isEqualTo(10.0 + 20.0 + 30.0 + 40.0);
+        assertions.assertThat(origin.stream().count()).isEqualTo(4);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("forEach(action): action change array => exception")
+    public void forEach_exception() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.forEach((item, index) -> origin.addLast(item)));
+    }
+
+    @Test
+    @DisplayName("equals(other), hashCode(): arrays with same items and different capacity => equal")
+    public void equals_hashCode() {
+        DoubleDynamicArray first = DoubleDynamicArray.of(10.0, 20.0, 30.0);
+        DoubleDynamicArray second = new DoubleDynamicArray(100);
+        second.clear();
+        second.addAllOnLast(10.0, 20.0, 30.0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(first).isEqualTo(second);
+        assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertions.assertThat(first).isNotEqualTo(DoubleDynamicArray.of(10.0, 20.0));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("sort(), binarySearch(value), linearSearch(value): array contains NaN and -0.0 => total order is used")
+    public void specialValues() {
+        DoubleDynamicArray origin = DoubleDynamicArray.of(Double.NaN, 0.0, 10.0, -0.0, Double.NEGATIVE_INFINITY);
+
+        origin.sort();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.toArray()).containsExactly(Double.NEGATIVE_INFINITY, -0.0, 0.0, 10.0, Double.NaN);
+        assertions.assertThat(origin.binarySearch(Double.NaN)).isEqualTo(4);
+        assertions.assertThat(origin.binarySearch(-0.0)).isEqualTo(1);
+        assertions.assertThat(origin.linearSearch(Double.NaN)).isEqualTo(4);
+        assertions.assertThat(origin.linearSearch(0.0)).isEqualTo(2);
+        assertions.assertThat(origin).isEqualTo(DoubleDynamicArray.of(Double.NEGATIVE_INFINITY, -0.0, 0.0, 10.0, Double.NaN));
+        assertions.assertThat(origin).isNotEqualTo(DoubleDynamicArray.of(Double.NEGATIVE_INFINITY, 0.0, 0.0, 10.0, Double.NaN));
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForMethodWithIndexParam_openInterval_exceptionCase() {
+        return Stream.of(
+                Arguments.of(new DoubleDynamicArray(), 0),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 30.0), -1),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 30.0), 3)
+        );
+    }
+
+    private static Stream<Arguments> provideForInsert() {
+        return Stream.of(
+                Arguments.of(new DoubleDynamicArray(), 0, 10.0, DoubleDynamicArray.of(10.0)),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 30.0), 0, 40.0, DoubleDynamicArray.of(40.0, 10.0, 20.0, 30.0)),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 30.0), 2, 40.0, DoubleDynamicArray.of(10.0, 20.0, 40.0, 30.0)),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 30.0), 3, 40.0, DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0))
+        );
+    }
+
+    private static Stream<Arguments> provideForRemoveIf() {
+        return Stream.of(
+                Arguments.of(
+                        new DoubleDynamicArray(),
+                        (DoubleIndexBiPredicate) (item, index) -> true,
+                        0,
+                        new DoubleDynamicArray()
+                ),
+                Arguments.of(
+                        DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0),
+                        (DoubleIndexBiPredicate) (item, index) -> false,
+                        0,
+                        DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0)
+                ),
+                Arguments.of(
+                        DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0),
+                        (DoubleIndexBiPredicate) (item, index) -> true,
+                        5,
+                        new DoubleDynamicArray()
+                ),
+                Arguments.of(
+                        DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0),
+                        (DoubleIndexBiPredicate) (item, index) -> index % 2 == 0,
+                        3,
+                        DoubleDynamicArray.of(20.0, 40.0)
+                ),
+                Arguments.of(
+                        DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0),
+                        (DoubleIndexBiPredicate) (item, index) -> item >= 40.0,
+                        2,
+                        DoubleDynamicArray.of(10.0, 20.0, 30.0)
+                )
+        );
+    }
+
+    private static Stream<Arguments> provideForBinarySearch() {
+        return Stream.of(
+                Arguments.of(new DoubleDynamicArray(), 10.0, -1),
+                Arguments.of(DoubleDynamicArray.of(10.0), 10.0, 0),
+                Arguments.of(DoubleDynamicArray.of(10.0), 20.0, -1),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0), 10.0, 0),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0), 30.0, 2),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 30.0, 40.0, 50.0), 50.0, 4),
+                Arguments.of(DoubleDynamicArray.of(10.0, 20.0, 40.0, 50.0), 30.0, -1)
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.bakuard.collections;
 
 import com.bakuard.collections.exception.NegativeSizeException;
 import com.bakuard.collections.function.IndexBiFunction;
+import com.bakuard.collections.function.IndexBiPredicate;
 import com.bakuard.collections.testUtil.ClosedRange;
 import com.bakuard.collections.testUtil.Fabric;
 import com.bakuard.collections.testUtil.Mutator;
@@ -16,7 +17,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
@@ -334,6 +337,131 @@ class DynamicArrayTest {
         assertions.assertAll();
     }
 
+    @DisplayName("removeIf(predicate):")
+    @ParameterizedTest(name = """
+             origin is {0}
+             => expectedRemovedNumber is {2},
+                expected is {3}
+            """)
+    @MethodSource("provideForRemoveIf")
+    public void removeIf(DynamicArray<Integer> origin,
+                         IndexBiPredicate<Integer> predicate,
+                         int expectedRemovedNumber,
+                         DynamicArray<Integer> expected) {
+        int actualRemovedNumber = origin.removeIf(predicate);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(expected);
+        assertions.assertThat(actualRemovedNumber).isEqualTo(expectedRemovedNumber);
+        origin.growToSize(origin.size() + actualRemovedNumber);
+        assertions.assertThat(origin.cloneAndFilter((item, index) -> index >= expected.size())).allMatch(Objects::isNull);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            removeIf(predicate):
+                predicate change array
+                => exception
+            """)
+    @Test
+    public void removeIf_exception() {
+        DynamicArray<Integer> origin = DynamicArray.of(0,1,2,3,4,5,6,7,8,9);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    origin.addLast(100);
+                    return true;
+                }));
+    }
+
+    @DisplayName("""
+            removeIf(predicate):
+                predicate throws exception
+                => array keeps all unchecked items
+            """)
+    @Test
+    public void removeIf_predicateThrowsException() {
+        DynamicArray<Integer> origin = DynamicArray.of(0,1,2,3,4,5,6,7,8,9);
+
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    if(index == 5) throw new IllegalStateException();
+                    return item % 2 == 0;
+                }));
+        Assertions.assertThat(origin).containsExactly(1,3,5,6,7,8,9);
+    }
+
+    @DisplayName("""
+            removeIf(predicate):
+                predicate change array in the middle of scan
+                => exception,
+                   array keeps all unchecked items and items added by predicate
+            """)
+    @Test
+    public void removeIf_predicateChangesArrayInTheMiddle() {
+        DynamicArray<Integer> origin = DynamicArray.of(0,1,2,3,4,5,6,7,8,9);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    if(index == 5) origin.addLast(100);
+                    return item % 2 == 0;
+                }));
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).containsExactly(1,3,5,6,7,8,9,100);
+        assertions.assertThat(origin.size()).isEqualTo(8);
+        assertions.assertAll();
+    }
+
+    @DisplayName("retainIf(predicate):")
+    @ParameterizedTest(name = """
+             origin is {0}
+             => expectedRemovedNumber is {2},
+                expected is {3}
+            """)
+    @MethodSource("provideForRetainIf")
+    public void retainIf(DynamicArray<Integer> origin,
+                         IndexBiPredicate<Integer> predicate,
+                         int expectedRemovedNumber,
+                         DynamicArray<Integer> expected) {
+        int actualRemovedNumber = origin.retainIf(predicate);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(expected);
+        assertions.assertThat(actualRemovedNumber).isEqualTo(expectedRemovedNumber);
+        assertions.assertAll();
+    }
+
+    @DisplayName("removeRange(fromIndex, toIndex):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             fromIndex is {1},
+             toIndex is {2}
+             => exception
+            """)
+    @MethodSource("provideForRemoveRange_exceptionCase")
+    public void removeRange_exception(DynamicArray<Integer> origin, int fromIndex, int toIndex) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.removeRange(fromIndex, toIndex));
+    }
+
+    @DisplayName("removeRange(fromIndex, toIndex):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             fromIndex is {1},
+             toIndex is {2}
+             => expected is {3}
+            """)
+    @MethodSource("provideForRemoveRange")
+    public void removeRange(DynamicArray<Integer> origin, int fromIndex, int toIndex, DynamicArray<Integer> expected) {
+        origin.removeRange(fromIndex, toIndex);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(expected);
+        origin.growToSize(origin.size() + toIndex - fromIndex);
+        assertions.assertThat(origin.cloneAndFilter((item, index) -> index >= expected.size())).allMatch(Objects::isNull);
+        assertions.assertAll();
+    }
+
     @DisplayName("clear():")
     @ParameterizedTest(name = """
              origin is {0}
@@ -931,6 +1059,117 @@ class DynamicArrayTest {
         );
     }
 
+    private static Stream<Arguments> provideForRemoveIf() {
+        return Stream.of(
+                Arguments.of(
+                        new DynamicArray<>(),
+                        (IndexBiPredicate<Integer>) (item, index) -> true,
+                        0,
+                        new DynamicArray<>()
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200),
+                        (IndexBiPredicate<Integer>) (item, index) -> false,
+                        0,
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200)
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200),
+                        (IndexBiPredicate<Integer>) (item, index) -> true,
+                        20,
+                        new DynamicArray<>()
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200),
+                        (IndexBiPredicate<Integer>) (item, index) -> index % 2 == 0,
+                        10,
+                        DynamicArray.of(20,40,60,80,100,120,140,160,180,200)
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200),
+                        (IndexBiPredicate<Integer>) (item, index) -> item * 10 != (index + 1) * 100,
+                        0,
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200)
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,null,30,null,50,null,null,null,null,100),
+                        (IndexBiPredicate<Integer>) (item, index) -> item == null,
+                        6,
+                        DynamicArray.of(10,30,50,100)
+                )
+        );
+    }
+
+    private static Stream<Arguments> provideForRetainIf() {
+        return Stream.of(
+                Arguments.of(
+                        new DynamicArray<>(),
+                        (IndexBiPredicate<Integer>) (item, index) -> false,
+                        0,
+                        new DynamicArray<>()
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200),
+                        (IndexBiPredicate<Integer>) (item, index) -> true,
+                        0,
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200)
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200),
+                        (IndexBiPredicate<Integer>) (item, index) -> false,
+                        20,
+                        new DynamicArray<>()
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100,110,120,130,140,150,160,170,180,190,200),
+                        (IndexBiPredicate<Integer>) (item, index) -> index >= 15 || item < 30,
+                        13,
+                        DynamicArray.of(10,20,160,170,180,190,200)
+                )
+        );
+    }
+
+    private static Stream<Arguments> provideForRemoveRange_exceptionCase() {
+        return Stream.of(
+                Arguments.of(new DynamicArray<>(), 0, 1),
+                Arguments.of(new DynamicArray<>(), -1, 0),
+                Arguments.of(DynamicArray.of(10,20,30,40,50,60,70,80,90,100), 5, 4),
+                Arguments.of(DynamicArray.of(10,20,30,40,50,60,70,80,90,100), -1, 4),
+                Arguments.of(DynamicArray.of(10,20,30,40,50,60,70,80,90,100), 0, 11)
+        );
+    }
+
+    private static Stream<Arguments> provideForRemoveRange() {
+        return Stream.of(
+                Arguments.of(new DynamicArray<>(), 0, 0, new DynamicArray<>()),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100),
+                        5, 5,
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100)
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100),
+                        0, 10,
+                        new DynamicArray<>()
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100),
+                        0, 3,
+                        DynamicArray.of(40,50,60,70,80,90,100)
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100),
+                        7, 10,
+                        DynamicArray.of(10,20,30,40,50,60,70)
+                ),
+                Arguments.of(
+                        DynamicArray.of(10,20,30,40,50,60,70,80,90,100),
+                        2, 8,
+                        DynamicArray.of(10,20,90,100)
+                )
+        );
+    }
+
     private static Stream<Arguments> provideForClear() {
         return Stream.of(
                 Arguments.of(new DynamicArray<>(), new DynamicArray<>()),
@@ -0,0 +1,161 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class ExpiringRingBufferTest {
+
+    @DisplayName("""
+            ExpiringRingBuffer(maxSize, timeToLive, nanoClock):
+             maxSize < 0 or timeToLive <= 0 or arguments are null
+             => exception
+            """)
+    @Test
+    void ExpiringRingBuffer_exception() {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> new ExpiringRingBuffer<Integer>(-1, Duration.ofSeconds(1)))
+                .isInstanceOf(NegativeSizeException.class);
+        assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ExpiringRingBuffer<Integer>(10, Duration.ZERO));
+        assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ExpiringRingBuffer<Integer>(10, Duration.ofSeconds(-1)));
+        assertions.assertThatNullPointerException()
+                .isThrownBy(() -> new ExpiringRingBuffer<Integer>(10, null));
+        assertions.assertThatNullPointerException()
+                .isThrownBy(() -> new ExpiringRingBuffer<Integer>(10, Duration.ofSeconds(1), null));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            add(value), size(), liveEntries(), removeExpired(now):
+             entries are added at different moments
+             => entries older than timeToLive are removed
+            """)
+    @Test
+    void expiration() {
+        long[] now = {1_000};
+        ExpiringRingBuffer<String> buffer = new ExpiringRingBuffer<>(10, Duration.ofNanos(100), () -> now[0]);
+        buffer.add("a");
+        now[0] = 1_050;
+        buffer.add("b");
+        buffer.add("c");
+        now[0] = 1_099;
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(buffer.liveEntries()).containsExactly("a", "b", "c");
+        assertions.assertThat(buffer.timestamp(0)).isEqualTo(1_000L);
+        assertions.assertThat(buffer.timestamp(2)).isEqualTo(1_050L);
+        now[0] = 1_100;
+        assertions.assertThat(buffer.size()).isEqualTo(2);
+        assertions.assertThat(buffer.liveEntries()).containsExactly("b", "c");
+        assertions.assertThat(buffer.removeExpired(1_149)).isZero();
+        assertions.assertThat(buffer.removeExpired(1_150)).isEqualTo(2);
+        assertions.assertThat(buffer.isEmpty()).isTrue();
+        assertions.assertThat(buffer.add("d")).isNull();
+        assertions.assertThat(buffer.liveEntries()).containsExactly("d");
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            add(value):
+             buffer is full and entries are not expired
+             => the oldest entry is replaced and returned
+            """)
+    @Test
+    void add_full() {
+        long[] now = {0};
+        ExpiringRingBuffer<Integer> buffer = new ExpiringRingBuffer<>(3, Duration.ofSeconds(60), () -> now[0]);
+        ExpiringRingBuffer<Integer> empty = new ExpiringRingBuffer<>(0, Duration.ofSeconds(60), () -> now[0]);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < 3; ++i) assertions.assertThat(buffer.add(i)).isNull();
+        now[0] = 10;
+        assertions.assertThat(buffer.add(3)).isEqualTo(0);
+        assertions.assertThat(buffer.liveEntries()).containsExactly(1, 2, 3);
+        assertions.assertThat(buffer.timestamp(2)).isEqualTo(10L);
+        assertions.assertThat(empty.add(7)).isEqualTo(7);
+        assertions.assertThat(empty.size()).isZero();
+        assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> buffer.timestamp(3));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            liveEntries():
+             buffer is changed during iteration
+             => exception
+            """)
+    @Test
+    void liveEntries_concurrentModification() {
+        ExpiringRingBuffer<Integer> buffer = new ExpiringRingBuffer<>(3, Duration.ofSeconds(60), () -> 0L);
+        buffer.add(1);
+        buffer.add(2);
+        Iterator<Integer> iterator = buffer.liveEntries().iterator();
+        iterator.next();
+        buffer.add(3);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            add(value), removeExpired(now), clear():
+             random sequence of operations
+             => liveEntries() must be equal to naive filtering of all added entries
+            """)
+    @ParameterizedTest(name = """
+             maxSize is {0},
+             timeToLive is {1}
+            """)
+    @MethodSource("provideForRandomOperations")
+    void randomOperations(int maxSize, long timeToLive) {
+        long[] now = {Long.MAX_VALUE - 1_000_000};
+        ExpiringRingBuffer<Integer> actual = new ExpiringRingBuffer<>(maxSize, Duration.ofNanos(timeToLive), () -> now[0]);
+        DynamicArray<Integer> values = new DynamicArray<>();
+        LongDynamicArray times = new LongDynamicArray();
+        Random random = new Random(maxSize * 31L + timeToLive);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < 1000; ++i) {
+            now[0] += random.nextInt((int) timeToLive / 4 + 1);
+            if(random.nextInt(100) == 0) {
+                actual.clear();
+                values.clear();
+                times.clear();
+            } else {
+                actual.add(i);
+                values.addLast(i);
+                times.addLast(now[0]);
+            }
+
+            DynamicArray<Integer> expected = new DynamicArray<>();
+            for(int j = 0; j < values.size(); ++j) {
+                if(now[0] - times.get(j) < timeToLive) expected.addLast(values.get(j));
+            }
+            while(expected.size() > maxSize) expected.orderedRemove(0);
+            assertions.assertThat(actual.liveEntries()).as("operation " + i).containsExactlyElementsOf(expected);
+        }
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForRandomOperations() {
+        return Stream.of(
+                Arguments.of(1, 100L),
+                Arguments.of(5, 100L),
+                Arguments.of(50, 1_000L),
+                Arguments.of(1000, 1_000_000L)
+        );
+    }
+}
@@ -0,0 +1,513 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import com.bakuard.collections.function.IntIndexBiPredicate;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+class IntDynamicArrayTest {
+
+    @Test
+    @DisplayName("IntDynamicArray(size): negative size => exception")
+    public void IntDynamicArray_size_exception() {
+        Assertions.assertThatThrownBy(() -> new IntDynamicArray(-1))
+                .isInstanceOf(NegativeSizeException.class);
+    }
+
+    @Test
+    @DisplayName("IntDynamicArray(size): size is 15 => all items is zero")
+    public void IntDynamicArray_size() {
+        IntDynamicArray actual = new IntDynamicArray(15);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.size()).isEqualTo(15);
+        assertions.assertThat(actual.toArray()).containsOnly(0);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("IntDynamicArray(other): origin and copy must be independent of each other")
+    public void IntDynamicArray_copy() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        IntDynamicArray copy = new IntDynamicArray(origin);
+        copy.addLast(40);
+        origin.replace(0, 50);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(50, 20, 30));
+        assertions.assertThat(copy).isEqualTo(IntDynamicArray.of(10, 20, 30, 40));
+        assertions.assertAll();
+    }
+
+    @DisplayName("get(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void get_exception(IntDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.get(index));
+    }
+
+    @Test
+    @DisplayName("at(index): negative index => return item from the end")
+    public void at() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.at(-1)).isEqualTo(30);
+        assertions.assertThat(origin.at(-3)).isEqualTo(10);
+        assertions.assertThat(origin.at(1)).isEqualTo(20);
+        assertions.assertThatThrownBy(() -> origin.at(-4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("replaceWithGrow(index, value): index >= size => grow and fill new items with zero")
+    public void replaceWithGrow() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        int actual = origin.replaceWithGrow(5, 40);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(0);
+        assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 20, 30, 0, 0, 40));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("replaceAll(mapper): mapper change array => exception")
+    public void replaceAll_exception() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.replaceAll((item, index) -> {
+                    origin.addLast(item);
+                    return item;
+                }));
+    }
+
+    @Test
+    @DisplayName("replaceAll(mapper): => replace all items with mapper result")
+    public void replaceAll() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        origin.replaceAll((item, index) -> item * index);
+
+        Assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(0, 20, 30 * 2));
+    }
+
+    @Test
+    @DisplayName("addLast(value): add many items => all items in same order")
+    public void addLast() {
+        IntDynamicArray actual = new IntDynamicArray();
+        int[] expected = new int[1000];
+        for(int i = 0; i < 1000; ++i) {
+            actual.addLast(i);
+            expected[i] = i;
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.size()).isEqualTo(1000);
+        assertions.assertThat(actual.toArray()).containsExactly(expected);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("addAllOnLast(other): => append all items of other")
+    public void addAllOnLast_other() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20);
+
+        origin.addAllOnLast(IntDynamicArray.of(30, 40, 50));
+
+        Assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 20, 30, 40, 50));
+    }
+
+    @DisplayName("insert(index, value):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1},
+             value is {2}
+             => expected is {3}
+            """)
+    @MethodSource("provideForInsert")
+    public void insert(IntDynamicArray origin, int index, int value, IntDynamicArray expected) {
+        origin.insert(index, value);
+
+        Assertions.assertThat(origin).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("insert(index, value): index > size => exception")
+    public void insert_exception() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.insert(4, 40));
+    }
+
+    @Test
+    @DisplayName("binaryInsert(value): insert shuffled items => array is sorted")
+    public void binaryInsert() {
+        IntDynamicArray expected = new IntDynamicArray();
+        for(int i = 0; i < 200; ++i) expected.addLast(i / 2);
+        IntDynamicArray shuffled = new IntDynamicArray(expected);
+        shuffled.shuffle(new Random(1000));
+
+        IntDynamicArray actual = new IntDynamicArray();
+        SoftAssertions assertions = new SoftAssertions();
+        shuffled.forEach((item, index) -> {
+            int insertedIndex = actual.binaryInsert(item);
+            assertions.assertThat(actual.get(insertedIndex)).isEqualTo(item);
+        });
+        assertions.assertThat(actual).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("swap(firstIndex, secondIndex): => items swapped")
+    public void swap() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        origin.swap(0, 2);
+
+        Assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(30, 20, 10));
+    }
+
+    @DisplayName("quickRemove(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void quickRemove_exception(IntDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.quickRemove(index));
+    }
+
+    @Test
+    @DisplayName("quickRemove(index): => last item moves to removed position")
+    public void quickRemove() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30, 40);
+
+        int actual = origin.quickRemove(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(20);
+        assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 40, 30));
+        assertions.assertAll();
+    }
+
+    @DisplayName("orderedRemove(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void orderedRemove_exception(IntDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.orderedRemove(index));
+    }
+
+    @Test
+    @DisplayName("orderedRemove(index): => order of remaining items is preserved")
+    public void orderedRemove() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30, 40);
+
+        int actual = origin.orderedRemove(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(20);
+        assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 30, 40));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeLast(): array is empty => exception")
+    public void removeLast_exception() {
+        Assertions.assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> new IntDynamicArray().removeLast());
+    }
+
+    @Test
+    @DisplayName("removeLast(): remove and grow => new item is zero")
+    public void removeLast() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        int actual = origin.removeLast();
+        origin.growToSize(3);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(30);
+        assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 20, 0));
+        assertions.assertAll();
+    }
+
+    @DisplayName("removeIf(predicate):")
+    @ParameterizedTest(name = """
+             origin is {0}
+             => expectedRemovedNumber is {2},
+                expected is {3}
+            """)
+    @MethodSource("provideForRemoveIf")
+    public void removeIf(IntDynamicArray origin,
+                         IntIndexBiPredicate predicate,
+                         int expectedRemovedNumber,
+                         IntDynamicArray expected) {
+        int actualRemovedNumber = origin.removeIf(predicate);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(expected);
+        assertions.assertThat(actualRemovedNumber).isEqualTo(expectedRemovedNumber);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeIf(predicate): predicate change array => exception")
+    public void removeIf_exception() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    origin.addLast(item);
+                    return true;
+                }));
+    }
+
+    @Test
+    @DisplayName("removeIf(predicate): predicate change array in the middle of scan => exception, unchecked items are kept")
+    public void removeIf_predicateChangesArrayInTheMiddle() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30, 40, 50, 60);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    if(index == 3) origin.addLast(100);
+                    return index % 2 == 0;
+                }));
+
+        Assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(20, 40, 50, 60, 100));
+    }
+
+    @Test
+    @DisplayName("retainIf(predicate): => keep only matched items")
+    public void retainIf() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30, 40, 50);
+
+        int actual = origin.retainIf((item, index) -> index % 2 == 0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(2);
+        assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 30, 50));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeRange(fromIndex, toIndex): => remove items in range")
+    public void removeRange() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30, 40, 50);
+
+        origin.removeRange(1, 3);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 40, 50));
+        assertions.assertThatThrownBy(() -> origin.removeRange(2, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> origin.removeRange(0, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("clear(): => size is 0 and grown items is zero")
+    public void clear() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        origin.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.isEmpty()).isTrue();
+        assertions.assertThat(origin.growToSize(3).toArray()).containsOnly(0);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("sort(): => array is sorted in ascending order")
+    public void sort() {
+        IntDynamicArray origin = IntDynamicArray.of(50, 10, 40, 20, 30, 10);
+
+        origin.sort();
+
+        Assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 10, 20, 30, 40, 50));
+    }
+
+    @DisplayName("binarySearch(value):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             value is {1}
+             => expected is {2}
+            """)
+    @MethodSource("provideForBinarySearch")
+    public void binarySearch(IntDynamicArray origin, int value, int expected) {
+        int actual = origin.binarySearch(value);
+
+        Assertions.assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("linearSearch(value), linearSearch(predicate), linearSearchLast(predicate), frequency(predicate)")
+    public void search() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30, 20, 10);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.linearSearch(20)).isEqualTo(1);
+        assertions.assertThat(origin.linearSearch(50)).isEqualTo(-1);
+        assertions.assertThat(origin.linearSearch(item -> item > 10)).isEqualTo(1);
+        assertions.assertThat(origin.linearSearchLast(item -> item > 10)).isEqualTo(3);
+        assertions.assertThat(origin.linearSearchLast(item -> item > 50)).isEqualTo(-1);
+        assertions.assertThat(origin.contains(30)).isTrue();
+        assertions.assertThat(origin.frequency(item -> item == 10)).isEqualTo(2);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("trimToSize(): => capacity reduced, items preserved")
+    public void trimToSize() {
+        IntDynamicArray origin = new IntDynamicArray(100);
+        origin.removeRange(20, 100);
+        origin.replace(19, 50);
+
+        boolean actual = origin.trimToSize();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isTrue();
+        assertions.assertThat(origin.size()).isEqualTo(20);
+        assertions.assertThat(origin.get(19)).isEqualTo(50);
+        assertions.assertThat(origin.trimToSize()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("cloneAndMap(mapper), cloneAndFilter(predicate): => origin is not changed")
+    public void cloneAndMap_cloneAndFilter() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        IntDynamicArray mapped = origin.cloneAndMap((item, index) -> item + index);
+        IntDynamicArray filtered = origin.cloneAndFilter((item, index) -> item != 20);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(mapped).isEqualTo(IntDynamicArray.of(10, 20 + 1, 30 + 2));
+        assertions.assertThat(filtered).isEqualTo(IntDynamicArray.of(10, 30));
+        assertions.assertThat(origin).isEqualTo(IntDynamicArray.of(10, 20, 30));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("reduce(initValue, accumulator), stream(): => same result")
+    public void reduce_stream() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30, 40);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.reduce(0, (a, b) -> a + b)).isEqualTo(10 + 20 + 30 + 40);
+        assertions.assertThat(origin.stream().sum()).isEqualTo(10 + 20 + 30 + 40);
+        assertions.assertThat(origin.stream().count()).isEqualTo(4);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("forEach(action): action change array => exception")
+    public void forEach_exception() {
+        IntDynamicArray origin = IntDynamicArray.of(10, 20, 30);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.forEach((item, index) -> origin.addLast(item)));
+    }
+
+    @Test
+    @DisplayName("equals(other), hashCode(): arrays with same items and different capacity => equal")
+    public void equals_hashCode() {
+        IntDynamicArray first = IntDynamicArray.of(10, 20, 30);
+        IntDynamicArray second = new IntDynamicArray(100);
+        second.clear();
+        second.addAllOnLast(10, 20, 30);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(first).isEqualTo(second);
+        assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertions.assertThat(first).isNotEqualTo(IntDynamicArray.of(10, 20));
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForMethodWithIndexParam_openInterval_exceptionCase() {
+        return Stream.of(
+                Arguments.of(new IntDynamicArray(), 0),
+                Arguments.of(IntDynamicArray.of(10, 20, 30), -1),
+                Arguments.of(IntDynamicArray.of(10, 20, 30), 3)
+        );
+    }
+
+    private static Stream<Arguments> provideForInsert() {
+        return Stream.of(
+                Arguments.of(new IntDynamicArray(), 0, 10, IntDynamicArray.of(10)),
+                Arguments.of(IntDynamicArray.of(10, 20, 30), 0, 40, IntDynamicArray.of(40, 10, 20, 30)),
+                Arguments.of(IntDynamicArray.of(10, 20, 30), 2, 40, IntDynamicArray.of(10, 20, 40, 30)),
+                Arguments.of(IntDynamicArray.of(10, 20, 30), 3, 40, IntDynamicArray.of(10, 20, 30, 40))
+        );
+    }
+
+    private static Stream<Arguments> provideForRemoveIf() {
+        return Stream.of(
+                Arguments.of(
+                        new IntDynamicArray(),
+                        (IntIndexBiPredicate) (item, index) -> true,
+                        0,
+                        new IntDynamicArray()
+                ),
+                Arguments.of(
+                        IntDynamicArray.of(10, 20, 30, 40, 50),
+                        (IntIndexBiPredicate) (item, index) -> false,
+                        0,
+                        IntDynamicArray.of(10, 20, 30, 40, 50)
+                ),
+                Arguments.of(
+                        IntDynamicArray.of(10, 20, 30, 40, 50),
+                        (IntIndexBiPredicate) (item, index) -> true,
+                        5,
+                        new IntDynamicArray()
+                ),
+                Arguments.of(
+                        IntDynamicArray.of(10, 20, 30, 40, 50),
+                        (IntIndexBiPredicate) (item, index) -> index % 2 == 0,
+                        3,
+                        IntDynamicArray.of(20, 40)
+                ),
+                Arguments.of(
+                        IntDynamicArray.of(10, 20, 30, 40, 50),
+                        (IntIndexBiPredicate) (item, index) -> item >= 40,
+                        2,
+                        IntDynamicArray.of(10, 20, 30)
+                )
+        );
+    }
+
+    private static Stream<Arguments> provideForBinarySearch() {
+        return Stream.of(
+                Arguments.of(new IntDynamicArray(), 10, -1),
+                Arguments.of(IntDynamicArray.of(10), 10, 0),
+                Arguments.of(IntDynamicArray.of(10), 20, -1),
+                Arguments.of(IntDynamicArray.of(10, 20, 30, 40, 50), 10, 0),
+                Arguments.of(IntDynamicArray.of(10, 20, 30, 40, 50), 30, 2),
+                Arguments.of(IntDynamicArray.of(10, 20, 30, 40, 50), 50, 4),
+                Arguments.of(IntDynamicArray.of(10, 20, 40, 50), 30, -1)
+        );
+    }
+}
@@ -0,0 +1,471 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class LargeBitsTest {
+
+    @DisplayName("""
+            LargeBits(numberBits):
+             numberBits < 0 or numberBits > MAX_SIZE
+             => exception
+            """)
+    @Test
+    void LargeBits_numberBits_exception() {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> new LargeBits(-1L)).isInstanceOf(NegativeSizeException.class);
+        assertions.assertThatThrownBy(() -> new LargeBits(LargeBits.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("LargeBits(numberBits): all bits are clear, pages are not allocated")
+    @ParameterizedTest(name = """
+             numberBits is {0}
+            """)
+    @MethodSource("provideSizes")
+    void LargeBits_numberBits(int numberBits) {
+        LargeBits actual = new LargeBits(numberBits);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.size()).isEqualTo(numberBits);
+        assertions.assertThat(actual.isClear()).isTrue();
+        assertions.assertThat(actual.cardinality()).isZero();
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(-1L);
+        assertions.assertThat(actual.allocatedPagesNumber()).isZero();
+        assertions.assertAll();
+    }
+
+    @DisplayName("LargeBits(other): origin and copy must be independent of each other")
+    @Test
+    void LargeBits_copy() {
+        LargeBits origin = randomBits(200_000, 1);
+        LargeBits copy = new LargeBits(origin);
+        Bits expectedOrigin = toBits(origin);
+        Bits expectedCopy = toBits(origin);
+
+        origin.flip(0);
+        expectedOrigin.flip(0);
+        copy.clearRange(10, 150_000);
+        expectedCopy.clearRange(10, 150_000);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(toBits(origin)).isEqualTo(expectedOrigin);
+        assertions.assertThat(toBits(copy)).isEqualTo(expectedCopy);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            get(index), set(index), clear(index), flip(index):
+             index < 0 or index >= size => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForSingleIndex_exception")
+    void singleIndex_exception(long size, long index) {
+        LargeBits bits = new LargeBits(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> bits.get(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.set(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.clear(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.flip(index)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            set(index), clear(index), flip(index), get(index), getWord(wordIndex):
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void singleIndexOperations(int size) {
+        Random random = new Random(size);
+        Bits expected = new Bits(size);
+        LargeBits actual = new LargeBits(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < Math.min(size * 3, 30_000); ++i) {
+            int index = random.nextInt(size);
+            switch(random.nextInt(3)) {
+                case 0 -> { actual.set(index); expected.set(index); }
+                case 1 -> { actual.clear(index); expected.clear(index); }
+                default -> { actual.flip(index); expected.flip(index); }
+            }
+            assertions.assertThat(actual.get(index)).isEqualTo(expected.get(index));
+        }
+        for(int i = 0; i < size / 64 + 2; ++i) {
+            assertions.assertThat(actual.getWord(i)).isEqualTo(expected.getWord(i));
+        }
+        assertions.assertThat(toBits(actual)).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setRange(fromIndex, toIndex), clearRange(fromIndex, toIndex), flipRange(fromIndex, toIndex):
+             incorrect range => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             fromIndex is {1},
+             toIndex is {2}
+             => exception
+            """)
+    @MethodSource("provideForRange_exception")
+    void rangeOperations_exception(long size, long fromIndex, long toIndex) {
+        LargeBits bits = new LargeBits(size);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> bits.setRange(fromIndex, toIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.clearRange(fromIndex, toIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.flipRange(fromIndex, toIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            setRange(fromIndex, toIndex), clearRange(fromIndex, toIndex), flipRange(fromIndex, toIndex):
+             compare with Bits for ranges crossing page bounds
+            """)
+    @ParameterizedTest(name = """
+             fromIndex is {0},
+             toIndex is {1}
+            """)
+    @MethodSource("provideForRangeOperations")
+    void rangeOperations(int fromIndex, int toIndex) {
+        LargeBits origin = randomBits(300_000, 2);
+        Bits expected = toBits(origin);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(toBits(new LargeBits(origin).setRange(fromIndex, toIndex)))
+                .isEqualTo(new Bits(expected).setRange(fromIndex, toIndex));
+        assertions.assertThat(toBits(new LargeBits(origin).clearRange(fromIndex, toIndex)))
+                .isEqualTo(new Bits(expected).clearRange(fromIndex, toIndex));
+        assertions.assertThat(toBits(new LargeBits(origin).flipRange(fromIndex, toIndex)))
+                .isEqualTo(new Bits(expected).flipRange(fromIndex, toIndex));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            clearRange(fromIndex, toIndex):
+             range covers whole pages
+             => pages are released
+            """)
+    @Test
+    void clearRange_releasePages() {
+        LargeBits actual = new LargeBits(5L * LargeBits.PAGE_BITS);
+        actual.setAll();
+
+        actual.clearRange(LargeBits.PAGE_BITS - 1, 4L * LargeBits.PAGE_BITS);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.allocatedPagesNumber()).isEqualTo(2);
+        assertions.assertThat(actual.cardinality()).isEqualTo(2L * LargeBits.PAGE_BITS - 1);
+        assertions.assertThat(actual.nextSetBit(LargeBits.PAGE_BITS - 1)).isEqualTo(4L * LargeBits.PAGE_BITS);
+        assertions.assertAll();
+    }
+
+    @DisplayName("setAll(), clearAll(), not(): compare with Bits")
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void wholeOperations(int size) {
+        LargeBits actual = randomBits(size, 3);
+        Bits expected = toBits(actual);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(toBits(actual.not())).isEqualTo(expected.not());
+        assertions.assertThat(actual.size()).isEqualTo(size);
+        assertions.assertThat(toBits(actual.setAll())).isEqualTo(expected.setAll());
+        assertions.assertThat(actual.cardinality()).isEqualTo(size);
+        assertions.assertThat(toBits(actual.clearAll())).isEqualTo(expected.clearAll());
+        assertions.assertThat(actual.allocatedPagesNumber()).isZero();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            and(other), or(other), xor(other), andNot(other):
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             first operand size is {0},
+             second operand size is {1}
+            """)
+    @MethodSource("provideForLogicalOperations")
+    void logicalOperations(int firstSize, int secondSize) {
+        LargeBits first = randomBits(firstSize, 4);
+        LargeBits second = randomBits(secondSize, 5);
+        Bits expectedFirst = toBits(first);
+        Bits expectedSecond = toBits(second);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(toBits(new LargeBits(first).and(second)))
+                .isEqualTo(new Bits(expectedFirst).and(expectedSecond));
+        assertions.assertThat(toBits(new LargeBits(first).or(second)))
+                .isEqualTo(new Bits(expectedFirst).or(expectedSecond));
+        assertions.assertThat(toBits(new LargeBits(first).xor(second)))
+                .isEqualTo(new Bits(expectedFirst).xor(expectedSecond));
+        assertions.assertThat(toBits(new LargeBits(first).andNot(second)))
+                .isEqualTo(new Bits(expectedFirst).andNot(expectedSecond));
+        assertions.assertThat(first.contains(second)).isEqualTo(expectedFirst.contains(expectedSecond));
+        assertions.assertThat(first.contains(new LargeBits(first).and(second))).isTrue();
+        assertions.assertThat(first.intersect(second)).isEqualTo(expectedFirst.intersect(expectedSecond));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            and(other), or(other), xor(other), andNot(other):
+             other is this object
+            """)
+    @Test
+    void logicalOperations_self() {
+        LargeBits actual = randomBits(200_000, 6);
+        Bits expected = toBits(actual);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(toBits(actual.and(actual))).isEqualTo(expected);
+        assertions.assertThat(toBits(actual.or(actual))).isEqualTo(expected);
+        assertions.assertThat(toBits(actual.andNot(actual))).isEqualTo(new Bits(200_000));
+        assertions.assertThat(toBits(randomBits(200_000, 6).xor(actual))).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @DisplayName("growToIndex(index), truncateToSize(newSize): compare with Bits")
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void growAndTruncate(int size) {
+        LargeBits actual = randomBits(size, 7);
+        Bits expected = toBits(actual);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(toBits(actual.growToIndex(size + 70_000))).isEqualTo(expected.growToIndex(size + 70_000));
+        assertions.assertThat(toBits(actual.truncateToSize(size / 2))).isEqualTo(expected.truncateToSize(size / 2));
+        assertions.assertThat(toBits(actual.growToIndex(size))).isEqualTo(expected.growToIndex(size));
+        assertions.assertThatThrownBy(() -> actual.growToIndex(LargeBits.MAX_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertions.assertThatThrownBy(() -> actual.truncateToSize(-1))
+                .isInstanceOf(NegativeSizeException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("cardinality(), getHighBitIndex(), isClear(): compare with Bits")
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void queries(int size) {
+        LargeBits actual = randomBits(size, 8);
+        Bits expected = toBits(actual);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+        assertions.assertThat(actual.isClear()).isEqualTo(expected.isClear());
+        assertions.assertAll();
+    }
+
+    @DisplayName("nextSetBit(fromIndex), nextClearBit(fromIndex): fromIndex < 0 => exception")
+    @Test
+    void nextBit_exception() {
+        LargeBits bits = new LargeBits(10);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> bits.nextSetBit(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.nextClearBit(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("nextSetBit(fromIndex), nextClearBit(fromIndex): compare with bit-by-bit search")
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void nextBit(int size) {
+        LargeBits actual = randomBits(size, 9);
+        Bits expected = toBits(actual);
+        int step = size > 1000 ? 997 : 1;
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i <= size + 64; i += step) {
+            assertions.assertThat(actual.nextSetBit(i)).isEqualTo(nextBit(expected, i, true));
+            assertions.assertThat(actual.nextClearBit(i)).isEqualTo(nextBit(expected, i, false));
+        }
+        actual.setAll();
+        for(int i = 0; i <= size; i += step) {
+            assertions.assertThat(actual.nextClearBit(i)).isEqualTo(-1L);
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            set(index), nextSetBit(fromIndex), and(other), or(other):
+             size is greater than Integer.MAX_VALUE and bits are sparse
+             => only pages with set bits are allocated
+            """)
+    @Test
+    void sparseBits_beyondIntRange() {
+        long size = 10_000_000_000L;
+        LargeBits first = LargeBits.of(size, 5L, 3_000_000_000L, 9_999_999_999L);
+        LargeBits second = LargeBits.of(size, 3_000_000_000L, 7_000_000_000L);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(first.allocatedPagesNumber()).isEqualTo(3);
+        assertions.assertThat(first.get(3_000_000_000L)).isTrue();
+        assertions.assertThat(first.get(3_000_000_001L)).isFalse();
+        assertions.assertThat(first.nextSetBit(6)).isEqualTo(3_000_000_000L);
+        assertions.assertThat(first.nextSetBit(3_000_000_001L)).isEqualTo(9_999_999_999L);
+        assertions.assertThat(first.nextClearBit(5)).isEqualTo(6L);
+        assertions.assertThat(first.getHighBitIndex()).isEqualTo(9_999_999_999L);
+        assertions.assertThat(first.cardinality()).isEqualTo(3L);
+        assertions.assertThat(first.intersect(second)).isTrue();
+        assertions.assertThat(new LargeBits(first).and(second)).isEqualTo(LargeBits.of(size, 3_000_000_000L));
+        assertions.assertThat(new LargeBits(first).or(second))
+                .isEqualTo(LargeBits.of(size, 5L, 3_000_000_000L, 7_000_000_000L, 9_999_999_999L));
+        assertions.assertThat(new LargeBits(first).and(second).allocatedPagesNumber()).isEqualTo(1);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            equals(other), hashCode(), compareTo(other):
+             null pages and allocated zero pages are equal
+            """)
+    @Test
+    void equals() {
+        LargeBits first = randomBits(150_000, 10);
+        LargeBits second = new LargeBits(first);
+        LargeBits third = new LargeBits(first);
+        third.growToIndex(200_000);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(first).isEqualTo(second);
+        assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertions.assertThat(first.compareTo(second)).isZero();
+        second.set(149_999);
+        second.clear(149_999);
+        second.flip(10);
+        second.flip(10);
+        assertions.assertThat(first).isEqualTo(second);
+        assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        second.flip(149_999);
+        assertions.assertThat(first).isNotEqualTo(second);
+        assertions.assertThat(first.compareIgnoreSize(second)).isNegative();
+        assertions.assertThat(first).isNotEqualTo(third);
+        assertions.assertThat(first.compareTo(third)).isNegative();
+        assertions.assertThat(first.equalsIgnoreSize(third)).isTrue();
+        assertions.assertThat(first.hashCodeIgnoreSize()).isEqualTo(third.hashCodeIgnoreSize());
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideSizes() {
+        return Stream.of(
+                Arguments.of(1),
+                Arguments.of(63),
+                Arguments.of(64),
+                Arguments.of(65),
+                Arguments.of(1000),
+                Arguments.of(65_535),
+                Arguments.of(65_536),
+                Arguments.of(65_537),
+                Arguments.of(300_000)
+        );
+    }
+
+    private static Stream<Arguments> provideForSingleIndex_exception() {
+        return Stream.of(
+                Arguments.of(0L, 0L),
+                Arguments.of(10L, -1L),
+                Arguments.of(10L, 10L),
+                Arguments.of(65_536L, 65_536L),
+                Arguments.of(10_000_000_000L, 10_000_000_000L),
+                Arguments.of(64L, Long.MAX_VALUE),
+                Arguments.of(64L, Long.MIN_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForRange_exception() {
+        return Stream.of(
+                Arguments.of(10L, -1L, 5L),
+                Arguments.of(10L, 5L, 4L),
+                Arguments.of(10L, 0L, 11L),
+                Arguments.of(0L, 0L, 1L),
+                Arguments.of(64L, 0L, Long.MAX_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForRangeOperations() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(0, 300_000),
+                Arguments.of(10, 20),
+                Arguments.of(63, 65),
+                Arguments.of(65_500, 65_600),
+                Arguments.of(65_536, 131_072),
+                Arguments.of(65_535, 196_609),
+                Arguments.of(1, 299_999),
+                Arguments.of(250_000, 300_000)
+        );
+    }
+
+    private static Stream<Arguments> provideForLogicalOperations() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(0, 100),
+                Arguments.of(100, 0),
+                Arguments.of(64, 64),
+                Arguments.of(65, 63),
+                Arguments.of(63, 65),
+                Arguments.of(70_000, 130),
+                Arguments.of(130, 70_000),
+                Arguments.of(300_000, 200_000),
+                Arguments.of(200_000, 300_000)
+        );
+    }
+
+    private static LargeBits randomBits(int size, long seed) {
+        Random random = new Random(seed);
+        LargeBits result = new LargeBits(size);
+        for(int page = 0; page * LargeBits.PAGE_BITS < size; ++page) {
+            if(random.nextInt(3) == 0) continue;
+            int to = Math.min(size, (page + 1) * LargeBits.PAGE_BITS);
+            for(int i = page * LargeBits.PAGE_BITS; i < to; ++i) {
+                if(random.nextBoolean()) result.set(i);
+            }
+        }
+        return result;
+    }
+
+    private static Bits toBits(LargeBits largeBits) {
+        Bits result = new Bits((int) largeBits.size());
+        for(long i = largeBits.nextSetBit(0); i != -1L; i = largeBits.nextSetBit(i + 1)) {
+            result.set((int) i);
+        }
+        return result;
+    }
+
+    private static long nextBit(Bits bits, int fromIndex, boolean value) {
+        for(int i = fromIndex; i < bits.size(); ++i) {
+            if(bits.get(i) == value) return i;
+        }
+        return -1L;
+    }
+}
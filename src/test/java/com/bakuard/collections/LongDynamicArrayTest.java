@@ -0,0 +1,513 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import com.bakuard.collections.function.LongIndexBiPredicate;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+class LongDynamicArrayTest {
+
+    @Test
+    @DisplayName("LongDynamicArray(size): negative size => exception")
+    public void LongDynamicArray_size_exception() {
+        Assertions.assertThatThrownBy(() -> new LongDynamicArray(-1))
+                .isInstanceOf(NegativeSizeException.class);
+    }
+
+    @Test
+    @DisplayName("LongDynamicArray(size): size is 15 => all items is zero")
+    public void LongDynamicArray_size() {
+        LongDynamicArray actual = new LongDynamicArray(15);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.size()).isEqualTo(15);
+        assertions.assertThat(actual.toArray()).containsOnly(0L);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("LongDynamicArray(other): origin and copy must be independent of each other")
+    public void LongDynamicArray_copy() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        LongDynamicArray copy = new LongDynamicArray(origin);
+        copy.addLast(40L);
+        origin.replace(0, 50L);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(50L, 20L, 30L));
+        assertions.assertThat(copy).isEqualTo(LongDynamicArray.of(10L, 20L, 30L, 40L));
+        assertions.assertAll();
+    }
+
+    @DisplayName("get(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void get_exception(LongDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.get(index));
+    }
+
+    @Test
+    @DisplayName("at(index): negative index => return item from the end")
+    public void at() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.at(-1)).isEqualTo(30L);
+        assertions.assertThat(origin.at(-3)).isEqualTo(10L);
+        assertions.assertThat(origin.at(1)).isEqualTo(20L);
+        assertions.assertThatThrownBy(() -> origin.at(-4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("replaceWithGrow(index, value): index >= size => grow and fill new items with zero")
+    public void replaceWithGrow() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        long actual = origin.replaceWithGrow(5, 40L);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(0L);
+        assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 20L, 30L, 0L, 0L, 40L));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("replaceAll(mapper): mapper change array => exception")
+    public void replaceAll_exception() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.replaceAll((item, index) -> {
+                    origin.addLast(item);
+                    return item;
+                }));
+    }
+
+    @Test
+    @DisplayName("replaceAll(mapper): => replace all items with mapper result")
+    public void replaceAll() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        origin.replaceAll((item, index) -> item * index);
+
+        Assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(0L, 20L, 30L * 2));
+    }
+
+    @Test
+    @DisplayName("addLast(value): add many items => all items in same order")
+    public void addLast() {
+        LongDynamicArray actual = new LongDynamicArray();
+        long[] expected = new long[1000];
+        for(int i = 0; i < 1000; ++i) {
+            actual.addLast(i);
+            expected[i] = i;
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.size()).isEqualTo(1000);
+        assertions.assertThat(actual.toArray()).containsExactly(expected);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("addAllOnLast(other): => append all items of other")
+    public void addAllOnLast_other() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L);
+
+        origin.addAllOnLast(LongDynamicArray.of(30L, 40L, 50L));
+
+        Assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 20L, 30L, 40L, 50L));
+    }
+
+    @DisplayName("insert(index, value):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1},
+             value is {2}
+             => expected is {3}
+            """)
+    @MethodSource("provideForInsert")
+    public void insert(LongDynamicArray origin, int index, long value, LongDynamicArray expected) {
+        origin.insert(index, value);
+
+        Assertions.assertThat(origin).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("insert(index, value): index > size => exception")
+    public void insert_exception() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.insert(4, 40L));
+    }
+
+    @Test
+    @DisplayName("binaryInsert(value): insert shuffled items => array is sorted")
+    public void binaryInsert() {
+        LongDynamicArray expected = new LongDynamicArray();
+        for(int i = 0; i < 200; ++i) expected.addLast(i / 2);
+        LongDynamicArray shuffled = new LongDynamicArray(expected);
+        shuffled.shuffle(new Random(1000));
+
+        LongDynamicArray actual = new LongDynamicArray();
+        SoftAssertions assertions = new SoftAssertions();
+        shuffled.forEach((item, index) -> {
+            int insertedIndex = actual.binaryInsert(item);
+            assertions.assertThat(actual.get(insertedIndex)).isEqualTo(item);
+        });
+        assertions.assertThat(actual).isEqualTo(expected);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("swap(firstIndex, secondIndex): => items swapped")
+    public void swap() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        origin.swap(0, 2);
+
+        Assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(30L, 20L, 10L));
+    }
+
+    @DisplayName("quickRemove(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void quickRemove_exception(LongDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.quickRemove(index));
+    }
+
+    @Test
+    @DisplayName("quickRemove(index): => last item moves to removed position")
+    public void quickRemove() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L, 40L);
+
+        long actual = origin.quickRemove(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(20L);
+        assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 40L, 30L));
+        assertions.assertAll();
+    }
+
+    @DisplayName("orderedRemove(index):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForMethodWithIndexParam_openInterval_exceptionCase")
+    public void orderedRemove_exception(LongDynamicArray origin, int index) {
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> origin.orderedRemove(index));
+    }
+
+    @Test
+    @DisplayName("orderedRemove(index): => order of remaining items is preserved")
+    public void orderedRemove() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L, 40L);
+
+        long actual = origin.orderedRemove(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(20L);
+        assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 30L, 40L));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeLast(): array is empty => exception")
+    public void removeLast_exception() {
+        Assertions.assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> new LongDynamicArray().removeLast());
+    }
+
+    @Test
+    @DisplayName("removeLast(): remove and grow => new item is zero")
+    public void removeLast() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        long actual = origin.removeLast();
+        origin.growToSize(3);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(30L);
+        assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 20L, 0L));
+        assertions.assertAll();
+    }
+
+    @DisplayName("removeIf(predicate):")
+    @ParameterizedTest(name = """
+             origin is {0}
+             => expectedRemovedNumber is {2},
+                expected is {3}
+            """)
+    @MethodSource("provideForRemoveIf")
+    public void removeIf(LongDynamicArray origin,
+                         LongIndexBiPredicate predicate,
+                         int expectedRemovedNumber,
+                         LongDynamicArray expected) {
+        int actualRemovedNumber = origin.removeIf(predicate);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(expected);
+        assertions.assertThat(actualRemovedNumber).isEqualTo(expectedRemovedNumber);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeIf(predicate): predicate change array => exception")
+    public void removeIf_exception() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    origin.addLast(item);
+                    return true;
+                }));
+    }
+
+    @Test
+    @DisplayName("removeIf(predicate): predicate change array in the middle of scan => exception, unchecked items are kept")
+    public void removeIf_predicateChangesArrayInTheMiddle() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L, 40L, 50L, 60L);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.removeIf((item, index) -> {
+                    if(index == 3) origin.addLast(100L);
+                    return index % 2 == 0;
+                }));
+
+        Assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(20L, 40L, 50L, 60L, 100L));
+    }
+
+    @Test
+    @DisplayName("retainIf(predicate): => keep only matched items")
+    public void retainIf() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L, 40L, 50L);
+
+        int actual = origin.retainIf((item, index) -> index % 2 == 0);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isEqualTo(2);
+        assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 30L, 50L));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("removeRange(fromIndex, toIndex): => remove items in range")
+    public void removeRange() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L, 40L, 50L);
+
+        origin.removeRange(1, 3);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 40L, 50L));
+        assertions.assertThatThrownBy(() -> origin.removeRange(2, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> origin.removeRange(0, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("clear(): => size is 0 and grown items is zero")
+    public void clear() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        origin.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.isEmpty()).isTrue();
+        assertions.assertThat(origin.growToSize(3).toArray()).containsOnly(0L);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("sort(): => array is sorted in ascending order")
+    public void sort() {
+        LongDynamicArray origin = LongDynamicArray.of(50L, 10L, 40L, 20L, 30L, 10L);
+
+        origin.sort();
+
+        Assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 10L, 20L, 30L, 40L, 50L));
+    }
+
+    @DisplayName("binarySearch(value):")
+    @ParameterizedTest(name = """
+             origin is {0},
+             value is {1}
+             => expected is {2}
+            """)
+    @MethodSource("provideForBinarySearch")
+    public void binarySearch(LongDynamicArray origin, long value, int expected) {
+        int actual = origin.binarySearch(value);
+
+        Assertions.assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("linearSearch(value), linearSearch(predicate), linearSearchLast(predicate), frequency(predicate)")
+    public void search() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L, 20L, 10L);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.linearSearch(20L)).isEqualTo(1);
+        assertions.assertThat(origin.linearSearch(50L)).isEqualTo(-1);
+        assertions.assertThat(origin.linearSearch(item -> item > 10L)).isEqualTo(1);
+        assertions.assertThat(origin.linearSearchLast(item -> item > 10L)).isEqualTo(3);
+        assertions.assertThat(origin.linearSearchLast(item -> item > 50L)).isEqualTo(-1);
+        assertions.assertThat(origin.contains(30L)).isTrue();
+        assertions.assertThat(origin.frequency(item -> item == 10L)).isEqualTo(2);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("trimToSize(): => capacity reduced, items preserved")
+    public void trimToSize() {
+        LongDynamicArray origin = new LongDynamicArray(100);
+        origin.removeRange(20, 100);
+        origin.replace(19, 50L);
+
+        boolean actual = origin.trimToSize();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual).isTrue();
+        assertions.assertThat(origin.size()).isEqualTo(20);
+        assertions.assertThat(origin.get(19)).isEqualTo(50L);
+        assertions.assertThat(origin.trimToSize()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("cloneAndMap(mapper), cloneAndFilter(predicate): => origin is not changed")
+    public void cloneAndMap_cloneAndFilter() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        LongDynamicArray mapped = origin.cloneAndMap((item, index) -> item + index);
+        LongDynamicArray filtered = origin.cloneAndFilter((item, index) -> item != 20L);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(mapped).isEqualTo(LongDynamicArray.of(10L, 20L + 1, 30L + 2));
+        assertions.assertThat(filtered).isEqualTo(LongDynamicArray.of(10L, 30L));
+        assertions.assertThat(origin).isEqualTo(LongDynamicArray.of(10L, 20L, 30L));
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("reduce(initValue, accumulator), stream(): => same result")
+    public void reduce_stream() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L, 40L);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(origin.reduce(0L, (a, b) -> a + b)).isEqualTo(10L + 20L + 30L + 40L);
+        assertions.assertThat(origin.stream().sum()).isEqualTo(10L + 20L + 30L + 40L);
+        assertions.assertThat(origin.stream().count()).isEqualTo(4);
+        assertions.assertAll();
+    }
+
+    @Test
+    @DisplayName("forEach(action): action change array => exception")
+    public void forEach_exception() {
+        LongDynamicArray origin = LongDynamicArray.of(10L, 20L, 30L);
+
+        Assertions.assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> origin.forEach((item, index) -> origin.addLast(item)));
+    }
+
+    @Test
+    @DisplayName("equals(other), hashCode(): arrays with same items and different capacity => equal")
+    public void equals_hashCode() {
+        LongDynamicArray first = LongDynamicArray.of(10L, 20L, 30L);
+        LongDynamicArray second = new LongDynamicArray(100);
+        second.clear();
+        second.addAllOnLast(10L, 20L, 30L);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(first).isEqualTo(second);
+        assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertions.assertThat(first).isNotEqualTo(LongDynamicArray.of(10L, 20L));
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForMethodWithIndexParam_openInterval_exceptionCase() {
+        return Stream.of(
+                Arguments.of(new LongDynamicArray(), 0),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 30L), -1),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 30L), 3)
+        );
+    }
+
+    private static Stream<Arguments> provideForInsert() {
+        return Stream.of(
+                Arguments.of(new LongDynamicArray(), 0, 10L, LongDynamicArray.of(10L)),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 30L), 0, 40L, LongDynamicArray.of(40L, 10L, 20L, 30L)),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 30L), 2, 40L, LongDynamicArray.of(10L, 20L, 40L, 30L)),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 30L), 3, 40L, LongDynamicArray.of(10L, 20L, 30L, 40L))
+        );
+    }
+
+    private static Stream<Arguments> provideForRemoveIf() {
+        return Stream.of(
+                Arguments.of(
+                        new LongDynamicArray(),
+                        (LongIndexBiPredicate) (item, index) -> true,
+                        0,
+                        new LongDynamicArray()
+                ),
+                Arguments.of(
+                        LongDynamicArray.of(10L, 20L, 30L, 40L, 50L),
+                        (LongIndexBiPredicate) (item, index) -> false,
+                        0,
+                        LongDynamicArray.of(10L, 20L, 30L, 40L, 50L)
+                ),
+                Arguments.of(
+                        LongDynamicArray.of(10L, 20L, 30L, 40L, 50L),
+                        (LongIndexBiPredicate) (item, index) -> true,
+                        5,
+                        new LongDynamicArray()
+                ),
+                Arguments.of(
+                        LongDynamicArray.of(10L, 20L, 30L, 40L, 50L),
+                        (LongIndexBiPredicate) (item, index) -> index % 2 == 0,
+                        3,
+                        LongDynamicArray.of(20L, 40L)
+                ),
+                Arguments.of(
+                        LongDynamicArray.of(10L, 20L, 30L, 40L, 50L),
+                        (LongIndexBiPredicate) (item, index) -> item >= 40L,
+                        2,
+                        LongDynamicArray.of(10L, 20L, 30L)
+                )
+        );
+    }
+
+    private static Stream<Arguments> provideForBinarySearch() {
+        return Stream.of(
+                Arguments.of(new LongDynamicArray(), 10L, -1),
+                Arguments.of(LongDynamicArray.of(10L), 10L, 0),
+                Arguments.of(LongDynamicArray.of(10L), 20L, -1),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 30L, 40L, 50L), 10L, 0),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 30L, 40L, 50L), 30L, 2),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 30L, 40L, 50L), 50L, 4),
+                Arguments.of(LongDynamicArray.of(10L, 20L, 40L, 50L), 30L, -1)
+        );
+    }
+}
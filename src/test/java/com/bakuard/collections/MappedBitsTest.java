@@ -0,0 +1,339 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class MappedBitsTest {
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("create(file, numberBits): numberBits < 0 => exception")
+    @Test
+    void create_exception() {
+        Assertions.assertThatExceptionOfType(NegativeSizeException.class)
+                .isThrownBy(() -> MappedBits.create(directory.resolve("bits"), -1));
+    }
+
+    @DisplayName("create(file, numberBits): file already exists => overwrite file, all bits are clear")
+    @ParameterizedTest(name = """
+             numberBits is {0}
+            """)
+    @MethodSource("provideSizes")
+    void create(int numberBits) throws IOException {
+        Path file = directory.resolve("bits");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20});
+
+        try(MappedBits actual = MappedBits.create(file, numberBits)) {
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(actual.size()).isEqualTo(numberBits);
+            assertions.assertThat(actual).matches(ReadableBits::isClear);
+            assertions.assertThat(actual.equalsIgnoreSize(new Bits(numberBits))).isTrue();
+            assertions.assertThat(Files.size(file))
+                    .isEqualTo(MappedBits.HEADER_SIZE + Math.max(1, (numberBits + 63) / 64) * 8L);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            create(file, numberBits), open(file):
+             change bits, close and open file again
+             => bits and size are restored from file
+            """)
+    @ParameterizedTest(name = """
+             numberBits is {0}
+            """)
+    @MethodSource("provideSizes")
+    void open_afterClose(int numberBits) throws IOException {
+        Path file = directory.resolve("bits");
+        Bits expected = new Bits(numberBits);
+        try(MappedBits bits = MappedBits.create(file, numberBits)) {
+            mutate(bits, expected, numberBits);
+            bits.force();
+        }
+
+        try(MappedBits actual = MappedBits.open(file)) {
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(actual.size()).isEqualTo(numberBits);
+            assertions.assertThat(actual.toBinaryString()).isEqualTo(expected.toBinaryString());
+            assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("open(file): file has incorrect format => exception")
+    @ParameterizedTest(name = """
+             file content length is {0}
+            """)
+    @MethodSource("provideForOpen_incorrectFormat")
+    void open_incorrectFormat(byte[] content) throws IOException {
+        Path file = directory.resolve("bits");
+        Files.write(file, content);
+
+        Assertions.assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> MappedBits.open(file));
+    }
+
+    @DisplayName("open(file): file size does not match size from header => exception")
+    @Test
+    void open_truncatedFile() throws IOException {
+        Path file = directory.resolve("bits");
+        MappedBits.create(file, 1000).close();
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 8));
+
+        Assertions.assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> MappedBits.open(file));
+    }
+
+    @DisplayName("""
+            set(index), clear(index), flip(index), setRange, clearRange, flipRange, setAll(), clearAll():
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             numberBits is {0}
+            """)
+    @MethodSource("provideSizes")
+    void mutations(int numberBits) throws IOException {
+        Bits expected = new Bits(numberBits);
+        try(MappedBits actual = MappedBits.create(directory.resolve("bits"), numberBits)) {
+            mutate(actual, expected, numberBits);
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(new Bits(actual)).isEqualTo(expected);
+            assertions.assertThat(new Bits(actual.setAll())).isEqualTo(expected.setAll());
+            assertions.assertThat(new Bits(actual.clearAll())).isEqualTo(expected.clearAll());
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            get(index), getWord(wordIndex), cardinality(), getHighBitIndex(), isClear(),
+            nextSetBit(fromIndex), nextClearBit(fromIndex), toBinaryString(), hashCodeIgnoreSize():
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             numberBits is {0}
+            """)
+    @MethodSource("provideSizes")
+    void queries(int numberBits) throws IOException {
+        Bits expected = new Bits(numberBits);
+        try(MappedBits actual = MappedBits.create(directory.resolve("bits"), numberBits)) {
+            mutate(actual, expected, numberBits);
+
+            SoftAssertions assertions = new SoftAssertions();
+            for(int i = 0; i < numberBits; ++i) {
+                assertions.assertThat(actual.get(i)).isEqualTo(expected.get(i));
+                assertions.assertThat(actual.nextSetBit(i)).isEqualTo(expected.nextSetBit(i));
+            }
+            for(int i = 0; i < numberBits / 64 + 3; ++i) {
+                assertions.assertThat(actual.getWord(i)).isEqualTo(expected.getWord(i));
+            }
+            int expectedClearBit = 0;
+            while(expectedClearBit < numberBits && expected.get(expectedClearBit)) ++expectedClearBit;
+            assertions.assertThat(actual.nextClearBit(0)).isEqualTo(expectedClearBit < numberBits ? expectedClearBit : -1);
+            assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+            assertions.assertThat(actual.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+            assertions.assertThat(actual.isClear()).isEqualTo(expected.isClear());
+            assertions.assertThat(actual.toBinaryString()).isEqualTo(expected.toBinaryString());
+            assertions.assertThat(actual.hashCodeIgnoreSize()).isEqualTo(expected.hashCodeIgnoreSize());
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            contains(other), intersect(other), equalsIgnoreSize(other), compareTo(other), compareIgnoreSize(other):
+             MappedBits and Bits are used as operands together
+             => same result as for two Bits
+            """)
+    @ParameterizedTest(name = """
+             first operand size is {0},
+             second operand size is {1}
+            """)
+    @MethodSource("provideForRelations")
+    void relations(int firstSize, int secondSize, boolean secondIsSubset) throws IOException {
+        Bits first = new Bits(firstSize);
+        Bits second = new Bits(secondSize);
+        try(MappedBits mappedFirst = MappedBits.create(directory.resolve("first"), firstSize);
+            MappedBits mappedSecond = MappedBits.create(directory.resolve("second"), secondSize)) {
+            mutate(mappedFirst, first, firstSize);
+            if(secondIsSubset) {
+                for(int i = first.nextSetBit(0); i != -1 && i < secondSize; i = first.nextSetBit(i + 2)) {
+                    mappedSecond.set(i);
+                    second.set(i);
+                }
+            } else {
+                mutate(mappedSecond, second, secondSize);
+            }
+
+            SoftAssertions assertions = new SoftAssertions();
+            for(ReadableBits a : new ReadableBits[]{first, mappedFirst}) {
+                for(ReadableBits b : new ReadableBits[]{second, mappedSecond}) {
+                    assertions.assertThat(a.contains(b)).isEqualTo(first.contains(second));
+                    assertions.assertThat(b.contains(a)).isEqualTo(second.contains(first));
+                    assertions.assertThat(a.intersect(b)).isEqualTo(first.intersect(second));
+                    assertions.assertThat(a.equalsIgnoreSize(b)).isEqualTo(first.equalsIgnoreSize(second));
+                    assertions.assertThat(Integer.signum(a.compareTo(b)))
+                            .isEqualTo(Integer.signum(first.compareTo(second)));
+                    assertions.assertThat(Integer.signum(a.compareIgnoreSize(b)))
+                            .isEqualTo(Integer.signum(first.compareIgnoreSize(second)));
+                }
+            }
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            contains(other), intersect(other), equalsIgnoreSize(other), compareTo(other), compareIgnoreSize(other):
+             object is small Bits,
+             other is large MappedBits
+             => other is read word by word, same result as for small operand
+            """)
+    @Test
+    void relations_largeMappedOperand() throws IOException {
+        Bits bits = Bits.of(128, 5, 70);
+        try(MappedBits huge = MappedBits.create(directory.resolve("huge"), 1 << 27);
+            MappedBits hugeSubset = MappedBits.create(directory.resolve("hugeSubset"), 1 << 27)) {
+            huge.set(5);
+            huge.set(100_000_000);
+            hugeSubset.set(5);
+            hugeSubset.set(70);
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(bits.contains(huge)).isFalse();
+            assertions.assertThat(bits.contains(hugeSubset)).isTrue();
+            assertions.assertThat(bits.intersect(huge)).isTrue();
+            assertions.assertThat(bits.equalsIgnoreSize(hugeSubset)).isTrue();
+            assertions.assertThat(bits.equalsIgnoreSize(huge)).isFalse();
+            assertions.assertThat(Integer.signum(bits.compareTo(hugeSubset))).isEqualTo(-1);
+            assertions.assertThat(bits.compareIgnoreSize(hugeSubset)).isZero();
+            assertions.assertThat(Integer.signum(bits.compareIgnoreSize(huge))).isEqualTo(-1);
+            assertions.assertThat(hugeSubset.hashCodeIgnoreSize()).isEqualTo(bits.hashCodeIgnoreSize());
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            and(other), or(other), xor(other), andNot(other), copyRangeFrom(src, srcPos, destPos, length) of Bits:
+             other is MappedBits
+             => same result as for Bits operand
+            """)
+    @ParameterizedTest(name = """
+             first operand size is {0},
+             second operand size is {1}
+            """)
+    @MethodSource("provideForRelations")
+    void bitsLogicalOperations(int firstSize, int secondSize, boolean secondIsSubset) throws IOException {
+        Bits first = new Bits(firstSize);
+        Bits second = new Bits(secondSize);
+        try(MappedBits mappedFirst = MappedBits.create(directory.resolve("first"), firstSize);
+            MappedBits mappedSecond = MappedBits.create(directory.resolve("second"), secondSize)) {
+            mutate(mappedFirst, first, firstSize);
+            mutate(mappedSecond, second, secondSize);
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(new Bits(first).and(mappedSecond)).isEqualTo(new Bits(first).and(second));
+            assertions.assertThat(new Bits(first).or(mappedSecond)).isEqualTo(new Bits(first).or(second));
+            assertions.assertThat(new Bits(first).xor(mappedSecond)).isEqualTo(new Bits(first).xor(second));
+            assertions.assertThat(new Bits(first).andNot(mappedSecond)).isEqualTo(new Bits(first).andNot(second));
+            if(firstSize > 0 && secondSize > 1) {
+                Bits actualCopy = new Bits(first);
+                Bits expectedCopy = new Bits(first);
+                actualCopy.copyRangeFrom(mappedSecond, 1, 0, 100);
+                expectedCopy.copyRangeFrom(second, 1, 0, 100);
+                assertions.assertThat(actualCopy).isEqualTo(expectedCopy);
+            }
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            close():
+             => any bits access throws exception, repeated close() does nothing
+            """)
+    @Test
+    void close() throws IOException {
+        MappedBits bits = MappedBits.create(directory.resolve("bits"), 100);
+        bits.set(10);
+
+        bits.close();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(bits.isClosed()).isTrue();
+        assertions.assertThat(bits.size()).isEqualTo(100);
+        assertions.assertThatThrownBy(() -> bits.get(10)).isInstanceOf(IllegalStateException.class);
+        assertions.assertThatThrownBy(() -> bits.set(10)).isInstanceOf(IllegalStateException.class);
+        assertions.assertThatThrownBy(bits::force).isInstanceOf(IllegalStateException.class);
+        assertions.assertThatCode(bits::close).doesNotThrowAnyException();
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideSizes() {
+        return Stream.of(
+                Arguments.of(0),
+                Arguments.of(1),
+                Arguments.of(63),
+                Arguments.of(64),
+                Arguments.of(65),
+                Arguments.of(1000)
+        );
+    }
+
+    private static Stream<Arguments> provideForOpen_incorrectFormat() {
+        return Stream.of(
+                Arguments.of((Object) new byte[0]),
+                Arguments.of((Object) new byte[]{1, 2, 3}),
+                Arguments.of((Object) new byte[24]),
+                Arguments.of((Object) new byte[]{0x42, 0x4B, 0x42, 0x49, 0x54, 0x53, 0x30, 0x31, -1, -1, -1, -1, -1, -1, -1, -1})
+        );
+    }
+
+    private static Stream<Arguments> provideForRelations() {
+        return Stream.of(
+                Arguments.of(0, 0, false),
+                Arguments.of(0, 100, false),
+                Arguments.of(100, 0, false),
+                Arguments.of(100, 100, false),
+                Arguments.of(100, 100, true),
+                Arguments.of(200, 65, true),
+                Arguments.of(65, 200, false),
+                Arguments.of(1000, 300, true)
+        );
+    }
+
+    private static void mutate(MappedBits actual, Bits expected, int numberBits) {
+        Random random = new Random(numberBits);
+        for(int i = 0; i < numberBits; ++i) {
+            int index = random.nextInt(numberBits);
+            switch(random.nextInt(3)) {
+                case 0 -> { actual.set(index); expected.set(index); }
+                case 1 -> { actual.clear(index); expected.clear(index); }
+                default -> { actual.flip(index); expected.flip(index); }
+            }
+        }
+        for(int i = 0; i < 5 && numberBits > 0; ++i) {
+            int from = random.nextInt(numberBits);
+            int to = from + random.nextInt(numberBits - from + 1);
+            switch(i % 3) {
+                case 0 -> { actual.setRange(from, to); expected.setRange(from, to); }
+                case 1 -> { actual.clearRange(from, to); expected.clearRange(from, to); }
+                default -> { actual.flipRange(from, to); expected.flipRange(from, to); }
+            }
+        }
+    }
+}
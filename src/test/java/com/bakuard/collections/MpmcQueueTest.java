@@ -0,0 +1,330 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.MaxSizeExceededException;
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class MpmcQueueTest {
+
+    @DisplayName("MpmcQueue(maxSize): maxSize < 0 => exception")
+    @Test
+    void MpmcQueue_negativeMaxSize() {
+        Assertions.assertThatThrownBy(() -> new MpmcQueue<Integer>(-1))
+                .isInstanceOf(NegativeSizeException.class);
+    }
+
+    @DisplayName("MpmcQueue(maxSize): maxSize > 2^30 => exception")
+    @Test
+    void MpmcQueue_tooBigMaxSize() {
+        Assertions.assertThatThrownBy(() -> new MpmcQueue<Integer>((1 << 30) + 1))
+                .isInstanceOf(MaxSizeExceededException.class);
+    }
+
+    @DisplayName("MpmcQueue(maxSize): maxSize is rounded up to power of two")
+    @ParameterizedTest(name = """
+             maxSize is {0}
+             => expected maxSize is {1}
+            """)
+    @MethodSource("provideForMaxSize")
+    void MpmcQueue_maxSize(int maxSize, int expectedMaxSize) {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(maxSize);
+
+        Assertions.assertThat(queue.maxSize()).isEqualTo(expectedMaxSize);
+    }
+
+    @DisplayName("addLastOrSkip(value):")
+    @ParameterizedTest(name = """
+             maxSize is {0},
+             added values number is {1}
+             => expected added values number is {2}
+            """)
+    @MethodSource("provideForAddLastOrSkip")
+    void addLastOrSkip(int maxSize, int addedValuesNumber, int expectedAddedValuesNumber) {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(maxSize);
+
+        int actualAddedValuesNumber = 0;
+        for(int i = 0; i < addedValuesNumber; ++i) {
+            if(queue.addLastOrSkip(i)) ++actualAddedValuesNumber;
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actualAddedValuesNumber).isEqualTo(expectedAddedValuesNumber);
+        assertions.assertThat(queue.size()).isEqualTo(expectedAddedValuesNumber);
+        assertions.assertThat(queue.hasAvailableSpace()).isEqualTo(expectedAddedValuesNumber < queue.maxSize());
+        assertions.assertThat(queue.toArray(Integer.class))
+                .containsExactly(sequence(0, expectedAddedValuesNumber).toArray(Integer.class));
+        assertions.assertAll();
+    }
+
+    @DisplayName("tryAddLast(value): queue is full => exception")
+    @Test
+    void tryAddLast_exception() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(4);
+        for(int i = 0; i < 4; ++i) queue.tryAddLast(i);
+
+        Assertions.assertThatThrownBy(() -> queue.tryAddLast(4))
+                .isInstanceOf(MaxSizeExceededException.class);
+    }
+
+    @DisplayName("addAllOnLastOrSkip(data):")
+    @ParameterizedTest(name = """
+             maxSize is {0},
+             removed values number before adding is {1},
+             added values number is {2}
+             => expected added values number is {3}
+            """)
+    @MethodSource("provideForAddAllOnLastOrSkip")
+    void addAllOnLastOrSkip(int maxSize,
+                            int removedValuesNumber,
+                            int addedValuesNumber,
+                            int expectedAddedValuesNumber) {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(maxSize);
+        for(int i = 0; i < removedValuesNumber; ++i) queue.addLastOrSkip(-1);
+        for(int i = 0; i < removedValuesNumber; ++i) queue.removeFirst();
+
+        int actualAddedValuesNumber = queue.addAllOnLastOrSkip(sequence(0, addedValuesNumber).toArray(Integer.class));
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actualAddedValuesNumber).isEqualTo(expectedAddedValuesNumber);
+        assertions.assertThat(drain(queue)).isEqualTo(sequence(0, expectedAddedValuesNumber));
+        assertions.assertAll();
+    }
+
+    @DisplayName("removeFirst(): queue is empty => return null")
+    @Test
+    void removeFirst_emptyQueue() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(10);
+        queue.addLastOrSkip(1);
+        queue.removeFirst();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(queue.removeFirst()).isNull();
+        assertions.assertThat(queue.isEmpty()).isTrue();
+        assertions.assertAll();
+    }
+
+    @DisplayName("tryRemoveFirst(): queue is empty => exception")
+    @Test
+    void tryRemoveFirst_exception() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(10);
+
+        Assertions.assertThatThrownBy(queue::tryRemoveFirst)
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @DisplayName("tryRemoveFirst(): queue contains null => return null")
+    @Test
+    void tryRemoveFirst_nullItem() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(10);
+        queue.addLastOrSkip(null);
+        queue.addLastOrSkip(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(queue.tryRemoveFirst()).isNull();
+        assertions.assertThat(queue.tryRemoveFirst()).isEqualTo(1);
+        assertions.assertAll();
+    }
+
+    @DisplayName("removeFirst(): items wrap around the end of the internal array")
+    @Test
+    void removeFirst_wrapAroundInternalArray() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(4);
+
+        DynamicArray<Integer> actual = new DynamicArray<>();
+        for(int i = 0; i < 100; ++i) {
+            queue.addLastOrSkip(i);
+            if(i % 3 == 2) {
+                while(!queue.isEmpty()) actual.addLast(queue.removeFirst());
+            }
+        }
+        while(!queue.isEmpty()) actual.addLast(queue.removeFirst());
+
+        Assertions.assertThat(actual).isEqualTo(sequence(0, 100));
+    }
+
+    @DisplayName("drainTo(target): target is not empty => add items to the end of target")
+    @Test
+    void drainTo_notEmptyTarget() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(10);
+        queue.addAllOnLastOrSkip(3, 4, 5);
+        DynamicArray<Integer> target = DynamicArray.of(1, 2);
+
+        int actualDrainedValuesNumber = queue.drainTo(target);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actualDrainedValuesNumber).isEqualTo(3);
+        assertions.assertThat(target).isEqualTo(DynamicArray.of(1, 2, 3, 4, 5));
+        assertions.assertThat(queue.isEmpty()).isTrue();
+        assertions.assertThat(queue.drainTo(target)).isZero();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            drainTo(consumer):
+                consumer throws exception
+                => exception, slots of all drained items are released
+            """)
+    @Test
+    void drainTo_consumerThrowsException() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(4);
+        queue.addAllOnLastOrSkip(1, 2, 3, 4);
+        DynamicArray<Integer> received = new DynamicArray<>();
+
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> queue.drainTo(value -> {
+                    if(value == 2) throw new IllegalStateException();
+                    received.addLast(value);
+                }));
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(received).isEqualTo(DynamicArray.of(1));
+        assertions.assertThat(queue.isEmpty()).isTrue();
+        assertions.assertThat(queue.addAllOnLastOrSkip(5, 6, 7, 8)).isEqualTo(4);
+        assertions.assertThat(queue.drainTo(received)).isEqualTo(4);
+        assertions.assertThat(received).isEqualTo(DynamicArray.of(1, 5, 6, 7, 8));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            addLastOrSkip(value), addAllOnLastOrSkip(data), removeFirst(), drainTo(target):
+                several producer threads and several consumer threads
+                => each item is received exactly once, items of one producer are received by one consumer in order
+            """)
+    @Test
+    void concurrentProducersAndConsumers() throws Exception {
+        final int threadsNumber = 4;
+        final int itemsPerProducer = 20_000;
+        MpmcQueue<Integer> queue = new MpmcQueue<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(threadsNumber * 2);
+
+        try {
+            DynamicArray<Future<?>> producers = new DynamicArray<>();
+            for(int producerIndex = 0; producerIndex < threadsNumber; ++producerIndex) {
+                final int firstItem = producerIndex * itemsPerProducer;
+                final boolean useBatch = producerIndex % 2 == 0;
+                producers.addLast(executor.submit(() -> {
+                    for(int i = 0; i < itemsPerProducer; ) {
+                        if(useBatch) {
+                            int batchSize = Math.min(7, itemsPerProducer - i);
+                            Integer[] batch = new Integer[batchSize];
+                            for(int j = 0; j < batchSize; ++j) batch[j] = firstItem + i + j;
+                            int added = queue.addAllOnLastOrSkip(batch);
+                            i += added;
+                            if(added == 0) Thread.yield();
+                        } else if(queue.addLastOrSkip(firstItem + i)) {
+                            ++i;
+                        } else {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+
+            DynamicArray<Future<DynamicArray<Integer>>> consumers = new DynamicArray<>();
+            for(int consumerIndex = 0; consumerIndex < threadsNumber; ++consumerIndex) {
+                final boolean useBatch = consumerIndex % 2 == 0;
+                consumers.addLast(executor.submit(() -> {
+                    DynamicArray<Integer> received = new DynamicArray<>();
+                    while(!Thread.currentThread().isInterrupted()) {
+                        int before = received.size();
+                        if(useBatch) {
+                            queue.drainTo(received);
+                        } else {
+                            Integer value = queue.removeFirst();
+                            if(value != null) received.addLast(value);
+                        }
+                        if(received.size() == before) {
+                            if(producers.linearSearch(f -> !f.isDone()) == -1 && queue.isEmpty()) break;
+                            Thread.yield();
+                        }
+                    }
+                    return received;
+                }));
+            }
+
+            for(Future<?> producer : producers) producer.get(1, TimeUnit.MINUTES);
+            int[] receivedNumbers = new int[threadsNumber * itemsPerProducer];
+            boolean isOrdered = true;
+            for(Future<DynamicArray<Integer>> consumer : consumers) {
+                DynamicArray<Integer> received = consumer.get(1, TimeUnit.MINUTES);
+                int[] lastItemOfProducer = new int[threadsNumber];
+                Arrays.fill(lastItemOfProducer, -1);
+                for(Integer item : received) {
+                    ++receivedNumbers[item];
+                    int producerIndex = item / itemsPerProducer;
+                    isOrdered &= item > lastItemOfProducer[producerIndex];
+                    lastItemOfProducer[producerIndex] = item;
+                }
+            }
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(isOrdered).isTrue();
+            assertions.assertThat(receivedNumbers).containsOnly(1);
+            assertions.assertThat(queue.isEmpty()).isTrue();
+            assertions.assertAll();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    private static Stream<Arguments> provideForMaxSize() {
+        return Stream.of(
+                Arguments.of(0, 2),
+                Arguments.of(1, 2),
+                Arguments.of(2, 2),
+                Arguments.of(3, 4),
+                Arguments.of(16, 16),
+                Arguments.of(17, 32),
+                Arguments.of(1000, 1024)
+        );
+    }
+
+    private static Stream<Arguments> provideForAddLastOrSkip() {
+        return Stream.of(
+                Arguments.of(2, 0, 0),
+                Arguments.of(2, 5, 2),
+                Arguments.of(16, 6, 6),
+                Arguments.of(16, 16, 16),
+                Arguments.of(16, 20, 16),
+                Arguments.of(10, 20, 16)
+        );
+    }
+
+    private static Stream<Arguments> provideForAddAllOnLastOrSkip() {
+        return Stream.of(
+                Arguments.of(2, 0, 5, 2),
+                Arguments.of(16, 0, 0, 0),
+                Arguments.of(16, 0, 6, 6),
+                Arguments.of(16, 0, 20, 16),
+                Arguments.of(16, 11, 6, 6),
+                Arguments.of(16, 11, 20, 16)
+        );
+    }
+
+    private static DynamicArray<Integer> drain(MpmcQueue<Integer> queue) {
+        DynamicArray<Integer> result = new DynamicArray<>();
+        queue.drainTo(result);
+        return result;
+    }
+
+    private static DynamicArray<Integer> sequence(int from, int to) {
+        DynamicArray<Integer> result = new DynamicArray<>();
+        for(int i = from; i < to; ++i) result.addLast(i);
+        return result;
+    }
+}
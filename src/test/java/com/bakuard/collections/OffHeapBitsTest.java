@@ -0,0 +1,444 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class OffHeapBitsTest {
+
+    @DisplayName("OffHeapBits(numberBits): numberBits < 0 => exception")
+    @Test
+    void OffHeapBits_numberBits_exception() {
+        Assertions.assertThatExceptionOfType(NegativeSizeException.class).
+                isThrownBy(() -> new OffHeapBits(-1));
+    }
+
+    @DisplayName("OffHeapBits(numberBits): all bits are clear")
+    @ParameterizedTest(name = """
+             numberBits is {0}
+            """)
+    @MethodSource("provideSizes")
+    void OffHeapBits_numberBits(int numberBits) {
+        try(OffHeapBits actual = new OffHeapBits(numberBits)) {
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(actual.size()).isEqualTo(numberBits);
+            assertions.assertThat(actual.isClear()).isTrue();
+            assertions.assertThat(actual.cardinality()).isZero();
+            assertions.assertThat(actual.getHighBitIndex()).isEqualTo(-1L);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("OffHeapBits(other): origin and copy must be independent of each other")
+    @Test
+    void OffHeapBits_copy() {
+        try(OffHeapBits origin = randomBits(130, 1);
+            OffHeapBits copy = new OffHeapBits(origin)) {
+            Bits expectedOrigin = toBits(origin);
+            Bits expectedCopy = toBits(origin);
+
+            origin.flip(0);
+            expectedOrigin.flip(0);
+            copy.clearRange(10, 100);
+            expectedCopy.clearRange(10, 100);
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(toBits(origin)).isEqualTo(expectedOrigin);
+            assertions.assertThat(toBits(copy)).isEqualTo(expectedCopy);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            get(index), set(index), clear(index), flip(index):
+             index < 0 or index >= size => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForSingleIndex_exception")
+    void singleIndex_exception(int size, long index) {
+        try(OffHeapBits bits = new OffHeapBits(size)) {
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThatThrownBy(() -> bits.get(index)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertThatThrownBy(() -> bits.set(index)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertThatThrownBy(() -> bits.clear(index)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertThatThrownBy(() -> bits.flip(index)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            set(index), clear(index), flip(index), get(index):
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void singleIndexOperations(int size) {
+        Random random = new Random(size);
+        Bits expected = new Bits(size);
+        try(OffHeapBits actual = new OffHeapBits(size)) {
+            SoftAssertions assertions = new SoftAssertions();
+            for(int i = 0; i < size * 3; ++i) {
+                int index = random.nextInt(size);
+                switch(random.nextInt(3)) {
+                    case 0 -> { actual.set(index); expected.set(index); }
+                    case 1 -> { actual.clear(index); expected.clear(index); }
+                    default -> { actual.flip(index); expected.flip(index); }
+                }
+                assertions.assertThat(actual.get(index)).isEqualTo(expected.get(index));
+            }
+            assertions.assertThat(toBits(actual)).isEqualTo(expected);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            setRange(fromIndex, toIndex), clearRange(fromIndex, toIndex), flipRange(fromIndex, toIndex):
+             incorrect range => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             fromIndex is {1},
+             toIndex is {2}
+             => exception
+            """)
+    @MethodSource("provideForRange_exception")
+    void rangeOperations_exception(int size, long fromIndex, long toIndex) {
+        try(OffHeapBits bits = new OffHeapBits(size)) {
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThatThrownBy(() -> bits.setRange(fromIndex, toIndex))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertThatThrownBy(() -> bits.clearRange(fromIndex, toIndex))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertThatThrownBy(() -> bits.flipRange(fromIndex, toIndex))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            setRange(fromIndex, toIndex), clearRange(fromIndex, toIndex), flipRange(fromIndex, toIndex):
+             compare with Bits for all ranges
+            """)
+    @Test
+    void rangeOperations_allRanges() {
+        try(OffHeapBits origin = randomBits(200, 2)) {
+            Bits expectedOrigin = toBits(origin);
+
+            SoftAssertions assertions = new SoftAssertions();
+            for(int from = 0; from <= 200; ++from) {
+                for(int to = from; to <= 200; to += 7) {
+                    try(OffHeapBits actualSet = new OffHeapBits(origin);
+                        OffHeapBits actualClear = new OffHeapBits(origin);
+                        OffHeapBits actualFlip = new OffHeapBits(origin)) {
+                        assertions.assertThat(toBits(actualSet.setRange(from, to)))
+                                .isEqualTo(new Bits(expectedOrigin).setRange(from, to));
+                        assertions.assertThat(toBits(actualClear.clearRange(from, to)))
+                                .isEqualTo(new Bits(expectedOrigin).clearRange(from, to));
+                        assertions.assertThat(toBits(actualFlip.flipRange(from, to)))
+                                .isEqualTo(new Bits(expectedOrigin).flipRange(from, to));
+                    }
+                }
+            }
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("setAll(), clearAll(), not(): compare with Bits")
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void wholeOperations(int size) {
+        try(OffHeapBits actual = randomBits(size, 3)) {
+            Bits expected = toBits(actual);
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(toBits(actual.not())).isEqualTo(expected.not());
+            assertions.assertThat(actual.size()).isEqualTo(size);
+            assertions.assertThat(toBits(actual.setAll())).isEqualTo(expected.setAll());
+            assertions.assertThat(actual.cardinality()).isEqualTo(size);
+            assertions.assertThat(toBits(actual.clearAll())).isEqualTo(expected.clearAll());
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            and(other), or(other), xor(other), andNot(other):
+             compare with Bits, size of result is not changed
+            """)
+    @ParameterizedTest(name = """
+             first operand size is {0},
+             second operand size is {1}
+            """)
+    @MethodSource("provideForLogicalOperations")
+    void logicalOperations(int firstSize, int secondSize) {
+        try(OffHeapBits first = randomBits(firstSize, 4);
+            OffHeapBits second = randomBits(secondSize, 5)) {
+            Bits expectedFirst = toBits(first);
+            Bits expectedSecond = toBits(second);
+
+            SoftAssertions assertions = new SoftAssertions();
+            try(OffHeapBits actual = new OffHeapBits(first)) {
+                assertions.assertThat(toBits(actual.and(second)))
+                        .isEqualTo(truncate(new Bits(expectedFirst).and(expectedSecond), firstSize));
+            }
+            try(OffHeapBits actual = new OffHeapBits(first)) {
+                assertions.assertThat(toBits(actual.or(second)))
+                        .isEqualTo(truncate(new Bits(expectedFirst).or(expectedSecond), firstSize));
+            }
+            try(OffHeapBits actual = new OffHeapBits(first)) {
+                assertions.assertThat(toBits(actual.xor(second)))
+                        .isEqualTo(truncate(new Bits(expectedFirst).xor(expectedSecond), firstSize));
+            }
+            try(OffHeapBits actual = new OffHeapBits(first)) {
+                assertions.assertThat(toBits(actual.andNot(second)))
+                        .isEqualTo(truncate(new Bits(expectedFirst).andNot(expectedSecond), firstSize));
+            }
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("cardinality(), getHighBitIndex(), isClear(): compare with Bits")
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void queries(int size) {
+        try(OffHeapBits actual = randomBits(size, 6)) {
+            Bits expected = toBits(actual);
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+            assertions.assertThat(actual.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+            assertions.assertThat(actual.isClear()).isEqualTo(expected.isClear());
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("nextSetBit(fromIndex), nextClearBit(fromIndex): fromIndex < 0 => exception")
+    @Test
+    void nextBit_exception() {
+        try(OffHeapBits bits = new OffHeapBits(10)) {
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThatThrownBy(() -> bits.nextSetBit(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertThatThrownBy(() -> bits.nextClearBit(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("nextSetBit(fromIndex), nextClearBit(fromIndex): compare with bit-by-bit search for all fromIndex")
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void nextBit(int size) {
+        try(OffHeapBits actual = randomBits(size, 7)) {
+            Bits expected = toBits(actual);
+
+            SoftAssertions assertions = new SoftAssertions();
+            for(int i = 0; i <= size + 64; ++i) {
+                assertions.assertThat(actual.nextSetBit(i)).isEqualTo(nextBit(expected, i, true));
+                assertions.assertThat(actual.nextClearBit(i)).isEqualTo(nextBit(expected, i, false));
+            }
+            actual.setAll();
+            for(int i = 0; i <= size; ++i) {
+                assertions.assertThat(actual.nextClearBit(i)).isEqualTo(-1L);
+            }
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("equals(other), hashCode(): same size and same bits => objects are equal")
+    @Test
+    void equals() {
+        try(OffHeapBits first = randomBits(150, 8);
+            OffHeapBits second = new OffHeapBits(first);
+            OffHeapBits third = new OffHeapBits(151)) {
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(first).isEqualTo(second);
+            assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+            second.flip(149);
+            assertions.assertThat(first).isNotEqualTo(second);
+            third.or(first);
+            assertions.assertThat(first).isNotEqualTo(third);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            close():
+             => memory is released, any bits access and copying throw exception, repeated close() does nothing
+            """)
+    @Test
+    void close() {
+        OffHeapBits bits = new OffHeapBits(100);
+        bits.set(10);
+
+        bits.close();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(bits.isClosed()).isTrue();
+        assertions.assertThat(bits.size()).isEqualTo(100);
+        assertions.assertThatThrownBy(() -> bits.get(10)).isInstanceOf(IllegalStateException.class);
+        assertions.assertThatThrownBy(() -> bits.set(10)).isInstanceOf(IllegalStateException.class);
+        assertions.assertThatThrownBy(bits::cardinality).isInstanceOf(IllegalStateException.class);
+        assertions.assertThatThrownBy(() -> new OffHeapBits(bits)).isInstanceOf(IllegalStateException.class);
+        assertions.assertThatCode(bits::close).doesNotThrowAnyException();
+        assertions.assertAll();
+    }
+
+
+    @DisplayName("""
+            view(segment, numberBits):
+             segment contains bits written by Bits.writeTo(ByteBuffer)
+             => view must contain the same bits and share memory with segment, close() must not release memory
+            """)
+    @ParameterizedTest(name = """
+             size is {0}
+            """)
+    @MethodSource("provideSizes")
+    void view(int size) {
+        Bits expected = new Bits(size);
+        for(int i = 0; i < size; i += 3) expected.set(i);
+        try(Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(expected.serializedSize() + 8, Long.BYTES);
+            expected.writeTo(segment.asByteBuffer());
+
+            OffHeapBits view = OffHeapBits.view(segment.asSlice(8), size);
+            long actualCardinality = view.cardinality();
+            boolean sharedBits = size == 0 || view.get(0) && segment.get(ValueLayout.JAVA_BYTE, 8) != 0;
+            if(size > 1) view.set(1);
+            view.close();
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThat(actualCardinality).isEqualTo(expected.cardinality());
+            assertions.assertThat(sharedBits).isTrue();
+            assertions.assertThat(view.isClosed()).isFalse();
+            assertions.assertThat(view.size()).isEqualTo(size);
+            if(size > 6) assertions.assertThat(segment.get(ValueLayout.JAVA_BYTE, 8)).isEqualTo((byte) 0b1001011);
+            assertions.assertAll();
+        }
+    }
+
+    @DisplayName("""
+            view(segment, numberBits):
+             segment is not suitable for view => exception
+            """)
+    @Test
+    void view_exception() {
+        try(Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(32, Long.BYTES);
+            MemorySegment bitsBeyondSize = arena.allocate(8, Long.BYTES).fill((byte) 1);
+
+            SoftAssertions assertions = new SoftAssertions();
+            assertions.assertThatExceptionOfType(NegativeSizeException.class).
+                    isThrownBy(() -> OffHeapBits.view(segment, -1));
+            assertions.assertThatExceptionOfType(IndexOutOfBoundsException.class).
+                    isThrownBy(() -> OffHeapBits.view(segment, 257));
+            assertions.assertThatIllegalArgumentException().
+                    isThrownBy(() -> OffHeapBits.view(segment.asSlice(1), 64));
+            assertions.assertThatIllegalArgumentException().
+                    isThrownBy(() -> OffHeapBits.view(segment.asReadOnly(), 64));
+            assertions.assertThatIllegalArgumentException().
+                    isThrownBy(() -> OffHeapBits.view(bitsBeyondSize, 10));
+            assertions.assertThatIllegalArgumentException().
+                    isThrownBy(() -> OffHeapBits.view(bitsBeyondSize, 0));
+            assertions.assertAll();
+        }
+    }
+
+    private static Stream<Arguments> provideSizes() {
+        return Stream.of(
+                Arguments.of(0),
+                Arguments.of(1),
+                Arguments.of(63),
+                Arguments.of(64),
+                Arguments.of(65),
+                Arguments.of(127),
+                Arguments.of(128),
+                Arguments.of(1000)
+        );
+    }
+
+    private static Stream<Arguments> provideForSingleIndex_exception() {
+        return Stream.of(
+                Arguments.of(0, 0L),
+                Arguments.of(10, -1L),
+                Arguments.of(10, 10L),
+                Arguments.of(64, 64L),
+                Arguments.of(64, Long.MAX_VALUE),
+                Arguments.of(64, Long.MIN_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForRange_exception() {
+        return Stream.of(
+                Arguments.of(10, -1L, 5L),
+                Arguments.of(10, 5L, 4L),
+                Arguments.of(10, 0L, 11L),
+                Arguments.of(0, 0L, 1L),
+                Arguments.of(64, 0L, Long.MAX_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForLogicalOperations() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(0, 100),
+                Arguments.of(100, 0),
+                Arguments.of(64, 64),
+                Arguments.of(65, 63),
+                Arguments.of(63, 65),
+                Arguments.of(200, 130),
+                Arguments.of(130, 200),
+                Arguments.of(1000, 1000)
+        );
+    }
+
+    private static OffHeapBits randomBits(int size, long seed) {
+        Random random = new Random(seed);
+        OffHeapBits result = new OffHeapBits(size);
+        for(int i = 0; i < size; ++i) {
+            if(random.nextBoolean()) result.set(i);
+        }
+        return result;
+    }
+
+    private static Bits toBits(OffHeapBits offHeapBits) {
+        Bits result = new Bits((int) offHeapBits.size());
+        for(long i = offHeapBits.nextSetBit(0); i != -1L; i = offHeapBits.nextSetBit(i + 1)) {
+            result.set((int) i);
+        }
+        return result;
+    }
+
+    private static long nextBit(Bits bits, int fromIndex, boolean value) {
+        for(int i = fromIndex; i < bits.size(); ++i) {
+            if(bits.get(i) == value) return i;
+        }
+        return -1L;
+    }
+
+    private static Bits truncate(Bits bits, int size) {
+        Bits result = new Bits(size);
+        for(int i = bits.nextSetBit(0); i != -1 && i < size; i = bits.nextSetBit(i + 1)) result.set(i);
+        return result;
+    }
+}
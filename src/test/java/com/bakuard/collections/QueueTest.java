@@ -233,6 +233,33 @@ public class QueueTest {
     }
 
 
+    @DisplayName("""
+            addLast(value), removeFirst(), trimToSize():
+                items wrap around the end of the internal array while queue grows and shrinks
+            """)
+    @Test
+    void wrapAroundInternalArray() {
+        Queue<Integer> queue = new Queue<>();
+        DynamicArray<Integer> expected = new DynamicArray<>();
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int step = 0; step < 200; ++step) {
+            for(int i = 0; i < step % 23; ++i) {
+                queue.addLast(step * 100 + i);
+                expected.addLast(step * 100 + i);
+            }
+            for(int i = 0; i < step % 17 && !expected.isEmpty(); ++i) {
+                assertions.assertThat(queue.removeFirst()).isEqualTo(expected.orderedRemove(0));
+            }
+            if(step % 50 == 0) queue.trimToSize();
+
+            assertions.assertThat(queue.size()).isEqualTo(expected.size());
+            assertions.assertThat(queue.toArray(Integer.class)).containsExactly(expected.toArray(Integer.class));
+            if(!expected.isEmpty()) assertions.assertThat(queue.at(-1)).isEqualTo(expected.at(-1));
+        }
+        assertions.assertAll();
+    }
+
     private static Stream<Arguments> provideForQueueConstructor1() {
         return Stream.of(
                 Arguments.of(
@@ -0,0 +1,228 @@
+package com.bakuard.collections;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class RankSelectBitsTest {
+
+    @DisplayName("""
+            rank(index):
+             index < 0 or index > size
+             => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForRank_exception")
+    void rank_exception(int size, int index) {
+        RankSelectBits bits = new RankSelectBits(Bits.filled(size));
+
+        Assertions.assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> bits.rank(index));
+    }
+
+    @DisplayName("""
+            rank(index):
+             compare with naive count of set bits before index
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void rank(int size, double density) {
+        Bits expected = randomBits(size, density);
+        RankSelectBits actual = new RankSelectBits(expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        int expectedRank = 0;
+        for(int i = 0; i <= size; ++i) {
+            assertions.assertThat(actual.rank(i)).isEqualTo(expectedRank);
+            if(i < size && expected.get(i)) ++expectedRank;
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            select(k):
+             k < 0 or k >= cardinality
+             => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             k is {1}
+             => exception
+            """)
+    @MethodSource("provideForSelect_exception")
+    void select_exception(int size, int k) {
+        RankSelectBits bits = new RankSelectBits(Bits.filled(size));
+
+        Assertions.assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> bits.select(k));
+    }
+
+    @DisplayName("""
+            select(k):
+             compare with index of k-th set bit found by nextSetBit
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void select(int size, double density) {
+        Bits expected = randomBits(size, density);
+        RankSelectBits actual = new RankSelectBits(expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        int k = 0;
+        for(int i = expected.nextSetBit(0); i != -1; i = i + 1 < size ? expected.nextSetBit(i + 1) : -1) {
+            assertions.assertThat(actual.select(k)).isEqualTo(i);
+            assertions.assertThat(actual.rank(i)).isEqualTo(k);
+            ++k;
+        }
+        assertions.assertThat(actual.cardinality()).isEqualTo(k);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            select(k):
+             set bits are separated by long runs of empty blocks
+            """)
+    @Test
+    void select_sparseBits() {
+        Bits expected = Bits.of(10_000_000, 0, 2047, 2048, 1_000_000, 1_000_001, 9_999_999);
+        for(int i = 5_000_000; i < 5_020_000; ++i) expected.set(i);
+        RankSelectBits actual = new RankSelectBits(expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.select(0)).isEqualTo(0);
+        assertions.assertThat(actual.select(1)).isEqualTo(2047);
+        assertions.assertThat(actual.select(2)).isEqualTo(2048);
+        assertions.assertThat(actual.select(3)).isEqualTo(1_000_000);
+        assertions.assertThat(actual.select(4)).isEqualTo(1_000_001);
+        assertions.assertThat(actual.select(5)).isEqualTo(5_000_000);
+        assertions.assertThat(actual.select(8197)).isEqualTo(5_008_192);
+        assertions.assertThat(actual.select(20_004)).isEqualTo(5_019_999);
+        assertions.assertThat(actual.select(20_005)).isEqualTo(9_999_999);
+        assertions.assertThat(actual.rank(9_999_999)).isEqualTo(20_005);
+        assertions.assertThat(actual.rank(10_000_000)).isEqualTo(20_006);
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(9_999_999);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            RankSelectBits(other):
+             other is changed after creation
+             => snapshot is not changed
+            """)
+    @Test
+    void RankSelectBits_snapshot() {
+        Bits origin = Bits.of(100, 1, 5, 99);
+        RankSelectBits actual = new RankSelectBits(origin);
+        origin.clearAll();
+        Bits copy = new Bits(actual);
+        copy.clearAll();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.cardinality()).isEqualTo(3);
+        assertions.assertThat(actual.get(5)).isTrue();
+        assertions.assertThat(actual.select(2)).isEqualTo(99);
+        assertions.assertThat(new Bits(actual)).isEqualTo(Bits.of(100, 1, 5, 99));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            get(index), getWord(wordIndex), cardinality(), getHighBitIndex(), isClear(), nextSetBit(fromIndex),
+            contains(other), intersect(other), equalsIgnoreSize(other), compareTo(other), hashCodeIgnoreSize(),
+            toBinaryString():
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             density is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void readableBits(int size, double density) {
+        Bits expected = randomBits(size, density);
+        Bits other = randomBits(size, density);
+        RankSelectBits actual = new RankSelectBits(expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < size; i += 13) {
+            assertions.assertThat(actual.get(i)).isEqualTo(expected.get(i));
+            assertions.assertThat(actual.nextSetBit(i)).isEqualTo(expected.nextSetBit(i));
+        }
+        for(int i = 0; i < size / 64 + 2; ++i) {
+            assertions.assertThat(actual.getWord(i)).isEqualTo(expected.getWord(i));
+        }
+        assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+        assertions.assertThat(actual.isClear()).isEqualTo(expected.isClear());
+        assertions.assertThat(actual.contains(other)).isEqualTo(expected.contains(other));
+        assertions.assertThat(other.contains(actual)).isEqualTo(other.contains(expected));
+        assertions.assertThat(actual.intersect(other)).isEqualTo(expected.intersect(other));
+        assertions.assertThat(actual.equalsIgnoreSize(expected)).isTrue();
+        assertions.assertThat(expected.equalsIgnoreSize(actual)).isTrue();
+        assertions.assertThat(actual.compareTo(expected)).isZero();
+        assertions.assertThat(actual.hashCodeIgnoreSize()).isEqualTo(expected.hashCodeIgnoreSize());
+        assertions.assertThat(actual).isEqualTo(new RankSelectBits(expected));
+        if(size <= 10_000) assertions.assertThat(actual.toBinaryString()).isEqualTo(expected.toBinaryString());
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForRank_exception() {
+        return Stream.of(
+                Arguments.of(0, -1),
+                Arguments.of(0, 1),
+                Arguments.of(100, 101),
+                Arguments.of(100, Integer.MIN_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForSelect_exception() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(100, -1),
+                Arguments.of(100, 100),
+                Arguments.of(100, Integer.MAX_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForPatterns() {
+        return Stream.of(
+                Arguments.of(0, 0.5),
+                Arguments.of(1, 1.0),
+                Arguments.of(63, 0.5),
+                Arguments.of(64, 1.0),
+                Arguments.of(513, 0.5),
+                Arguments.of(2048, 1.0),
+                Arguments.of(2049, 0.5),
+                Arguments.of(100_000, 0.001),
+                Arguments.of(100_000, 0.5),
+                Arguments.of(100_000, 0.99),
+                Arguments.of(100_000, 1.0),
+                Arguments.of(300_000, 0.0)
+        );
+    }
+
+    private static Bits randomBits(int size, double density) {
+        Random random = new Random(size + Double.hashCode(density));
+        Bits result = new Bits(size);
+        for(int i = 0; i < size; ++i) {
+            if(random.nextDouble() < density) result.set(i);
+        }
+        return result;
+    }
+}
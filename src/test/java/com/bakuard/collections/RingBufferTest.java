@@ -292,6 +292,39 @@ public class RingBufferTest {
     }
 
 
+    @DisplayName("""
+            addAllOnLastOrSkip(data), toArray(itemType), growToSize(newSize):
+                items wrap around the end of the internal array
+            """)
+    @Test
+    void wrapAroundInternalArray() {
+        SoftAssertions assertions = new SoftAssertions();
+        for(int maxSize = 1; maxSize <= 12; ++maxSize) {
+            for(int offset = 0; offset <= maxSize; ++offset) {
+                for(int addedNumber = 0; addedNumber <= maxSize + 1; ++addedNumber) {
+                    RingBuffer<Integer> buffer = new RingBuffer<>(maxSize);
+                    for(int i = 0; i < offset; ++i) buffer.addLastOrSkip(-1);
+                    for(int i = 0; i < offset; ++i) buffer.removeFirst();
+
+                    Integer[] addedValues = new Integer[addedNumber];
+                    for(int i = 0; i < addedNumber; ++i) addedValues[i] = i;
+                    int expectedAddedNumber = Math.min(maxSize, addedNumber);
+                    Integer[] expectedValues = new Integer[expectedAddedNumber];
+                    System.arraycopy(addedValues, 0, expectedValues, 0, expectedAddedNumber);
+
+                    assertions.assertThat(buffer.addAllOnLastOrSkip(addedValues)).isEqualTo(expectedAddedNumber);
+                    assertions.assertThat(buffer.toArray(Integer.class)).containsExactly(expectedValues);
+                    if(expectedAddedNumber > 0) {
+                        assertions.assertThat(buffer.at(-1)).isEqualTo(expectedAddedNumber - 1);
+                    }
+                    buffer.growToSize(maxSize + 5);
+                    assertions.assertThat(buffer.toArray(Integer.class)).containsExactly(expectedValues);
+                }
+            }
+        }
+        assertions.assertAll();
+    }
+
     private static Stream<Arguments> provideForCopyConstructor1() {
         return Stream.of(
                 Arguments.of(
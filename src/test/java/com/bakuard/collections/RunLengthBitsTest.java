@@ -0,0 +1,232 @@
+package com.bakuard.collections;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class RunLengthBitsTest {
+
+    @DisplayName("""
+            get(index):
+             index < 0 or index >= size
+             => exception
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             index is {1}
+             => exception
+            """)
+    @MethodSource("provideForIndex_exception")
+    void get_exception(int size, int index) {
+        RunLengthBits bits = Bits.filled(size).toRunLengthEncoded();
+
+        Assertions.assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> bits.get(index));
+    }
+
+    @DisplayName("""
+            getWord(wordIndex), nextSetBit(fromIndex), nextClearBit(fromIndex):
+             argument < 0
+             => exception
+            """)
+    @Test
+    void search_exception() {
+        RunLengthBits bits = Bits.filled(100).toRunLengthEncoded();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> bits.getWord(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.nextSetBit(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.nextClearBit(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertThatThrownBy(() -> bits.previousSetBit(-2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            RunLengthBits(other):
+             other contains long runs of ones and zeros
+             => runsNumber() is equal to count of runs of ones
+            """)
+    @Test
+    void RunLengthBits_runsNumber() {
+        Bits origin = new Bits(10_000_000)
+                .setRange(0, 1_000_000)
+                .setRange(1_000_001, 5_000_000)
+                .setRange(9_999_000, 10_000_000);
+        RunLengthBits actual = origin.toRunLengthEncoded();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.runsNumber()).isEqualTo(3);
+        assertions.assertThat(actual.cardinality()).isEqualTo(origin.cardinality());
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(9_999_999);
+        assertions.assertThat(actual.get(1_000_000)).isFalse();
+        assertions.assertThat(actual.nextClearBit(1_000_001)).isEqualTo(5_000_000);
+        assertions.assertThat(actual.nextSetBit(5_000_000)).isEqualTo(9_999_000);
+        assertions.assertThat(actual.nextClearBit(9_999_000)).isEqualTo(-1);
+        assertions.assertThat(actual.previousSetBit(9_998_999)).isEqualTo(4_999_999);
+        assertions.assertThat(actual.getWord(15_625)).isEqualTo(-1L << 1);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            RunLengthBits(other):
+             other is changed after creation
+             => snapshot is not changed
+            """)
+    @Test
+    void RunLengthBits_snapshot() {
+        Bits origin = Bits.of(100, 1, 5, 6, 7, 99);
+        RunLengthBits actual = origin.toRunLengthEncoded();
+        origin.clearAll();
+        Bits copy = new Bits(actual);
+        copy.clearAll();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.cardinality()).isEqualTo(5);
+        assertions.assertThat(actual.runsNumber()).isEqualTo(3);
+        assertions.assertThat(actual.get(6)).isTrue();
+        assertions.assertThat(new Bits(actual)).isEqualTo(Bits.of(100, 1, 5, 6, 7, 99));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            get(index), getWord(wordIndex), cardinality(), getHighBitIndex(), isClear(), nextSetBit(fromIndex),
+            nextClearBit(fromIndex), previousSetBit(fromIndex), contains(other), intersect(other),
+            equalsIgnoreSize(other), compareTo(other), hashCodeIgnoreSize(), toBinaryString():
+             compare with Bits
+            """)
+    @ParameterizedTest(name = """
+             size is {0},
+             average run length is {1}
+            """)
+    @MethodSource("provideForPatterns")
+    void readableBits(int size, int runLength) {
+        Bits expected = randomRuns(size, runLength, 1);
+        Bits other = randomRuns(size, runLength, 2);
+        RunLengthBits actual = new RunLengthBits(expected);
+
+        SoftAssertions assertions = new SoftAssertions();
+        int expectedNextClearBit = nextClearBit(expected, 0);
+        for(int i = 0; i < size; i += 7) {
+            if(expectedNextClearBit != -1 && expectedNextClearBit < i) expectedNextClearBit = nextClearBit(expected, i);
+            assertions.assertThat(actual.get(i)).isEqualTo(expected.get(i));
+            assertions.assertThat(actual.nextSetBit(i)).isEqualTo(expected.nextSetBit(i));
+            assertions.assertThat(actual.nextClearBit(i)).isEqualTo(expectedNextClearBit);
+            assertions.assertThat(actual.previousSetBit(i)).isEqualTo(expected.previousSetBit(i));
+        }
+        for(int i = 0; i < size / 64 + 2; ++i) {
+            assertions.assertThat(actual.getWord(i)).isEqualTo(expected.getWord(i));
+        }
+        assertions.assertThat(actual.nextSetBit(size)).isEqualTo(-1);
+        assertions.assertThat(actual.nextClearBit(size)).isEqualTo(-1);
+        assertions.assertThat(actual.previousSetBit(-1)).isEqualTo(-1);
+        assertions.assertThat(actual.previousSetBit(Integer.MAX_VALUE)).isEqualTo(expected.getHighBitIndex());
+        assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        assertions.assertThat(actual.getHighBitIndex()).isEqualTo(expected.getHighBitIndex());
+        assertions.assertThat(actual.isClear()).isEqualTo(expected.isClear());
+        assertions.assertThat(actual.contains(other)).isEqualTo(expected.contains(other));
+        assertions.assertThat(actual.contains(expected)).isTrue();
+        assertions.assertThat(other.contains(actual)).isEqualTo(other.contains(expected));
+        assertions.assertThat(actual.intersect(other)).isEqualTo(expected.intersect(other));
+        assertions.assertThat(other.intersect(actual)).isEqualTo(other.intersect(expected));
+        assertions.assertThat(actual.equalsIgnoreSize(expected)).isTrue();
+        assertions.assertThat(actual.equalsIgnoreSize(other)).isEqualTo(expected.equalsIgnoreSize(other));
+        assertions.assertThat(expected.equalsIgnoreSize(actual)).isTrue();
+        assertions.assertThat(actual.compareTo(expected)).isZero();
+        assertions.assertThat(Integer.signum(actual.compareTo(other)))
+                .isEqualTo(Integer.signum(expected.compareTo(other)));
+        assertions.assertThat(actual.hashCodeIgnoreSize()).isEqualTo(expected.hashCodeIgnoreSize());
+        assertions.assertThat(actual).isEqualTo(new RunLengthBits(expected));
+        if(size <= 10_000) assertions.assertThat(actual.toBinaryString()).isEqualTo(expected.toBinaryString());
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            and(other), or(other), xor(other), andNot(other) of Bits:
+             other is RunLengthBits
+             => result is the same as for dense other
+            """)
+    @ParameterizedTest(name = """
+             size of Bits is {0},
+             size of RunLengthBits is {1},
+             average run length is {2}
+            """)
+    @MethodSource("provideForLogicalOperations")
+    void logicalOperations(int bitsSize, int runLengthSize, int runLength) {
+        Bits bits = randomRuns(bitsSize, runLength, 3);
+        Bits dense = randomRuns(runLengthSize, runLength, 4);
+        RunLengthBits runLengthBits = dense.toRunLengthEncoded();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(new Bits(bits).and(runLengthBits)).isEqualTo(new Bits(bits).and(dense));
+        assertions.assertThat(new Bits(bits).or(runLengthBits)).isEqualTo(new Bits(bits).or(dense));
+        assertions.assertThat(new Bits(bits).xor(runLengthBits)).isEqualTo(new Bits(bits).xor(dense));
+        assertions.assertThat(new Bits(bits).andNot(runLengthBits)).isEqualTo(new Bits(bits).andNot(dense));
+        assertions.assertThat(new Bits(bits).enableTracking().or(runLengthBits).cardinality())
+                .isEqualTo(new Bits(bits).or(dense).cardinality());
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForIndex_exception() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(0, -1),
+                Arguments.of(100, 100),
+                Arguments.of(100, Integer.MIN_VALUE)
+        );
+    }
+
+    private static Stream<Arguments> provideForPatterns() {
+        return Stream.of(
+                Arguments.of(0, 1),
+                Arguments.of(1, 1),
+                Arguments.of(63, 1),
+                Arguments.of(64, 64),
+                Arguments.of(65, 3),
+                Arguments.of(513, 10),
+                Arguments.of(10_000, 1),
+                Arguments.of(10_000, 200),
+                Arguments.of(100_000, 5_000),
+                Arguments.of(100_000, 200_000)
+        );
+    }
+
+    private static Stream<Arguments> provideForLogicalOperations() {
+        return Stream.of(
+                Arguments.of(0, 0, 1),
+                Arguments.of(0, 100, 10),
+                Arguments.of(100, 0, 10),
+                Arguments.of(64, 64, 1),
+                Arguments.of(1_000, 1_000, 7),
+                Arguments.of(1_000, 10_000, 100),
+                Arguments.of(10_000, 1_000, 100),
+                Arguments.of(100_000, 70_000, 3_000)
+        );
+    }
+
+    private static Bits randomRuns(int size, int runLength, int seed) {
+        Random random = new Random(size * 31L + runLength + seed);
+        Bits result = new Bits(size);
+        boolean value = random.nextBoolean();
+        for(int i = 0; i < size; value = !value) {
+            int end = (int) Math.min(size, i + 1L + random.nextInt(2 * runLength));
+            if(value) result.setRange(i, end);
+            i = end;
+        }
+        return result;
+    }
+
+    private static int nextClearBit(Bits bits, int fromIndex) {
+        for(int i = fromIndex; i < bits.size(); ++i) {
+            if(!bits.get(i)) return i;
+        }
+        return -1;
+    }
+}
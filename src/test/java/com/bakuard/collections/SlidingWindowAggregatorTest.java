@@ -0,0 +1,125 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
+public class SlidingWindowAggregatorTest {
+
+    @DisplayName("""
+            SlidingWindowAggregator(windowSize, operator):
+             windowSize < 0 or operator is null
+             => exception
+            """)
+    @Test
+    void SlidingWindowAggregator_exception() {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> new SlidingWindowAggregator<>(-1, Integer::sum))
+                .isInstanceOf(NegativeSizeException.class);
+        assertions.assertThatNullPointerException()
+                .isThrownBy(() -> new SlidingWindowAggregator<Integer>(10, null));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            add(value), removeFirst(), aggregate():
+             random sequence of additions and removals
+             => aggregate() must be equal to reduce() of RingBuffer with the same items
+            """)
+    @ParameterizedTest(name = """
+             windowSize is {0},
+             operations number is {1}
+            """)
+    @MethodSource("provideForRandomOperations")
+    void randomOperations(int windowSize, int operationsNumber) {
+        BinaryOperator<String> concatenation = (a, b) -> a + b;
+        SlidingWindowAggregator<String> actual = new SlidingWindowAggregator<>(windowSize, concatenation);
+        RingBuffer<String> expected = new RingBuffer<>(windowSize);
+        Random random = new Random(windowSize * 31L + operationsNumber);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < operationsNumber; ++i) {
+            if(random.nextInt(5) == 0) {
+                assertions.assertThat(actual.removeFirst()).isEqualTo(expected.removeFirst());
+            } else {
+                String value = Character.toString('a' + random.nextInt(26));
+                assertions.assertThat(actual.add(value)).isEqualTo(expected.addLastOrReplace(value));
+            }
+            assertions.assertThat(actual.aggregate()).as("operation " + i).isEqualTo(expected.reduce(concatenation));
+            assertions.assertThat(actual.size()).isEqualTo(expected.size());
+        }
+        for(int i = 0; i < expected.size(); ++i) assertions.assertThat(actual.get(i)).isEqualTo(expected.get(i));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            aggregate():
+             operator is max,
+             window is filled several times
+             => aggregate() must be equal to max of last windowSize items
+            """)
+    @Test
+    void aggregate_max() {
+        SlidingWindowAggregator<Integer> actual = new SlidingWindowAggregator<>(3, Math::max);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.aggregate()).isNull();
+        assertions.assertThat(actual.add(5)).isNull();
+        assertions.assertThat(actual.add(1)).isNull();
+        assertions.assertThat(actual.add(2)).isNull();
+        assertions.assertThat(actual.aggregate()).isEqualTo(5);
+        assertions.assertThat(actual.add(3)).isEqualTo(5);
+        assertions.assertThat(actual.aggregate()).isEqualTo(3);
+        assertions.assertThat(actual.add(0)).isEqualTo(1);
+        assertions.assertThat(actual.add(0)).isEqualTo(2);
+        assertions.assertThat(actual.aggregate()).isEqualTo(3);
+        assertions.assertThat(actual.add(0)).isEqualTo(3);
+        assertions.assertThat(actual.aggregate()).isEqualTo(0);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            add(value), removeFirst(), clear():
+             windowSize is 0 or window is empty
+            """)
+    @Test
+    void edgeCases() {
+        SlidingWindowAggregator<Integer> empty = new SlidingWindowAggregator<>(0, Integer::sum);
+        SlidingWindowAggregator<Integer> cleared = new SlidingWindowAggregator<>(4, Integer::sum);
+        cleared.add(1);
+        cleared.add(2);
+        cleared.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(empty.add(7)).isEqualTo(7);
+        assertions.assertThat(empty.aggregate()).isNull();
+        assertions.assertThat(empty.removeFirst()).isNull();
+        assertions.assertThat(empty.isEmpty()).isTrue();
+        assertions.assertThat(cleared.aggregate()).isNull();
+        assertions.assertThat(cleared.removeFirst()).isNull();
+        assertions.assertThat(cleared.size()).isZero();
+        assertions.assertThat(cleared.windowSize()).isEqualTo(4);
+        assertions.assertAll();
+        Assertions.assertThatIndexOutOfBoundsException().isThrownBy(() -> cleared.get(0));
+    }
+
+
+    private static Stream<Arguments> provideForRandomOperations() {
+        return Stream.of(
+                Arguments.of(1, 100),
+                Arguments.of(2, 100),
+                Arguments.of(7, 500),
+                Arguments.of(64, 2000),
+                Arguments.of(100, 300)
+        );
+    }
+}
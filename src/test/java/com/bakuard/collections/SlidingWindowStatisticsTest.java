@@ -0,0 +1,132 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class SlidingWindowStatisticsTest {
+
+    @DisplayName("""
+            SlidingWindowStatistics(windowSize):
+             windowSize < 0
+             => exception
+            """)
+    @Test
+    void SlidingWindowStatistics_exception() {
+        Assertions.assertThatExceptionOfType(NegativeSizeException.class)
+                .isThrownBy(() -> new SlidingWindowStatistics(-1));
+    }
+
+    @DisplayName("""
+            add(value), removeFirst(), sum(), mean(), variance(), min(), max():
+             random sequence of additions and removals
+             => statistics must be equal to statistics computed over RingBuffer with the same values
+            """)
+    @ParameterizedTest(name = """
+             windowSize is {0},
+             operations number is {1},
+             values spread is {2}
+            """)
+    @MethodSource("provideForRandomOperations")
+    void randomOperations(int windowSize, int operationsNumber, double spread) {
+        SlidingWindowStatistics actual = new SlidingWindowStatistics(windowSize);
+        RingBuffer<Double> expected = new RingBuffer<>(windowSize);
+        Random random = new Random(windowSize * 31L + operationsNumber);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < operationsNumber; ++i) {
+            if(random.nextInt(4) == 0 && !expected.isEmpty()) {
+                assertions.assertThat(actual.removeFirst()).isEqualTo(expected.removeFirst());
+            } else {
+                double value = random.nextInt(10) == 0 ? 5.0 : 1000.0 + (random.nextDouble() - 0.5) * spread;
+                actual.add(value);
+                expected.addLastOrReplace(value);
+            }
+
+            assertions.assertThat(actual.count()).isEqualTo(expected.size());
+            if(expected.isEmpty()) {
+                assertions.assertThat(actual.mean()).isNaN();
+                assertions.assertThat(actual.min()).isNaN();
+            } else {
+                double sum = expected.reduce(0.0, Double::sum);
+                double mean = sum / expected.size();
+                double squares = expected.reduce(0.0, (result, value) -> result + (value - mean) * (value - mean));
+                Offset<Double> offset = Offset.offset(1e-6 * Math.max(1.0, spread * spread));
+                assertions.assertThat(actual.sum()).as("operation " + i).isCloseTo(sum, Offset.offset(1e-6));
+                assertions.assertThat(actual.mean()).as("operation " + i).isCloseTo(mean, Offset.offset(1e-9));
+                assertions.assertThat(actual.variance()).as("operation " + i)
+                        .isCloseTo(squares / expected.size(), offset);
+                assertions.assertThat(actual.min()).isEqualTo(expected.reduce(Math::min));
+                assertions.assertThat(actual.max()).isEqualTo(expected.reduce(Math::max));
+            }
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            sum(), mean(), variance(), standardDeviation(), min(), max():
+             window is filled several times
+            """)
+    @Test
+    void statistics() {
+        SlidingWindowStatistics actual = new SlidingWindowStatistics(4);
+        for(double value : new double[]{100, -3, 7, 2, 4, 4, 5, 5}) actual.add(value);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actual.count()).isEqualTo(4);
+        assertions.assertThat(actual.sum()).isEqualTo(18.0);
+        assertions.assertThat(actual.mean()).isEqualTo(4.5);
+        assertions.assertThat(actual.variance()).isEqualTo(0.25);
+        assertions.assertThat(actual.standardDeviation()).isEqualTo(0.5);
+        assertions.assertThat(actual.min()).isEqualTo(4.0);
+        assertions.assertThat(actual.max()).isEqualTo(5.0);
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            add(value), removeFirst(), clear():
+             windowSize is 0 or window is empty
+            """)
+    @Test
+    void edgeCases() {
+        SlidingWindowStatistics empty = new SlidingWindowStatistics(0);
+        empty.add(1.0);
+        SlidingWindowStatistics cleared = new SlidingWindowStatistics(3);
+        cleared.add(1.0);
+        cleared.add(2.0);
+        cleared.clear();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(empty.isEmpty()).isTrue();
+        assertions.assertThat(empty.sum()).isZero();
+        assertions.assertThat(empty.max()).isNaN();
+        assertions.assertThat(empty.variance()).isNaN();
+        assertions.assertThatThrownBy(empty::removeFirst).isInstanceOf(NoSuchElementException.class);
+        assertions.assertThat(cleared.count()).isZero();
+        assertions.assertThat(cleared.sum()).isZero();
+        assertions.assertThat(cleared.windowSize()).isEqualTo(3);
+        assertions.assertThatThrownBy(cleared::removeFirst).isInstanceOf(NoSuchElementException.class);
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForRandomOperations() {
+        return Stream.of(
+                Arguments.of(1, 100, 10.0),
+                Arguments.of(2, 100, 10.0),
+                Arguments.of(7, 1000, 1.0),
+                Arguments.of(64, 5000, 100.0),
+                Arguments.of(100, 5000, 0.001)
+        );
+    }
+}
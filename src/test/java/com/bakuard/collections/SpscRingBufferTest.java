@@ -0,0 +1,296 @@
+package com.bakuard.collections;
+
+import com.bakuard.collections.exception.MaxSizeExceededException;
+import com.bakuard.collections.exception.NegativeSizeException;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class SpscRingBufferTest {
+
+    @DisplayName("SpscRingBuffer(maxSize): maxSize < 0 => exception")
+    @Test
+    void SpscRingBuffer_negativeMaxSize() {
+        Assertions.assertThatThrownBy(() -> new SpscRingBuffer<Integer>(-1))
+                .isInstanceOf(NegativeSizeException.class);
+    }
+
+    @DisplayName("SpscRingBuffer(maxSize): maxSize > 2^30 => exception")
+    @Test
+    void SpscRingBuffer_tooBigMaxSize() {
+        Assertions.assertThatThrownBy(() -> new SpscRingBuffer<Integer>((1 << 30) + 1))
+                .isInstanceOf(MaxSizeExceededException.class);
+    }
+
+    @DisplayName("addLastOrSkip(value):")
+    @ParameterizedTest(name = """
+             maxSize is {0},
+             added values number is {1}
+             => expected added values number is {2}
+            """)
+    @MethodSource("provideForAddLastOrSkip")
+    void addLastOrSkip(int maxSize, int addedValuesNumber, int expectedAddedValuesNumber) {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(maxSize);
+
+        int actualAddedValuesNumber = 0;
+        for(int i = 0; i < addedValuesNumber; ++i) {
+            if(buffer.addLastOrSkip(i)) ++actualAddedValuesNumber;
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actualAddedValuesNumber).isEqualTo(expectedAddedValuesNumber);
+        assertions.assertThat(buffer.size()).isEqualTo(expectedAddedValuesNumber);
+        assertions.assertThat(buffer.maxSize()).isEqualTo(maxSize);
+        assertions.assertThat(buffer.hasAvailableSpace()).isEqualTo(expectedAddedValuesNumber < maxSize);
+        assertions.assertThat(drain(buffer)).isEqualTo(sequence(0, expectedAddedValuesNumber));
+        assertions.assertAll();
+    }
+
+    @DisplayName("addLastOrReplace(value):")
+    @ParameterizedTest(name = """
+             maxSize is {0},
+             added values number is {1}
+             => expected buffer content is [{2}, {1})
+            """)
+    @MethodSource("provideForAddLastOrReplace")
+    void addLastOrReplace(int maxSize, int addedValuesNumber, int expectedFirstValue) {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(maxSize);
+
+        DynamicArray<Integer> actualReplacedValues = new DynamicArray<>();
+        for(int i = 0; i < addedValuesNumber; ++i) {
+            Integer replacedValue = buffer.addLastOrReplace(i);
+            if(replacedValue != null) actualReplacedValues.addLast(replacedValue);
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actualReplacedValues).isEqualTo(sequence(0, expectedFirstValue));
+        assertions.assertThat(drain(buffer)).isEqualTo(sequence(expectedFirstValue, addedValuesNumber));
+        assertions.assertAll();
+    }
+
+    @DisplayName("addAllOnLastOrSkip(data):")
+    @ParameterizedTest(name = """
+             maxSize is {0},
+             removed values number before adding is {1},
+             added values number is {2}
+             => expected added values number is {3}
+            """)
+    @MethodSource("provideForAddAllOnLastOrSkip")
+    void addAllOnLastOrSkip(int maxSize,
+                            int removedValuesNumber,
+                            int addedValuesNumber,
+                            int expectedAddedValuesNumber) {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(maxSize);
+        for(int i = 0; i < removedValuesNumber; ++i) buffer.addLastOrSkip(-1);
+        for(int i = 0; i < removedValuesNumber; ++i) buffer.removeFirst();
+
+        int actualAddedValuesNumber = buffer.addAllOnLastOrSkip(sequence(0, addedValuesNumber).toArray(Integer.class));
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actualAddedValuesNumber).isEqualTo(expectedAddedValuesNumber);
+        assertions.assertThat(drain(buffer)).isEqualTo(sequence(0, expectedAddedValuesNumber));
+        assertions.assertAll();
+    }
+
+    @DisplayName("removeFirst(): buffer is empty => return null")
+    @Test
+    void removeFirst_emptyBuffer() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(10);
+        buffer.addLastOrSkip(1);
+        buffer.removeFirst();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(buffer.removeFirst()).isNull();
+        assertions.assertThat(buffer.isEmpty()).isTrue();
+        assertions.assertAll();
+    }
+
+    @DisplayName("removeFirst(): items wrap around the end of the internal array")
+    @Test
+    void removeFirst_wrapAroundInternalArray() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(5);
+
+        DynamicArray<Integer> actual = new DynamicArray<>();
+        for(int i = 0; i < 100; ++i) {
+            buffer.addLastOrSkip(i);
+            if(i % 3 == 2) {
+                while(!buffer.isEmpty()) actual.addLast(buffer.removeFirst());
+            }
+        }
+        while(!buffer.isEmpty()) actual.addLast(buffer.removeFirst());
+
+        Assertions.assertThat(actual).isEqualTo(sequence(0, 100));
+    }
+
+    @DisplayName("drainTo(target): target is not empty => add items to the end of target")
+    @Test
+    void drainTo_notEmptyTarget() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(10);
+        buffer.addAllOnLastOrSkip(3, 4, 5);
+        DynamicArray<Integer> target = DynamicArray.of(1, 2);
+
+        int actualDrainedValuesNumber = buffer.drainTo(target);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(actualDrainedValuesNumber).isEqualTo(3);
+        assertions.assertThat(target).isEqualTo(DynamicArray.of(1, 2, 3, 4, 5));
+        assertions.assertThat(buffer.isEmpty()).isTrue();
+        assertions.assertThat(buffer.drainTo(target)).isZero();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            addLastOrSkip(value), removeFirst():
+                one producer thread and one consumer thread
+                => consumer receives all items in the order they were added
+            """)
+    @Test
+    void addLastOrSkip_concurrentProducerAndConsumer() throws Exception {
+        final int itemsNumber = 100_000;
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(100);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<?> producer = executor.submit(() -> {
+            for(int i = 0; i < itemsNumber; ++i) {
+                while(!buffer.addLastOrSkip(i)) Thread.yield();
+            }
+        });
+        Future<Boolean> consumer = executor.submit(() -> {
+            boolean isOrdered = true;
+            DynamicArray<Integer> batch = new DynamicArray<>();
+            int expected = 0;
+            while(expected < itemsNumber) {
+                if(expected % 2 == 0) {
+                    batch.clear();
+                    buffer.drainTo(batch);
+                    for(int i = 0; i < batch.size(); ++i) isOrdered &= batch.get(i) == expected++;
+                } else if(!buffer.isEmpty()) {
+                    isOrdered &= buffer.removeFirst() == expected++;
+                } else {
+                    Thread.yield();
+                }
+            }
+            return isOrdered;
+        });
+
+        try {
+            producer.get(1, TimeUnit.MINUTES);
+            Assertions.assertThat(consumer.get(1, TimeUnit.MINUTES)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("""
+            addLastOrReplace(value), removeFirst():
+                one producer thread and one consumer thread
+                => each item is either received by consumer or replaced by producer, order is preserved
+            """)
+    @Test
+    void addLastOrReplace_concurrentProducerAndConsumer() throws Exception {
+        final int itemsNumber = 100_000;
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(7);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<Integer> producer = executor.submit(() -> {
+            int replacedValuesNumber = 0;
+            for(int i = 0; i < itemsNumber; ++i) {
+                if(buffer.addLastOrReplace(i) != null) ++replacedValuesNumber;
+            }
+            if(buffer.addLastOrReplace(-1) != null) ++replacedValuesNumber;
+            return replacedValuesNumber;
+        });
+        Future<int[]> consumer = executor.submit(() -> {
+            int receivedValuesNumber = 0;
+            int lastValue = -1;
+            boolean isOrdered = true;
+            while(true) {
+                if(!buffer.isEmpty()) {
+                    Integer value = buffer.removeFirst();
+                    if(value == null) continue;
+                    if(value == -1) break;
+                    isOrdered &= value > lastValue;
+                    lastValue = value;
+                    ++receivedValuesNumber;
+                } else {
+                    Thread.yield();
+                }
+            }
+            return new int[]{receivedValuesNumber, isOrdered ? 1 : 0};
+        });
+
+        int replacedValuesNumber;
+        int[] consumerResult;
+        try {
+            replacedValuesNumber = producer.get(1, TimeUnit.MINUTES);
+            consumerResult = consumer.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(consumerResult[1]).isEqualTo(1);
+        assertions.assertThat(consumerResult[0] + replacedValuesNumber).isEqualTo(itemsNumber);
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForAddLastOrSkip() {
+        return Stream.of(
+                Arguments.of(0, 0, 0),
+                Arguments.of(0, 5, 0),
+                Arguments.of(1, 5, 1),
+                Arguments.of(10, 0, 0),
+                Arguments.of(10, 6, 6),
+                Arguments.of(10, 10, 10),
+                Arguments.of(10, 15, 10),
+                Arguments.of(16, 20, 16)
+        );
+    }
+
+    private static Stream<Arguments> provideForAddLastOrReplace() {
+        return Stream.of(
+                Arguments.of(1, 5, 4),
+                Arguments.of(10, 0, 0),
+                Arguments.of(10, 6, 0),
+                Arguments.of(10, 10, 0),
+                Arguments.of(10, 15, 5),
+                Arguments.of(10, 100, 90),
+                Arguments.of(16, 20, 4)
+        );
+    }
+
+    private static Stream<Arguments> provideForAddAllOnLastOrSkip() {
+        return Stream.of(
+                Arguments.of(0, 0, 5, 0),
+                Arguments.of(10, 0, 0, 0),
+                Arguments.of(10, 0, 6, 6),
+                Arguments.of(10, 0, 15, 10),
+                Arguments.of(10, 7, 6, 6),
+                Arguments.of(10, 7, 15, 10),
+                Arguments.of(16, 12, 20, 16)
+        );
+    }
+
+    private static DynamicArray<Integer> drain(SpscRingBuffer<Integer> buffer) {
+        DynamicArray<Integer> result = new DynamicArray<>();
+        buffer.drainTo(result);
+        return result;
+    }
+
+    private static DynamicArray<Integer> sequence(int from, int to) {
+        DynamicArray<Integer> result = new DynamicArray<>();
+        for(int i = from; i < to; ++i) result.addLast(i);
+        return result;
+    }
+}
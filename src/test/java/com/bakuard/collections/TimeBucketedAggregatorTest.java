@@ -0,0 +1,123 @@
+package com.bakuard.collections;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
+public class TimeBucketedAggregatorTest {
+
+    @DisplayName("""
+            TimeBucketedAggregator(bucketsNumber, bucketDuration, operator, nanoClock):
+             bucketsNumber <= 0 or bucketDuration <= 0 or arguments are null
+             => exception
+            """)
+    @Test
+    void TimeBucketedAggregator_exception() {
+        Duration second = Duration.ofSeconds(1);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TimeBucketedAggregator<>(0, second, Integer::sum));
+        assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TimeBucketedAggregator<>(60, Duration.ZERO, Integer::sum));
+        assertions.assertThatNullPointerException()
+                .isThrownBy(() -> new TimeBucketedAggregator<>(60, null, Integer::sum));
+        assertions.assertThatNullPointerException()
+                .isThrownBy(() -> new TimeBucketedAggregator<Integer>(60, second, null));
+        assertions.assertThatNullPointerException()
+                .isThrownBy(() -> new TimeBucketedAggregator<>(60, second, Integer::sum, null));
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            add(value), aggregate():
+             events per second during several seconds
+             => aggregate() must include current and bucketsNumber - 1 previous seconds
+            """)
+    @Test
+    void aggregate_perSecond() {
+        long second = 1_000_000_000L;
+        long[] now = {0};
+        TimeBucketedAggregator<Integer> counter =
+                new TimeBucketedAggregator<>(3, Duration.ofSeconds(1), Integer::sum, () -> now[0]);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(counter.aggregate()).isNull();
+        for(int i = 0; i < 1000; ++i) counter.add(1);
+        now[0] = second;
+        for(int i = 0; i < 10; ++i) counter.add(1);
+        now[0] = 2 * second + 5;
+        counter.add(1);
+        assertions.assertThat(counter.aggregate()).isEqualTo(1011);
+        now[0] = 3 * second;
+        assertions.assertThat(counter.aggregate()).isEqualTo(11);
+        now[0] = 5 * second - 1;
+        assertions.assertThat(counter.aggregate()).isEqualTo(1);
+        now[0] = 5 * second;
+        assertions.assertThat(counter.aggregate()).isNull();
+        counter.add(4);
+        assertions.assertThat(counter.aggregate()).isEqualTo(4);
+        counter.clear();
+        assertions.assertThat(counter.aggregate()).isNull();
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            add(value), aggregate():
+             random events
+             => aggregate() must be equal to naive concatenation of events from live buckets
+            """)
+    @ParameterizedTest(name = """
+             bucketsNumber is {0},
+             bucketDuration is {1}
+            """)
+    @MethodSource("provideForRandomEvents")
+    void randomEvents(int bucketsNumber, long bucketDuration) {
+        long origin = Long.MAX_VALUE - 10 * bucketDuration;
+        long[] now = {origin};
+        BinaryOperator<String> concatenation = (a, b) -> a + b;
+        TimeBucketedAggregator<String> actual = new TimeBucketedAggregator<>(
+                bucketsNumber, Duration.ofNanos(bucketDuration), concatenation, () -> now[0]);
+        DynamicArray<String> values = new DynamicArray<>();
+        LongDynamicArray buckets = new LongDynamicArray();
+        Random random = new Random(bucketsNumber * 31L + bucketDuration);
+
+        SoftAssertions assertions = new SoftAssertions();
+        for(int i = 0; i < 2000; ++i) {
+            now[0] += random.nextInt(10) == 0 ? random.nextLong(bucketDuration * (bucketsNumber + 1)) : 1;
+            long currentBucket = Math.floorDiv(now[0] - origin, bucketDuration);
+            if(random.nextInt(4) != 0) {
+                String value = Character.toString('a' + random.nextInt(26));
+                actual.add(value);
+                values.addLast(value);
+                buckets.addLast(currentBucket);
+            }
+
+            StringBuilder expected = new StringBuilder();
+            for(int j = 0; j < values.size(); ++j) {
+                if(buckets.get(j) > currentBucket - bucketsNumber) expected.append(values.get(j));
+            }
+            assertions.assertThat(actual.aggregate()).as("event " + i)
+                    .isEqualTo(expected.isEmpty() ? null : expected.toString());
+        }
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForRandomEvents() {
+        return Stream.of(
+                Arguments.of(1, 10L),
+                Arguments.of(2, 10L),
+                Arguments.of(5, 7L),
+                Arguments.of(60, 100L)
+        );
+    }
+}
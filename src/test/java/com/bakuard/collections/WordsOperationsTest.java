@@ -0,0 +1,95 @@
+package com.bakuard.collections;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class WordsOperationsTest {
+
+    @DisplayName("""
+            isClear(words, fromIndex, toIndex):
+             single non-zero word is at the end of the range
+             => compare with element-wise loop
+            """)
+    @ParameterizedTest(name = """
+             vector implementation called directly: {0},
+             length is {1}
+            """)
+    @MethodSource("provideForOperations")
+    void isClear(boolean vectorized, int length) {
+        long[] withSingleBit = new long[length + 5];
+        if(length > 0) withSingleBit[length - 1] = Long.MIN_VALUE;
+        withSingleBit[length] = 1L;
+
+        SoftAssertions assertions = new SoftAssertions();
+        if(vectorized) {
+            assertions.assertThat(VectorWordsOperations.isClear(withSingleBit, 0, length)).isEqualTo(length == 0);
+            assertions.assertThat(VectorWordsOperations.isClear(withSingleBit, 0, Math.max(0, length - 1))).isTrue();
+            assertions.assertThat(VectorWordsOperations.isClear(withSingleBit, length + 1, length + 5)).isTrue();
+        } else {
+            assertions.assertThat(WordsOperations.isClear(withSingleBit, 0, length)).isEqualTo(length == 0);
+            assertions.assertThat(WordsOperations.isClear(withSingleBit, 0, Math.max(0, length - 1))).isTrue();
+            assertions.assertThat(WordsOperations.isClear(withSingleBit, length + 1, length + 5)).isTrue();
+        }
+        assertions.assertAll();
+    }
+
+    @DisplayName("""
+            contains(a, b, length), intersect(a, b, length):
+             single differing bit is in the last word of the range
+             => compare with element-wise loop
+            """)
+    @ParameterizedTest(name = """
+             vector implementation called directly: {0},
+             length is {1}
+            """)
+    @MethodSource("provideForOperations")
+    void containsAndIntersect(boolean vectorized, int length) {
+        long[] a = randomWords(length + 5, length);
+        long[] subset = a.clone();
+        for(int i = 0; i < subset.length; ++i) subset[i] &= 0x5555_5555_5555_5555L;
+        long[] notSubset = subset.clone();
+        if(length > 0) notSubset[length - 1] |= ~a[length - 1] & -~a[length - 1];
+        long[] disjoint = new long[length + 5];
+        for(int i = 0; i < length; ++i) disjoint[i] = ~a[i];
+        disjoint[length] = -1L;
+
+        SoftAssertions assertions = new SoftAssertions();
+        if(vectorized) {
+            assertions.assertThat(VectorWordsOperations.contains(a, subset, length)).isTrue();
+            assertions.assertThat(VectorWordsOperations.contains(a, notSubset, length))
+                    .isEqualTo(length == 0 || a[length - 1] == -1L);
+            assertions.assertThat(VectorWordsOperations.intersect(a, disjoint, length)).isFalse();
+            assertions.assertThat(VectorWordsOperations.intersect(a, a, length))
+                    .isEqualTo(!WordsOperations.isClear(a, 0, length));
+        } else {
+            assertions.assertThat(WordsOperations.contains(a, subset, length)).isTrue();
+            assertions.assertThat(WordsOperations.contains(a, notSubset, length))
+                    .isEqualTo(length == 0 || a[length - 1] == -1L);
+            assertions.assertThat(WordsOperations.intersect(a, disjoint, length)).isFalse();
+            assertions.assertThat(WordsOperations.intersect(a, a, length))
+                    .isEqualTo(!WordsOperations.isClear(a, 0, length));
+        }
+        assertions.assertAll();
+    }
+
+
+    private static Stream<Arguments> provideForOperations() {
+        return Stream.of(false, true)
+                .flatMap(vectorized -> IntStream.of(0, 1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17, 31, 33, 64, 1000, 15_625)
+                        .mapToObj(length -> Arguments.of(vectorized, length)));
+    }
+
+    private static long[] randomWords(int length, long seed) {
+        Random random = new Random(seed);
+        long[] result = new long[length];
+        for(int i = 0; i < length; ++i) result[i] = random.nextLong();
+        return result;
+    }
+}